@@ -57,6 +57,13 @@ allprojects {
         configDirectory.set(rootProject.file("resources"))
     }
 
+    // generates the index of the extensions of every module, read by the runtime boot instead of scanning them
+    if (path != ":core:common:extension-index-processor") {
+        plugins.withType<JavaPlugin> {
+            dependencies.add("annotationProcessor", project(":core:common:extension-index-processor"))
+        }
+    }
+
     // EdcRuntimeExtension uses this to determine the runtime classpath of the module to run.
     tasks.register("printClasspath") {
         doLast {
@@ -22,6 +22,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,9 +34,10 @@ import java.util.UUID;
  * <p>Prior to using, {@link #initialize()} must be called.</p>
  */
 public class DefaultServiceExtensionContext implements ServiceExtensionContext {
-    private final Map<Class<?>, Object> services = new HashMap<>();
+    // synchronized, as extensions can be booted concurrently, and null services are allowed
+    private final Map<Class<?>, Object> services = Collections.synchronizedMap(new HashMap<>());
     private final List<ConfigurationExtension> configurationExtensions;
-    private boolean isReadOnly = false;
+    private volatile boolean isReadOnly = false;
     private String participantId;
     private String connectorId;
     private Config config;
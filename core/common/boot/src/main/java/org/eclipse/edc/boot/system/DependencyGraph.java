@@ -39,6 +39,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -53,9 +54,23 @@ import static java.util.Optional.ofNullable;
 public class DependencyGraph {
     private final InjectionPointScanner injectionPointScanner = new InjectionPointScanner();
     private final ServiceExtensionContext context;
+    private final ExtensionIndex index;
+    private final Map<ServiceExtension, Optional<ExtensionIndex.IndexedExtension>> indexedExtensions = new HashMap<>();
 
     public DependencyGraph(ServiceExtensionContext context) {
+        this(context, ExtensionIndex.load(Thread.currentThread().getContextClassLoader()));
+    }
+
+    /**
+     * Creates a dependency graph that reads the extension metadata from the index, falling back to reflection for the
+     * extensions that are not indexed.
+     *
+     * @param context the context.
+     * @param index   the extension index.
+     */
+    public DependencyGraph(ServiceExtensionContext context, ExtensionIndex index) {
         this.context = context;
+        this.index = index;
     }
 
     /**
@@ -105,7 +120,7 @@ public class DependencyGraph {
         //check that all the @Required features are there
         var unsatisfiedRequirements = new ArrayList<String>();
         extensions.forEach(ext -> {
-            var features = getRequiredFeatures(ext.getClass());
+            var features = getRequiredFeatures(ext);
             features.forEach(feature -> {
                 var dependencies = dependencyMap.get(feature);
                 if (dependencies == null) {
@@ -130,6 +145,62 @@ public class DependencyGraph {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Splits a list of {@link InjectionContainer}s, sorted by {@link #of(List)}, into topological levels: every
+     * extension only depends on extensions of previous levels, so the extensions of a level can be booted concurrently.
+     * Extensions annotated with {@link BaseExtension} are put each in its own level, before all the others, as many
+     * extensions rely on the services they register without declaring a dependency on them.
+     *
+     * @param sortedContainers the sorted containers.
+     * @return the levels, each one keeping the order of the sorted list.
+     */
+    public List<List<InjectionContainer<ServiceExtension>>> levels(List<InjectionContainer<ServiceExtension>> sortedContainers) {
+        var extensions = sortedContainers.stream().map(InjectionContainer::getInjectionTarget).collect(Collectors.toList());
+        var dependencyMap = createDependencyMap(extensions);
+
+        var levelOf = new HashMap<ServiceExtension, Integer>();
+        var baseLevels = 0;
+        for (var container : sortedContainers) {
+            var extension = container.getInjectionTarget();
+            if (extension.getClass().getAnnotation(BaseExtension.class) != null) {
+                levelOf.put(extension, baseLevels++);
+            }
+        }
+
+        var firstLevel = baseLevels;
+        var levels = new ArrayList<List<InjectionContainer<ServiceExtension>>>();
+        for (var container : sortedContainers) {
+            var extension = container.getInjectionTarget();
+            var level = levelOf.get(extension);
+            if (level == null) {
+                level = dependenciesOf(container, dependencyMap).stream()
+                        .map(levelOf::get)
+                        .filter(Objects::nonNull)
+                        .mapToInt(dependencyLevel -> dependencyLevel + 1)
+                        .reduce(firstLevel, Math::max);
+                levelOf.put(extension, level);
+            }
+
+            while (levels.size() <= level) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).add(container);
+        }
+        return levels;
+    }
+
+    private Set<ServiceExtension> dependenciesOf(InjectionContainer<ServiceExtension> container, Map<Class<?>, List<ServiceExtension>> dependencyMap) {
+        var extension = container.getInjectionTarget();
+        var features = new HashSet<Class<?>>(getRequiredFeatures(extension));
+        container.getInjectionPoints().forEach(injectionPoint -> features.add(injectionPoint.getType()));
+        return features.stream()
+                .map(dependencyMap::get)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(dependency -> !Objects.equals(dependency, extension))
+                .collect(Collectors.toSet());
+    }
+
     private boolean canResolve(Map<Class<?>, List<ServiceExtension>> dependencyMap, Class<?> featureName) {
         var providers = dependencyMap.get(featureName);
         if (providers != null) {
@@ -147,8 +218,12 @@ public class DependencyGraph {
         return dependencyMap;
     }
 
-    private Set<Class<?>> getRequiredFeatures(Class<?> clazz) {
-        var requiresAnnotation = clazz.getAnnotation(Requires.class);
+    private Set<Class<?>> getRequiredFeatures(ServiceExtension ext) {
+        var indexed = indexed(ext);
+        if (indexed.isPresent()) {
+            return indexed.get().requires();
+        }
+        var requiresAnnotation = ext.getClass().getAnnotation(Requires.class);
         if (requiresAnnotation != null) {
             var features = requiresAnnotation.value();
             return Stream.of(features).collect(Collectors.toSet());
@@ -160,6 +235,12 @@ public class DependencyGraph {
      * Obtains all features a specific extension requires as strings
      */
     private Set<Class<?>> getProvidedFeatures(ServiceExtension ext) {
+        var indexed = indexed(ext);
+        if (indexed.isPresent()) {
+            var allProvides = new HashSet<>(indexed.get().provides());
+            allProvides.addAll(indexed.get().providedServices());
+            return allProvides;
+        }
         var allProvides = new HashSet<Class<?>>();
 
         // check all @Provides
@@ -174,6 +255,10 @@ public class DependencyGraph {
     }
 
     private Set<Class<?>> getDefaultProvidedFeatures(ServiceExtension ext) {
+        var indexed = indexed(ext);
+        if (indexed.isPresent()) {
+            return indexed.get().defaultProvidedServices();
+        }
         return new ProviderMethodScanner(ext).defaultProviders().stream()
                 .map(ProviderMethod::getReturnType)
                 .collect(Collectors.toSet());
@@ -196,8 +281,16 @@ public class DependencyGraph {
      * Obtains all features a specific extension provides as strings
      */
     private Set<InjectionPoint<ServiceExtension>> getInjectedFields(ServiceExtension ext) {
-        // initialize with legacy list
-        return injectionPointScanner.getInjectionPoints(ext);
+        return indexed(ext)
+                .map(ExtensionIndex.IndexedExtension::injectionPoints)
+                .orElseGet(() -> injectionPointScanner.getInjectionPoints(ext));
+    }
+
+    /**
+     * Returns the indexed metadata of the extension, empty if it has to be obtained through reflection.
+     */
+    private Optional<ExtensionIndex.IndexedExtension> indexed(ServiceExtension ext) {
+        return indexedExtensions.computeIfAbsent(ext, e -> Optional.ofNullable(index.find(e)));
     }
 
     private static class ServiceExtensionComparator implements Comparator<ServiceExtension> {
@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.boot.system;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.injection.FieldInjectionPoint;
+import org.eclipse.edc.spi.system.injection.InjectionPoint;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the extension metadata generated at build time by the {@code extension-index-processor} into the
+ * {@value #INDEX_RESOURCE} resources. It provides the injection points, the provided and the required features of an
+ * extension without scanning its class. Extensions that are not indexed, or whose index entry doesn't match the class
+ * anymore, are not found, and callers fall back to reflection.
+ */
+public class ExtensionIndex {
+
+    public static final String INDEX_RESOURCE = "META-INF/edc/extension-index";
+
+    private static final ExtensionIndex EMPTY = new ExtensionIndex(Map.of());
+
+    private final Map<String, Entry> entries;
+
+    private ExtensionIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Returns an index without entries.
+     */
+    public static ExtensionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Loads all the index resources visible to the class loader.
+     *
+     * @param classLoader the class loader.
+     * @return the index.
+     */
+    public static ExtensionIndex load(ClassLoader classLoader) {
+        try {
+            var lines = new ArrayList<String>();
+            var resources = classLoader.getResources(INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                try (var reader = new BufferedReader(new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines().forEach(lines::add);
+                }
+            }
+            return parse(lines);
+        } catch (IOException e) {
+            throw new EdcException("Cannot read the extension index", e);
+        }
+    }
+
+    /**
+     * Parses index lines, as generated by the processor.
+     *
+     * @param lines the lines.
+     * @return the index.
+     */
+    public static ExtensionIndex parse(Collection<String> lines) {
+        var entries = new HashMap<String, Entry>();
+        for (var line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            var values = line.split("\t");
+            var entry = entries.computeIfAbsent(values[1], name -> new Entry());
+            switch (values[0]) {
+                case "inject" -> entry.fields.add(new IndexedField(values[2], values[3], Boolean.parseBoolean(values[4])));
+                case "provides" -> entry.provides.add(values[2]);
+                case "requires" -> entry.requires.add(values[2]);
+                case "provider" -> entry.providers.add(new IndexedProvider(values[3], Boolean.parseBoolean(values[4])));
+                default -> {
+                    // "extension" lines, and kinds added by later versions of the processor
+                }
+            }
+        }
+        return new ExtensionIndex(entries);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the metadata of the extension, resolved against its class loader.
+     *
+     * @param extension the extension.
+     * @return the metadata, null if the extension is not indexed or its index entry doesn't match its class.
+     */
+    @Nullable
+    public IndexedExtension find(ServiceExtension extension) {
+        var type = extension.getClass();
+        var entry = entries.get(type.getName());
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            var classLoader = type.getClassLoader();
+            var injectionPoints = new HashSet<InjectionPoint<ServiceExtension>>();
+            for (var field : entry.fields) {
+                var declaredField = type.getDeclaredField(field.name());
+                if (!declaredField.getType().getName().equals(field.type())) {
+                    return null;
+                }
+                injectionPoints.add(new FieldInjectionPoint<>(extension, declaredField, field.required()));
+            }
+
+            var providedServices = new HashSet<Class<?>>();
+            var defaultProvidedServices = new HashSet<Class<?>>();
+            for (var provider : entry.providers) {
+                (provider.isDefault() ? defaultProvidedServices : providedServices).add(Class.forName(provider.type(), false, classLoader));
+            }
+
+            return new IndexedExtension(Collections.unmodifiableSet(injectionPoints), resolve(entry.provides, classLoader),
+                    resolve(entry.requires, classLoader), Collections.unmodifiableSet(providedServices), Collections.unmodifiableSet(defaultProvidedServices));
+        } catch (NoSuchFieldException | ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private Set<Class<?>> resolve(List<String> types, ClassLoader classLoader) throws ClassNotFoundException {
+        var classes = new HashSet<Class<?>>();
+        for (var type : types) {
+            classes.add(Class.forName(type, false, classLoader));
+        }
+        return Collections.unmodifiableSet(classes);
+    }
+
+    /**
+     * Indexed metadata of an extension.
+     *
+     * @param injectionPoints         the fields annotated with {@code @Inject}.
+     * @param provides                the features listed by {@code @Provides}.
+     * @param requires                the features listed by {@code @Requires}.
+     * @param providedServices        the return types of the non-default {@code @Provider} methods.
+     * @param defaultProvidedServices the return types of the default {@code @Provider} methods.
+     */
+    public record IndexedExtension(Set<InjectionPoint<ServiceExtension>> injectionPoints, Set<Class<?>> provides, Set<Class<?>> requires,
+                                   Set<Class<?>> providedServices, Set<Class<?>> defaultProvidedServices) {
+    }
+
+    private record IndexedField(String name, String type, boolean required) {
+    }
+
+    private record IndexedProvider(String type, boolean isDefault) {
+    }
+
+    private static class Entry {
+        private final List<IndexedField> fields = new ArrayList<>();
+        private final List<String> provides = new ArrayList<>();
+        private final List<String> requires = new ArrayList<>();
+        private final List<IndexedProvider> providers = new ArrayList<>();
+    }
+}
@@ -19,6 +19,9 @@ import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import org.eclipse.edc.boot.system.injection.InjectorImpl;
 import org.eclipse.edc.boot.system.injection.lifecycle.ExtensionLifecycleManager;
+import org.eclipse.edc.boot.system.injection.lifecycle.PreparePhase;
+import org.eclipse.edc.boot.system.injection.lifecycle.StartPhase;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.ConsoleMonitor;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.monitor.MultiplexingMonitor;
@@ -31,9 +34,14 @@ import org.eclipse.edc.spi.system.injection.ProviderMethodScanner;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -72,12 +80,92 @@ public class ExtensionLoader {
         preparedExtensions.forEach(ExtensionLifecycleManager::start);
     }
 
+    /**
+     * Boots service extensions split in topological levels, as returned by {@link DependencyGraph#levels(List)}. The
+     * extensions of a level are injected, initialized and provided concurrently on the executor, and a level is only
+     * booted once the previous one is done. The same goes for the prepare and start phases, which happen after all the
+     * extensions have been initialized. When extensions of a level fail, the failure of the first one in the sorted
+     * order is rethrown, with the others added as suppressed exceptions.
+     *
+     * @param levels   the extensions split by level.
+     * @param context  the context.
+     * @param executor the executor that boots the extensions of a level.
+     */
+    public static void bootServiceExtensions(List<List<InjectionContainer<ServiceExtension>>> levels, ServiceExtensionContext context, Executor executor) {
+        var defaultServices = new HashMap<Class<?>, Supplier<Object>>();
+        levels.stream().flatMap(List::stream).forEach(se -> {
+            var pm = new ProviderMethodScanner(se.getInjectionTarget()).defaultProviders();
+            pm.forEach(p -> defaultServices.put(p.getReturnType(), getDefaultProviderInvoker(context, se, p)));
+        });
+
+        var injector = new InjectorImpl(defaultServices);
+
+        var registeredLevels = new ArrayList<List<PreparePhase>>();
+        for (var level : levels) {
+            registeredLevels.add(bootLevel(level, executor, container -> {
+                var lifeCycle = new ExtensionLifecycleManager(container, context, injector);
+                return ExtensionLifecycleManager.provide(ExtensionLifecycleManager.initialize(lifeCycle.inject()));
+            }));
+        }
+
+        context.freeze();
+
+        var preparedLevels = new ArrayList<List<StartPhase>>();
+        for (var level : registeredLevels) {
+            preparedLevels.add(bootLevel(level, executor, ExtensionLifecycleManager::prepare));
+        }
+        for (var level : preparedLevels) {
+            bootLevel(level, executor, phase -> {
+                ExtensionLifecycleManager.start(phase);
+                return phase;
+            });
+        }
+    }
+
+    private static <T, R> List<R> bootLevel(List<T> level, Executor executor, Function<T, R> step) {
+        if (level.size() == 1) {
+            return List.of(step.apply(level.get(0)));
+        }
+
+        var futures = level.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> step.apply(item), executor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(throwable -> null).join();
+
+        var failures = futures.stream()
+                .filter(CompletableFuture::isCompletedExceptionally)
+                .map(future -> unwrap(future.handle((result, throwable) -> throwable).join()))
+                .toList();
+        if (!failures.isEmpty()) {
+            var failure = failures.get(0);
+            failures.stream().skip(1).forEach(failure::addSuppressed);
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw new EdcException(failure);
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
     @NotNull
     private static Supplier<Object> getDefaultProviderInvoker(ServiceExtensionContext context, InjectionContainer<ServiceExtension> se, ProviderMethod p) {
         return () -> {
-            var d = p.invoke(se.getInjectionTarget(), context);
-            context.registerService(p.getReturnType(), d);
-            return d;
+            // extensions booted concurrently may need the same default service: only the first one creates it
+            synchronized (context) {
+                if (context.hasService(p.getReturnType())) {
+                    return context.getService(p.getReturnType());
+                }
+                var d = p.invoke(se.getInjectionTarget(), context);
+                context.registerService(p.getReturnType(), d);
+                return d;
+            }
         };
     }
 
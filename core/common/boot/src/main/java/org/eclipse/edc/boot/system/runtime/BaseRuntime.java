@@ -17,6 +17,7 @@ package org.eclipse.edc.boot.system.runtime;
 
 
 import org.eclipse.edc.boot.system.DefaultServiceExtensionContext;
+import org.eclipse.edc.boot.system.DependencyGraph;
 import org.eclipse.edc.boot.system.ExtensionLoader;
 import org.eclipse.edc.boot.system.ServiceLocator;
 import org.eclipse.edc.boot.system.ServiceLocatorImpl;
@@ -32,6 +33,9 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.Runtime.getRuntime;
@@ -51,6 +55,18 @@ import static java.lang.String.format;
  */
 public class BaseRuntime {
 
+    /**
+     * When true, extensions that do not depend on each other are booted concurrently, level by level of the dependency
+     * graph. Extensions obtaining services from the context without declaring a dependency on them (e.g. through
+     * {@code @Inject} or {@code @Requires}) may not find them, hence this is disabled by default.
+     */
+    public static final String PARALLEL_BOOT_SETTING = "edc.runtime.boot.parallel";
+    /**
+     * Maximum number of extensions booted concurrently when {@link #PARALLEL_BOOT_SETTING} is enabled. Defaults to the
+     * number of available processors.
+     */
+    public static final String PARALLEL_BOOT_THREADS_SETTING = "edc.runtime.boot.parallel.threads";
+
     protected final ServiceLocator serviceLocator;
     private final AtomicReference<HealthCheckResult> startupStatus = new AtomicReference<>(HealthCheckResult.failed("Startup not complete"));
     private final ExtensionLoader extensionLoader;
@@ -130,13 +146,29 @@ public class BaseRuntime {
     }
 
     /**
-     * Starts all service extensions by invoking {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext)}
+     * Starts all service extensions by invoking {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext)},
+     * or, when {@link #PARALLEL_BOOT_SETTING} is enabled, {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext, java.util.concurrent.Executor)}
+     * with the levels of the dependency graph.
      *
      * @param context           The {@code ServiceExtensionContext} that is used in this runtime.
      * @param serviceExtensions a list of extensions
      */
     protected void bootExtensions(ServiceExtensionContext context, List<InjectionContainer<ServiceExtension>> serviceExtensions) {
-        ExtensionLoader.bootServiceExtensions(serviceExtensions, context);
+        if (!context.getSetting(PARALLEL_BOOT_SETTING, false)) {
+            ExtensionLoader.bootServiceExtensions(serviceExtensions, context);
+            return;
+        }
+
+        var levels = new DependencyGraph(context).levels(serviceExtensions);
+        var threads = Math.max(1, context.getSetting(PARALLEL_BOOT_THREADS_SETTING, getRuntime().availableProcessors()));
+        monitor.debug(() -> format("Booting %s extensions in %s levels with %s threads", serviceExtensions.size(), levels.size(), threads));
+
+        var executor = Executors.newFixedThreadPool(threads, bootThreadFactory());
+        try {
+            ExtensionLoader.bootServiceExtensions(levels, context, executor);
+        } finally {
+            executor.shutdown();
+        }
     }
 
     /**
@@ -146,7 +178,10 @@ public class BaseRuntime {
      * @return a list of {@code ServiceExtension}s
      */
     protected List<InjectionContainer<ServiceExtension>> createExtensions(ServiceExtensionContext context) {
-        return extensionLoader.loadServiceExtensions(context);
+        var start = System.nanoTime();
+        var extensions = extensionLoader.loadServiceExtensions(context);
+        monitor.debug(() -> format("Loaded and sorted %s extensions in %s ms", extensions.size(), (System.nanoTime() - start) / 1_000_000));
+        return extensions;
     }
 
     /**
@@ -217,6 +252,21 @@ public class BaseRuntime {
         monitor.info(format("%s ready", name));
     }
 
+    /**
+     * Boot threads inherit the context class loader of the booting thread, as extensions may use it e.g. through the
+     * {@link java.util.ServiceLoader}.
+     */
+    private ThreadFactory bootThreadFactory() {
+        var classLoader = Thread.currentThread().getContextClassLoader();
+        var counter = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, "edc-boot-" + counter.incrementAndGet());
+            thread.setContextClassLoader(classLoader);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     private HealthCheckResult getStartupStatus() {
         return startupStatus.get();
     }
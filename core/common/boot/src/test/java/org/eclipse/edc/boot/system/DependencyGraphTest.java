@@ -15,12 +15,16 @@
 package org.eclipse.edc.boot.system;
 
 import org.assertj.core.data.Index;
+import org.eclipse.edc.boot.system.testextensions.BaseExtension;
+import org.eclipse.edc.boot.system.testextensions.CoreExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.injection.EdcInjectionException;
 import org.eclipse.edc.spi.system.injection.InjectionContainer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -76,4 +80,60 @@ class DependencyGraphTest {
                 .usingRecursiveFieldByFieldElementComparator()
                 .containsOnly(dependentExtension);
     }
-}
\ No newline at end of file
+
+    @Test
+    void levels_shouldGroupIndependentExtensions() {
+        var provider = TestFunctions.createProviderExtension(false);
+        var dependentExtension = TestFunctions.createDependentExtension(true);
+
+        var levels = graph.levels(graph.of(TestFunctions.createList(dependentExtension, provider)));
+
+        assertThat(levels).hasSize(3);
+        assertThat(levels.get(0)).extracting(InjectionContainer::getInjectionTarget).singleElement().isInstanceOf(BaseExtension.class);
+        assertThat(levels.get(1)).extracting(InjectionContainer::getInjectionTarget)
+                .hasSize(2)
+                .contains(provider)
+                .anySatisfy(extension -> assertThat(extension).isInstanceOf(CoreExtension.class));
+        assertThat(levels.get(2)).extracting(InjectionContainer::getInjectionTarget).containsExactly(dependentExtension);
+    }
+
+    @Test
+    void levels_shouldPutDependentAfterDefaultAndNonDefaultProviders() {
+        var defaultProvider = TestFunctions.createProviderExtension(true);
+        var provider = TestFunctions.createProviderExtension(false);
+        var dependentExtension = TestFunctions.createDependentExtension(true);
+
+        var levels = graph.levels(graph.of(TestFunctions.createList(dependentExtension, provider, defaultProvider)));
+
+        assertThat(levels).hasSize(3);
+        assertThat(levels.get(2)).extracting(InjectionContainer::getInjectionTarget).containsExactly(dependentExtension);
+        assertThat(levels.get(1)).extracting(InjectionContainer::getInjectionTarget).contains(provider, defaultProvider);
+    }
+
+    @Test
+    void sortExtensions_shouldUseIndex() {
+        var dependentExtension = TestFunctions.createDependentExtension(true);
+        var provider = TestFunctions.createProviderExtension(false);
+        var index = ExtensionIndex.parse(List.of(
+                "inject\t" + dependentExtension.getClass().getName() + "\ttestObject\t" + TestObject.class.getName() + "\ttrue",
+                "provider\t" + provider.getClass().getName() + "\ttestObject\t" + TestObject.class.getName() + "\tfalse"));
+        var indexedGraph = new DependencyGraph(mock(ServiceExtensionContext.class), index);
+
+        var list = indexedGraph.of(TestFunctions.createList(dependentExtension, provider));
+
+        assertThat(list).extracting(InjectionContainer::getInjectionTarget)
+                .contains(provider, Index.atIndex(2))
+                .contains(dependentExtension, Index.atIndex(3));
+        assertThat(list.get(3).getInjectionPoints()).singleElement().satisfies(ip -> assertThat(ip.getType()).isEqualTo(TestObject.class));
+    }
+
+    @Test
+    void sortExtensions_shouldPreferIndexOverReflection() {
+        var dependentExtension = TestFunctions.createDependentExtension(true);
+        // the index states that the extension has no injected fields, so the missing dependency is not detected
+        var index = ExtensionIndex.parse(List.of("extension\t" + dependentExtension.getClass().getName()));
+        var indexedGraph = new DependencyGraph(mock(ServiceExtensionContext.class), index);
+
+        assertThat(indexedGraph.of(TestFunctions.createList(dependentExtension))).hasSize(3);
+    }
+}
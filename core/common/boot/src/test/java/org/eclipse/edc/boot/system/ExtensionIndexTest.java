@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.boot.system;
+
+import org.eclipse.edc.boot.system.testextensions.ProviderDefaultServicesExtension;
+import org.eclipse.edc.boot.system.testextensions.ProviderExtension;
+import org.eclipse.edc.boot.system.testextensions.RequiredDependentExtension;
+import org.eclipse.edc.spi.system.injection.InjectionPoint;
+import org.eclipse.edc.spi.system.injection.InjectionPointScanner;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExtensionIndexTest {
+
+    @Test
+    void find_shouldResolveIndexedMetadata() {
+        var index = ExtensionIndex.parse(List.of(
+                "# comment",
+                "extension\t" + RequiredDependentExtension.class.getName(),
+                "inject\t" + RequiredDependentExtension.class.getName() + "\ttestObject\t" + TestObject.class.getName() + "\ttrue",
+                "requires\t" + RequiredDependentExtension.class.getName() + "\t" + Runnable.class.getName()));
+        var extension = new RequiredDependentExtension();
+
+        var indexed = index.find(extension);
+
+        assertThat(indexed).isNotNull();
+        assertThat(indexed.injectionPoints()).singleElement().satisfies(injectionPoint -> {
+            assertThat(injectionPoint.getInstance()).isSameAs(extension);
+            assertThat(injectionPoint.getType()).isEqualTo(TestObject.class);
+            assertThat(injectionPoint.isRequired()).isTrue();
+        });
+        assertThat(indexed.requires()).containsExactly(Runnable.class);
+        assertThat(indexed.provides()).isEmpty();
+    }
+
+    @Test
+    void find_shouldResolveProviders() {
+        var index = ExtensionIndex.parse(List.of(
+                "extension\t" + ProviderExtension.class.getName(),
+                "provider\t" + ProviderExtension.class.getName() + "\ttestObject\t" + TestObject.class.getName() + "\tfalse",
+                "extension\t" + ProviderDefaultServicesExtension.class.getName(),
+                "provider\t" + ProviderDefaultServicesExtension.class.getName() + "\ttestObject\t" + TestObject.class.getName() + "\ttrue"));
+
+        assertThat(index.find(new ProviderExtension())).satisfies(indexed -> {
+            assertThat(indexed.providedServices()).containsExactly(TestObject.class);
+            assertThat(indexed.defaultProvidedServices()).isEmpty();
+        });
+        assertThat(index.find(new ProviderDefaultServicesExtension())).satisfies(indexed -> {
+            assertThat(indexed.providedServices()).isEmpty();
+            assertThat(indexed.defaultProvidedServices()).containsExactly(TestObject.class);
+        });
+    }
+
+    @Test
+    void find_shouldReturnNull_whenNotIndexed() {
+        assertThat(ExtensionIndex.empty().find(new RequiredDependentExtension())).isNull();
+    }
+
+    @Test
+    void find_shouldReturnNull_whenIndexIsStale() {
+        var index = ExtensionIndex.parse(List.of(
+                "extension\t" + RequiredDependentExtension.class.getName(),
+                "inject\t" + RequiredDependentExtension.class.getName() + "\trenamedField\t" + TestObject.class.getName() + "\ttrue"));
+
+        assertThat(index.find(new RequiredDependentExtension())).isNull();
+    }
+
+    @Test
+    void find_shouldReturnNull_whenIndexedTypeDoesNotMatch() {
+        var index = ExtensionIndex.parse(List.of(
+                "extension\t" + RequiredDependentExtension.class.getName(),
+                "inject\t" + RequiredDependentExtension.class.getName() + "\ttestObject\t" + String.class.getName() + "\ttrue"));
+
+        assertThat(index.find(new RequiredDependentExtension())).isNull();
+    }
+
+    @Test
+    void load_shouldReturnEmptyIndex_whenNoResources() {
+        var index = ExtensionIndex.load(new ClassLoader(null) { });
+
+        assertThat(index.isEmpty()).isTrue();
+    }
+
+    @Test
+    void injectionPoints_shouldMatchReflection() {
+        var extension = new RequiredDependentExtension();
+        var index = ExtensionIndex.parse(List.of(
+                "inject\t" + RequiredDependentExtension.class.getName() + "\ttestObject\t" + TestObject.class.getName() + "\ttrue"));
+
+        var indexed = index.find(extension);
+        var scanned = new InjectionPointScanner().getInjectionPoints(extension);
+
+        assertThat(indexed.injectionPoints()).extracting(InjectionPoint::toString)
+                .containsExactlyInAnyOrderElementsOf(scanned.stream().map(InjectionPoint::toString).toList());
+    }
+}
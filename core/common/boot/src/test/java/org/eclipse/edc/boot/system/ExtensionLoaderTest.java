@@ -19,6 +19,7 @@ import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import org.eclipse.edc.boot.system.testextensions.ProviderDefaultServicesExtension;
 import org.eclipse.edc.boot.system.testextensions.ProviderExtension;
+import org.eclipse.edc.boot.system.testextensions.RequiredDependentExtension;
 import org.eclipse.edc.boot.util.CyclicDependencyException;
 import org.eclipse.edc.runtime.metamodel.annotation.BaseExtension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -40,6 +41,9 @@ import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -381,6 +385,70 @@ class ExtensionLoaderTest {
         assertThat(context.getService(TestObject.class)).isNotNull();
     }
 
+    @Test
+    @DisplayName("bootServiceExtensions - Should boot independent extensions concurrently, level by level")
+    void bootServiceExtensions_parallel() {
+        var latch = new CountDownLatch(2);
+        var first = new AwaitingExtension(latch);
+        var second = new AwaitingExtension(latch);
+        var dependentExtension = TestFunctions.createDependentExtension(true);
+        var provider = (ProviderExtension) Mockito.spy(TestFunctions.createProviderExtension(false));
+        when(provider.testObject()).thenCallRealMethod();
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+        var graph = new DependencyGraph(context);
+        var levels = graph.levels(graph.of(TestFunctions.createList(first, second, dependentExtension, provider)));
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            ExtensionLoader.bootServiceExtensions(levels, context, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(first.started).isTrue();
+        assertThat(second.started).isTrue();
+        verify(provider).testObject();
+        assertThat(context.getService(TestObject.class)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("bootServiceExtensions - Should invoke a default provider only once when booting in parallel")
+    void bootServiceExtensions_parallel_shouldInvokeDefaultProviderOnce() {
+        var defaultProvider = (ProviderDefaultServicesExtension) Mockito.spy(TestFunctions.createProviderExtension(true));
+        when(defaultProvider.testObject()).thenCallRealMethod();
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+        var graph = new DependencyGraph(context);
+        var levels = graph.levels(graph.of(TestFunctions.createList(defaultProvider, TestFunctions.createDependentExtension(true),
+                new RequiredDependentExtension(), new RequiredDependentExtension())));
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            ExtensionLoader.bootServiceExtensions(levels, context, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        verify(defaultProvider, times(1)).testObject();
+    }
+
+    @Test
+    @DisplayName("bootServiceExtensions - Should rethrow the failure of the first failing extension of a level")
+    void bootServiceExtensions_parallel_shouldReportFirstFailure() {
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+        var graph = new DependencyGraph(context);
+        var levels = graph.levels(graph.of(TestFunctions.createList(new FailingExtension("first"), new FailingExtension("second"))));
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            assertThatThrownBy(() -> ExtensionLoader.bootServiceExtensions(levels, context, executor))
+                    .isInstanceOf(EdcException.class)
+                    .hasMessage("first")
+                    .satisfies(e -> assertThat(e.getSuppressed()).extracting(Throwable::getMessage).containsExactly("second"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @SafeVarargs
     private <T> List<T> mutableListOf(T... elements) {
         return new ArrayList<>(List.of(elements));
@@ -394,6 +462,45 @@ class ExtensionLoaderTest {
     private static class SomeExtension implements ServiceExtension {
     }
 
+    private static class AwaitingExtension implements ServiceExtension {
+        private final CountDownLatch latch;
+        private boolean started;
+
+        AwaitingExtension(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void initialize(ServiceExtensionContext context) {
+            latch.countDown();
+            try {
+                if (!latch.await(10, TimeUnit.SECONDS)) {
+                    throw new EdcException("extensions were not initialized concurrently");
+                }
+            } catch (InterruptedException e) {
+                throw new EdcException(e);
+            }
+        }
+
+        @Override
+        public void start() {
+            started = true;
+        }
+    }
+
+    private static class FailingExtension implements ServiceExtension {
+        private final String message;
+
+        FailingExtension(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public void initialize(ServiceExtensionContext context) {
+            throw new EdcException(message);
+        }
+    }
+
     @Provides({ SomeObject.class })
     private static class ProvidingExtension implements ServiceExtension {
     }
@@ -30,6 +30,7 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
@@ -75,6 +76,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return ExecutorInstrumentation.noop();
     }
 
+    @Provider(isDefault = true)
+    public StateMachineInstrumentation defaultStateMachineInstrumentation() {
+        return StateMachineInstrumentation.noop();
+    }
+
     @Provider(isDefault = true)
     public EventExecutorServiceContainer eventExecutorServiceContainer() {
         return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1)); // TODO: make configurable
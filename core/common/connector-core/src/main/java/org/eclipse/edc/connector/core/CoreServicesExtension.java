@@ -17,7 +17,6 @@ package org.eclipse.edc.connector.core;
 import org.eclipse.edc.connector.core.base.CommandHandlerRegistryImpl;
 import org.eclipse.edc.connector.core.base.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.edc.connector.core.base.agent.ParticipantAgentServiceImpl;
-import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
 import org.eclipse.edc.connector.core.event.EventRouterImpl;
 import org.eclipse.edc.connector.core.health.HealthCheckServiceConfiguration;
 import org.eclipse.edc.connector.core.health.HealthCheckServiceImpl;
@@ -35,6 +34,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.event.EventRouter;
@@ -47,10 +47,12 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.health.HealthCheckService;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
 import java.time.Duration;
+import java.util.Locale;
 
 import static org.eclipse.edc.spi.agent.ParticipantAgentService.DEFAULT_IDENTITY_CLAIM_KEY;
 
@@ -68,6 +70,14 @@ public class CoreServicesExtension implements ServiceExtension {
     public static final String THREADPOOL_SIZE_SETTING = "edc.core.system.health.check.threadpool-size";
     @Setting
     public static final String HOSTNAME_SETTING = "edc.hostname";
+    @Setting(value = "Maximum number of events waiting to be delivered to every asynchronous event subscriber", defaultValue = "10000", type = "int")
+    public static final String EVENT_SUBSCRIBER_QUEUE_CAPACITY_SETTING = "edc.core.event.subscriber.queue-capacity";
+    @Setting(value = "What to do when the queue of an asynchronous event subscriber is full: 'block', 'drop' or 'caller_runs'", defaultValue = "block")
+    public static final String EVENT_SUBSCRIBER_OVERFLOW_POLICY_SETTING = "edc.core.event.subscriber.overflow-policy";
+    @Setting(value = "If true, asynchronous event subscribers run on virtual threads, when supported by the JVM (Java 21+)", defaultValue = "false", type = "boolean")
+    public static final String EVENT_SUBSCRIBER_VIRTUAL_THREADS_SETTING = "edc.core.event.subscriber.virtual-threads";
+    @Setting(value = "Max number of events handled at the same time by every asynchronous event subscriber, events are delivered in publishing order only when 1", defaultValue = CoreServicesExtension.DEFAULT_EVENT_SUBSCRIBER_CONCURRENCY + "", type = "int")
+    public static final String EVENT_SUBSCRIBER_CONCURRENCY_SETTING = "edc.core.event.subscriber.concurrency";
 
     /**
      * The name of the claim key used to determine the participant identity.
@@ -79,6 +89,9 @@ public class CoreServicesExtension implements ServiceExtension {
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
     private static final String DEFAULT_HOSTNAME = "localhost";
+    private static final int DEFAULT_EVENT_QUEUE_CAPACITY = 10_000;
+    private static final String DEFAULT_EVENT_OVERFLOW_POLICY = "block";
+    private static final int DEFAULT_EVENT_SUBSCRIBER_CONCURRENCY = 1;
 
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
@@ -86,14 +99,12 @@ public class CoreServicesExtension implements ServiceExtension {
     @Inject
     private Vault vault;
 
-    @Inject
-    private EventExecutorServiceContainer eventExecutorServiceContainer;
-
     @Inject
     private TypeManager typeManager;
 
     private HealthCheckServiceImpl healthCheckService;
     private RuleBindingRegistry ruleBindingRegistry;
+    private EventRouterImpl eventRouter;
 
 
     @Override
@@ -116,6 +127,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         healthCheckService.stop();
+        if (eventRouter != null) {
+            eventRouter.shutdown();
+        }
         ServiceExtension.super.shutdown();
     }
 
@@ -162,7 +176,21 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var queueCapacity = context.getSetting(EVENT_SUBSCRIBER_QUEUE_CAPACITY_SETTING, DEFAULT_EVENT_QUEUE_CAPACITY);
+        var policyName = context.getSetting(EVENT_SUBSCRIBER_OVERFLOW_POLICY_SETTING, DEFAULT_EVENT_OVERFLOW_POLICY);
+        EventRouterImpl.OverflowPolicy overflowPolicy;
+        try {
+            overflowPolicy = EventRouterImpl.OverflowPolicy.valueOf(policyName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new EdcException(String.format("Invalid value '%s' for setting %s", policyName, EVENT_SUBSCRIBER_OVERFLOW_POLICY_SETTING));
+        }
+        var virtualThreads = context.getSetting(EVENT_SUBSCRIBER_VIRTUAL_THREADS_SETTING, false);
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            context.getMonitor().warning(String.format("Setting %s is enabled but virtual threads are not supported by the JVM, falling back to platform threads", EVENT_SUBSCRIBER_VIRTUAL_THREADS_SETTING));
+        }
+        var concurrency = context.getSetting(EVENT_SUBSCRIBER_CONCURRENCY_SETTING, DEFAULT_EVENT_SUBSCRIBER_CONCURRENCY);
+        eventRouter = new EventRouterImpl(context.getMonitor(), executorInstrumentation, queueCapacity, overflowPolicy, virtualThreads, concurrency);
+        return eventRouter;
     }
 
 
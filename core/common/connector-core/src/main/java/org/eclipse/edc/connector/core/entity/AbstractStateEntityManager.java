@@ -21,14 +21,18 @@ import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -47,6 +51,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected int batchSize = DEFAULT_BATCH_SIZE;
     protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    protected StateMachineInstrumentation stateMachineInstrumentation = StateMachineInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
     protected EntityRetryProcessFactory entityRetryProcessFactory;
@@ -58,7 +63,8 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .instrumentation(stateMachineInstrumentation);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -79,6 +85,21 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
      */
     protected abstract StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder);
 
+    /**
+     * Creates the builder of a processor of the entities provided by the supplier, that reports its measurements to
+     * the {@link StateMachineInstrumentation}.
+     *
+     * @param name     the processor name, usually the processed state.
+     * @param entities the entities supplier, that returns at most {@link #batchSize} entities.
+     * @return the processor builder.
+     */
+    protected ProcessorImpl.Builder<E> processor(String name, Supplier<Collection<E>> entities) {
+        return ProcessorImpl.Builder.newInstance(entities)
+                .instrumentation(stateMachineInstrumentation, getClass().getSimpleName(), name)
+                .batchSize(batchSize)
+                .clock(clock);
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration defaultEntityRetryProcessConfiguration() {
         return new EntityRetryProcessConfiguration(DEFAULT_SEND_RETRY_LIMIT, () -> new ExponentialWaitStrategy(DEFAULT_SEND_RETRY_BASE_DELAY));
@@ -135,6 +156,11 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B stateMachineInstrumentation(StateMachineInstrumentation stateMachineInstrumentation) {
+            manager.stateMachineInstrumentation = stateMachineInstrumentation;
+            return self();
+        }
+
         public B entityRetryProcessConfiguration(EntityRetryProcessConfiguration entityRetryProcessConfiguration) {
             manager.entityRetryProcessConfiguration = entityRetryProcessConfiguration;
             return self();
@@ -20,7 +20,10 @@ import java.util.concurrent.ExecutorService;
 
 /**
  * Holder class for a shared {@link ExecutorService} across event router implementations.
+ *
+ * @deprecated the {@link EventRouterImpl} uses a dedicated executor for every asynchronous subscriber.
  */
+@Deprecated(since = "0.4.2")
 public class EventExecutorServiceContainer {
     private final ExecutorService executorService;
 
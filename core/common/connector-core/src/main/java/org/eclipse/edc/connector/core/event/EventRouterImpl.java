@@ -20,68 +20,232 @@ import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Default {@link EventRouter} implementation.
+ * The subscribers of every concrete event class are resolved once and kept in a dispatch table, which is invalidated
+ * when a new subscriber gets registered.
+ * Every asynchronous subscriber has its own executor backed by a bounded queue, so a slow subscriber doesn't delay the
+ * others, and the {@link OverflowPolicy} decides what happens when the queue is full. The executor runs up to
+ * {@code concurrency} threads, so subscribers blocking on I/O (e.g. the callback dispatchers) can handle several events
+ * at once; events are delivered to each subscriber in publishing order only when the concurrency is 1. Executors are
+ * instrumented with the {@link ExecutorInstrumentation}, named after the subscriber, to report queue depth, lag and
+ * handler latency.
+ * When virtual threads are enabled and supported by the JVM, the subscriber threads are virtual threads, so subscribers
+ * blocking on I/O don't hold a platform thread.
+ */
 public class EventRouterImpl implements EventRouter {
 
-    private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
-    private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final ThreadLocal<Object> CURRENT_SUBSCRIBER = new ThreadLocal<>();
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final Map<String, AtomicInteger> executorNames = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, Dispatch> dispatchTable = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
-    private final ExecutorService executor;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final boolean virtualThreads;
+    private final int concurrency;
+
+    public EventRouterImpl(Monitor monitor, ExecutorInstrumentation executorInstrumentation, int queueCapacity, OverflowPolicy overflowPolicy) {
+        this(monitor, executorInstrumentation, queueCapacity, overflowPolicy, false);
+    }
 
-    public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+    /**
+     * Constructor, every asynchronous subscriber handles one event at a time.
+     *
+     * @param virtualThreads deliver events to asynchronous subscribers on virtual threads, ignored if the JVM doesn't support them.
+     */
+    public EventRouterImpl(Monitor monitor, ExecutorInstrumentation executorInstrumentation, int queueCapacity, OverflowPolicy overflowPolicy, boolean virtualThreads) {
+        this(monitor, executorInstrumentation, queueCapacity, overflowPolicy, virtualThreads, 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param virtualThreads deliver events to asynchronous subscribers on virtual threads, ignored if the JVM doesn't support them.
+     * @param concurrency    max number of events handled at the same time by every asynchronous subscriber.
+     */
+    public EventRouterImpl(Monitor monitor, ExecutorInstrumentation executorInstrumentation, int queueCapacity, OverflowPolicy overflowPolicy, boolean virtualThreads,
+                           int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1 but was " + concurrency);
+        }
         this.monitor = monitor;
-        this.executor = executor;
+        this.executorInstrumentation = executorInstrumentation;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.virtualThreads = virtualThreads && VirtualThreads.isSupported();
+        this.concurrency = concurrency;
     }
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        register(new Registration(eventKind, subscriber, null));
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        register(new Registration(eventKind, subscriber, createExecutor(subscriber)));
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
+        var table = dispatchTable;
+        var dispatch = table.computeIfAbsent(event.getPayload().getClass(), this::dispatchFor);
+
+        dispatch.sync().forEach(subscriber -> subscriber.on(event));
+
+        dispatch.async().forEach(registration -> {
+            try {
+                registration.executor().execute(() -> deliver(registration.subscriber(), event));
+            } catch (RejectedExecutionException e) {
+                monitor.warning(format("Event %s not delivered to subscriber %s: %s", eventName(event), subscriberName(registration.subscriber()), e.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * Stops the asynchronous subscribers executors, events already in the queues are still delivered.
+     */
+    public void shutdown() {
+        registrations.stream()
+                .map(Registration::executor)
+                .filter(executor -> executor != null)
+                .forEach(ExecutorService::shutdown);
+    }
+
+    private void register(Registration registration) {
+        registrations.add(registration);
+        dispatchTable = new ConcurrentHashMap<>();
+    }
+
+    private Dispatch dispatchFor(Class<?> eventClass) {
+        var matching = registrations.stream()
+                .filter(registration -> registration.eventKind().isAssignableFrom(eventClass))
+                .toList();
+        var sync = matching.stream()
+                .filter(registration -> registration.executor() == null)
+                .map(Registration::subscriber)
+                .toList();
+        var async = matching.stream()
+                .filter(registration -> registration.executor() != null)
+                .toList();
+        return new Dispatch(sync, async);
+    }
+
+    private <E extends Event> void deliver(EventSubscriber subscriber, EventEnvelope<E> event) {
+        try {
+            subscriber.on(event);
+        } catch (Throwable throwable) {
+            monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName(subscriber), eventName(event)), throwable);
+        }
+    }
+
+    private ExecutorService createExecutor(EventSubscriber subscriber) {
+        var baseName = "event-subscriber-" + subscriberName(subscriber);
+        var index = executorNames.computeIfAbsent(baseName, k -> new AtomicInteger()).getAndIncrement();
+        var name = index == 0 ? baseName : baseName + "-" + index;
+
+        var owner = new Object();
+        var threadFactory = threadFactory(name);
+        var executor = new ThreadPoolExecutor(concurrency, concurrency, IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> threadFactory.newThread(() -> {
+                    CURRENT_SUBSCRIBER.set(owner);
+                    runnable.run();
+                }),
+                rejectionHandler(name, owner));
+        executor.allowCoreThreadTimeOut(true);
+        return executorInstrumentation.instrument(executor, name);
+    }
+
+    private ThreadFactory threadFactory(String name) {
+        if (virtualThreads) {
+            return VirtualThreads.threadFactory(name + "-");
+        }
+        var threadIndex = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, concurrency == 1 ? name : name + "-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+    private RejectedExecutionHandler rejectionHandler(String name, Object owner) {
+        return (runnable, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException(format("Executor %s has been shut down", name));
+            }
+            // an event published by the subscriber itself can't wait for its own queue to drain
+            if (overflowPolicy == OverflowPolicy.CALLER_RUNS || CURRENT_SUBSCRIBER.get() == owner) {
+                runnable.run();
+                return;
+            }
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                throw new RejectedExecutionException(format("Queue of %s is full", name));
+            }
+            try {
+                executor.getQueue().put(runnable);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException(format("Interrupted while waiting on queue of %s", name));
+            }
+        };
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    private String subscriberName(EventSubscriber subscriber) {
+        var simpleName = subscriber.getClass().getSimpleName();
+        return simpleName.isBlank() ? subscriber.getClass().getName() : simpleName;
+    }
+
+    private String eventName(EventEnvelope<?> event) {
+        return event.getPayload().getClass().getSimpleName();
+    }
+
+    /**
+     * Defines what happens when an event is published and the queue of an asynchronous subscriber is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The publishing thread waits until there's room in the queue.
+         */
+        BLOCK,
+
+        /**
+         * The event is not delivered to the subscriber.
+         */
+        DROP,
+
+        /**
+         * The event is delivered to the subscriber on the publishing thread.
+         */
+        CALLER_RUNS
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    private record Registration(Class<?> eventKind, EventSubscriber subscriber, ExecutorService executor) {
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+    private record Dispatch(List<EventSubscriber> sync, List<Registration> async) {
     }
 }
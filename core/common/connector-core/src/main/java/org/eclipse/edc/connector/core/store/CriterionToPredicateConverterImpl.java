@@ -16,8 +16,8 @@ package org.eclipse.edc.connector.core.store;
 
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionToPredicateConverter;
+import org.eclipse.edc.util.reflection.PropertyPath;
 import org.eclipse.edc.util.reflection.ReflectionException;
-import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
@@ -49,7 +49,7 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
 
     protected Object property(String key, Object object) {
         try {
-            return ReflectionUtil.getFieldValue(key, object);
+            return PropertyPath.compile(key).getValue(object);
         } catch (ReflectionException e) {
             return null;
         }
@@ -129,6 +129,8 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
 
     @NotNull
     private <T> Predicate<T> likePredicate(Criterion criterion) {
+        // compile the pattern once, not for every evaluated object
+        var pattern = criterion.getOperandRight() instanceof String operandRight ? likePattern(operandRight) : null;
         return t -> {
             var operandLeft = (String) criterion.getOperandLeft();
             var property = property(operandLeft, t);
@@ -136,18 +138,20 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
                 return false;
             }
 
-            if (criterion.getOperandRight() instanceof String operandRight) {
-                var regexPattern = Pattern.quote(operandRight)
-                        .replace("%", "\\E.*\\Q")
-                        .replace("_", "\\E.\\Q");
-
-                regexPattern = "^" + regexPattern + "$";
-
-                return Pattern.compile(regexPattern).matcher(property.toString()).matches();
+            if (pattern != null) {
+                return pattern.matcher(property.toString()).matches();
             }
 
             return false;
         };
     }
 
+    private Pattern likePattern(String operandRight) {
+        var regexPattern = Pattern.quote(operandRight)
+                .replace("%", "\\E.*\\Q")
+                .replace("_", "\\E.\\Q");
+
+        return Pattern.compile("^" + regexPattern + "$");
+    }
+
 }
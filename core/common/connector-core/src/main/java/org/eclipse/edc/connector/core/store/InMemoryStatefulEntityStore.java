@@ -29,9 +29,15 @@ import org.jetbrains.annotations.Nullable;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
@@ -44,9 +50,16 @@ import static java.util.stream.Collectors.toList;
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
  * purposes only.
+ * <p>
+ * The ids of the entities are kept per state, ordered by state timestamp, so {@link #nextNotLeased(int, Criterion...)}
+ * with a state criterion only visits the entities in that state, oldest first. Properties that are often queried can
+ * be declared as indexed, queries with an equality or {@code in} criterion on them only evaluate the entities the
+ * {@link PropertyIndex} returns.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
+    private static final String STATE_PROPERTY = "state";
+    private static final Comparator<StateEntry> STATE_ENTRY_ORDER = comparingLong(StateEntry::stateTimestamp).thenComparing(StateEntry::id);
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
     private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
@@ -54,11 +67,39 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     private final Clock clock;
     private final Map<String, Lease> leases = new HashMap<>();
     private final CriterionToPredicateConverter criterionConverter = new CriterionToPredicateConverterImpl();
+    private final Map<String, StateEntry> stateEntries = new HashMap<>();
+    private final Map<Integer, NavigableSet<StateEntry>> stateEntriesByState = new HashMap<>();
+    private final PropertyIndex<T> propertyIndex;
+    private final boolean versioned;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock) {
+        this(clazz, lockId, clock, List.of());
+    }
+
+    /**
+     * Creates a store that indexes the given properties.
+     *
+     * @param indexedProperties the properties, e.g. {@code dataRequest.id}, queries with an equality or {@code in}
+     *                          criterion on them are answered from the index.
+     */
+    public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, Collection<String> indexedProperties) {
+        this(clazz, lockId, clock, indexedProperties, false);
+    }
+
+    /**
+     * Creates a store that indexes the given properties and, if versioned, applies optimistic versioning on save.
+     *
+     * @param indexedProperties the properties, e.g. {@code dataRequest.id}, queries with an equality or {@code in}
+     *                          criterion on them are answered from the index.
+     * @param versioned         whether the entity version is checked and incremented on save, as the persistent stores
+     *                          with a version column do.
+     */
+    public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, Collection<String> indexedProperties, boolean versioned) {
         queryResolver = new ReflectionBasedQueryResolver<>(clazz);
         this.lockId = lockId;
         this.clock = clock;
+        this.versioned = versioned;
+        propertyIndex = new PropertyIndex<>(indexedProperties);
     }
 
     @Override
@@ -74,10 +115,9 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
         return lockManager.writeLock(() -> {
             var filterPredicate = Arrays.stream(criteria).map(criterionConverter::convert).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
+            var entities = byStateTimestamp(criteria)
                     .filter(filterPredicate)
                     .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
                     .limit(max)
                     .toList();
             entities.forEach(i -> acquireLease(i.getId()));
@@ -102,22 +142,46 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         });
     }
 
+    /**
+     * Saves the entity. If the store is versioned, the version of the entity must be 0 or equal to the version of the
+     * stored one, otherwise an {@link IllegalStateException} is thrown because it has been saved by someone else in the
+     * meantime.
+     */
     @Override
     public void save(T entity) {
-        acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
-        freeLease(entity.getId());
+        lockManager.writeLock(() -> {
+            var existing = entitiesById.get(entity.getId());
+            var storedVersion = existing == null ? 0 : existing.getVersion();
+            if (versioned && entity.getVersion() != 0 && existing != null && entity.getVersion() != storedVersion) {
+                throw new IllegalStateException(format("Entity %s has been modified concurrently, version %s is outdated", entity.getId(), entity.getVersion()));
+            }
+            acquireLease(entity.getId());
+            if (versioned) {
+                entity.setVersion(storedVersion + 1);
+            }
+            var stored = entity.copy();
+            entitiesById.put(entity.getId(), stored);
+            index(stored);
+            freeLease(entity.getId());
+            return null;
+        });
     }
 
     public void delete(String id) {
-        if (isLeased(id)) {
-            throw new IllegalStateException("Entity is leased and cannot be deleted!");
-        }
-        entitiesById.remove(id);
+        lockManager.writeLock(() -> {
+            if (isLeased(id)) {
+                throw new IllegalStateException("Entity is leased and cannot be deleted!");
+            }
+            entitiesById.remove(id);
+            unindex(id);
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
-        return queryResolver.query(findAll(), querySpec);
+        var candidateIds = lockManager.readLock(() -> propertyIndex.candidates(querySpec.getFilterExpression()));
+        var entities = candidateIds == null ? findAll() : candidateIds.stream().map(entitiesById::get).filter(Objects::nonNull);
+        return queryResolver.query(entities, querySpec);
     }
 
     public Stream<T> findAll() {
@@ -148,4 +212,49 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
     }
 
+    /**
+     * Returns the entities that could match the criteria ordered by state timestamp, oldest first. If a criterion
+     * requires a specific state, only the entities in that state are visited. Must be called holding the write lock.
+     */
+    private Stream<T> byStateTimestamp(Criterion... criteria) {
+        var state = Arrays.stream(criteria)
+                .filter(c -> STATE_PROPERTY.equals(c.getOperandLeft()) && "=".equals(c.getOperator()) && c.getOperandRight() instanceof Integer)
+                .map(c -> (Integer) c.getOperandRight())
+                .findFirst();
+
+        if (state.isPresent()) {
+            return stateEntriesByState.getOrDefault(state.get(), Collections.emptyNavigableSet()).stream()
+                    .map(entry -> entitiesById.get(entry.id()))
+                    .filter(Objects::nonNull);
+        }
+        return entitiesById.values().stream()
+                .sorted(comparingLong(StatefulEntity::getStateTimestamp));
+    }
+
+    private void index(T entity) {
+        unindex(entity.getId());
+        var entry = new StateEntry(entity.getId(), entity.getState(), entity.getStateTimestamp());
+        stateEntries.put(entry.id(), entry);
+        stateEntriesByState.computeIfAbsent(entry.state(), s -> new TreeSet<>(STATE_ENTRY_ORDER)).add(entry);
+        propertyIndex.put(entity.getId(), entity);
+    }
+
+    private void unindex(String id) {
+        var entry = stateEntries.remove(id);
+        if (entry != null) {
+            var entries = stateEntriesByState.get(entry.state());
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                stateEntriesByState.remove(entry.state());
+            }
+        }
+        propertyIndex.remove(id);
+    }
+
+    /**
+     * Snapshot of the state of a stored entity, as the stored instance could be modified after having been returned.
+     */
+    private record StateEntry(String id, int state, long stateTimestamp) {
+    }
+
 }
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.store;
+
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.util.reflection.PropertyPath;
+import org.eclipse.edc.util.reflection.ReflectionException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Secondary index of in-memory stores, that maps the values of the declared properties to the ids of the entities that
+ * have them, so that queries with an equality ({@code =}) or {@code in} criterion on one of these properties don't
+ * need to scan all the entities.
+ * <p>
+ * Only string values are indexed, as well as the string elements of list values and the names of enum values. The ids
+ * returned by {@link #candidates(List)} are a superset of the ids of the matching entities, the criteria still need to
+ * be evaluated on them. Adding and removing entities must be guarded by the store.
+ *
+ * @param <T> the entity type.
+ */
+public class PropertyIndex<T> {
+
+    private static final String EQUALS_OPERATOR = "=";
+    private static final String IN_OPERATOR = "in";
+
+    private final Map<String, Map<String, Set<String>>> idsByValueByProperty;
+    private final Map<String, Map<String, Set<String>>> keysByPropertyById = new ConcurrentHashMap<>();
+    private final BiFunction<String, T, Object> propertyReader;
+
+    /**
+     * Creates an index whose properties are read like the {@link CriterionToPredicateConverterImpl} does.
+     *
+     * @param properties the indexed properties, e.g. {@code dataRequest.id}
+     */
+    public PropertyIndex(Collection<String> properties) {
+        this(properties, PropertyIndex::readProperty);
+    }
+
+    /**
+     * Creates an index whose properties are read with a custom reader, which must return the same values the
+     * predicates of the store are evaluated on.
+     *
+     * @param properties     the indexed properties.
+     * @param propertyReader reads the property from the entity.
+     */
+    public PropertyIndex(Collection<String> properties, BiFunction<String, T, Object> propertyReader) {
+        this.idsByValueByProperty = properties.stream().collect(toMap(p -> p, p -> new ConcurrentHashMap<>()));
+        this.propertyReader = propertyReader;
+    }
+
+    /**
+     * Indexes the entity, replacing the entries of the entity previously indexed with the same id.
+     */
+    public void put(String id, T entity) {
+        remove(id);
+        var keysByProperty = new HashMap<String, Set<String>>();
+        idsByValueByProperty.forEach((property, idsByValue) -> {
+            var keys = keys(propertyReader.apply(property, entity));
+            keys.forEach(key -> idsByValue.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id));
+            keysByProperty.put(property, keys);
+        });
+        keysByPropertyById.put(id, keysByProperty);
+    }
+
+    /**
+     * Removes the entity from the index. The keys it has been indexed with are used, so the entity can have been
+     * modified in the meantime.
+     */
+    public void remove(String id) {
+        var keysByProperty = keysByPropertyById.remove(id);
+        if (keysByProperty == null) {
+            return;
+        }
+        keysByProperty.forEach((property, keys) -> {
+            var idsByValue = idsByValueByProperty.get(property);
+            keys.forEach(key -> idsByValue.computeIfPresent(key, (k, ids) -> ids.remove(id) && ids.isEmpty() ? null : ids));
+        });
+    }
+
+    /**
+     * Returns the ids of the entities that could match the criteria, using the most selective indexed criterion.
+     *
+     * @param criteria the criteria.
+     * @return the ids, null if none of the criteria can be answered by the index.
+     */
+    public @Nullable Set<String> candidates(List<Criterion> criteria) {
+        Set<String> candidates = null;
+        for (var criterion : criteria) {
+            var ids = candidates(criterion);
+            if (ids != null && (candidates == null || ids.size() < candidates.size())) {
+                candidates = ids;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the values a property is required to be equal to by the criteria, e.g. for looking up entities by the key
+     * of the map they are stored in, that doesn't need to be indexed.
+     *
+     * @param criteria the criteria.
+     * @param property the property.
+     * @return the values of the most selective criterion on the property, null if none of the criteria restricts it to
+     *         a set of strings.
+     */
+    public static @Nullable Set<String> requiredValues(List<Criterion> criteria, String property) {
+        Set<String> requiredValues = null;
+        for (var criterion : criteria) {
+            var values = property.equals(criterion.getOperandLeft()) ? requiredValues(criterion) : null;
+            if (values != null && (requiredValues == null || values.size() < requiredValues.size())) {
+                requiredValues = values;
+            }
+        }
+        return requiredValues;
+    }
+
+    private @Nullable Set<String> candidates(Criterion criterion) {
+        if (!(criterion.getOperandLeft() instanceof String property) || !idsByValueByProperty.containsKey(property)) {
+            return null;
+        }
+
+        var values = requiredValues(criterion);
+        if (values == null) {
+            return null;
+        }
+
+        var idsByValue = idsByValueByProperty.get(property);
+        var ids = new HashSet<String>();
+        values.forEach(value -> ids.addAll(idsByValue.getOrDefault(value, Set.of())));
+        return ids;
+    }
+
+    private static @Nullable Set<String> requiredValues(Criterion criterion) {
+        var operator = criterion.getOperator().toLowerCase();
+        if (EQUALS_OPERATOR.equals(operator) && criterion.getOperandRight() instanceof String value) {
+            return Set.of(value);
+        } else if (IN_OPERATOR.equals(operator) && criterion.getOperandRight() instanceof Iterable<?> values) {
+            var strings = new HashSet<String>();
+            for (var value : values) {
+                if (!(value instanceof String string)) {
+                    return null;
+                }
+                strings.add(string);
+            }
+            return strings;
+        }
+        return null;
+    }
+
+    private static Set<String> keys(Object value) {
+        if (value instanceof String string) {
+            return Set.of(string);
+        } else if (value instanceof Enum<?> enumValue) {
+            return Set.of(enumValue.name());
+        } else if (value instanceof List<?> list) {
+            var keys = new HashSet<String>();
+            list.stream().filter(String.class::isInstance).map(String.class::cast).forEach(keys::add);
+            return keys;
+        }
+        return Set.of();
+    }
+
+    private static Object readProperty(String property, Object entity) {
+        try {
+            return PropertyPath.compile(property).getValue(entity);
+        } catch (ReflectionException e) {
+            return null;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.query.CriterionToPredicateConverter;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.util.reflection.PropertyPath;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -95,9 +96,10 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
     @NotNull
     private Comparator<T> propertyComparator(boolean isAscending, String property) {
+        var path = PropertyPath.compile(property);
         return (obj1, obj2) -> {
-            var o1 = ReflectionUtil.getFieldValue(property, obj1);
-            var o2 = ReflectionUtil.getFieldValue(property, obj2);
+            var o1 = path.getValue(obj1);
+            var o2 = path.getValue(obj2);
 
             if (o1 == null || o2 == null) {
                 return 0;
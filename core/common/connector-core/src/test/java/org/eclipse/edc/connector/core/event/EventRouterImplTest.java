@@ -18,18 +18,30 @@ import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
-import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.connector.core.event.EventRouterImpl.OverflowPolicy.BLOCK;
+import static org.eclipse.edc.connector.core.event.EventRouterImpl.OverflowPolicy.CALLER_RUNS;
+import static org.eclipse.edc.connector.core.event.EventRouterImpl.OverflowPolicy.DROP;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -37,7 +49,7 @@ class EventRouterImplTest {
 
     private final Clock clock = Clock.systemUTC();
     private final Monitor monitor = mock(Monitor.class);
-    private final EventRouterImpl eventRouter = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor());
+    private final EventRouterImpl eventRouter = new EventRouterImpl(monitor, ExecutorInstrumentation.noop(), 100, BLOCK);
 
     @Test
     void shouldPublishToAllSubscribers() {
@@ -149,6 +161,138 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldPublishToSubscriberRegisteredAfterFirstPublish() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+
+        eventRouter.publish(envelope());
+        eventRouter.registerSync(Event.class, subscriberB);
+        eventRouter.publish(envelope());
+
+        verify(subscriberA, times(2)).on(any());
+        verify(subscriberB, times(1)).on(any());
+    }
+
+    @Test
+    void shouldDeliverEventsInOrderToAsyncSubscriber() {
+        var received = Collections.synchronizedList(new ArrayList<EventEnvelope<?>>());
+        eventRouter.register(TestEvent.class, collectingSubscriber(received, () -> { }));
+
+        var events = IntStream.range(0, 50).mapToObj(i -> envelope()).toList();
+        events.forEach(eventRouter::publish);
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactlyElementsOf(events));
+    }
+
+    @Test
+    void shouldDropEvents_whenQueueIsFullAndPolicyIsDrop() throws InterruptedException {
+        var router = new EventRouterImpl(monitor, ExecutorInstrumentation.noop(), 1, DROP);
+        var latch = new CountDownLatch(1);
+        var received = Collections.synchronizedList(new ArrayList<EventEnvelope<?>>());
+        router.register(TestEvent.class, collectingSubscriber(received, () -> awaitLatch(latch)));
+
+        var first = envelope();
+        router.publish(first);
+        await().atMost(1, TimeUnit.SECONDS).until(() -> received.contains(first));
+        var second = envelope();
+        router.publish(second);
+        router.publish(envelope());
+        latch.countDown();
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactly(first, second));
+        verify(monitor).warning(anyString());
+    }
+
+    @Test
+    void shouldDeliverOnPublishingThread_whenQueueIsFullAndPolicyIsCallerRuns() {
+        var router = new EventRouterImpl(monitor, ExecutorInstrumentation.noop(), 1, CALLER_RUNS);
+        var latch = new CountDownLatch(1);
+        var received = Collections.synchronizedList(new ArrayList<EventEnvelope<?>>());
+        var thread = new AtomicReference<Thread>();
+        router.register(TestEvent.class, collectingSubscriber(received, () -> {
+            if (received.size() == 1) {
+                awaitLatch(latch);
+            } else {
+                thread.set(Thread.currentThread());
+            }
+        }));
+
+        router.publish(envelope());
+        await().atMost(1, TimeUnit.SECONDS).until(() -> received.size() == 1);
+        router.publish(envelope());
+        router.publish(envelope());
+
+        assertThat(thread.get()).isEqualTo(Thread.currentThread());
+        latch.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).hasSize(3));
+    }
+
+    @Test
+    void shouldDeliverEventsInOrder_whenVirtualThreadsEnabled() {
+        var router = new EventRouterImpl(monitor, ExecutorInstrumentation.noop(), 100, BLOCK, true);
+        var received = Collections.synchronizedList(new ArrayList<EventEnvelope<?>>());
+        var thread = new AtomicReference<Thread>();
+        router.register(TestEvent.class, collectingSubscriber(received, () -> thread.set(Thread.currentThread())));
+
+        var events = IntStream.range(0, 50).mapToObj(i -> envelope()).toList();
+        events.forEach(router::publish);
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactlyElementsOf(events));
+        assertThat(thread.get()).isNotEqualTo(Thread.currentThread());
+        assertThat(thread.get().getName()).startsWith("event-subscriber-");
+        assertThat(thread.get().isDaemon()).isTrue();
+        router.shutdown();
+    }
+
+    @Test
+    void shouldDeliverEventsConcurrently_whenConcurrencyIsGreaterThanOne() {
+        var router = new EventRouterImpl(monitor, ExecutorInstrumentation.noop(), 100, BLOCK, false, 2);
+        var latch = new CountDownLatch(1);
+        var received = Collections.synchronizedList(new ArrayList<EventEnvelope<?>>());
+        router.register(TestEvent.class, collectingSubscriber(received, () -> awaitLatch(latch)));
+
+        router.publish(envelope());
+        router.publish(envelope());
+
+        // both events are handled while the first one is still blocked
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).hasSize(2));
+        latch.countDown();
+        router.shutdown();
+    }
+
+    @Test
+    void shouldThrow_whenConcurrencyIsLessThanOne() {
+        assertThatThrownBy(() -> new EventRouterImpl(monitor, ExecutorInstrumentation.noop(), 100, BLOCK, false, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EventSubscriber collectingSubscriber(List<EventEnvelope<?>> received, Runnable afterReceive) {
+        return new EventSubscriber() {
+            @Override
+            public <E extends Event> void on(EventEnvelope<E> event) {
+                received.add(event);
+                afterReceive.run();
+            }
+        };
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private EventEnvelope<TestEvent> envelope() {
+        return EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class PropertyIndexTest {
+
+    private final PropertyIndex<Item> index = new PropertyIndex<>(List.of("name", "tags", "kind"));
+
+    @Test
+    void candidates_shouldReturnIds_whenEqualityOnIndexedProperty() {
+        index.put("1", new Item("alice", List.of(), Kind.FOO));
+        index.put("2", new Item("bob", List.of(), Kind.FOO));
+
+        assertThat(index.candidates(List.of(criterion("name", "=", "alice")))).containsExactly("1");
+        assertThat(index.candidates(List.of(criterion("name", "=", "carol")))).isEmpty();
+    }
+
+    @Test
+    void candidates_shouldReturnUnion_whenInOnIndexedProperty() {
+        index.put("1", new Item("alice", List.of(), Kind.FOO));
+        index.put("2", new Item("bob", List.of(), Kind.FOO));
+        index.put("3", new Item("carol", List.of(), Kind.FOO));
+
+        assertThat(index.candidates(List.of(criterion("name", "in", List.of("alice", "carol"))))).containsExactlyInAnyOrder("1", "3");
+    }
+
+    @Test
+    void candidates_shouldIndexListElementsAndEnumNames() {
+        index.put("1", new Item("alice", List.of("red", "green"), Kind.FOO));
+        index.put("2", new Item("bob", List.of("green"), Kind.BAR));
+
+        assertThat(index.candidates(List.of(criterion("tags", "=", "green")))).containsExactlyInAnyOrder("1", "2");
+        assertThat(index.candidates(List.of(criterion("kind", "=", "BAR")))).containsExactly("2");
+    }
+
+    @Test
+    void candidates_shouldUseMostSelectiveCriterion() {
+        index.put("1", new Item("alice", List.of("red"), Kind.FOO));
+        index.put("2", new Item("bob", List.of("red"), Kind.FOO));
+
+        var candidates = index.candidates(List.of(criterion("tags", "=", "red"), criterion("name", "=", "bob")));
+
+        assertThat(candidates).containsExactly("2");
+    }
+
+    @Test
+    void candidates_shouldReturnNull_whenNoCriterionCanBeAnswered() {
+        index.put("1", new Item("alice", List.of(), Kind.FOO));
+
+        assertThat(index.candidates(List.of())).isNull();
+        assertThat(index.candidates(List.of(criterion("other", "=", "alice")))).isNull();
+        assertThat(index.candidates(List.of(criterion("name", "like", "ali%")))).isNull();
+        assertThat(index.candidates(List.of(criterion("name", "in", List.of(1, 2))))).isNull();
+    }
+
+    @Test
+    void put_shouldReplacePreviousEntries() {
+        index.put("1", new Item("alice", List.of(), Kind.FOO));
+
+        index.put("1", new Item("bob", List.of(), Kind.FOO));
+
+        assertThat(index.candidates(List.of(criterion("name", "=", "alice")))).isEmpty();
+        assertThat(index.candidates(List.of(criterion("name", "=", "bob")))).containsExactly("1");
+    }
+
+    @Test
+    void remove_shouldUseIndexedKeys_whenEntityHasBeenModified() {
+        var tags = new ArrayList<>(List.of("red"));
+        index.put("1", new Item("alice", tags, Kind.FOO));
+        tags.set(0, "blue");
+
+        index.remove("1");
+
+        assertThat(index.candidates(List.of(criterion("tags", "=", "red")))).isEmpty();
+    }
+
+    @Test
+    void requiredValues_shouldReturnValuesOfTheProperty() {
+        var criteria = List.of(criterion("id", "in", List.of("1", "2")), criterion("id", "=", "2"), criterion("name", "=", "alice"));
+
+        assertThat(PropertyIndex.requiredValues(criteria, "id")).containsExactly("2");
+        assertThat(PropertyIndex.requiredValues(criteria, "other")).isNull();
+    }
+
+    private enum Kind {
+        FOO, BAR
+    }
+
+    private record Item(String name, List<String> tags, Kind kind) {
+    }
+}
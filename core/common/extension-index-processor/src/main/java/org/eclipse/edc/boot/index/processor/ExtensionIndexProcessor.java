@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.boot.index.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes, for every concrete {@code ServiceExtension} of the compiled module, its injected
+ * fields, {@code @Provides} and {@code @Requires} features and {@code @Provider} methods into the
+ * {@value #INDEX_RESOURCE} resource. The runtime boot reads these indexes to build the dependency graph without scanning
+ * the extension classes reflectively.
+ * <p>
+ * The index is a text file with one tab-separated entry per line:
+ * <pre>
+ * extension  &lt;extension class&gt;
+ * inject     &lt;extension class&gt; &lt;field name&gt; &lt;field type&gt; &lt;required&gt;
+ * provides   &lt;extension class&gt; &lt;feature type&gt;
+ * requires   &lt;extension class&gt; &lt;feature type&gt;
+ * provider   &lt;extension class&gt; &lt;method name&gt; &lt;return type&gt; &lt;is default&gt;
+ * </pre>
+ * Class names are binary names, i.e. they can be passed to {@link Class#forName(String)}. Extensions whose members
+ * cannot be described (e.g. injected primitive or generic array fields) are not indexed and fall back to reflection.
+ */
+public class ExtensionIndexProcessor extends AbstractProcessor {
+
+    public static final String INDEX_RESOURCE = "META-INF/edc/extension-index";
+
+    private static final String SERVICE_EXTENSION = "org.eclipse.edc.spi.system.ServiceExtension";
+    private static final String INJECT = "org.eclipse.edc.runtime.metamodel.annotation.Inject";
+    private static final String PROVIDES = "org.eclipse.edc.runtime.metamodel.annotation.Provides";
+    private static final String REQUIRES = "org.eclipse.edc.runtime.metamodel.annotation.Requires";
+    private static final String PROVIDER = "org.eclipse.edc.runtime.metamodel.annotation.Provider";
+
+    private final TreeMap<String, List<String>> entries = new TreeMap<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // extensions don't need to be annotated, all the types need to be visited
+        return Set.of("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var serviceExtension = processingEnv.getElementUtils().getTypeElement(SERVICE_EXTENSION);
+        if (serviceExtension != null) {
+            var extensionType = processingEnv.getTypeUtils().erasure(serviceExtension.asType());
+            roundEnv.getRootElements().forEach(element -> visit(element, extensionType));
+        }
+
+        if (roundEnv.processingOver() && !entries.isEmpty()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void visit(Element element, TypeMirror extensionType) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type.asType()), extensionType)) {
+            index(type);
+        }
+        type.getEnclosedElements().forEach(enclosed -> visit(enclosed, extensionType));
+    }
+
+    private void index(TypeElement type) {
+        var name = binaryName(type.asType());
+        var lines = new ArrayList<String>();
+        lines.add(line("extension", name));
+
+        for (var enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.FIELD) {
+                var inject = annotation(enclosed, INJECT);
+                if (inject != null) {
+                    var fieldType = binaryName(((VariableElement) enclosed).asType());
+                    if (fieldType == null) {
+                        return;
+                    }
+                    lines.add(line("inject", name, enclosed.getSimpleName().toString(), fieldType, String.valueOf(value(inject, "required"))));
+                }
+            } else if (enclosed.getKind() == ElementKind.METHOD) {
+                var provider = annotation(enclosed, PROVIDER);
+                if (provider != null) {
+                    var returnType = binaryName(((ExecutableElement) enclosed).getReturnType());
+                    if (returnType == null) {
+                        return;
+                    }
+                    lines.add(line("provider", name, enclosed.getSimpleName().toString(), returnType, String.valueOf(value(provider, "isDefault"))));
+                }
+            }
+        }
+
+        for (var feature : List.of(PROVIDES, REQUIRES)) {
+            var annotation = annotation(type, feature);
+            if (annotation != null) {
+                var kind = feature.equals(PROVIDES) ? "provides" : "requires";
+                for (var featureType : classes(annotation)) {
+                    if (featureType == null) {
+                        return;
+                    }
+                    lines.add(line(kind, name, featureType));
+                }
+            }
+        }
+
+        entries.put(name, lines);
+    }
+
+    private void writeIndex() {
+        try {
+            var resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (var writer = resource.openWriter()) {
+                writer.write("# generated by " + getClass().getName() + "\n");
+                for (var lines : entries.values()) {
+                    for (var line : lines) {
+                        writer.write(line);
+                        writer.write("\n");
+                    }
+                }
+            }
+        } catch (Exception e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Cannot write the extension index: " + e.getMessage());
+        }
+    }
+
+    private AnnotationMirror annotation(Element element, String annotationType) {
+        return element.getAnnotationMirrors().stream()
+                .filter(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationType))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Object value(AnnotationMirror annotation, String name) {
+        return processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet().stream()
+                .filter(entry -> entry.getKey().getSimpleName().contentEquals(name))
+                .map(entry -> entry.getValue().getValue())
+                .findFirst()
+                .orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> classes(AnnotationMirror annotation) {
+        var value = value(annotation, "value");
+        var types = new ArrayList<String>();
+        if (value instanceof List<?> list) {
+            for (var item : (List<? extends AnnotationValue>) list) {
+                types.add(item.getValue() instanceof TypeMirror typeMirror ? binaryName(typeMirror) : null);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Returns the binary name of the erasure of the type, null if it is not a class or interface type.
+     */
+    private String binaryName(TypeMirror type) {
+        var erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        var element = (TypeElement) ((DeclaredType) erasure).asElement();
+        return processingEnv.getElementUtils().getBinaryName(element).toString();
+    }
+
+    private static String line(String... values) {
+        return String.join("\t", values);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.boot.index.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.ToolProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.boot.index.processor.ExtensionIndexProcessor.INDEX_RESOURCE;
+
+class ExtensionIndexProcessorTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldIndexExtensions() throws IOException {
+        var index = compile("""
+                package test;
+
+                import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+                import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+                import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+                import org.eclipse.edc.runtime.metamodel.annotation.Requires;
+                import org.eclipse.edc.spi.monitor.Monitor;
+                import org.eclipse.edc.spi.system.ServiceExtension;
+                import java.time.Clock;
+                import java.util.List;
+
+                @Provides(Clock.class)
+                @Requires(Runnable.class)
+                public class TestExtension implements ServiceExtension {
+                    @Inject
+                    private Monitor monitor;
+                    @Inject(required = false)
+                    private List<String> values;
+                    private String notInjected;
+
+                    @Provider
+                    public Clock clock() {
+                        return Clock.systemUTC();
+                    }
+
+                    @Provider(isDefault = true)
+                    public Runnable runnable() {
+                        return () -> { };
+                    }
+
+                    public static class Nested implements ServiceExtension {
+                    }
+                }
+                """);
+
+        assertThat(index).containsExactlyInAnyOrder(
+                "extension\ttest.TestExtension",
+                "inject\ttest.TestExtension\tmonitor\torg.eclipse.edc.spi.monitor.Monitor\ttrue",
+                "inject\ttest.TestExtension\tvalues\tjava.util.List\tfalse",
+                "provider\ttest.TestExtension\tclock\tjava.time.Clock\tfalse",
+                "provider\ttest.TestExtension\trunnable\tjava.lang.Runnable\ttrue",
+                "provides\ttest.TestExtension\tjava.time.Clock",
+                "requires\ttest.TestExtension\tjava.lang.Runnable",
+                "extension\ttest.TestExtension$Nested");
+    }
+
+    @Test
+    void shouldNotIndexExtension_whenFieldTypeIsPrimitive() throws IOException {
+        var index = compile("""
+                package test;
+
+                import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+                import org.eclipse.edc.spi.system.ServiceExtension;
+
+                public class TestExtension implements ServiceExtension {
+                    @Inject
+                    private int value;
+                }
+                """);
+
+        assertThat(index).isEmpty();
+    }
+
+    @Test
+    void shouldNotIndexAbstractExtensionsAndOtherClasses() throws IOException {
+        var index = compile("""
+                package test;
+
+                import org.eclipse.edc.spi.system.ServiceExtension;
+
+                public abstract class TestExtension implements ServiceExtension {
+                    public static class NotAnExtension {
+                    }
+                }
+                """);
+
+        assertThat(index).isEmpty();
+    }
+
+    private List<String> compile(String source) throws IOException {
+        var sourceFile = tempDir.resolve("src/test/TestExtension.java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source);
+        var output = Files.createDirectories(tempDir.resolve("classes"));
+
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        try (var fileManager = compiler.getStandardFileManager(null, null, null)) {
+            var task = compiler.getTask(null, fileManager, null,
+                    List.of("-classpath", System.getProperty("java.class.path"), "-d", output.toString(), "-proc:only"),
+                    null, fileManager.getJavaFileObjects(sourceFile));
+            task.setProcessors(List.of(new ExtensionIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+
+        var index = output.resolve(INDEX_RESOURCE);
+        if (!Files.exists(index)) {
+            return List.of();
+        }
+        return Files.readAllLines(index).stream().filter(line -> !line.startsWith("#")).toList();
+    }
+}
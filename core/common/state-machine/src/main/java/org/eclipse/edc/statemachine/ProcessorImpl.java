@@ -14,6 +14,10 @@
 
 package org.eclipse.edc.statemachine;
 
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
+
+import java.time.Clock;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -21,8 +25,6 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-import static java.util.function.Predicate.isEqual;
-
 /**
  * Describes the processing flow applied by a state machine. The entities are provided by a supplier.
  * A process is a function that returns a boolean that indicates if the entity has been processed or not in
@@ -33,6 +35,8 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - A {@link StateMachineInstrumentation} can be registered, to measure the batch fill, the processing latency, the
+ * fetch (lease) failures and the age of the oldest fetched {@link StatefulEntity}.
  *
  * @param <E> the entity that is processed
  */
@@ -42,6 +46,11 @@ public class ProcessorImpl<E> implements Processor {
     private Function<E, Boolean> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private StateMachineInstrumentation instrumentation = StateMachineInstrumentation.noop();
+    private String machine = "";
+    private String name = "";
+    private int batchSize;
+    private Clock clock = Clock.systemUTC();
 
     private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier) {
         entities = entitiesSupplier;
@@ -49,17 +58,43 @@ public class ProcessorImpl<E> implements Processor {
 
     @Override
     public Long process() {
-        return entities.get().stream()
-                .map(entity -> {
-                    var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
-                    var hasBeenProcessed = actualProcess.apply(entity);
-                    if (!hasBeenProcessed) {
-                        onNotProcessed.accept(entity);
-                    }
-                    return hasBeenProcessed;
-                })
-                .filter(isEqual(true))
-                .count();
+        var fetched = fetch();
+        instrumentation.entitiesFetched(machine, name, fetched.size(), batchSize);
+        instrumentation.oldestEntityAge(machine, name, oldestEntityAge(fetched));
+
+        var count = 0L;
+        for (var entity : fetched) {
+            var start = System.nanoTime();
+            var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
+            var hasBeenProcessed = actualProcess.apply(entity);
+            if (!hasBeenProcessed) {
+                onNotProcessed.accept(entity);
+            }
+            instrumentation.entityProcessed(machine, name, System.nanoTime() - start, hasBeenProcessed);
+            if (hasBeenProcessed) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Collection<E> fetch() {
+        try {
+            return entities.get();
+        } catch (RuntimeException e) {
+            instrumentation.fetchFailed(machine, name, e);
+            throw e;
+        }
+    }
+
+    private long oldestEntityAge(Collection<E> fetched) {
+        var oldest = Long.MAX_VALUE;
+        for (var entity : fetched) {
+            if (entity instanceof StatefulEntity<?> statefulEntity) {
+                oldest = Math.min(oldest, statefulEntity.getStateTimestamp());
+            }
+        }
+        return oldest == Long.MAX_VALUE ? 0 : Math.max(0, clock.millis() - oldest);
     }
 
     public static class Builder<E> {
@@ -95,6 +130,37 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Reports the processor measurements to the instrumentation.
+         *
+         * @param instrumentation the instrumentation.
+         * @param machine         the name of the state machine running the processor.
+         * @param name            the processor name, usually the processed state.
+         * @return the builder.
+         */
+        public Builder<E> instrumentation(StateMachineInstrumentation instrumentation, String machine, String name) {
+            processor.instrumentation = instrumentation;
+            processor.machine = machine;
+            processor.name = name;
+            return this;
+        }
+
+        /**
+         * The maximum number of entities the supplier returns, used to report the batch fill.
+         *
+         * @param batchSize the batch size.
+         * @return the builder.
+         */
+        public Builder<E> batchSize(int batchSize) {
+            processor.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder<E> clock(Clock clock) {
+            processor.clock = clock;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
 
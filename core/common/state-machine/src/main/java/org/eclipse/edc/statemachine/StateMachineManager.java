@@ -17,6 +17,7 @@ package org.eclipse.edc.statemachine;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -35,6 +36,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * The iteration duration and the wait times are reported to the {@link StateMachineInstrumentation}.
  */
 public class StateMachineManager {
 
@@ -45,6 +47,7 @@ public class StateMachineManager {
     private final Monitor monitor;
     private final String name;
     private int shutdownTimeout = 10;
+    private StateMachineInstrumentation instrumentation = StateMachineInstrumentation.noop();
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
@@ -104,10 +107,12 @@ public class StateMachineManager {
     }
 
     private void performLogic() {
+        var start = System.nanoTime();
         try {
             var processed = processors.stream()
                     .mapToLong(Processor::process)
                     .sum();
+            instrumentation.iterationCompleted(name, System.nanoTime() - start, processed);
 
             waitStrategy.success();
 
@@ -118,6 +123,7 @@ public class StateMachineManager {
             active.set(false);
             monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
         } catch (Throwable e) {
+            instrumentation.iterationCompleted(name, System.nanoTime() - start, 0);
             monitor.severe(format("StateMachineManager [%s] error caught", name), e);
             scheduleNextIterationIn(waitStrategy.retryInMillis());
         }
@@ -125,6 +131,9 @@ public class StateMachineManager {
 
     @NotNull
     private Future<?> scheduleNextIterationIn(long delayMillis) {
+        if (delayMillis > 0) {
+            instrumentation.waited(name, delayMillis);
+        }
         return executor.schedule(loop(), delayMillis, MILLISECONDS);
     }
 
@@ -145,6 +154,11 @@ public class StateMachineManager {
             return this;
         }
 
+        public Builder instrumentation(StateMachineInstrumentation instrumentation) {
+            loop.instrumentation = instrumentation;
+            return this;
+        }
+
         public Builder shutdownTimeout(int seconds) {
             loop.shutdownTimeout = seconds;
             return this;
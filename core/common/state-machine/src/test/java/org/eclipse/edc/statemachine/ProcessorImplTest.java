@@ -14,15 +14,23 @@
 
 package org.eclipse.edc.statemachine;
 
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
 import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -117,4 +125,41 @@ class ProcessorImplTest {
 
         verifyNoInteractions(onNotProcessed);
     }
+
+    @Test
+    void shouldReportMeasurementsToInstrumentation() {
+        var clock = Clock.fixed(Instant.ofEpochMilli(10_000), ZoneOffset.UTC);
+        var oldest = TestEntity.Builder.newInstance().id("oldest").stateTimestamp(7_000).build();
+        var newest = TestEntity.Builder.newInstance().id("newest").stateTimestamp(9_000).build();
+        StateMachineInstrumentation instrumentation = mock();
+        var processor = ProcessorImpl.Builder.newInstance(() -> List.of(oldest, newest))
+                .process(e -> e == oldest)
+                .instrumentation(instrumentation, "machine", "STATE")
+                .batchSize(5)
+                .clock(clock)
+                .build();
+
+        processor.process();
+
+        verify(instrumentation).entitiesFetched("machine", "STATE", 2, 5);
+        verify(instrumentation).oldestEntityAge("machine", "STATE", 3_000);
+        verify(instrumentation).entityProcessed(eq("machine"), eq("STATE"), anyLong(), eq(true));
+        verify(instrumentation).entityProcessed(eq("machine"), eq("STATE"), anyLong(), eq(false));
+    }
+
+    @Test
+    void shouldReportFetchFailureToInstrumentation() {
+        var failure = new IllegalStateException("Entity is currently leased!");
+        StateMachineInstrumentation instrumentation = mock();
+        var processor = ProcessorImpl.Builder.<TestEntity>newInstance(() -> {
+                    throw failure;
+                })
+                .process(e -> true)
+                .instrumentation(instrumentation, "machine", "STATE")
+                .build();
+
+        assertThatThrownBy(processor::process).isSameAs(failure);
+
+        verify(instrumentation).fetchFailed(eq("machine"), eq("STATE"), same(failure));
+    }
 }
@@ -18,12 +18,15 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -135,4 +138,24 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldReportIterationsAndWaitsToInstrumentation() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(1L);
+        StateMachineInstrumentation stateMachineInstrumentation = mock();
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .instrumentation(stateMachineInstrumentation)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(stateMachineInstrumentation, atLeastOnce()).iterationCompleted(eq("test"), anyLong(), eq(0L));
+            verify(stateMachineInstrumentation, atLeastOnce()).waited("test", 1L);
+        });
+        stateMachine.stop();
+    }
 }
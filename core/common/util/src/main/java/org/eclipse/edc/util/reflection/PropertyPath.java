@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.util.reflection;
+
+import org.eclipse.edc.spi.types.PathItem;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A property path compiled into a chain of accessors, one per path segment, that reads the value of the property from
+ * objects without parsing the path and looking up the fields again. Supports the same notation and has the same
+ * semantics as {@link ReflectionUtil#getFieldValue(String, Object)}: segments are read from maps by key, from lists
+ * by reading the field of every element and from other objects by reading the field, also when declared by a
+ * superclass; a segment can end with an array indexer, e.g. {@code someObject[2]}.
+ * <p>
+ * Fields are read through {@link MethodHandle}s, which are resolved once per runtime class and field name. Compiled
+ * paths are cached, so {@link #compile(String)} can be called for every evaluation.
+ */
+public final class PropertyPath {
+
+    private static final int MAX_CACHED_PATHS = 10_000;
+    private static final Pattern ARRAY_INDEXER = Pattern.compile(".*\\[([0-9])+\\]");
+    private static final Map<String, PropertyPath> PATHS = new ConcurrentHashMap<>();
+    private static final MethodHandle MISSING_FIELD = MethodHandles.constant(Object.class, null);
+    private static final ClassValue<Map<String, MethodHandle>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Segment[] segments;
+
+    private PropertyPath(Segment[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the property path, or returns the already compiled one.
+     *
+     * @param propertyName the property path, e.g. {@code someObject.someValue}
+     * @return the compiled path.
+     */
+    public static PropertyPath compile(String propertyName) {
+        Objects.requireNonNull(propertyName, "propertyName");
+
+        var path = PATHS.get(propertyName);
+        if (path != null) {
+            return path;
+        }
+        path = new PropertyPath(PathItem.parse(propertyName).stream().map(PathItem::toString).map(Segment::parse).toArray(Segment[]::new));
+        // paths may come from user queries, stop caching them instead of growing without bounds
+        if (PATHS.size() < MAX_CACHED_PATHS) {
+            PATHS.putIfAbsent(propertyName, path);
+        }
+        return path;
+    }
+
+    /**
+     * Reads the value of the property from the object.
+     *
+     * @param object the object.
+     * @return the value, null if the property or one of its parents is null.
+     * @throws ReflectionException if a field does not exist.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(Object object) {
+        Objects.requireNonNull(object, "object");
+
+        var value = object;
+        for (var segment : segments) {
+            if (value == null) {
+                return null;
+            }
+            value = segment.read(value);
+        }
+        return (T) value;
+    }
+
+    private static Object readField(String fieldName, Object object) {
+        var getter = GETTERS.get(object.getClass()).computeIfAbsent(fieldName, name -> createGetter(object.getClass(), name));
+        if (getter == MISSING_FIELD) {
+            throw new ReflectionException(fieldName);
+        }
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private static MethodHandle createGetter(Class<?> type, String fieldName) {
+        var field = ReflectionUtil.getFieldRecursive(type, fieldName);
+        if (field == null) {
+            return MISSING_FIELD;
+        }
+        field.setAccessible(true);
+        try {
+            var getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    /**
+     * A segment of the path, with its optional array index.
+     */
+    private record Segment(String name, int index) {
+
+        static Segment parse(String segment) {
+            if (ARRAY_INDEXER.matcher(segment).matches()) {
+                var openingBracketIx = segment.indexOf('[');
+                var closingBracketIx = segment.indexOf(']');
+                return new Segment(segment.substring(0, openingBracketIx), Integer.parseInt(segment.substring(openingBracketIx + 1, closingBracketIx)));
+            }
+            return new Segment(segment, -1);
+        }
+
+        Object read(Object object) {
+            if (index >= 0) {
+                var list = (List<?>) readProperty(object);
+                return list.get(index);
+            }
+            return readProperty(object);
+        }
+
+        private Object readProperty(Object object) {
+            if (object instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (object instanceof List<?> list) {
+                return list.stream().filter(Objects::nonNull).map(it -> readField(name, it)).toList();
+            } else {
+                return readField(name, object);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.util.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    void isSupported_shouldDependOnRuntimeVersion() {
+        if (Runtime.version().feature() < 21) {
+            assertThat(VirtualThreads.isSupported()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldThrow_whenNotSupported() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        assertThatThrownBy(() -> VirtualThreads.threadFactory("test-")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> VirtualThreads.newThreadPerTaskExecutor("test-")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void threadFactory_shouldCreateNamedVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        var thread = VirtualThreads.threadFactory("test-").newThread(() -> { });
+
+        assertThat(thread.getName()).isEqualTo("test-0");
+        assertThat(thread.isDaemon()).isTrue();
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+    }
+
+    @Test
+    void newThreadPerTaskExecutor_shouldRunTasks() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        var executor = VirtualThreads.newThreadPerTaskExecutor("test-");
+        try {
+            var name = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).get(5, TimeUnit.SECONDS);
+
+            assertThat(name).startsWith("test-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.util.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyPathTest {
+
+    @Test
+    void compile_shouldReturnCachedPath() {
+        assertThat(PropertyPath.compile("description")).isSameAs(PropertyPath.compile("description"));
+    }
+
+    @Test
+    void getValue_shouldReadSameSegmentFromDifferentClasses() {
+        var path = PropertyPath.compile("description");
+
+        assertThat((String) path.getValue(new TestObject("test-desc", 1))).isEqualTo("test-desc");
+        assertThat((String) path.getValue(new OtherObject("other-desc"))).isEqualTo("other-desc");
+        assertThat((String) path.getValue(Map.of("description", "map-desc"))).isEqualTo("map-desc");
+    }
+
+    @Test
+    void getValue_shouldReadFieldDeclaredInSuperclass() {
+        var path = PropertyPath.compile("priority");
+
+        assertThat((Integer) path.getValue(new TestObjectSubclass("test-desc", 42, "foobar"))).isEqualTo(42);
+    }
+
+    @Test
+    void getValue_shouldReadStaticField() {
+        assertThat((String) PropertyPath.compile("CONSTANT").getValue(new WithConstant())).isEqualTo("constant");
+    }
+
+    @Test
+    void getValue_shouldNavigateListsAndMaps() {
+        var object = Map.of("items", List.of(new TestObject("first", 1), new TestObject("second", 2)));
+
+        assertThat((Object) PropertyPath.compile("items.description").getValue(object)).isEqualTo(List.of("first", "second"));
+        assertThat((Integer) PropertyPath.compile("items[1].priority").getValue(object)).isEqualTo(2);
+    }
+
+    @Test
+    void getValue_shouldThrow_whenFieldDoesNotExistEveryTime() {
+        var path = PropertyPath.compile("notExist");
+        var object = new TestObject("test-desc", 1);
+
+        assertThatThrownBy(() -> path.getValue(object)).isInstanceOf(ReflectionException.class);
+        assertThatThrownBy(() -> path.getValue(object)).isInstanceOf(ReflectionException.class);
+    }
+
+    private static class WithConstant {
+        private static final String CONSTANT = "constant";
+    }
+
+    private static class OtherObject {
+        private final String description;
+
+        OtherObject(String description) {
+            this.description = description;
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.defaults.storage.assetindex;
 
 import org.eclipse.edc.connector.asset.CriterionToAssetPredicateConverterImpl;
+import org.eclipse.edc.connector.core.store.PropertyIndex;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -37,12 +38,14 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 
 /**
- * An ephemeral asset index, that is also a DataAddressResolver
+ * An ephemeral asset index, that is also a DataAddressResolver. Queries filtering on the asset id are answered from an
+ * index instead of scanning all the assets.
  */
 public class InMemoryAssetIndex implements AssetIndex {
     private final Map<String, Asset> cache = new ConcurrentHashMap<>();
     private final Map<String, DataAddress> dataAddresses = new ConcurrentHashMap<>();
     private final CriterionToAssetPredicateConverterImpl predicateConverter = new CriterionToAssetPredicateConverterImpl();
+    private final PropertyIndex<Asset> idIndex = new PropertyIndex<>(List.of("id", Asset.PROPERTY_ID, "'%s'".formatted(Asset.PROPERTY_ID)), predicateConverter::property);
     private final ReentrantReadWriteLock lock;
 
     public InMemoryAssetIndex() {
@@ -71,10 +74,7 @@ public class InMemoryAssetIndex implements AssetIndex {
     public Asset findById(String assetId) {
         lock.readLock().lock();
         try {
-            return cache.values().stream()
-                    .filter(asset -> asset.getId().equals(assetId))
-                    .findFirst()
-                    .orElse(null);
+            return cache.get(assetId);
         } finally {
             lock.readLock().unlock();
         }
@@ -121,6 +121,7 @@ public class InMemoryAssetIndex implements AssetIndex {
             Objects.requireNonNull(id, "assetId");
             if (cache.containsKey(id)) {
                 cache.put(id, asset);
+                idIndex.put(id, asset);
                 return StoreResult.success(asset);
             }
             return StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, id));
@@ -145,12 +146,14 @@ public class InMemoryAssetIndex implements AssetIndex {
                 .map(predicateConverter::convert)
                 .reduce(x -> true, Predicate::and);
 
-        return cache.values().stream()
-                .filter(predicate);
+        var candidateIds = idIndex.candidates(criteria);
+        var assets = candidateIds == null ? cache.values().stream() : candidateIds.stream().map(cache::get).filter(Objects::nonNull);
+        return assets.filter(predicate);
     }
 
     private Asset delete(String assetId) {
         dataAddresses.remove(assetId);
+        idIndex.remove(assetId);
         return cache.remove(assetId);
     }
 
@@ -162,6 +165,7 @@ public class InMemoryAssetIndex implements AssetIndex {
         Objects.requireNonNull(asset, "asset");
         Objects.requireNonNull(id, "asset.getId()");
         cache.put(id, asset);
+        idIndex.put(id, asset);
         dataAddresses.put(id, address);
     }
 
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.defaults.storage.contractdefinition;
 
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.core.store.PropertyIndex;
 import org.eclipse.edc.connector.core.store.ReflectionBasedQueryResolver;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -24,6 +25,7 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
@@ -32,15 +34,18 @@ import static java.lang.String.format;
 
 /**
  * The default store implementation used when no extension is configured in a runtime. {@link ContractDefinition}s are
- * stored ephemerally in memory.
+ * stored ephemerally in memory, queries filtering on the id are answered by looking them up.
  */
 public class InMemoryContractDefinitionStore implements ContractDefinitionStore {
+    private static final String ID_PROPERTY = "id";
     private final Map<String, ContractDefinition> cache = new ConcurrentHashMap<>();
     private final QueryResolver<ContractDefinition> queryResolver = new ReflectionBasedQueryResolver<>(ContractDefinition.class);
 
     @Override
     public @NotNull Stream<ContractDefinition> findAll(QuerySpec spec) {
-        return queryResolver.query(cache.values().stream(), spec);
+        var ids = PropertyIndex.requiredValues(spec.getFilterExpression(), ID_PROPERTY);
+        var definitions = ids == null ? cache.values().stream() : ids.stream().map(cache::get).filter(Objects::nonNull);
+        return queryResolver.query(definitions, spec);
     }
 
     @Override
@@ -27,18 +27,22 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * An in-memory, threadsafe process store. This implementation is intended for testing purposes only.
  */
 public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStore<ContractNegotiation> implements ContractNegotiationStore {
 
-    private final QueryResolver<ContractNegotiation> negotiationQueryResolver = new ReflectionBasedQueryResolver<>(ContractNegotiation.class);
+    private static final String CORRELATION_ID_PROPERTY = "correlationId";
+    private static final String AGREEMENT_ID_PROPERTY = "contractAgreement.id";
+
     private final QueryResolver<ContractAgreement> agreementQueryResolver = new ReflectionBasedQueryResolver<>(ContractAgreement.class);
 
     public InMemoryContractNegotiationStore(Clock clock) {
@@ -46,20 +50,23 @@ public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStor
     }
 
     public InMemoryContractNegotiationStore(String leaseHolder, Clock clock) {
-        super(ContractNegotiation.class, leaseHolder, clock);
+        super(ContractNegotiation.class, leaseHolder, clock, List.of(CORRELATION_ID_PROPERTY, AGREEMENT_ID_PROPERTY));
     }
 
     @Override
     public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
-        return super.findAll().filter(p -> correlationId.equals(p.getCorrelationId())).findFirst().orElse(null);
+        var querySpec = QuerySpec.Builder.newInstance().filter(criterion(CORRELATION_ID_PROPERTY, "=", correlationId)).build();
+
+        return super.findAll(querySpec).findFirst().orElse(null);
     }
 
     @Override
     public @Nullable ContractAgreement findContractAgreement(String contractId) {
-        return super.findAll()
+        var querySpec = QuerySpec.Builder.newInstance().filter(criterion(AGREEMENT_ID_PROPERTY, "=", contractId)).build();
+
+        return super.findAll(querySpec)
                 .map(ContractNegotiation::getContractAgreement)
                 .filter(Objects::nonNull)
-                .filter(a -> Objects.equals(contractId, a.getId()))
                 .findFirst()
                 .orElse(null);
     }
@@ -75,7 +82,7 @@ public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStor
 
     @Override
     public @NotNull Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec) {
-        return negotiationQueryResolver.query(super.findAll(), querySpec);
+        return super.findAll(querySpec);
     }
 
     @Override
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.defaults.storage.policydefinition;
 
+import org.eclipse.edc.connector.core.store.PropertyIndex;
 import org.eclipse.edc.connector.core.store.ReflectionBasedQueryResolver;
 import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
@@ -31,10 +32,13 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 
 /**
- * An in-memory, threadsafe policy store. This implementation is intended for testing purposes only.
+ * An in-memory, threadsafe policy store. This implementation is intended for testing purposes only. Queries filtering
+ * on the id are answered by looking the policies up.
  */
 public class InMemoryPolicyDefinitionStore implements PolicyDefinitionStore {
 
+    private static final String ID_PROPERTY = "id";
+
     private final LockManager lockManager;
     private final Map<String, PolicyDefinition> policiesById = new HashMap<>();
     private final QueryResolver<PolicyDefinition> queryResolver = new ReflectionBasedQueryResolver<>(PolicyDefinition.class);
@@ -54,7 +58,11 @@ public class InMemoryPolicyDefinitionStore implements PolicyDefinitionStore {
 
     @Override
     public Stream<PolicyDefinition> findAll(QuerySpec spec) {
-        return lockManager.readLock(() -> queryResolver.query(policiesById.values().stream(), spec));
+        return lockManager.readLock(() -> {
+            var ids = PropertyIndex.requiredValues(spec.getFilterExpression(), ID_PROPERTY);
+            var policies = ids == null ? policiesById.values().stream() : ids.stream().map(policiesById::get).filter(Objects::nonNull);
+            return queryResolver.query(policies, spec);
+        });
     }
 
     @Override
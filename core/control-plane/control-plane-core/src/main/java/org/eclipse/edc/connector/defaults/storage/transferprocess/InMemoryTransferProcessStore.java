@@ -22,6 +22,7 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -33,17 +34,19 @@ import static org.eclipse.edc.spi.query.Criterion.criterion;
  */
 public class InMemoryTransferProcessStore extends InMemoryStatefulEntityStore<TransferProcess> implements TransferProcessStore {
 
+    private static final String CORRELATION_ID_PROPERTY = "dataRequest.id";
+
     public InMemoryTransferProcessStore(Clock clock) {
         this(UUID.randomUUID().toString(), clock);
     }
 
     public InMemoryTransferProcessStore(String leaserId, Clock clock) {
-        super(TransferProcess.class, leaserId, clock);
+        super(TransferProcess.class, leaserId, clock, List.of(CORRELATION_ID_PROPERTY), true);
     }
 
     @Override
     public @Nullable TransferProcess findForCorrelationId(String correlationId) {
-        var querySpec = QuerySpec.Builder.newInstance().filter(criterion("dataRequest.id", "=", correlationId)).build();
+        var querySpec = QuerySpec.Builder.newInstance().filter(criterion(CORRELATION_ID_PROPERTY, "=", correlationId)).build();
 
         return super.findAll(querySpec).findFirst().orElse(null);
     }
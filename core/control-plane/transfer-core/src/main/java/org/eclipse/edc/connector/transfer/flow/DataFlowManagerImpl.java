@@ -28,10 +28,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
@@ -67,6 +70,22 @@ public class DataFlowManagerImpl implements DataFlowManager {
         return chooseControllerAndApply(transferProcess, controller -> controller.terminate(transferProcess));
     }
 
+    @WithSpan
+    @Override
+    public @NotNull CompletableFuture<StatusResult<DataFlowResponse>> initiateAsync(TransferProcess transferProcess, Policy policy) {
+        try {
+            return chooseControllerAndApplyAsync(transferProcess, controller -> controller.initiateFlowAsync(transferProcess, policy))
+                    .exceptionally(throwable -> StatusResult.failure(FATAL_ERROR, runtimeException(transferProcess.getId(), throwable.getLocalizedMessage())));
+        } catch (Exception e) {
+            return completedFuture(StatusResult.failure(FATAL_ERROR, runtimeException(transferProcess.getId(), e.getLocalizedMessage())));
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
+        return chooseControllerAndApplyAsync(transferProcess, controller -> controller.terminateAsync(transferProcess));
+    }
+
     @Override
     public Set<String> transferTypesFor(Asset asset) {
         return controllers.stream()
@@ -78,13 +97,24 @@ public class DataFlowManagerImpl implements DataFlowManager {
 
     @NotNull
     private <T> StatusResult<T> chooseControllerAndApply(TransferProcess transferProcess, Function<DataFlowController, StatusResult<T>> function) {
+        return chooseController(transferProcess)
+                .map(function)
+                .orElseGet(() -> StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId())));
+    }
+
+    @NotNull
+    private <T> CompletableFuture<StatusResult<T>> chooseControllerAndApplyAsync(TransferProcess transferProcess, Function<DataFlowController, CompletableFuture<StatusResult<T>>> function) {
+        return chooseController(transferProcess)
+                .map(function)
+                .orElseGet(() -> completedFuture(StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId()))));
+    }
+
+    private Optional<DataFlowController> chooseController(TransferProcess transferProcess) {
         return controllers.stream()
                 .sorted(Comparator.comparingInt(a -> -a.priority))
                 .map(PrioritizedDataFlowController::controller)
                 .filter(controller -> controller.canHandle(transferProcess))
-                .findFirst()
-                .map(function)
-                .orElseGet(() -> StatusResult.failure(FATAL_ERROR, controllerNotFound(transferProcess.getId())));
+                .findFirst();
     }
 
     private String runtimeException(String id, String message) {
@@ -60,6 +60,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static java.lang.String.format;
@@ -302,7 +303,8 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     }
 
     /**
-     * Process STARTING transfer<p> If PROVIDER, starts data transfer and send message to consumer, should never be CONSUMER
+     * Process STARTING transfer<p> If PROVIDER, starts data transfer and send message to consumer, should never be CONSUMER.
+     * The data flow is initiated asynchronously: the transfer stays leased until the data plane answers.
      *
      * @param process the STARTING transfer fetched
      * @return if the transfer has been processed or not
@@ -311,11 +313,12 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private boolean processStarting(TransferProcess process) {
         var policy = policyArchive.findPolicyForContract(process.getContractId());
 
-        return entityRetryProcessFactory.doSyncProcess(process, () -> dataFlowManager.initiate(process, policy))
-                .onSuccess((p, dataFlowResponse) -> sendTransferStartMessage(p, dataFlowResponse, policy))
+        return entityRetryProcessFactory.doAsyncStatusResultProcess(process, () -> dataFlowManager.initiateAsync(process, policy))
+                .entityRetrieve(id -> store.findById(id))
+                .onSuccess((p, result) -> sendTransferStartMessage(p, result.getContent(), policy))
                 .onFatalError((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()))
-                .onFailure((t, failure) -> transitionToStarting(t))
-                .onRetryExhausted((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()))
+                .onFailure((t, throwable) -> transitionToStarting(t))
+                .onRetryExhausted((p, throwable) -> transitionToTerminating(p, throwable.getMessage()))
                 .execute("Initiate data flow");
     }
 
@@ -359,11 +362,12 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
             return true;
         }
 
-        return entityRetryProcessFactory.doSyncProcess(process, () -> terminateDataFlow(process))
-                .onSuccess((p, dataFlowResponse) -> sendTransferTerminationMessage(p))
-                .onFailure((t, failure) -> transitionToTerminating(t, failure.getFailureDetail()))
+        return entityRetryProcessFactory.doAsyncStatusResultProcess(process, () -> terminateDataFlow(process))
+                .entityRetrieve(id -> store.findById(id))
+                .onSuccess((p, result) -> sendTransferTerminationMessage(p))
+                .onFailure((t, throwable) -> transitionToTerminating(t, throwable.getMessage()))
                 .onFatalError((p, failure) -> transitionToTerminated(p, failure.getFailureDetail()))
-                .onRetryExhausted((p, failure) -> transitionToTerminated(p, failure.getFailureDetail()))
+                .onRetryExhausted((p, throwable) -> transitionToTerminated(p, throwable.getMessage()))
                 .execute("Terminate data flow");
     }
 
@@ -410,11 +414,11 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     }
 
     @NotNull
-    private StatusResult<Void> terminateDataFlow(TransferProcess process) {
+    private CompletableFuture<StatusResult<Void>> terminateDataFlow(TransferProcess process) {
         if (process.getType() == PROVIDER) {
-            return dataFlowManager.terminate(process);
+            return dataFlowManager.terminateAsync(process);
         } else {
-            return StatusResult.success();
+            return CompletableFuture.completedFuture(StatusResult.success());
         }
     }
 
@@ -465,21 +469,21 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
 
     private Processor processConsumerTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", CONSUMER.name()) };
-        return createProcessor(function, filter);
+        return createProcessor(state, function, filter);
     }
 
     private Processor processProviderTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", PROVIDER.name()) };
-        return createProcessor(function, filter);
+        return createProcessor(state, function, filter);
     }
 
     private Processor processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending() };
-        return createProcessor(function, filter);
+        return createProcessor(state, function, filter);
     }
 
-    private ProcessorImpl<TransferProcess> createProcessor(Function<TransferProcess, Boolean> function, Criterion[] filter) {
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+    private ProcessorImpl<TransferProcess> createProcessor(TransferProcessStates state, Function<TransferProcess, Boolean> function, Criterion[] filter) {
+        return processor(state.name(), () -> store.nextNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
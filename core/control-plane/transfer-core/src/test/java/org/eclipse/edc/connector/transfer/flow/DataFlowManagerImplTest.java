@@ -28,6 +28,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Set;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
@@ -110,6 +112,36 @@ class DataFlowManagerImplTest {
             verifyNoInteractions(lowPriority);
         }
 
+        @Test
+        void initiateAsync_shouldInitiateFlowAsyncOnCorrectController() {
+            var controller = mock(DataFlowController.class);
+            var transferProcess = TransferProcess.Builder.newInstance().dataRequest(DataRequest.Builder.newInstance().destinationType("test-dest-type").build()).build();
+            var policy = Policy.Builder.newInstance().build();
+
+            when(controller.canHandle(any())).thenReturn(true);
+            when(controller.initiateFlowAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(DataFlowResponse.Builder.newInstance().build())));
+            manager.register(controller);
+
+            var future = manager.initiateAsync(transferProcess, policy);
+
+            assertThat(future).isCompletedWithValueMatching(StatusResult::succeeded);
+            verify(controller).initiateFlowAsync(transferProcess, policy);
+        }
+
+        @Test
+        void initiateAsync_shouldReturnFatalError_whenFutureCompletesExceptionally() {
+            var controller = mock(DataFlowController.class);
+            var transferProcess = TransferProcess.Builder.newInstance().dataRequest(DataRequest.Builder.newInstance().destinationType("test-dest-type").build()).build();
+
+            when(controller.canHandle(any())).thenReturn(true);
+            when(controller.initiateFlowAsync(any(), any())).thenReturn(failedFuture(new EdcException("error")));
+            manager.register(controller);
+
+            var future = manager.initiateAsync(transferProcess, Policy.Builder.newInstance().build());
+
+            assertThat(future).isCompletedWithValueMatching(result -> result.failed() && result.getFailure().status() == FATAL_ERROR);
+        }
+
         private DataFlowController createDataFlowController() {
             var dataFlowController = mock(DataFlowController.class);
             when(dataFlowController.canHandle(any())).thenReturn(true);
@@ -145,7 +145,7 @@ class TransferProcessManagerImplTest {
     @BeforeEach
     void setup() {
         when(protocolWebhook.url()).thenReturn(protocolWebhookUrl);
-        when(dataFlowManager.initiate(any(), any())).thenReturn(StatusResult.success(createDataFlowResponse()));
+        when(dataFlowManager.initiateAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(createDataFlowResponse())));
         var observable = new TransferProcessObservableImpl();
         observable.registerListener(listener);
         var entityRetryProcessConfiguration = new EntityRetryProcessConfiguration(RETRY_LIMIT, () -> new ExponentialWaitStrategy(0L));
@@ -488,7 +488,7 @@ class TransferProcessManagerImplTest {
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
         when(transferProcessStore.nextNotLeased(anyInt(), providerStateIs(STARTING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessStore.findById(process.getId())).thenReturn(process);
-        when(dataFlowManager.initiate(any(), any())).thenReturn(StatusResult.success(dataFlowResponse));
+        when(dataFlowManager.initiateAsync(any(), any())).thenReturn(completedFuture(StatusResult.success(dataFlowResponse)));
         when(dispatcherRegistry.dispatch(any(), isA(TransferStartMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
 
         manager.start();
@@ -510,7 +510,7 @@ class TransferProcessManagerImplTest {
     @Test
     void starting_onFailureAndRetriesNotExhausted_updatesStateCountForRetry() {
         var process = createTransferProcess(STARTING).toBuilder().type(PROVIDER).build();
-        when(dataFlowManager.initiate(any(), any())).thenReturn(StatusResult.failure(ERROR_RETRY));
+        when(dataFlowManager.initiateAsync(any(), any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)));
         when(transferProcessStore.nextNotLeased(anyInt(), providerStateIs(STARTING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(STARTING.code()).build());
 
@@ -526,7 +526,7 @@ class TransferProcessManagerImplTest {
         var process = createTransferProcess(STARTING).toBuilder().type(PROVIDER).build();
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
         when(transferProcessStore.nextNotLeased(anyInt(), providerStateIs(STARTING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
-        when(dataFlowManager.initiate(any(), any())).thenReturn(StatusResult.failure(FATAL_ERROR));
+        when(dataFlowManager.initiateAsync(any(), any())).thenReturn(completedFuture(StatusResult.failure(FATAL_ERROR)));
 
         manager.start();
 
@@ -538,7 +538,7 @@ class TransferProcessManagerImplTest {
     @Test
     void starting_onFailureAndRetriesExhausted_transitToTerminating() {
         var process = createTransferProcessBuilder(STARTING).type(PROVIDER).stateCount(RETRY_EXHAUSTED).build();
-        when(dataFlowManager.initiate(any(), any())).thenReturn(StatusResult.failure(ERROR_RETRY));
+        when(dataFlowManager.initiateAsync(any(), any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)));
         when(transferProcessStore.nextNotLeased(anyInt(), providerStateIs(STARTING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessStore.findById(process.getId())).thenReturn(process);
 
@@ -598,12 +598,12 @@ class TransferProcessManagerImplTest {
         when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessStore.findById(process.getId())).thenReturn(process, process.toBuilder().state(TERMINATING.code()).build());
         when(dispatcherRegistry.dispatch(any(), isA(TransferTerminationMessage.class))).thenReturn(completedFuture(StatusResult.success("any")));
-        when(dataFlowManager.terminate(any())).thenReturn(StatusResult.success());
+        when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
 
         manager.start();
 
         await().untilAsserted(() -> {
-            verify(dataFlowManager).terminate(process);
+            verify(dataFlowManager).terminateAsync(process);
             var captor = ArgumentCaptor.forClass(TransferTerminationMessage.class);
             verify(dispatcherRegistry).dispatch(eq(Object.class), captor.capture());
             var message = captor.getValue();
@@ -662,7 +662,7 @@ class TransferProcessManagerImplTest {
     void terminating_onFailureAndRetriesNotExhausted_updatesStateCountForRetry() {
         var process = createTransferProcess(TERMINATING).toBuilder().type(PROVIDER).build();
         when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
-        when(dataFlowManager.terminate(any())).thenReturn(StatusResult.failure(ERROR_RETRY));
+        when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)));
 
         manager.start();
 
@@ -676,7 +676,7 @@ class TransferProcessManagerImplTest {
         var process = createTransferProcess(TERMINATING).toBuilder().type(PROVIDER).build();
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
         when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
-        when(dataFlowManager.terminate(any())).thenReturn(StatusResult.failure(FATAL_ERROR));
+        when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.failure(FATAL_ERROR)));
 
         manager.start();
 
@@ -688,7 +688,7 @@ class TransferProcessManagerImplTest {
     @Test
     void terminating_onFailureAndRetriesExhausted_transitToTerminated() {
         var process = createTransferProcessBuilder(TERMINATING).type(PROVIDER).stateCount(RETRY_EXHAUSTED).build();
-        when(dataFlowManager.terminate(any())).thenReturn(StatusResult.failure(ERROR_RETRY));
+        when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY)));
         when(transferProcessStore.nextNotLeased(anyInt(), stateIs(TERMINATING.code()))).thenReturn(List.of(process)).thenReturn(emptyList());
 
         manager.start();
@@ -784,7 +784,7 @@ class TransferProcessManagerImplTest {
                 .thenReturn(List.of(transferProcess)).thenReturn(emptyList());
         when(dispatcherRegistry.dispatch(any(), any())).thenReturn(result);
         when(transferProcessStore.findById(transferProcess.getId())).thenReturn(transferProcess);
-        when(dataFlowManager.terminate(any())).thenReturn(StatusResult.success());
+        when(dataFlowManager.terminateAsync(any())).thenReturn(completedFuture(StatusResult.success()));
 
         manager.start();
 
@@ -21,12 +21,23 @@ import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrate
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Extension(value = "DataPlane core selector")
 public class DataPlaneSelectorExtension implements ServiceExtension {
 
+    private static final long DEFAULT_INDEX_TTL_SECONDS = 30;
+
+    @Setting(value = "Time to live in seconds of the in-memory index of the data plane instances, after which it is reloaded from the store to see the instances registered by other runtimes. 0 disables the index",
+            type = "long", defaultValue = DEFAULT_INDEX_TTL_SECONDS + "")
+    private static final String INDEX_TTL_SECONDS = "edc.dataplane.selector.index.ttl";
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
 
@@ -36,9 +47,13 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     @Inject
     private SelectionStrategyRegistry selectionStrategyRegistry;
 
+    @Inject
+    private Clock clock;
+
     @Provider
-    public DataPlaneSelectorService dataPlaneSelectorService() {
-        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext);
+    public DataPlaneSelectorService dataPlaneSelectorService(ServiceExtensionContext context) {
+        var indexTtl = Duration.ofSeconds(context.getConfig().getLong(INDEX_TTL_SECONDS, DEFAULT_INDEX_TTL_SECONDS));
+        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext, clock, indexTtl);
     }
 
 }
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.service;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of the {@link DataPlaneInstance}s indexed by allowed source and destination type, so that the
+ * instances that can handle a transfer are found without evaluating all of them.
+ */
+class DataPlaneInstanceIndex {
+
+    private final Map<String, List<DataPlaneInstance>> bySourceType = new HashMap<>();
+    private final Map<String, List<DataPlaneInstance>> byDestType = new HashMap<>();
+    private final long createdAt;
+
+    DataPlaneInstanceIndex(Stream<DataPlaneInstance> instances, long createdAt) {
+        this.createdAt = createdAt;
+        instances.forEach(instance -> {
+            instance.getAllowedSourceTypes().forEach(type -> bySourceType.computeIfAbsent(type, t -> new ArrayList<>()).add(instance));
+            instance.getAllowedDestTypes().forEach(type -> byDestType.computeIfAbsent(type, t -> new ArrayList<>()).add(instance));
+        });
+    }
+
+    /**
+     * Returns the instances that can handle the source and destination, filtering the shorter of the lists of
+     * instances that support the source type and the destination type.
+     */
+    List<DataPlaneInstance> find(DataAddress source, DataAddress destination) {
+        var sourceMatches = bySourceType.getOrDefault(source.getType(), List.of());
+        var destMatches = byDestType.getOrDefault(destination.getType(), List.of());
+        var candidates = sourceMatches.size() <= destMatches.size() ? sourceMatches : destMatches;
+        return candidates.stream().filter(instance -> instance.canHandle(source, destination)).toList();
+    }
+
+    long createdAt() {
+        return createdAt;
+    }
+}
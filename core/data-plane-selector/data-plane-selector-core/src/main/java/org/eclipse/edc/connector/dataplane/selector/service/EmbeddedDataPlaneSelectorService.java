@@ -23,19 +23,40 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * Selects the data plane instances from the {@link DataPlaneInstanceStore}. The instances are indexed by source and
+ * destination type in memory, the index is rebuilt when an instance is added through this service or, to pick up the
+ * changes made by other runtimes sharing the store, when it is older than the configured time to live.
+ */
 public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorService {
 
+    private static final Duration DEFAULT_INDEX_TTL = Duration.ofSeconds(30);
+
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
+    private final Clock clock;
+    private final Duration indexTtl;
+    private final AtomicLong changes = new AtomicLong();
+    private volatile DataPlaneInstanceIndex index;
 
     public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+        this(store, selectionStrategyRegistry, transactionContext, Clock.systemUTC(), DEFAULT_INDEX_TTL);
+    }
+
+    public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext,
+                                            Clock clock, Duration indexTtl) {
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
+        this.clock = clock;
+        this.indexTtl = indexTtl;
     }
 
     @Override
@@ -49,20 +70,39 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
         if (strategy == null) {
             throw new IllegalArgumentException("Strategy " + selectionStrategy + " was not found");
         }
-        var dataPlanes = store.getAll().filter(dataPlane -> dataPlane.canHandle(source, destination)).toList();
+        var dataPlanes = index().find(source, destination);
         return strategy.apply(dataPlanes);
     }
 
     @Override
     public ServiceResult<Void> addInstance(DataPlaneInstance instance) {
-        return transactionContext.execute(() -> {
-            StoreResult<Void> result;
+        var result = transactionContext.execute(() -> {
+            StoreResult<Void> storeResult;
             if (store.findById(instance.getId()) == null) {
-                result = store.create(instance);
+                storeResult = store.create(instance);
             } else {
-                result = store.update(instance);
+                storeResult = store.update(instance);
             }
-            return ServiceResult.from(result);
+            return ServiceResult.from(storeResult);
         });
+        changes.incrementAndGet();
+        index = null;
+        return result;
+    }
+
+    private DataPlaneInstanceIndex index() {
+        var current = index;
+        var now = clock.millis();
+        if (current == null || now - current.createdAt() >= indexTtl.toMillis()) {
+            var changesBefore = changes.get();
+            try (var instances = store.getAll()) {
+                current = new DataPlaneInstanceIndex(instances, now);
+            }
+            // an index built while an instance was being added could miss it
+            if (changes.get() == changesBefore) {
+                index = current;
+            }
+        }
+        return current;
     }
 }
@@ -17,17 +17,30 @@ package org.eclipse.edc.connector.dataplane.selector.service;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.PowerOfTwoChoicesSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.RandomSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.selector.spi.testfixtures.TestFunctions.createAddress;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,7 +48,9 @@ public class EmbeddedDataPlaneSelectorServiceTest {
 
     private final DataPlaneInstanceStore store = mock();
     private final SelectionStrategyRegistry selectionStrategyRegistry = mock();
-    private final DataPlaneSelectorService selector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, mock());
+    private final TransactionContext transactionContext = new NoopTransactionContext();
+    private final Clock clock = mock();
+    private final DataPlaneSelectorService selector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, transactionContext, clock, Duration.ofSeconds(30));
 
     @Test
     void select_shouldUseChosenSelector() {
@@ -61,6 +76,109 @@ public class EmbeddedDataPlaneSelectorServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void select_shouldPassOnlyInstancesThatCanHandleTheTransfer() {
+        when(store.getAll()).thenAnswer(i -> Stream.of(
+                createInstanceMock("s3-http", "AmazonS3", "HttpData"),
+                createInstanceMock("http-http", "HttpData", "HttpData"),
+                createInstanceMock("s3-s3", "AmazonS3", "AmazonS3")));
+        var strategy = capturingStrategy();
+        when(selectionStrategyRegistry.find(any())).thenReturn(strategy);
+
+        selector.select(address("AmazonS3"), address("HttpData"), "strategy");
+
+        assertThat(strategy.candidates).extracting(DataPlaneInstance::getId).containsExactly("s3-http");
+    }
+
+    @Test
+    void select_shouldReuseIndex() {
+        when(store.getAll()).thenAnswer(i -> Stream.of(createInstanceMock("instance", "srcTestType", "destTestType")));
+        when(selectionStrategyRegistry.find(any())).thenReturn(new RandomSelectionStrategy());
+
+        selector.select(address("srcTestType"), address("destTestType"), "random");
+        var result = selector.select(address("srcTestType"), address("destTestType"), "random");
+
+        assertThat(result).extracting(DataPlaneInstance::getId).isEqualTo("instance");
+        verify(store, times(1)).getAll();
+    }
+
+    @Test
+    void select_shouldReloadIndex_whenInstanceAdded() {
+        var first = createInstanceMock("first", "srcTestType", "destTestType");
+        var second = createInstanceMock("second", "srcTestType", "destTestType");
+        when(store.getAll()).thenAnswer(i -> Stream.of(first)).thenAnswer(i -> Stream.of(first, second));
+        when(store.create(any())).thenReturn(StoreResult.success());
+        var strategy = capturingStrategy();
+        when(selectionStrategyRegistry.find(any())).thenReturn(strategy);
+
+        selector.select(address("srcTestType"), address("destTestType"), "strategy");
+        selector.addInstance(second);
+        selector.select(address("srcTestType"), address("destTestType"), "strategy");
+
+        assertThat(strategy.candidates).extracting(DataPlaneInstance::getId).containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    void select_shouldReloadIndex_whenExpired() {
+        when(clock.millis()).thenReturn(0L).thenReturn(29_999L).thenReturn(30_000L);
+        when(store.getAll()).thenAnswer(i -> Stream.of(createInstanceMock("instance", "srcTestType", "destTestType")));
+        when(selectionStrategyRegistry.find(any())).thenReturn(new RandomSelectionStrategy());
+
+        selector.select(address("srcTestType"), address("destTestType"), "random");
+        selector.select(address("srcTestType"), address("destTestType"), "random");
+        verify(store, times(1)).getAll();
+
+        selector.select(address("srcTestType"), address("destTestType"), "random");
+        verify(store, times(2)).getAll();
+    }
+
+    @Test
+    void select_shouldBalanceSkewedLoad_whenLoadIsReported() {
+        var loads = new long[]{ 40, 0, 0, 0 };
+        var instances = new HashMap<String, DataPlaneInstance>();
+        when(store.create(any())).thenAnswer(i -> {
+            DataPlaneInstance instance = i.getArgument(0);
+            instances.put(instance.getId(), instance);
+            return StoreResult.success();
+        });
+        when(store.findById(any())).thenAnswer(i -> instances.get(i.<String>getArgument(0)));
+        when(store.update(any())).thenAnswer(i -> store.create(i.getArgument(0)));
+        when(store.getAll()).thenAnswer(i -> instances.values().stream());
+        for (var i = 0; i < loads.length; i++) {
+            selector.addInstance(createInstanceMock("instance" + i, "srcTestType", "destTestType", loads[i]));
+        }
+        when(selectionStrategyRegistry.find(any())).thenReturn(new PowerOfTwoChoicesSelectionStrategy());
+
+        // every data plane reports its new load when a transfer is started on it
+        for (var i = 0; i < 90; i++) {
+            var selected = selector.select(address("srcTestType"), address("destTestType"), "power-of-two-choices");
+            var index = Integer.parseInt(selected.getId().substring("instance".length()));
+            loads[index]++;
+            selector.addInstance(createInstanceMock(selected.getId(), "srcTestType", "destTestType", loads[index]));
+        }
+
+        assertThat(loads[0]).isEqualTo(40);
+        assertThat(Arrays.stream(loads, 1, loads.length)).allSatisfy(load -> assertThat(load).isBetween(25L, 35L));
+    }
+
+    private CapturingStrategy capturingStrategy() {
+        return new CapturingStrategy();
+    }
+
+    private DataAddress address(String type) {
+        return DataAddress.Builder.newInstance().type(type).build();
+    }
+
+    private DataPlaneInstance createInstanceMock(String id, String srcType, String destType, long load) {
+        return DataPlaneInstance.Builder.newInstance()
+                .url("http://any")
+                .id(id)
+                .allowedSourceType(srcType)
+                .allowedDestType(destType)
+                .property(DataPlaneInstance.IN_FLIGHT_TRANSFERS, load)
+                .build();
+    }
+
     private DataPlaneInstance createInstanceMock(String id, String srcType, String destType) {
         return DataPlaneInstance.Builder.newInstance()
                 .url("http://any")
@@ -69,4 +187,14 @@ public class EmbeddedDataPlaneSelectorServiceTest {
                 .allowedDestType(destType)
                 .build();
     }
+
+    private static class CapturingStrategy implements SelectionStrategy {
+        private List<DataPlaneInstance> candidates;
+
+        @Override
+        public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+            candidates = instances;
+            return instances.isEmpty() ? null : instances.get(0);
+        }
+    }
 }
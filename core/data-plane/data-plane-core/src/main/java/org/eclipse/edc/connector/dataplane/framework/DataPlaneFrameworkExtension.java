@@ -24,6 +24,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServ
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentConfiguration;
 import org.eclipse.edc.connector.dataplane.util.sink.OutputStreamDataSinkFactory;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -33,12 +34,19 @@ import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
@@ -68,6 +76,26 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
+
+    @Setting(value = "If true, transfers run on virtual threads, one per task, when supported by the JVM (Java 21+). " + TRANSFER_THREADS + " is then ignored", defaultValue = "false", type = "boolean")
+    private static final String TRANSFER_VIRTUAL_THREADS = "edc.dataplane.transfer.virtual-threads";
+    private static final int DEFAULT_SEGMENT_SIZE = 0;
+    private static final int DEFAULT_SEGMENT_PARALLELISM = 4;
+    private static final int DEFAULT_SEGMENT_RETRIES = 2;
+    private static final int DEFAULT_SEGMENT_THREADS = 10;
+
+    @Setting(value = "Size in bytes of the segments random access parts are split into. Segmentation is disabled when 0", defaultValue = DEFAULT_SEGMENT_SIZE + "", type = "int")
+    private static final String TRANSFER_SEGMENT_SIZE = "edc.dataplane.transfer.segment.size";
+
+    @Setting(value = "Maximum number of segments of a part transferred concurrently", defaultValue = DEFAULT_SEGMENT_PARALLELISM + "", type = "int")
+    private static final String TRANSFER_SEGMENT_PARALLELISM = "edc.dataplane.transfer.segment.parallelism";
+
+    @Setting(value = "How many times the read of a segment is retried before failing", defaultValue = DEFAULT_SEGMENT_RETRIES + "", type = "int")
+    private static final String TRANSFER_SEGMENT_RETRIES = "edc.dataplane.transfer.segment.retries";
+
+    @Setting(value = "Maximum number of threads segments are read on, shared by all the transfers. Reads beyond it run on the transfer thread", defaultValue = DEFAULT_SEGMENT_THREADS + "", type = "int")
+    private static final String TRANSFER_SEGMENT_THREADS = "edc.dataplane.transfer.segment.threads";
+
     private DataPlaneManagerImpl dataPlaneManager;
 
     @Inject
@@ -82,6 +110,9 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineInstrumentation stateMachineInstrumentation;
+
     @Inject
     private Telemetry telemetry;
 
@@ -97,13 +128,13 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
 
-        var numThreads = context.getSetting(TRANSFER_THREADS, DEFAULT_TRANSFER_THREADS);
-        var executorService = Executors.newFixedThreadPool(numThreads);
+        var executorService = transferExecutorService(context);
         var executorContainer = new DataTransferExecutorServiceContainer(
-                executorInstrumentation.instrument(executorService, "Data plane transfers"));
+                executorInstrumentation.instrument(executorService, "Data plane transfers"),
+                executorInstrumentation.instrument(segmentExecutorService(context), "Data plane segment reads"));
         context.registerService(DataTransferExecutorServiceContainer.class, executorContainer);
 
-        var pipelineService = new PipelineServiceImpl(monitor);
+        var pipelineService = new PipelineServiceImpl(monitor, getSegmentConfiguration(context), executorContainer.getSegmentExecutorService());
         pipelineService.registerFactory(new OutputStreamDataSinkFactory(monitor, executorContainer.getExecutorService())); // Added by default to support synchronous data transfer, i.e. pull data
         context.registerService(PipelineService.class, pipelineService);
 
@@ -120,6 +151,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
+                .stateMachineInstrumentation(stateMachineInstrumentation)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(store)
                 .transferProcessClient(transferProcessApiClient)
@@ -142,6 +174,39 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         }
     }
 
+    @Nullable
+    private SegmentConfiguration getSegmentConfiguration(ServiceExtensionContext context) {
+        var segmentSize = context.getSetting(TRANSFER_SEGMENT_SIZE, DEFAULT_SEGMENT_SIZE);
+        if (segmentSize <= 0) {
+            return null;
+        }
+        var parallelism = context.getSetting(TRANSFER_SEGMENT_PARALLELISM, DEFAULT_SEGMENT_PARALLELISM);
+        var retries = context.getSetting(TRANSFER_SEGMENT_RETRIES, DEFAULT_SEGMENT_RETRIES);
+        return new SegmentConfiguration(segmentSize, parallelism, retries);
+    }
+
+    private ExecutorService transferExecutorService(ServiceExtensionContext context) {
+        if (context.getSetting(TRANSFER_VIRTUAL_THREADS, false)) {
+            if (VirtualThreads.isSupported()) {
+                return VirtualThreads.newThreadPerTaskExecutor("dataplane-transfer-");
+            }
+            context.getMonitor().warning(String.format("Setting %s is enabled but virtual threads are not supported by the JVM, falling back to %s platform threads", TRANSFER_VIRTUAL_THREADS, TRANSFER_THREADS));
+        }
+        var numThreads = context.getSetting(TRANSFER_THREADS, DEFAULT_TRANSFER_THREADS);
+        return Executors.newFixedThreadPool(numThreads);
+    }
+
+    /**
+     * Bounded pool without queue: a segment read that finds no idle thread is rejected and then run by the transfer
+     * consuming the part, instead of waiting behind other transfers.
+     */
+    private ExecutorService segmentExecutorService(ServiceExtensionContext context) {
+        var numThreads = context.getSetting(TRANSFER_SEGMENT_THREADS, DEFAULT_SEGMENT_THREADS);
+        var executor = new ThreadPoolExecutor(numThreads, numThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration getEntityRetryProcessConfiguration(ServiceExtensionContext context) {
         var retryLimit = context.getSetting(DATAPLANE_SEND_RETRY_LIMIT, DEFAULT_SEND_RETRY_LIMIT);
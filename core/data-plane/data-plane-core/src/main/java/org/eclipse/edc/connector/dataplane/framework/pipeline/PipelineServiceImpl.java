@@ -22,6 +22,8 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentConfiguration;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentedDataSource;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
@@ -33,21 +35,33 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 /**
  * Default pipeline service implementation.
+ * <p>
+ * When a {@link SegmentConfiguration} is provided, random access source parts bigger than the segment size are split
+ * into segments, that are read concurrently on the segment executor and reassembled in order before reaching the sink.
  */
 public class PipelineServiceImpl implements PipelineService {
     private final List<DataSourceFactory> sourceFactories = new ArrayList<>();
     private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
     private final Map<String, DataSource> sources = new HashMap<>();
     private final Monitor monitor;
+    private final SegmentConfiguration segmentConfiguration;
+    private final Executor segmentExecutor;
 
     public PipelineServiceImpl(Monitor monitor) {
+        this(monitor, null, null);
+    }
+
+    public PipelineServiceImpl(Monitor monitor, @Nullable SegmentConfiguration segmentConfiguration, @Nullable Executor segmentExecutor) {
         this.monitor = monitor;
+        this.segmentConfiguration = segmentConfiguration;
+        this.segmentExecutor = segmentExecutor;
     }
 
     @Override
@@ -93,7 +107,7 @@ public class PipelineServiceImpl implements PipelineService {
         if (sinkFactory == null) {
             return noSinkFactory(request);
         }
-        var source = sourceFactory.createSource(request);
+        var source = createSource(sourceFactory, request);
         sources.put(request.getProcessId(), source);
 
         var sink = sinkFactory.createSink(request);
@@ -107,7 +121,7 @@ public class PipelineServiceImpl implements PipelineService {
         if (sourceFactory == null) {
             return noSourceFactory(request);
         }
-        var source = sourceFactory.createSource(request);
+        var source = createSource(sourceFactory, request);
         sources.put(request.getProcessId(), source);
         monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
         return sink.transfer(source);
@@ -139,6 +153,14 @@ public class PipelineServiceImpl implements PipelineService {
         sinkFactories.add(factory);
     }
 
+    private DataSource createSource(DataSourceFactory sourceFactory, DataFlowRequest request) {
+        var source = sourceFactory.createSource(request);
+        if (segmentConfiguration == null) {
+            return source;
+        }
+        return new SegmentedDataSource(source, segmentConfiguration, segmentExecutor);
+    }
+
     @Nullable
     private DataSourceFactory getSourceFactory(DataFlowRequest request) {
         return sourceFactories.stream().filter(s -> s.canHandle(request)).findFirst().orElse(null);
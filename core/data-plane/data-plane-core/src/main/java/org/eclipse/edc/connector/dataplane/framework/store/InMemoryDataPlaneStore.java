@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 
 import java.time.Clock;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,6 +32,6 @@ public class InMemoryDataPlaneStore extends InMemoryStatefulEntityStore<DataFlow
     }
 
     public InMemoryDataPlaneStore(String connectorName, Clock clock) {
-        super(DataFlow.class, connectorName, clock);
+        super(DataFlow.class, connectorName, clock, List.of(), true);
     }
 }
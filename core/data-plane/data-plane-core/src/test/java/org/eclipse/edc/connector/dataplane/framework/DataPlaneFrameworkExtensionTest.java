@@ -15,15 +15,30 @@
 package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.dataplane.framework.pipeline.PipelineServiceImpl;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 class DataPlaneFrameworkExtensionTest {
@@ -40,4 +55,47 @@ class DataPlaneFrameworkExtensionTest {
         assertThat(context.getService(PipelineService.class)).isInstanceOf(PipelineServiceImpl.class);
     }
 
+    @Test
+    void initialize_shouldRunTransfersOnVirtualThreads_whenEnabled(ServiceExtensionContext context, DataPlaneFrameworkExtension extension) {
+        var monitor = mock(Monitor.class);
+        when(context.getMonitor()).thenReturn(monitor);
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.dataplane.transfer.virtual-threads", "true")));
+
+        extension.initialize(context);
+
+        var executor = context.getService(DataTransferExecutorServiceContainer.class).getExecutorService();
+        var threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor);
+        assertThat(threadName).succeedsWithin(5, TimeUnit.SECONDS).satisfies(name -> {
+            if (VirtualThreads.isSupported()) {
+                assertThat(name).startsWith("dataplane-transfer-");
+            } else {
+                verify(monitor).warning(anyString());
+            }
+        });
+    }
+
+    @Test
+    void initialize_shouldReadSegmentsOnDedicatedBoundedExecutor(ServiceExtensionContext context, DataPlaneFrameworkExtension extension) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.dataplane.transfer.segment.threads", "1")));
+
+        extension.initialize(context);
+
+        var container = context.getService(DataTransferExecutorServiceContainer.class);
+        var segmentExecutor = container.getSegmentExecutorService();
+        assertThat(segmentExecutor).isNotSameAs(container.getExecutorService());
+        var latch = new CountDownLatch(1);
+        try {
+            segmentExecutor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThatThrownBy(() -> segmentExecutor.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            latch.countDown();
+        }
+    }
+
 }
@@ -21,6 +21,8 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentConfiguration;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentedPart;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
@@ -31,6 +33,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.time.Duration;
@@ -86,6 +89,29 @@ class PipelineServiceImplTest {
         verify(sink).transfer(eq(source));
     }
 
+    @Test
+    void transfer_withSegmentConfiguration_shouldSegmentRandomAccessParts() {
+        var segmentingService = new PipelineServiceImpl(monitor, new SegmentConfiguration(2, 2, 0), Runnable::run);
+        segmentingService.registerFactory(sourceFactory);
+        segmentingService.registerFactory(sinkFactory);
+        var part = mock(DataSource.Part.class);
+        when(part.supportsRandomAccess()).thenReturn(true);
+        when(part.size()).thenReturn(5L);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(sink);
+        when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+
+        segmentingService.transfer(request);
+
+        var captor = ArgumentCaptor.forClass(DataSource.class);
+        verify(sink).transfer(captor.capture());
+        assertThat(captor.getValue().openPartStream().getContent())
+                .singleElement().isInstanceOfSatisfying(SegmentedPart.class, segmented -> assertThat(segmented.segmentCount()).isEqualTo(3));
+    }
+
     @Test
     void transfer_withCustomSink_shouldNotInvokeSinkFactory() throws Exception {
         var flowRequest = DataFlow.Builder.newInstance().id("dataFlowId")
@@ -25,16 +25,20 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static java.util.UUID.randomUUID;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -44,6 +48,7 @@ import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.fail
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 
 public class PipelineServiceIntegrationTest {
@@ -79,6 +84,37 @@ public class PipelineServiceIntegrationTest {
         });
     }
 
+    @Test
+    void transferData_manyConcurrentSlowTransfers_onVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported());
+
+        // 10k transfers blocked for 500ms each would take more than 8 minutes on the default 10 platform threads
+        assertConcurrentSlowTransfers(VirtualThreads.newThreadPerTaskExecutor("transfer-"), 10_000);
+    }
+
+    @Test
+    void transferData_manyConcurrentSlowTransfers_onPlatformThreads() {
+        // the fallback used when virtual threads are not supported, with fewer transfers as each needs its own thread
+        assertConcurrentSlowTransfers(Executors.newCachedThreadPool(), 500);
+    }
+
+    private void assertConcurrentSlowTransfers(ExecutorService executor, int count) {
+        var pipelineService = new PipelineServiceImpl(monitor);
+        pipelineService.registerFactory(new SlowDataFactory(500));
+
+        try {
+            var futures = IntStream.range(0, count)
+                    .mapToObj(i -> pipelineService.transfer(createRequest().build(), new OutputStreamDataSink(String.valueOf(i), executor, monitor)))
+                    .collect(asyncAllOf());
+
+            assertThat(futures).succeedsWithin(30, TimeUnit.SECONDS).satisfies(results -> {
+                assertThat(results).hasSize(count).allSatisfy(result -> assertThat(result).isSucceeded());
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private DataFlowRequest.Builder createRequest() {
         return DataFlowRequest.Builder.newInstance()
                 .id("1")
@@ -137,6 +173,51 @@ public class PipelineServiceIntegrationTest {
         }
     }
 
+    private static class SlowDataFactory extends InputStreamDataFactory {
+        private final long delayMillis;
+
+        SlowDataFactory(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public DataSource createSource(DataFlowRequest request) {
+            // not a ByteArrayInputStream subclass, whose synchronized methods would pin the virtual thread while sleeping
+            var data = new ByteArrayInputStream("bytes".getBytes());
+            var stream = new InputStream() {
+                private boolean delayed;
+
+                @Override
+                public int read() {
+                    delay();
+                    return data.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    delay();
+                    return data.read(b, off, len);
+                }
+
+                private void delay() {
+                    if (!delayed) {
+                        delayed = true;
+                        sleep();
+                    }
+                }
+            };
+            return new InputStreamDataSource("test", stream);
+        }
+
+        private void sleep() {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     private static class MemorySink implements DataSink {
 
         private final ByteArrayOutputStream bos;
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.segment;
+
+/**
+ * Defines how random access parts are split into segments.
+ *
+ * @param segmentSize the size of a segment in bytes. Parts not bigger than this are not split.
+ * @param parallelism the maximum number of segments of a part that are transferred concurrently.
+ * @param retries     how many times the transfer of a segment is retried before failing.
+ */
+public record SegmentConfiguration(int segmentSize, int parallelism, int retries) {
+
+    public SegmentConfiguration {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize must be greater than 0");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than 0");
+        }
+        if (retries < 0) {
+            throw new IllegalArgumentException("retries cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.segment;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link DataSource}, exposing the random access parts bigger than the segment size as {@link SegmentedPart}.
+ */
+public class SegmentedDataSource implements DataSource {
+
+    private final DataSource delegate;
+    private final SegmentConfiguration configuration;
+    private final Executor executor;
+
+    public SegmentedDataSource(DataSource delegate, SegmentConfiguration configuration, Executor executor) {
+        this.delegate = delegate;
+        this.configuration = configuration;
+        this.executor = executor;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        var result = delegate.openPartStream();
+        if (result.failed()) {
+            return result;
+        }
+        return StreamResult.success(result.getContent().map(this::segmented));
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegate.close();
+    }
+
+    private Part segmented(Part part) {
+        if (part instanceof SegmentedPart || !part.supportsRandomAccess() || part.size() <= configuration.segmentSize()) {
+            return part;
+        }
+        return new SegmentedPart(part, configuration, executor);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.segment;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.lang.String.format;
+
+/**
+ * Decorates a random access {@link DataSource.Part}, splitting it into fixed-size segments.
+ * {@link #openStream()} reassembles them in order, reading up to {@link SegmentConfiguration#parallelism()}
+ * segments ahead concurrently and retrying each segment read independently.
+ */
+public class SegmentedPart implements DataSource.Part {
+
+    private final DataSource.Part delegate;
+    private final SegmentConfiguration configuration;
+    private final Executor executor;
+    private final long size;
+
+    public SegmentedPart(DataSource.Part delegate, SegmentConfiguration configuration, Executor executor) {
+        if (!delegate.supportsRandomAccess() || delegate.size() == SIZE_UNKNOWN) {
+            throw new IllegalArgumentException(format("Part %s does not support random access or has unknown size", delegate.name()));
+        }
+        this.delegate = delegate;
+        this.configuration = configuration;
+        this.executor = executor;
+        this.size = delegate.size();
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new SegmentInputStream();
+    }
+
+    @Override
+    public boolean supportsRandomAccess() {
+        return true;
+    }
+
+    @Override
+    public byte[] read(long offset, long bytes) {
+        return delegate.read(offset, bytes);
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegate.close();
+    }
+
+    public int segmentCount() {
+        return (int) ((size + configuration.segmentSize() - 1) / configuration.segmentSize());
+    }
+
+    /**
+     * Reads a segment, retrying up to {@link SegmentConfiguration#retries()} times on failure.
+     *
+     * @param index the segment index.
+     * @return the segment content.
+     * @throws EdcException if the segment cannot be read.
+     */
+    byte[] readSegment(int index) {
+        var offset = (long) index * configuration.segmentSize();
+        var length = Math.min(configuration.segmentSize(), size - offset);
+        RuntimeException failure = null;
+        for (var attempt = 0; attempt <= configuration.retries(); attempt++) {
+            try {
+                return delegate.read(offset, length);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        throw new EdcException(format("Cannot read segment %s of part %s", index, name()), failure);
+    }
+
+    /**
+     * Sequential stream over the part content, backed by a window of segments read concurrently.
+     * Segments whose read has not started yet when they're needed are read by the consuming thread itself, so the
+     * stream never waits for an executor slot.
+     */
+    private class SegmentInputStream extends InputStream {
+
+        private final Deque<FutureTask<byte[]>> window = new ArrayDeque<>();
+        private final int segmentCount = segmentCount();
+        private int nextSegment;
+        private byte[] current;
+        private int position;
+
+        SegmentInputStream() {
+            fillWindow();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureData()) {
+                return -1;
+            }
+            return current[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!ensureData()) {
+                return -1;
+            }
+            var count = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            window.forEach(task -> task.cancel(true));
+            window.clear();
+        }
+
+        private boolean ensureData() throws IOException {
+            while (current == null || position >= current.length) {
+                var task = window.poll();
+                if (task == null) {
+                    return false;
+                }
+                task.run();
+                try {
+                    current = task.get();
+                    position = 0;
+                } catch (ExecutionException e) {
+                    throw new IOException(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                fillWindow();
+            }
+            return true;
+        }
+
+        private void fillWindow() {
+            while (window.size() < configuration.parallelism() && nextSegment < segmentCount) {
+                var index = nextSegment++;
+                var task = new FutureTask<>(() -> readSegment(index));
+                window.add(task);
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    // the task will be run by the consumer when needed
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.segment;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentedPartTest {
+
+    private final byte[] content = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes();
+
+    @Test
+    void segmentCount_shouldRoundUp() {
+        var part = new SegmentedPart(new RandomAccessPart(content), new SegmentConfiguration(10, 2, 0), Runnable::run);
+
+        assertThat(part.segmentCount()).isEqualTo(4);
+    }
+
+    @Test
+    void readSegment_shouldReturnSegmentContent() {
+        var part = new SegmentedPart(new RandomAccessPart(content), new SegmentConfiguration(10, 2, 0), Runnable::run);
+
+        var lastSegment = part.readSegment(3);
+
+        assertThat(lastSegment).isEqualTo("uvwxyz".getBytes());
+    }
+
+    @Test
+    void readSegment_shouldRetry() {
+        var source = new RandomAccessPart(content);
+        source.failures.set(2);
+        var part = new SegmentedPart(source, new SegmentConfiguration(10, 2, 2), Runnable::run);
+
+        assertThat(part.readSegment(0)).isEqualTo("0123456789".getBytes());
+    }
+
+    @Test
+    void readSegment_shouldFail_whenRetriesExhausted() {
+        var source = new RandomAccessPart(content);
+        source.failures.set(2);
+        var part = new SegmentedPart(source, new SegmentConfiguration(10, 2, 1), Runnable::run);
+
+        assertThatThrownBy(() -> part.readSegment(0)).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void openStream_shouldReassembleSegmentsInOrder() throws IOException {
+        var executor = Executors.newFixedThreadPool(3);
+        var part = new SegmentedPart(new RandomAccessPart(content), new SegmentConfiguration(7, 3, 0), executor);
+
+        try (var stream = part.openStream()) {
+            assertThat(stream.readAllBytes()).isEqualTo(content);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void openStream_shouldReadSegmentsInline_whenExecutorRejects() throws IOException {
+        var part = new SegmentedPart(new RandomAccessPart(content), new SegmentConfiguration(5, 2, 0), command -> {
+            throw new RejectedExecutionException();
+        });
+
+        try (var stream = part.openStream()) {
+            assertThat(stream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    static class RandomAccessPart implements DataSource.Part {
+
+        final AtomicInteger failures = new AtomicInteger();
+        private final byte[] content;
+
+        RandomAccessPart(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public String name() {
+            return "part";
+        }
+
+        @Override
+        public long size() {
+            return content.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("read failure");
+            }
+            return Arrays.copyOfRange(content, (int) offset, (int) (offset + bytes));
+        }
+    }
+}
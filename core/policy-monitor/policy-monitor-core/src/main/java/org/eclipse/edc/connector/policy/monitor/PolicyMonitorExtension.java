@@ -35,6 +35,7 @@ import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 
 import java.time.Clock;
@@ -63,6 +64,9 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineInstrumentation stateMachineInstrumentation;
+
     @Inject
     private Telemetry telemetry;
 
@@ -103,6 +107,7 @@ public class PolicyMonitorExtension implements ServiceExtension {
                 .batchSize(context.getSetting(POLICY_MONITOR_BATCH_SIZE, DEFAULT_BATCH_SIZE))
                 .waitStrategy(waitStrategy)
                 .executorInstrumentation(executorInstrumentation)
+                .stateMachineInstrumentation(stateMachineInstrumentation)
                 .monitor(context.getMonitor())
                 .telemetry(telemetry)
                 .contractAgreementService(contractAgreementService)
@@ -51,18 +51,30 @@ import org.eclipse.edc.util.uri.UriUtils;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.Result.success;
 
+/**
+ * Verifies VerifiablePresentations and VerifiableCredentials secured with Linked Data Proofs.
+ * <p>
+ * The input is expanded once: the credentials embedded in a presentation are verified on their expanded form, in
+ * parallel on the configured {@link Executor}. If a {@link VerifiedCredentialCache} is configured, the credentials
+ * whose proofs have already been verified are not verified again.
+ */
 public class LdpVerifier implements CredentialVerifier {
 
+    private static final Executor SAME_THREAD = Runnable::run;
+
     private JsonLd jsonLd;
     private ObjectMapper jsonLdMapper;
     private SignatureSuiteProvider suiteProvider;
@@ -70,6 +82,8 @@ public class LdpVerifier implements CredentialVerifier {
     private Collection<MethodResolver> methodResolvers = new ArrayList<>(List.of(new HttpMethodResolver()));
     private DocumentLoader loader;
     private URI base;
+    private Executor executor = SAME_THREAD;
+    private VerifiedCredentialCache cache;
 
     private LdpVerifier() {
     }
@@ -105,15 +119,7 @@ public class LdpVerifier implements CredentialVerifier {
             // default loader
             loader = SchemeRouter.defaultInstance();
         }
-        return expansion.compose(expandedDocument -> {
-            try {
-                return verifyExpanded(expandedDocument, verifierContext);
-            } catch (DocumentError e) {
-                return failure("Could not verify VP-LDP: message: %s, code: %s".formatted(e.getMessage(), e.getCode()));
-            } catch (VerificationError e) {
-                return failure("Could not verify VP-LDP: %s | message: %s".formatted(e.getCode(), e.getMessage()));
-            }
-        });
+        return expansion.compose(expandedDocument -> verifyExpanded(expandedDocument, verifierContext, executor));
     }
 
     public URI getBase() {
@@ -158,12 +164,21 @@ public class LdpVerifier implements CredentialVerifier {
         return document;
     }
 
-    private Result<Void> verifyExpanded(JsonObject expanded, VerifierContext context) throws VerificationError, DocumentError {
+    private Result<Void> verifyExpanded(JsonObject expanded, VerifierContext context, Executor credentialsExecutor) {
+        try {
+            return verifyExpandedDocument(expanded, context, credentialsExecutor);
+        } catch (DocumentError e) {
+            return failure("Could not verify VP-LDP: message: %s, code: %s".formatted(e.getMessage(), e.getCode()));
+        } catch (VerificationError e) {
+            return failure("Could not verify VP-LDP: %s | message: %s".formatted(e.getCode(), e.getMessage()));
+        }
+    }
 
+    private Result<Void> verifyExpandedDocument(JsonObject expanded, VerifierContext context, Executor credentialsExecutor) throws VerificationError, DocumentError {
 
         if (isCredential(expanded)) {
             // data integrity validation
-            return verifyProofs(expanded);
+            return verifyCredentialProofs(expanded);
 
         } else if (isPresentation(expanded)) {
             // verify presentation proofs
@@ -178,12 +193,21 @@ public class LdpVerifier implements CredentialVerifier {
                 if (JsonUtils.isNotObject(credential)) {
                     return failure("Presentation contained an invalid 'verifiableCredential' object!");
                 }
-                credentials.add(credential.asJsonObject());
+                var graph = extractGraph(credential);
+                if (JsonUtils.isNotObject(graph)) {
+                    return failure("Presentation contained an invalid 'verifiableCredential' object!");
+                }
+                credentials.add(graph.asJsonObject());
             }
 
-            return credentials.stream()
-                    .map(this::extractGraph)
-                    .map(expCred -> context.verify(expCred.toString()))
+            // the credentials are already expanded, they are verified as they are, each one independently. Presentations
+            // nested in the credentials are verified on the same thread, to not wait on the executor from one of its tasks
+            var verifications = credentials.stream()
+                    .map(credential -> CompletableFuture.supplyAsync(() -> verifyExpanded(credential, context, SAME_THREAD), credentialsExecutor))
+                    .toList();
+
+            return verifications.stream()
+                    .map(CompletableFuture::join)
                     .reduce(Result::merge)
                     .orElse(success()); // "no credentials" is still valid according to https://www.w3.org/TR/vc-data-model/#presentations-0
 
@@ -192,6 +216,40 @@ public class LdpVerifier implements CredentialVerifier {
         }
     }
 
+    private Result<Void> verifyCredentialProofs(JsonObject expanded) throws VerificationError, DocumentError {
+        if (cache == null) {
+            return verifyProofs(expanded);
+        }
+
+        var hash = cache.hash(expanded.toString());
+        if (cache.isVerified(hash)) {
+            return success();
+        }
+
+        var result = verifyProofs(expanded);
+        if (result.succeeded()) {
+            try {
+                var validFrom = getDateTime(expanded, VcVocab.VALID_FROM, VcVocab.ISSUANCE_DATE);
+                var validUntil = getDateTime(expanded, VcVocab.VALID_UNTIL, VcVocab.EXPIRATION_DATE);
+                cache.verified(hash, validFrom, validUntil);
+            } catch (InvalidJsonLdValue e) {
+                // the validity window is unknown, the credential is not cached
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of the first of the (VC 2.0, VC 1.1) date properties present in the credential, or null.
+     */
+    private Instant getDateTime(JsonObject expanded, LdTerm property, LdTerm fallbackProperty) throws InvalidJsonLdValue {
+        var value = JsonLdReader.getXsdDateTime(expanded, property.uri());
+        if (value.isPresent()) {
+            return value.get();
+        }
+        return JsonLdReader.getXsdDateTime(expanded, fallbackProperty.uri()).orElse(null);
+    }
+
     private Result<Void> verifyProofs(JsonObject expanded) throws VerificationError, DocumentError {
 
         // get proofs - throws an exception if there is no proof, never null nor an
@@ -426,10 +484,32 @@ public class LdpVerifier implements CredentialVerifier {
             return this;
         }
 
+        /**
+         * The executor on which the credentials embedded in a presentation are verified. Should be bounded, the
+         * credentials are verified on the calling thread by default.
+         *
+         * @return the processor instance
+         */
+        public Builder executor(Executor executor) {
+            this.verifier.executor = executor;
+            return this;
+        }
+
+        /**
+         * If set, the credentials whose proofs have been verified are cached and not verified again.
+         *
+         * @return the processor instance
+         */
+        public Builder cache(VerifiedCredentialCache cache) {
+            this.verifier.cache = cache;
+            return this;
+        }
+
         public LdpVerifier build() {
             Objects.requireNonNull(this.verifier.jsonLd, "Must have a JsonLD service!");
             Objects.requireNonNull(this.verifier.jsonLdMapper, "Must have an ObjectMapper!");
             Objects.requireNonNull(this.verifier.suiteProvider, "Must have a SignatureSuite!");
+            Objects.requireNonNull(this.verifier.executor, "Must have an Executor!");
             return this.verifier;
         }
     }
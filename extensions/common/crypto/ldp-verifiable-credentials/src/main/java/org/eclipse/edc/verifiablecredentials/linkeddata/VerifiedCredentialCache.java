@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.verifiablecredentials.linkeddata;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the credentials whose proofs have been verified, identified by a hash of their expanded JSON-LD document,
+ * proofs included, so that presenting the same credential again doesn't require to canonicalize it and verify its
+ * signatures again. An entry is kept until the end of the validity window of the credential, capped by a maximum
+ * time to live, so that a rotated or revoked verification key is eventually taken into account.
+ */
+public class VerifiedCredentialCache {
+
+    private final Map<String, Instant> entries = new ConcurrentHashMap<>();
+    private Clock clock = Clock.systemUTC();
+    private Duration maxTimeToLive = Duration.ofMinutes(5);
+    private int maxEntries = 1000;
+
+    private VerifiedCredentialCache() {
+    }
+
+    /**
+     * Returns the hash identifying the expanded document.
+     *
+     * @param expandedDocument the serialized expanded document.
+     * @return the hash.
+     */
+    public String hash(String expandedDocument) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(expandedDocument.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns true if the credential with this hash has been verified and is still cached.
+     *
+     * @param hash the credential hash.
+     * @return true if the credential has been verified, false otherwise.
+     */
+    public boolean isVerified(String hash) {
+        var expiry = entries.get(hash);
+        if (expiry == null) {
+            return false;
+        }
+        if (!clock.instant().isBefore(expiry)) {
+            entries.remove(hash, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Caches a verified credential. Credentials whose validity window doesn't include the current time are not cached.
+     *
+     * @param hash       the credential hash.
+     * @param validFrom  the start of the validity window of the credential, null if unbounded.
+     * @param validUntil the end of the validity window of the credential, null if unbounded.
+     */
+    public void verified(String hash, Instant validFrom, Instant validUntil) {
+        var now = clock.instant();
+        if (validFrom != null && now.isBefore(validFrom)) {
+            return;
+        }
+        var expiry = now.plus(maxTimeToLive);
+        if (validUntil != null && validUntil.isBefore(expiry)) {
+            expiry = validUntil;
+        }
+        if (!now.isBefore(expiry)) {
+            return;
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(hash)) {
+            entries.values().removeIf(it -> !now.isBefore(it));
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(hash, expiry);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    public static class Builder {
+        private final VerifiedCredentialCache cache;
+
+        private Builder() {
+            cache = new VerifiedCredentialCache();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder clock(Clock clock) {
+            cache.clock = clock;
+            return this;
+        }
+
+        public Builder maxTimeToLive(Duration maxTimeToLive) {
+            cache.maxTimeToLive = maxTimeToLive;
+            return this;
+        }
+
+        public Builder maxEntries(int maxEntries) {
+            cache.maxEntries = maxEntries;
+            return this;
+        }
+
+        public VerifiedCredentialCache build() {
+            Objects.requireNonNull(cache.clock, "clock");
+            Objects.requireNonNull(cache.maxTimeToLive, "maxTimeToLive");
+            return cache;
+        }
+    }
+}
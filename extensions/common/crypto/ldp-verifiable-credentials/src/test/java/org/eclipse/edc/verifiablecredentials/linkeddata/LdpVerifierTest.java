@@ -43,6 +43,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.jsonld.util.JacksonJsonLd.createObjectMapper;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
@@ -163,6 +164,47 @@ class LdpVerifierTest {
                 assertThat(res).isSucceeded();
             }
 
+            @Test
+            void verify_multipleCredentials_onExecutorWithCache() throws JOSEException {
+                var nameKey = new ECKeyGenerator(Curve.P_256)
+                        .keyID("vc-sign-key1")
+                        .generate();
+                var signedNameCredential = LdpCreationUtils.signDocument(createNameCredential(), nameKey, generateEmbeddedProofOptions(nameKey, NAME_CREDENTIAL_ISSUER), testDocLoader);
+
+                var membershipKey = new ECKeyGenerator(Curve.P_384)
+                        .keyID("dataspace-issuance-key1")
+                        .generate();
+                var signedMembershipCred = LdpCreationUtils.signDocument(createMembershipCredential(), membershipKey, generateEmbeddedProofOptions(membershipKey, MEMBERSHIP_CREDENTIAL_ISSUER), testDocLoader);
+
+                var vpKey = new ECKeyGenerator(Curve.P_384)
+                        .keyID("vp-sign-key")
+                        .generate();
+                var rawVp = LdpCreationUtils.signDocument(TestData.VP_CONTENT_TEMPLATE.formatted("%s, %s".formatted(signedNameCredential, signedMembershipCred)),
+                        vpKey, generateEmbeddedProofOptions(vpKey, VP_HOLDER), testDocLoader);
+                var tamperedNameCredential = signedNameCredential.replace("Test Person III", "Test Person IV");
+                var tamperedVp = LdpCreationUtils.signDocument(TestData.VP_CONTENT_TEMPLATE.formatted("%s, %s".formatted(tamperedNameCredential, signedMembershipCred)),
+                        vpKey, generateEmbeddedProofOptions(vpKey, VP_HOLDER), testDocLoader);
+
+                var executor = Executors.newFixedThreadPool(2);
+                try {
+                    var verifier = LdpVerifier.Builder.newInstance()
+                            .signatureSuite(jwsSignatureSuite)
+                            .jsonLd(jsonLd)
+                            .objectMapper(mapper)
+                            .methodResolvers(List.of(mockDidResolver))
+                            .loader(testDocLoader)
+                            .executor(executor)
+                            .cache(VerifiedCredentialCache.Builder.newInstance().build())
+                            .build();
+
+                    assertThat(verifier.verify(rawVp, context)).isSucceeded();
+                    assertThat(verifier.verify(rawVp, context)).isSucceeded();
+                    assertThat(verifier.verify(tamperedVp, context)).isFailed().detail().contains("InvalidSignature");
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+
             @Test
             void verify_singleInvalidVc_shouldFail() throws JOSEException {
                 // create Membership credential
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.verifiablecredentials.linkeddata;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedCredentialCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final VerifiedCredentialCache cache = VerifiedCredentialCache.Builder.newInstance()
+            .clock(clock)
+            .maxTimeToLive(Duration.ofMinutes(5))
+            .maxEntries(2)
+            .build();
+
+    @Test
+    void hash_shouldBeStable_andDependOnTheDocument() {
+        assertThat(cache.hash("{\"a\":1}")).isEqualTo(cache.hash("{\"a\":1}"));
+        assertThat(cache.hash("{\"a\":1}")).isNotEqualTo(cache.hash("{\"a\":2}"));
+    }
+
+    @Test
+    void isVerified_shouldBeTrue_untilMaxTimeToLive() {
+        cache.verified("hash", null, null);
+
+        assertThat(cache.isVerified("hash")).isTrue();
+        assertThat(cache.isVerified("other")).isFalse();
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(cache.isVerified("hash")).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void isVerified_shouldBeFalse_afterCredentialExpiry() {
+        cache.verified("hash", null, clock.instant().plus(Duration.ofMinutes(1)));
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(cache.isVerified("hash")).isTrue();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.isVerified("hash")).isFalse();
+    }
+
+    @Test
+    void verified_shouldNotCache_whenCredentialIsOutsideItsValidityWindow() {
+        cache.verified("expired", null, clock.instant().minusSeconds(1));
+        cache.verified("notYetValid", clock.instant().plusSeconds(1), null);
+
+        assertThat(cache.isVerified("expired")).isFalse();
+        assertThat(cache.isVerified("notYetValid")).isFalse();
+    }
+
+    @Test
+    void verified_shouldEvictExpiredEntries_whenFull() {
+        cache.verified("short", null, clock.instant().plus(Duration.ofMinutes(1)));
+        cache.verified("long", null, null);
+        cache.verified("rejected", null, null);
+
+        assertThat(cache.isVerified("rejected")).isFalse();
+
+        clock.advance(Duration.ofMinutes(2));
+        cache.verified("accepted", null, null);
+
+        assertThat(cache.isVerified("accepted")).isTrue();
+        assertThat(cache.isVerified("long")).isTrue();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
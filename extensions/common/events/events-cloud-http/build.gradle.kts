@@ -23,6 +23,7 @@ dependencies {
 
     implementation(libs.cloudEvents)
     implementation(libs.failsafe.core)
+    implementation(libs.micrometer)
 
     testImplementation(testFixtures(project(":core:common:junit")))
     testImplementation(libs.mockserver.netty)
@@ -0,0 +1,472 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.Hostname;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.time.ZoneOffset.UTC;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+/**
+ * Publishes events to the endpoint as structured CloudEvents batches (application/cloudevents-batch+json).
+ * Events are serialized on the subscriber thread and put in a bounded queue that's drained by a single sender thread,
+ * which sends a batch as soon as it reaches the configured size or the configured linger time has elapsed since the
+ * first event of the batch has been taken from the queue.
+ * What happens when the queue is full is defined by the {@link OverflowPolicy}. When a spill directory is set, the
+ * events of the batches that could not be sent are written there and retried later, whatever the policy.
+ */
+class CloudEventsBatchPublisher implements EventSubscriber {
+
+    static final String BATCH_CONTENT_TYPE = "application/cloudevents-batch+json";
+    static final String METRIC_PREFIX = "edc.events.cloudevents";
+
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String SPILL_FILE_EXTENSION = ".json";
+    private static final String SPILL_TEMP_FILE_EXTENSION = ".tmp";
+    private static final String SPILL_FAILED_FILE_EXTENSION = ".failed";
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long SPILL_RETRY_DELAY_MILLIS = 1000;
+
+    private final AtomicBoolean active = new AtomicBoolean();
+    private final AtomicInteger spilled = new AtomicInteger();
+    private final AtomicLong spillSequence = new AtomicLong();
+    private final Set<Path> unreadableSpillFiles = new HashSet<>();
+    private String endpoint;
+    private Monitor monitor;
+    private ObjectMapper mapper;
+    private EdcHttpClient httpClient;
+    private Clock clock;
+    private Hostname hostname;
+    private int batchSize = 100;
+    private long lingerMillis = 200;
+    private int queueCapacity = 10_000;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private Path spillDirectory;
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private MeterRegistry meterRegistry;
+    private long shutdownTimeoutMillis = 10_000;
+    private BlockingQueue<Item> queue;
+    private ExecutorService executor;
+    private long spillPausedUntil;
+    private Counter publishedCounter;
+    private Counter failedCounter;
+    private Counter droppedCounter;
+    private Counter spilledCounter;
+    private Timer publishTimer;
+    private DistributionSummary batchSizeSummary;
+
+    private CloudEventsBatchPublisher() {
+    }
+
+    public void start() {
+        if (spillDirectory != null) {
+            try (var files = spilledFiles()) {
+                spilled.set((int) files.count());
+            }
+        }
+        active.set(true);
+        executor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "cloudevents-batch-publisher");
+        executor.submit(this::run);
+    }
+
+    public void stop() {
+        active.set(false);
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                monitor.warning(format("CloudEvents publisher did not terminate in %s ms, %s events not sent", shutdownTimeoutMillis, queue.size()));
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var item = new Item(serialize(event), null);
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    queue.put(item);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedCounter.increment();
+                }
+            }
+            case DROP -> {
+                if (!queue.offer(item)) {
+                    droppedCounter.increment();
+                    monitor.debug(() -> format("CloudEvents queue is full, event %s dropped", event.getId()));
+                }
+            }
+            case SPILL -> {
+                if (!queue.offer(item)) {
+                    spill(item);
+                }
+            }
+            default -> throw new IllegalStateException("Unexpected overflow policy: " + overflowPolicy);
+        }
+    }
+
+    int queueSize() {
+        return queue.size();
+    }
+
+    private void run() {
+        while (active.get() || !queue.isEmpty()) {
+            try {
+                var batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    send(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                monitor.severe("Unexpected error publishing CloudEvents batch", e);
+            }
+        }
+    }
+
+    private List<Item> nextBatch() throws InterruptedException {
+        var batch = new ArrayList<Item>(batchSize);
+        var first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+            batch.add(first);
+            var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+            while (batch.size() < batchSize) {
+                queue.drainTo(batch, batchSize - batch.size());
+                var remaining = deadline - System.nanoTime();
+                if (batch.size() >= batchSize || remaining <= 0) {
+                    break;
+                }
+                var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        }
+        if (batch.size() < batchSize && spilled.get() > 0 && clock.millis() >= spillPausedUntil) {
+            loadSpilled(batch);
+        }
+        return batch;
+    }
+
+    private void send(List<Item> batch) {
+        var request = new Request.Builder()
+                .url(endpoint)
+                .post(RequestBody.create(body(batch), MediaType.get(BATCH_CONTENT_TYPE)))
+                .build();
+
+        batchSizeSummary.record(batch.size());
+        var start = System.nanoTime();
+        String error = null;
+        try (var response = httpClient.execute(request)) {
+            if (!response.isSuccessful()) {
+                error = format("Error sending cloud events batch to endpoint %s, response status: %d", endpoint, response.code());
+                monitor.severe(error);
+            }
+        } catch (IOException e) {
+            error = format("Error sending cloud events batch to endpoint %s", endpoint);
+            monitor.severe(error, e);
+        } finally {
+            publishTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (error == null) {
+            publishedCounter.increment(batch.size());
+            batch.stream().map(Item::spillFile).filter(Objects::nonNull).forEach(this::deleteSpilled);
+        } else if (spillDirectory != null) {
+            spillPausedUntil = clock.millis() + SPILL_RETRY_DELAY_MILLIS;
+            batch.stream().filter(item -> item.spillFile() == null).forEach(this::spill);
+        } else {
+            failedCounter.increment(batch.size());
+        }
+    }
+
+    private byte[] body(List<Item> batch) {
+        var body = new ByteArrayOutputStream(batch.stream().mapToInt(item -> item.json().length + 1).sum() + 1);
+        body.write('[');
+        for (var i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                body.write(',');
+            }
+            body.writeBytes(batch.get(i).json());
+        }
+        body.write(']');
+        return body.toByteArray();
+    }
+
+    private <E extends Event> byte[] serialize(EventEnvelope<E> event) {
+        var instant = Instant.ofEpochMilli(event.getAt());
+        var time = LocalDateTime.ofInstant(instant, clock.getZone()).atOffset(UTC);
+        var node = mapper.createObjectNode()
+                .put("specversion", "1.0")
+                .put("id", event.getId())
+                .put("source", hostname.get())
+                .put("type", event.getPayload().getClass().getName())
+                .put("time", time.format(ISO_OFFSET_DATE_TIME))
+                .put("datacontenttype", APPLICATION_JSON);
+        node.set("data", mapper.valueToTree(event.getPayload()));
+        try {
+            return mapper.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Writes the event to a temporary file first, then renames it atomically, so that the sender thread never reads a
+     * partially written event.
+     */
+    private void spill(Item item) {
+        var name = format("%019d-%019d", clock.millis(), spillSequence.incrementAndGet());
+        try {
+            var temp = Files.write(spillDirectory.resolve(name + SPILL_TEMP_FILE_EXTENSION), item.json());
+            Files.move(temp, spillDirectory.resolve(name + SPILL_FILE_EXTENSION), StandardCopyOption.ATOMIC_MOVE);
+            spilled.incrementAndGet();
+            spilledCounter.increment();
+        } catch (IOException e) {
+            droppedCounter.increment();
+            monitor.severe(format("Cannot spill cloud event to %s, event dropped", spillDirectory), e);
+        }
+    }
+
+    private void loadSpilled(List<Item> batch) {
+        try (var files = spilledFiles()) {
+            files.sorted().limit(batchSize - batch.size()).forEach(file -> {
+                try {
+                    batch.add(new Item(Files.readAllBytes(file), file));
+                } catch (IOException e) {
+                    discardUnreadable(file, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Moves aside a spilled event that cannot be read, so that it's reported once instead of on every iteration. If it
+     * cannot be moved either, it is skipped until the next restart.
+     */
+    private void discardUnreadable(Path file, IOException cause) {
+        spilled.decrementAndGet();
+        droppedCounter.increment();
+        var failedFile = file.resolveSibling(file.getFileName() + SPILL_FAILED_FILE_EXTENSION);
+        try {
+            Files.move(file, failedFile);
+            monitor.severe(format("Cannot read spilled cloud event %s, event dropped and file moved to %s", file, failedFile), cause);
+        } catch (IOException e) {
+            unreadableSpillFiles.add(file);
+            monitor.severe(format("Cannot read spilled cloud event %s, event dropped and file skipped", file), cause);
+        }
+    }
+
+    private void deleteSpilled(Path file) {
+        try {
+            Files.deleteIfExists(file);
+            spilled.decrementAndGet();
+        } catch (IOException e) {
+            monitor.warning(format("Cannot delete spilled cloud event %s", file), e);
+        }
+    }
+
+    private Stream<Path> spilledFiles() {
+        try {
+            return Files.list(spillDirectory)
+                    .filter(file -> file.getFileName().toString().endsWith(SPILL_FILE_EXTENSION))
+                    .filter(file -> !unreadableSpillFiles.contains(file));
+        } catch (IOException e) {
+            throw new EdcException(format("Cannot list spill directory %s", spillDirectory), e);
+        }
+    }
+
+    private record Item(byte[] json, @Nullable Path spillFile) {
+    }
+
+    public static class Builder {
+
+        private final CloudEventsBatchPublisher publisher;
+
+        private Builder() {
+            publisher = new CloudEventsBatchPublisher();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder endpoint(String endpoint) {
+            publisher.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            publisher.monitor = monitor;
+            return this;
+        }
+
+        public Builder mapper(ObjectMapper mapper) {
+            publisher.mapper = mapper;
+            return this;
+        }
+
+        public Builder httpClient(EdcHttpClient httpClient) {
+            publisher.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            publisher.clock = clock;
+            return this;
+        }
+
+        public Builder hostname(Hostname hostname) {
+            publisher.hostname = hostname;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            publisher.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder lingerMillis(long lingerMillis) {
+            publisher.lingerMillis = lingerMillis;
+            return this;
+        }
+
+        public Builder queueCapacity(int queueCapacity) {
+            publisher.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            publisher.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public Builder spillDirectory(Path spillDirectory) {
+            publisher.spillDirectory = spillDirectory;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            publisher.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            publisher.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        public Builder shutdownTimeoutMillis(long shutdownTimeoutMillis) {
+            publisher.shutdownTimeoutMillis = shutdownTimeoutMillis;
+            return this;
+        }
+
+        public CloudEventsBatchPublisher build() {
+            Objects.requireNonNull(publisher.endpoint, "endpoint");
+            Objects.requireNonNull(publisher.monitor, "monitor");
+            Objects.requireNonNull(publisher.mapper, "mapper");
+            Objects.requireNonNull(publisher.httpClient, "httpClient");
+            Objects.requireNonNull(publisher.clock, "clock");
+            Objects.requireNonNull(publisher.hostname, "hostname");
+            Objects.requireNonNull(publisher.meterRegistry, "meterRegistry");
+            if (publisher.overflowPolicy == OverflowPolicy.SPILL) {
+                Objects.requireNonNull(publisher.spillDirectory, "spillDirectory is mandatory with the SPILL overflow policy");
+            }
+            if (publisher.spillDirectory != null) {
+                try {
+                    Files.createDirectories(publisher.spillDirectory);
+                } catch (IOException e) {
+                    throw new EdcException(format("Cannot create spill directory %s", publisher.spillDirectory), e);
+                }
+            }
+
+            publisher.queue = new ArrayBlockingQueue<>(publisher.queueCapacity);
+            var registry = publisher.meterRegistry;
+            Gauge.builder(METRIC_PREFIX + ".queue.size", publisher.queue, BlockingQueue::size)
+                    .description("Number of events waiting to be published")
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".spilled.size", publisher.spilled, AtomicInteger::get)
+                    .description("Number of events waiting in the spill directory")
+                    .register(registry);
+            publisher.publishedCounter = outcomeCounter(registry, "published");
+            publisher.failedCounter = outcomeCounter(registry, "failed");
+            publisher.droppedCounter = outcomeCounter(registry, "dropped");
+            publisher.spilledCounter = outcomeCounter(registry, "spilled");
+            publisher.publishTimer = Timer.builder(METRIC_PREFIX + ".publish")
+                    .description("Latency of the batch publish requests")
+                    .register(registry);
+            publisher.batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                    .description("Number of events per published batch")
+                    .register(registry);
+            return publisher;
+        }
+
+        private Counter outcomeCounter(MeterRegistry registry, String outcome) {
+            return Counter.builder(METRIC_PREFIX + ".events")
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
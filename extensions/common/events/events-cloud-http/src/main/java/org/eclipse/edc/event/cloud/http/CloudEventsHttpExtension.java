@@ -14,25 +14,62 @@
 
 package org.eclipse.edc.event.cloud.http;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannelRegistry;
+import org.eclipse.edc.spi.event.outbox.OutboxEventSubscriber;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.Hostname;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.nio.file.Path;
 import java.time.Clock;
+import java.util.Locale;
+
+import static java.lang.String.format;
 
 @Extension(value = "Cloud events HTTP")
 public class CloudEventsHttpExtension implements ServiceExtension {
 
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final long DEFAULT_BATCH_LINGER_MILLIS = 200;
+    private static final int DEFAULT_BATCH_QUEUE_CAPACITY = 10_000;
+    private static final String DEFAULT_BATCH_OVERFLOW_POLICY = "block";
+
     @Setting(required = true)
     static final String EDC_EVENTS_CLOUDEVENTS_ENDPOINT = "edc.events.cloudevents.endpoint";
 
+    @Setting(value = "If true, events are stored in the outbox together with the entity change and published asynchronously. Cannot be combined with batching", defaultValue = "false", type = "boolean")
+    static final String EDC_EVENTS_CLOUDEVENTS_OUTBOX_ENABLED = "edc.events.cloudevents.outbox.enabled";
+
+    @Setting(value = "If true, events are queued and published in batches as application/cloudevents-batch+json. Cannot be combined with the outbox", defaultValue = "false", type = "boolean")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED = "edc.events.cloudevents.batch.enabled";
+
+    @Setting(value = "Maximum number of events in a batch", defaultValue = DEFAULT_BATCH_SIZE + "", type = "int")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE = "edc.events.cloudevents.batch.size";
+
+    @Setting(value = "Maximum time in milliseconds a batch waits to be filled before being sent", defaultValue = DEFAULT_BATCH_LINGER_MILLIS + "", type = "long")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_LINGER_MILLIS = "edc.events.cloudevents.batch.linger-millis";
+
+    @Setting(value = "Maximum number of events waiting to be published", defaultValue = DEFAULT_BATCH_QUEUE_CAPACITY + "", type = "int")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_QUEUE_CAPACITY = "edc.events.cloudevents.batch.queue-capacity";
+
+    @Setting(value = "What to do when the queue is full: 'block', 'drop' or 'spill'", defaultValue = DEFAULT_BATCH_OVERFLOW_POLICY)
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_OVERFLOW_POLICY = "edc.events.cloudevents.batch.overflow-policy";
+
+    @Setting(value = "Directory where events are written when the queue is full or their batch could not be sent, mandatory with the 'spill' overflow policy")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_SPILL_DIRECTORY = "edc.events.cloudevents.batch.spill-directory";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -48,11 +85,90 @@ public class CloudEventsHttpExtension implements ServiceExtension {
     @Inject
     private Hostname hostname;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Inject(required = false)
+    private OutboxStore outboxStore;
+
+    @Inject(required = false)
+    private OutboxDeliveryChannelRegistry outboxChannelRegistry;
+
+    private CloudEventsBatchPublisher batchPublisher;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var endpoint = context.getConfig().getString(EDC_EVENTS_CLOUDEVENTS_ENDPOINT);
 
-        eventRouter.register(Event.class, new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname));
+        var publisher = new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname);
+
+        var outboxEnabled = context.getSetting(EDC_EVENTS_CLOUDEVENTS_OUTBOX_ENABLED, false);
+        var batchEnabled = context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED, false);
+        if (outboxEnabled && batchEnabled) {
+            throw new EdcException(format("Settings %s and %s are mutually exclusive", EDC_EVENTS_CLOUDEVENTS_OUTBOX_ENABLED, EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED));
+        }
+
+        if (outboxEnabled) {
+            if (outboxStore == null || outboxChannelRegistry == null) {
+                throw new EdcException(format("Setting %s requires the event outbox extension", EDC_EVENTS_CLOUDEVENTS_OUTBOX_ENABLED));
+            }
+            var channel = CloudEventsOutboxDeliveryChannel.CHANNEL;
+            outboxChannelRegistry.register(channel, new CloudEventsOutboxDeliveryChannel(publisher, typeManager.getMapper()));
+            eventRouter.registerSync(Event.class, new OutboxEventSubscriber(channel, endpoint, outboxStore, typeManager.getMapper(), clock));
+        } else if (batchEnabled) {
+            batchPublisher = createBatchPublisher(context, endpoint);
+            eventRouter.register(Event.class, batchPublisher);
+        } else {
+            eventRouter.register(Event.class, publisher);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (batchPublisher != null) {
+            batchPublisher.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (batchPublisher != null) {
+            batchPublisher.stop();
+        }
+    }
+
+    private CloudEventsBatchPublisher createBatchPublisher(ServiceExtensionContext context, String endpoint) {
+        var config = context.getConfig();
+        var policyName = config.getString(EDC_EVENTS_CLOUDEVENTS_BATCH_OVERFLOW_POLICY, DEFAULT_BATCH_OVERFLOW_POLICY);
+        OverflowPolicy overflowPolicy;
+        try {
+            overflowPolicy = OverflowPolicy.valueOf(policyName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new EdcException(format("Invalid value '%s' for setting %s", policyName, EDC_EVENTS_CLOUDEVENTS_BATCH_OVERFLOW_POLICY));
+        }
+        var spillDirectory = config.getString(EDC_EVENTS_CLOUDEVENTS_BATCH_SPILL_DIRECTORY, null);
+        if (overflowPolicy == OverflowPolicy.SPILL && spillDirectory == null) {
+            throw new EdcException(format("Setting %s is mandatory with the 'spill' overflow policy", EDC_EVENTS_CLOUDEVENTS_BATCH_SPILL_DIRECTORY));
+        }
+
+        return CloudEventsBatchPublisher.Builder.newInstance()
+                .endpoint(endpoint)
+                .monitor(context.getMonitor())
+                .mapper(typeManager.getMapper())
+                .httpClient(httpClient)
+                .clock(clock)
+                .hostname(hostname)
+                .batchSize(config.getInteger(EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .lingerMillis(config.getLong(EDC_EVENTS_CLOUDEVENTS_BATCH_LINGER_MILLIS, DEFAULT_BATCH_LINGER_MILLIS))
+                .queueCapacity(config.getInteger(EDC_EVENTS_CLOUDEVENTS_BATCH_QUEUE_CAPACITY, DEFAULT_BATCH_QUEUE_CAPACITY))
+                .overflowPolicy(overflowPolicy)
+                .spillDirectory(spillDirectory == null ? null : Path.of(spillDirectory))
+                .executorInstrumentation(executorInstrumentation)
+                .meterRegistry(meterRegistry != null ? meterRegistry : Metrics.globalRegistry)
+                .build();
     }
 
 }
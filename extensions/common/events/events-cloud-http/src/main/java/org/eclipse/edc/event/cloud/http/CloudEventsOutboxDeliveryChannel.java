@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannel;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxEvents;
+import org.eclipse.edc.spi.result.Result;
+
+/**
+ * Publishes the events stored in the outbox through the {@link CloudEventsPublisher}.
+ */
+class CloudEventsOutboxDeliveryChannel implements OutboxDeliveryChannel {
+
+    static final String CHANNEL = "cloudevents";
+
+    private final CloudEventsPublisher publisher;
+    private final ObjectMapper mapper;
+
+    CloudEventsOutboxDeliveryChannel(CloudEventsPublisher publisher, ObjectMapper mapper) {
+        this.publisher = publisher;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Result<Void> deliver(OutboxEntry entry) {
+        return publisher.publish(OutboxEvents.envelopeOf(entry, mapper));
+    }
+}
@@ -25,6 +25,7 @@ import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.Hostname;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.jetbrains.annotations.NotNull;
@@ -34,6 +35,7 @@ import java.net.URI;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.String.format;
 import static java.time.ZoneOffset.UTC;
@@ -59,6 +61,20 @@ class CloudEventsPublisher implements EventSubscriber {
 
     @Override
     public <E extends Event> void on(EventEnvelope<E> event) {
+        var result = publish(event);
+        if (result.failed()) {
+            monitor.severe(result.getFailureDetail());
+        }
+    }
+
+    /**
+     * Send the event to the endpoint as a binary mode CloudEvent. Failures are not logged, the caller decides how to
+     * report them, e.g. the outbox only reports the last failed attempt.
+     *
+     * @param event the event.
+     * @return successful result if the endpoint accepted the event, failure otherwise.
+     */
+    <E extends Event> Result<Void> publish(EventEnvelope<E> event) {
         var json = typeManager.writeValueAsBytes(event.getPayload());
         var instant = Instant.ofEpochMilli(event.getAt());
         var localDateTime = LocalDateTime.ofInstant(instant, clock.getZone());
@@ -71,11 +87,13 @@ class CloudEventsPublisher implements EventSubscriber {
                 .withData(json)
                 .build();
 
-        createWriter().writeBinary(cloudEvent);
+        var result = new AtomicReference<Result<Void>>(Result.success());
+        createWriter(result).writeBinary(cloudEvent);
+        return result.get();
     }
 
     @NotNull
-    private HttpMessageWriter createWriter() {
+    private HttpMessageWriter createWriter(AtomicReference<Result<Void>> result) {
         var requestBuilder = new Request.Builder();
         return HttpMessageFactory.createWriter(requestBuilder::addHeader, body -> {
             var request = requestBuilder
@@ -84,10 +102,10 @@ class CloudEventsPublisher implements EventSubscriber {
                     .build();
             try (var response = httpClient.execute(request)) {
                 if (!response.isSuccessful()) {
-                    monitor.severe(format("Error sending cloud event to endpoint %s, response status: %d", endpoint, response.code()));
+                    result.set(Result.failure(format("Error sending cloud event to endpoint %s, response status: %d", endpoint, response.code())));
                 }
             } catch (IOException e) {
-                monitor.severe(format("Error sending event to endpoint %s", endpoint), e);
+                result.set(Result.failure(format("Error sending event to endpoint %s: %s", endpoint, e.getMessage())));
             }
         });
     }
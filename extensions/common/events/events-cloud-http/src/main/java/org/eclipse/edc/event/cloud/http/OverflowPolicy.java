@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+/**
+ * Behavior of the {@link CloudEventsBatchPublisher} when its queue is full.
+ */
+enum OverflowPolicy {
+
+    /**
+     * The publishing thread waits until there's room in the queue.
+     */
+    BLOCK,
+
+    /**
+     * The event is discarded.
+     */
+    DROP,
+
+    /**
+     * The event is written to the spill directory and published once the queue has been drained.
+     */
+    SPILL
+}
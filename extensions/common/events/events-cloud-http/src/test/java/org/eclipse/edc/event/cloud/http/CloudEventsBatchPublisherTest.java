@@ -0,0 +1,216 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.event.cloud.http.CloudEventsBatchPublisher.BATCH_CONTENT_TYPE;
+import static org.eclipse.edc.event.cloud.http.CloudEventsBatchPublisher.METRIC_PREFIX;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+
+class CloudEventsBatchPublisherTest {
+
+    private final int port = getFreePort();
+    private final ClientAndServer server = startClientAndServer(port);
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CloudEventsBatchPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.stop();
+        }
+        server.stop();
+    }
+
+    @Test
+    void shouldSendBatch_whenBatchSizeIsReached() {
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(200));
+        publisher = publisherBuilder().batchSize(5).lingerMillis(60_000).build();
+        publisher.start();
+
+        IntStream.range(0, 5).forEach(i -> publisher.on(envelope("data-" + i)));
+
+        await().untilAsserted(() -> {
+            var requests = server.retrieveRecordedRequests(HttpRequest.request());
+            assertThat(requests).hasSize(1);
+            assertThat(requests[0].getFirstHeader("Content-Type")).startsWith(BATCH_CONTENT_TYPE);
+            var batch = mapper.readTree(requests[0].getBodyAsString());
+            assertThat(batch).hasSize(5);
+            assertThat(batch.get(0).get("specversion").asText()).isEqualTo("1.0");
+            assertThat(batch.get(0).get("type").asText()).isEqualTo(TestEvent.class.getName());
+            assertThat(batch.get(0).get("source").asText()).isEqualTo("localhost");
+            assertThat(batch.get(0).get("datacontenttype").asText()).isEqualTo("application/json");
+            assertThat(batch.get(0).get("data").get("data").asText()).isEqualTo("data-0");
+        });
+        assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "published").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldSendBatch_whenLingerTimeElapsed() {
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(200));
+        publisher = publisherBuilder().batchSize(100).lingerMillis(50).build();
+        publisher.start();
+
+        publisher.on(envelope("data"));
+
+        await().untilAsserted(() -> {
+            var requests = server.retrieveRecordedRequests(HttpRequest.request());
+            assertThat(requests).hasSize(1);
+            assertThat(mapper.readTree(requests[0].getBodyAsString())).hasSize(1);
+        });
+    }
+
+    @Test
+    void shouldCountFailedEvents_whenEndpointRejectsBatch() {
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(500));
+        publisher = publisherBuilder().batchSize(2).build();
+        publisher.start();
+
+        publisher.on(envelope("one"));
+        publisher.on(envelope("two"));
+
+        await().untilAsserted(() -> assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "failed").counter().count()).isEqualTo(2));
+    }
+
+    @Test
+    void shouldDropEvents_whenQueueIsFullAndPolicyIsDrop() {
+        publisher = publisherBuilder().queueCapacity(1).overflowPolicy(OverflowPolicy.DROP).build();
+
+        IntStream.range(0, 3).forEach(i -> publisher.on(envelope("data-" + i)));
+
+        assertThat(publisher.queueSize()).isEqualTo(1);
+        assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "dropped").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(METRIC_PREFIX + ".queue.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSpillEvents_whenQueueIsFullAndPolicyIsSpill(@TempDir Path spillDirectory) throws IOException {
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(200));
+        publisher = publisherBuilder().queueCapacity(1).overflowPolicy(OverflowPolicy.SPILL).spillDirectory(spillDirectory).build();
+
+        IntStream.range(0, 3).forEach(i -> publisher.on(envelope("data-" + i)));
+
+        try (var files = Files.list(spillDirectory)) {
+            assertThat(files).hasSize(2);
+        }
+
+        publisher.start();
+
+        await().untilAsserted(() -> {
+            var sent = Arrays.stream(server.retrieveRecordedRequests(HttpRequest.request()))
+                    .mapToInt(request -> {
+                        try {
+                            return mapper.readTree(request.getBodyAsString()).size();
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    })
+                    .sum();
+            assertThat(sent).isEqualTo(3);
+            try (var files = Files.list(spillDirectory)) {
+                assertThat(files).isEmpty();
+            }
+        });
+    }
+
+    @Test
+    void shouldSpillAndRetryFailedBatch_whenSpillDirectoryIsSet(@TempDir Path spillDirectory) {
+        server.when(HttpRequest.request(), Times.once()).respond(HttpResponse.response().withStatusCode(500));
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(200));
+        publisher = publisherBuilder().batchSize(2).spillDirectory(spillDirectory).build();
+        publisher.start();
+
+        publisher.on(envelope("one"));
+        publisher.on(envelope("two"));
+
+        await().untilAsserted(() -> {
+            assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "spilled").counter().count()).isEqualTo(2);
+            assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "published").counter().count()).isEqualTo(2);
+            try (var files = Files.list(spillDirectory)) {
+                assertThat(files).isEmpty();
+            }
+        });
+        assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "failed").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldMoveAsideUnreadableSpilledEvent(@TempDir Path spillDirectory) throws IOException {
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(200));
+        var unreadable = Files.createDirectory(spillDirectory.resolve("unreadable.json"));
+        var monitor = mock(Monitor.class);
+        publisher = publisherBuilder().monitor(monitor).spillDirectory(spillDirectory).build();
+        publisher.start();
+
+        publisher.on(envelope("one"));
+
+        await().untilAsserted(() -> {
+            assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "published").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get(METRIC_PREFIX + ".events").tag("outcome", "dropped").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get(METRIC_PREFIX + ".spilled.size").gauge().value()).isZero();
+            assertThat(unreadable).doesNotExist();
+            assertThat(spillDirectory.resolve("unreadable.json.failed")).exists();
+        });
+        verify(monitor).severe(contains("unreadable.json"), any(IOException.class));
+    }
+
+    private CloudEventsBatchPublisher.Builder publisherBuilder() {
+        return CloudEventsBatchPublisher.Builder.newInstance()
+                .endpoint("http://localhost:" + port)
+                .monitor(mock(Monitor.class))
+                .mapper(mapper)
+                .httpClient(testHttpClient())
+                .clock(Clock.systemUTC())
+                .hostname(() -> "localhost")
+                .lingerMillis(10)
+                .meterRegistry(meterRegistry);
+    }
+
+    private EventEnvelope<TestEvent> envelope(String data) {
+        return EventEnvelope.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .payload(TestEvent.Builder.newInstance().data(data).build())
+                .at(System.currentTimeMillis())
+                .build();
+    }
+}
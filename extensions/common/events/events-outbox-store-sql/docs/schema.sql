@@ -0,0 +1,28 @@
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_outbox
+(
+    id              VARCHAR   NOT NULL PRIMARY KEY,
+    seq             BIGSERIAL NOT NULL,
+    channel         VARCHAR   NOT NULL,
+    ordering_key    VARCHAR,
+    endpoint        VARCHAR,
+    event_id        VARCHAR   NOT NULL,
+    event_at        BIGINT    NOT NULL,
+    event_type      VARCHAR   NOT NULL,
+    event_payload   JSON      NOT NULL,
+    channel_data    JSON,
+    created_at      BIGINT    NOT NULL,
+    attempts        INTEGER   DEFAULT 0 NOT NULL,
+    next_attempt_at BIGINT    NOT NULL,
+    error_detail    VARCHAR,
+    leased_by       VARCHAR,
+    lease_expiry    BIGINT
+);
+
+COMMENT ON COLUMN edc_outbox.seq IS 'insertion order, used to deliver entries with the same ordering key in order';
+COMMENT ON COLUMN edc_outbox.lease_expiry IS 'posix timestamp in milliseconds after which the lease is not valid anymore';
+
+CREATE INDEX IF NOT EXISTS outbox_seq_idx ON edc_outbox (seq);
+
+CREATE INDEX IF NOT EXISTS outbox_ordering_key_idx ON edc_outbox (channel, ordering_key, seq);
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.event.outbox.store.sql.schema.OutboxStatements;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SQL implementation of the {@link OutboxStore}. Entries are stored in the transaction active on the caller thread, if
+ * any, so they get persisted atomically with the entity change that raised the event.
+ */
+public class SqlOutboxStore extends AbstractSqlStore implements OutboxStore {
+
+    private final OutboxStatements statements;
+    private final String leaseHolder;
+    private final Duration leaseDuration;
+
+    public SqlOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                          OutboxStatements statements, ObjectMapper objectMapper, QueryExecutor queryExecutor,
+                          String leaseHolder, Duration leaseDuration) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = Objects.requireNonNull(statements);
+        this.leaseHolder = leaseHolder;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Override
+    public void save(OutboxEntry entry) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var updated = queryExecutor.execute(connection, statements.getUpdateTemplate(),
+                        entry.getAttempts(), entry.getNextAttemptAt(), entry.getErrorDetail(), entry.getId());
+
+                if (updated == 0) {
+                    queryExecutor.execute(connection, statements.getInsertTemplate(),
+                            entry.getId(), entry.getChannel(), entry.getOrderingKey(), entry.getEndpoint(),
+                            entry.getEventId(), entry.getEventAt(), entry.getEventType(), entry.getEventPayload(),
+                            entry.getChannelData(), entry.getCreatedAt(), entry.getAttempts(), entry.getNextAttemptAt(),
+                            entry.getErrorDetail());
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<OutboxEntry> nextDeliverable(int max, long now) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                List<OutboxEntry> entries;
+                try (var stream = queryExecutor.query(connection, false, this::mapEntry, statements.getNextDeliverableTemplate(), now, now, max)) {
+                    entries = stream.toList();
+                }
+
+                var leaseExpiry = now + leaseDuration.toMillis();
+                var leases = entries.stream()
+                        .map(entry -> new Object[]{ leaseHolder, leaseExpiry, entry.getId() })
+                        .toList();
+                queryExecutor.executeBatch(connection, statements.getLeaseTemplate(), leases);
+                return entries;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private OutboxEntry mapEntry(ResultSet resultSet) throws SQLException {
+        return OutboxEntry.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .channel(resultSet.getString(statements.getChannelColumn()))
+                .orderingKey(resultSet.getString(statements.getOrderingKeyColumn()))
+                .endpoint(resultSet.getString(statements.getEndpointColumn()))
+                .eventId(resultSet.getString(statements.getEventIdColumn()))
+                .eventAt(resultSet.getLong(statements.getEventAtColumn()))
+                .eventType(resultSet.getString(statements.getEventTypeColumn()))
+                .eventPayload(resultSet.getString(statements.getEventPayloadColumn()))
+                .channelData(resultSet.getString(statements.getChannelDataColumn()))
+                .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
+                .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql;
+
+import org.eclipse.edc.event.outbox.store.sql.schema.OutboxStatements;
+import org.eclipse.edc.event.outbox.store.sql.schema.PostgresOutboxStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Duration;
+
+import static org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry.DEFAULT_DATASOURCE;
+
+/**
+ * Extension that provides an implementation of {@link OutboxStore} that uses SQL as backend storage
+ */
+@Provides(OutboxStore.class)
+@Extension(value = SqlOutboxStoreExtension.NAME)
+public class SqlOutboxStoreExtension implements ServiceExtension {
+
+    public static final String NAME = "SQL Outbox Store";
+
+    private static final long DEFAULT_LEASE_DURATION_MILLIS = 60_000;
+
+    @Setting(value = "Name of the datasource to use for accessing the outbox store", defaultValue = DEFAULT_DATASOURCE)
+    public static final String DATASOURCE_SETTING_NAME = "edc.datasource.outbox.name";
+
+    @Setting(value = "The duration in milliseconds of the lease held on the entries being delivered", defaultValue = DEFAULT_LEASE_DURATION_MILLIS + "", type = "long")
+    public static final String LEASE_DURATION_SETTING_NAME = "edc.events.outbox.lease-duration-millis";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject(required = false)
+    private OutboxStatements statements;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public OutboxStore outboxStore(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        var dataSourceName = config.getString(DATASOURCE_SETTING_NAME, DEFAULT_DATASOURCE);
+        var leaseDuration = Duration.ofMillis(config.getLong(LEASE_DURATION_SETTING_NAME, DEFAULT_LEASE_DURATION_MILLIS));
+        return new SqlOutboxStore(dataSourceRegistry, dataSourceName, transactionContext, getStatementImpl(),
+                typeManager.getMapper(), queryExecutor, context.getConnectorId(), leaseDuration);
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private OutboxStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresOutboxStatements();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlOutboxStatements implements OutboxStatements {
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getChannelColumn())
+                .column(getOrderingKeyColumn())
+                .column(getEndpointColumn())
+                .column(getEventIdColumn())
+                .column(getEventAtColumn())
+                .column(getEventTypeColumn())
+                .jsonColumn(getEventPayloadColumn())
+                .jsonColumn(getChannelDataColumn())
+                .column(getCreatedAtColumn())
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .column(getErrorDetailColumn())
+                .insertInto(getOutboxTable());
+    }
+
+    /**
+     * Updates the retry information and releases the lease.
+     */
+    @Override
+    public String getUpdateTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ?, %s = ?, %s = NULL, %s = NULL WHERE %s = ?;",
+                getOutboxTable(), getAttemptsColumn(), getNextAttemptAtColumn(), getErrorDetailColumn(),
+                getLeasedByColumn(), getLeaseExpiryColumn(), getIdColumn());
+    }
+
+    /**
+     * Selects the deliverable entries: an entry is deliverable when it's due, not leased and there is no older entry
+     * with the same channel and ordering key.
+     */
+    @Override
+    public String getNextDeliverableTemplate() {
+        return format("SELECT * FROM %s o WHERE o.%s <= ? AND (o.%s IS NULL OR o.%s <= ?) " +
+                        "AND (o.%s IS NULL OR NOT EXISTS (SELECT 1 FROM %s h WHERE h.%s = o.%s AND h.%s = o.%s AND h.%s < o.%s)) " +
+                        "ORDER BY o.%s LIMIT ? %s;",
+                getOutboxTable(), getNextAttemptAtColumn(), getLeaseExpiryColumn(), getLeaseExpiryColumn(),
+                getOrderingKeyColumn(), getOutboxTable(), getChannelColumn(), getChannelColumn(),
+                getOrderingKeyColumn(), getOrderingKeyColumn(), getSequenceColumn(), getSequenceColumn(),
+                getSequenceColumn(), getLockClause());
+    }
+
+    @Override
+    public String getLeaseTemplate() {
+        return executeStatement()
+                .column(getLeasedByColumn())
+                .column(getLeaseExpiryColumn())
+                .update(getOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return executeStatement().delete(getOutboxTable(), getIdColumn());
+    }
+
+    /**
+     * The row locking clause applied to the deliverable entries selection.
+     *
+     * @return the locking clause.
+     */
+    protected String getLockClause() {
+        return "FOR UPDATE";
+    }
+}
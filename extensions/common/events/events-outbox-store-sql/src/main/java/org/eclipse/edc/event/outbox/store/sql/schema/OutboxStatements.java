@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql.schema;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Sql statements for the outbox store
+ */
+public interface OutboxStatements extends SqlStatements {
+
+    default String getOutboxTable() {
+        return "edc_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getSequenceColumn() {
+        return "seq";
+    }
+
+    default String getChannelColumn() {
+        return "channel";
+    }
+
+    default String getOrderingKeyColumn() {
+        return "ordering_key";
+    }
+
+    default String getEndpointColumn() {
+        return "endpoint";
+    }
+
+    default String getEventIdColumn() {
+        return "event_id";
+    }
+
+    default String getEventAtColumn() {
+        return "event_at";
+    }
+
+    default String getEventTypeColumn() {
+        return "event_type";
+    }
+
+    default String getEventPayloadColumn() {
+        return "event_payload";
+    }
+
+    default String getChannelDataColumn() {
+        return "channel_data";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    default String getErrorDetailColumn() {
+        return "error_detail";
+    }
+
+    default String getLeasedByColumn() {
+        return "leased_by";
+    }
+
+    default String getLeaseExpiryColumn() {
+        return "lease_expiry";
+    }
+
+    String getInsertTemplate();
+
+    String getUpdateTemplate();
+
+    String getNextDeliverableTemplate();
+
+    String getLeaseTemplate();
+
+    String getDeleteTemplate();
+
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql.schema;
+
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+
+public class PostgresOutboxStatements extends BaseSqlOutboxStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonCastOperator();
+    }
+
+    /**
+     * Rows locked by another runtime are skipped instead of waiting for their transaction to complete.
+     */
+    @Override
+    protected String getLockClause() {
+        return "FOR UPDATE SKIP LOCKED";
+    }
+}
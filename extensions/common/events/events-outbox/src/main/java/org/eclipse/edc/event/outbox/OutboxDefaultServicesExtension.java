@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox;
+
+import org.eclipse.edc.event.outbox.store.InMemoryOutboxStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.system.ServiceExtension;
+
+import static org.eclipse.edc.event.outbox.OutboxDefaultServicesExtension.NAME;
+
+@Extension(value = NAME)
+public class OutboxDefaultServicesExtension implements ServiceExtension {
+
+    public static final String NAME = "Event Outbox Default Services";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public OutboxStore outboxStore() {
+        return new InMemoryOutboxStore();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox;
+
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannel;
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannelRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class OutboxDeliveryChannelRegistryImpl implements OutboxDeliveryChannelRegistry {
+
+    private final Map<String, OutboxDeliveryChannel> channels = new ConcurrentHashMap<>();
+
+    @Override
+    public void register(String name, OutboxDeliveryChannel channel) {
+        channels.put(name, channel);
+    }
+
+    @Override
+    public @Nullable OutboxDeliveryChannel resolve(String name) {
+        return channels.get(name);
+    }
+}
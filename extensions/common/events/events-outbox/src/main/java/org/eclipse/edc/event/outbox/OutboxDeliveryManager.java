@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox;
+
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannelRegistry;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.statemachine.StateMachineManager;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Fetches deliverable {@link OutboxEntry} items in batches and delivers them on a bounded worker pool through the
+ * registered {@link org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannel}s.
+ * <p>
+ * The number of concurrent deliveries is bounded globally by the number of workers and per endpoint by
+ * {@link Builder#maxConcurrencyPerEndpoint(int)}. Failed deliveries are retried with an exponential backoff until the
+ * max number of attempts is reached, after which the entry is discarded.
+ */
+public class OutboxDeliveryManager {
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int DEFAULT_WORKERS = 4;
+    public static final int DEFAULT_MAX_CONCURRENCY_PER_ENDPOINT = 2;
+    public static final int DEFAULT_MAX_ATTEMPTS = 10;
+    public static final long DEFAULT_RETRY_BASE_DELAY = 1000;
+    public static final long DEFAULT_RETRY_MAX_DELAY = 60_000;
+    public static final long DEFAULT_ITERATION_WAIT = 500;
+
+    private final Map<String, Semaphore> endpointPermits = new ConcurrentHashMap<>();
+    private OutboxStore store;
+    private OutboxDeliveryChannelRegistry channelRegistry;
+    private Monitor monitor;
+    private Clock clock = Clock.systemUTC();
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private WaitStrategy waitStrategy = new ExponentialWaitStrategy(DEFAULT_ITERATION_WAIT);
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int workers = DEFAULT_WORKERS;
+    private int maxConcurrencyPerEndpoint = DEFAULT_MAX_CONCURRENCY_PER_ENDPOINT;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long retryBaseDelay = DEFAULT_RETRY_BASE_DELAY;
+    private long retryMaxDelay = DEFAULT_RETRY_MAX_DELAY;
+    private Semaphore inFlight;
+    private ExecutorService executor;
+    private StateMachineManager stateMachineManager;
+
+    private OutboxDeliveryManager() {
+    }
+
+    public void start() {
+        executor = executorInstrumentation.instrument(Executors.newFixedThreadPool(workers, r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("outbox-delivery-" + thread.getId());
+            return thread;
+        }), "outbox-delivery");
+
+        stateMachineManager = StateMachineManager.Builder.newInstance("outbox-delivery", monitor, executorInstrumentation, waitStrategy)
+                .processor(this::processDeliverable)
+                .build();
+
+        stateMachineManager.start();
+    }
+
+    public void stop() {
+        if (stateMachineManager != null) {
+            stateMachineManager.stop();
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    monitor.warning("Outbox delivery workers did not terminate in time, pending entries will be delivered after restart");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Long processDeliverable() {
+        var available = Math.min(batchSize, inFlight.availablePermits());
+        if (available == 0) {
+            return 0L;
+        }
+
+        return store.nextDeliverable(available, clock.millis()).stream()
+                .filter(this::dispatch)
+                .count();
+    }
+
+    private boolean dispatch(OutboxEntry entry) {
+        var permits = endpointPermits.computeIfAbsent(endpointKey(entry), k -> new Semaphore(maxConcurrencyPerEndpoint));
+        if (!permits.tryAcquire()) {
+            store.save(entry);
+            return false;
+        }
+        if (!inFlight.tryAcquire()) {
+            permits.release();
+            store.save(entry);
+            return false;
+        }
+
+        executor.execute(() -> {
+            try {
+                deliver(entry);
+            } catch (Throwable e) {
+                monitor.severe(format("Outbox entry %s: unexpected error during delivery", entry.getId()), e);
+            } finally {
+                permits.release();
+                inFlight.release();
+            }
+        });
+        return true;
+    }
+
+    private void deliver(OutboxEntry entry) {
+        var channel = channelRegistry.resolve(entry.getChannel());
+        Result<Void> result;
+        if (channel == null) {
+            result = Result.failure(format("No delivery channel registered with name %s", entry.getChannel()));
+        } else {
+            try {
+                result = channel.deliver(entry);
+            } catch (Exception e) {
+                result = Result.failure(format("%s: %s", e.getClass().getSimpleName(), e.getMessage()));
+            }
+        }
+
+        if (result.succeeded()) {
+            store.delete(entry.getId());
+        } else {
+            onDeliveryFailure(entry, result.getFailureDetail());
+        }
+    }
+
+    private void onDeliveryFailure(OutboxEntry entry, String failureDetail) {
+        var attempts = entry.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            monitor.severe(format("Outbox entry %s for event %s on channel %s failed after %d attempts, it will be discarded: %s",
+                    entry.getId(), entry.getEventId(), entry.getChannel(), attempts, failureDetail));
+            store.delete(entry.getId());
+            return;
+        }
+
+        var delay = Math.min(retryMaxDelay, retryBaseDelay * (1L << Math.min(attempts - 1, 30)));
+        monitor.debug(() -> format("Outbox entry %s delivery failed (attempt %d), retry in %d ms: %s", entry.getId(), attempts, delay, failureDetail));
+        store.save(entry.toBuilder()
+                .attempts(attempts)
+                .nextAttemptAt(clock.millis() + delay)
+                .errorDetail(failureDetail)
+                .build());
+    }
+
+    private String endpointKey(OutboxEntry entry) {
+        return entry.getEndpoint() != null ? entry.getEndpoint() : entry.getChannel();
+    }
+
+    public static class Builder {
+
+        private final OutboxDeliveryManager manager;
+
+        private Builder() {
+            manager = new OutboxDeliveryManager();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder store(OutboxStore store) {
+            manager.store = store;
+            return this;
+        }
+
+        public Builder channelRegistry(OutboxDeliveryChannelRegistry channelRegistry) {
+            manager.channelRegistry = channelRegistry;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            manager.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            manager.clock = clock;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            manager.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            manager.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            manager.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder workers(int workers) {
+            manager.workers = workers;
+            return this;
+        }
+
+        public Builder maxConcurrencyPerEndpoint(int maxConcurrencyPerEndpoint) {
+            manager.maxConcurrencyPerEndpoint = maxConcurrencyPerEndpoint;
+            return this;
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            manager.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder retryBaseDelay(long retryBaseDelay) {
+            manager.retryBaseDelay = retryBaseDelay;
+            return this;
+        }
+
+        public Builder retryMaxDelay(long retryMaxDelay) {
+            manager.retryMaxDelay = retryMaxDelay;
+            return this;
+        }
+
+        public OutboxDeliveryManager build() {
+            Objects.requireNonNull(manager.store, "store");
+            Objects.requireNonNull(manager.channelRegistry, "channelRegistry");
+            Objects.requireNonNull(manager.monitor, "monitor");
+            manager.inFlight = new Semaphore(manager.workers);
+            return manager;
+        }
+    }
+}
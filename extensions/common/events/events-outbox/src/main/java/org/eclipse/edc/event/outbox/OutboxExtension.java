@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannelRegistry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+
+import static org.eclipse.edc.event.outbox.OutboxDeliveryManager.DEFAULT_BATCH_SIZE;
+import static org.eclipse.edc.event.outbox.OutboxDeliveryManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.event.outbox.OutboxDeliveryManager.DEFAULT_MAX_ATTEMPTS;
+import static org.eclipse.edc.event.outbox.OutboxDeliveryManager.DEFAULT_MAX_CONCURRENCY_PER_ENDPOINT;
+import static org.eclipse.edc.event.outbox.OutboxDeliveryManager.DEFAULT_RETRY_BASE_DELAY;
+import static org.eclipse.edc.event.outbox.OutboxDeliveryManager.DEFAULT_RETRY_MAX_DELAY;
+import static org.eclipse.edc.event.outbox.OutboxDeliveryManager.DEFAULT_WORKERS;
+
+/**
+ * Provides the {@link OutboxDeliveryChannelRegistry} and runs the delivery of the entries stored in the
+ * {@link OutboxStore}.
+ */
+@Provides(OutboxDeliveryChannelRegistry.class)
+@Extension(value = OutboxExtension.NAME)
+public class OutboxExtension implements ServiceExtension {
+
+    public static final String NAME = "Event Outbox";
+
+    @Setting(value = "The iteration wait time in milliseconds of the outbox delivery loop", defaultValue = DEFAULT_ITERATION_WAIT + "", type = "long")
+    public static final String OUTBOX_ITERATION_WAIT_MILLIS = "edc.events.outbox.iteration-wait-millis";
+
+    @Setting(value = "The max number of entries fetched on every iteration of the outbox delivery loop", defaultValue = DEFAULT_BATCH_SIZE + "", type = "int")
+    public static final String OUTBOX_BATCH_SIZE = "edc.events.outbox.batch-size";
+
+    @Setting(value = "The number of threads that deliver outbox entries", defaultValue = DEFAULT_WORKERS + "", type = "int")
+    public static final String OUTBOX_WORKERS = "edc.events.outbox.workers";
+
+    @Setting(value = "The max number of concurrent deliveries against the same endpoint", defaultValue = DEFAULT_MAX_CONCURRENCY_PER_ENDPOINT + "", type = "int")
+    public static final String OUTBOX_MAX_CONCURRENCY_PER_ENDPOINT = "edc.events.outbox.endpoint.max-concurrency";
+
+    @Setting(value = "The max number of delivery attempts, after which the entry is discarded", defaultValue = DEFAULT_MAX_ATTEMPTS + "", type = "int")
+    public static final String OUTBOX_MAX_ATTEMPTS = "edc.events.outbox.retry.max-attempts";
+
+    @Setting(value = "The base delay in milliseconds of the exponential retry backoff", defaultValue = DEFAULT_RETRY_BASE_DELAY + "", type = "long")
+    public static final String OUTBOX_RETRY_BASE_DELAY = "edc.events.outbox.retry.base-delay-millis";
+
+    @Setting(value = "The max delay in milliseconds of the exponential retry backoff", defaultValue = DEFAULT_RETRY_MAX_DELAY + "", type = "long")
+    public static final String OUTBOX_RETRY_MAX_DELAY = "edc.events.outbox.retry.max-delay-millis";
+
+    @Inject
+    private OutboxStore store;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private OutboxDeliveryManager manager;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var channelRegistry = new OutboxDeliveryChannelRegistryImpl();
+        context.registerService(OutboxDeliveryChannelRegistry.class, channelRegistry);
+
+        var config = context.getConfig();
+        manager = OutboxDeliveryManager.Builder.newInstance()
+                .store(store)
+                .channelRegistry(channelRegistry)
+                .monitor(context.getMonitor())
+                .clock(clock)
+                .executorInstrumentation(executorInstrumentation)
+                .waitStrategy(new ExponentialWaitStrategy(config.getLong(OUTBOX_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT)))
+                .batchSize(config.getInteger(OUTBOX_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(config.getInteger(OUTBOX_WORKERS, DEFAULT_WORKERS))
+                .maxConcurrencyPerEndpoint(config.getInteger(OUTBOX_MAX_CONCURRENCY_PER_ENDPOINT, DEFAULT_MAX_CONCURRENCY_PER_ENDPOINT))
+                .maxAttempts(config.getInteger(OUTBOX_MAX_ATTEMPTS, DEFAULT_MAX_ATTEMPTS))
+                .retryBaseDelay(config.getLong(OUTBOX_RETRY_BASE_DELAY, DEFAULT_RETRY_BASE_DELAY))
+                .retryMaxDelay(config.getLong(OUTBOX_RETRY_MAX_DELAY, DEFAULT_RETRY_MAX_DELAY))
+                .build();
+    }
+
+    @Override
+    public void start() {
+        manager.start();
+    }
+
+    @Override
+    public void shutdown() {
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store;
+
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.util.concurrency.LockManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory implementation of the {@link OutboxStore}. Entries are lost on restart, so this implementation is
+ * intended for testing purposes only.
+ */
+public class InMemoryOutboxStore implements OutboxStore {
+
+    private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
+
+    private final Map<String, OutboxEntry> entries = new LinkedHashMap<>();
+    private final Map<String, Long> leases = new HashMap<>();
+    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
+    private final long leaseMillis;
+
+    public InMemoryOutboxStore() {
+        this(DEFAULT_LEASE_TIME);
+    }
+
+    public InMemoryOutboxStore(Duration leaseTime) {
+        this.leaseMillis = leaseTime.toMillis();
+    }
+
+    @Override
+    public void save(OutboxEntry entry) {
+        lockManager.writeLock(() -> {
+            entries.put(entry.getId(), entry);
+            leases.remove(entry.getId());
+            return null;
+        });
+    }
+
+    @Override
+    public List<OutboxEntry> nextDeliverable(int max, long now) {
+        return lockManager.writeLock(() -> {
+            var result = new ArrayList<OutboxEntry>();
+            var seenKeys = new HashSet<String>();
+            for (var entry : entries.values()) {
+                if (result.size() >= max) {
+                    break;
+                }
+                var isHead = entry.getOrderingKey() == null || seenKeys.add(entry.getChannel() + "/" + entry.getOrderingKey());
+                if (isHead && entry.getNextAttemptAt() <= now && !isLeased(entry.getId(), now)) {
+                    leases.put(entry.getId(), now + leaseMillis);
+                    result.add(entry);
+                }
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        lockManager.writeLock(() -> {
+            entries.remove(id);
+            leases.remove(id);
+            return null;
+        });
+    }
+
+    private boolean isLeased(String id, long now) {
+        var expiry = leases.get(id);
+        return expiry != null && expiry > now;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox;
+
+import org.eclipse.edc.event.outbox.store.InMemoryOutboxStore;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class OutboxDeliveryManagerTest {
+
+    private final InMemoryOutboxStore store = new InMemoryOutboxStore();
+    private final OutboxDeliveryChannelRegistryImpl channelRegistry = new OutboxDeliveryChannelRegistryImpl();
+    private final Monitor monitor = mock();
+    private OutboxDeliveryManager manager;
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    void shouldDeliverAndDeleteEntries() {
+        var delivered = new CopyOnWriteArrayList<String>();
+        channelRegistry.register("channel", entry -> {
+            delivered.add(entry.getId());
+            return Result.success();
+        });
+        var entry = createEntry("entity", "endpoint");
+        store.save(entry);
+
+        manager = createManager().build();
+        manager.start();
+
+        await().untilAsserted(() -> {
+            assertThat(delivered).containsExactly(entry.getId());
+            assertThat(store.nextDeliverable(10, Long.MAX_VALUE)).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldDeliverEntriesWithSameOrderingKeyInOrder() {
+        var delivered = new CopyOnWriteArrayList<String>();
+        channelRegistry.register("channel", entry -> {
+            delivered.add(entry.getId());
+            return Result.success();
+        });
+        var entries = List.of(createEntry("entity", "endpoint"), createEntry("entity", "endpoint"), createEntry("entity", "endpoint"));
+        entries.forEach(store::save);
+
+        manager = createManager().workers(3).maxConcurrencyPerEndpoint(3).build();
+        manager.start();
+
+        await().untilAsserted(() -> assertThat(delivered).containsExactlyElementsOf(entries.stream().map(OutboxEntry::getId).toList()));
+    }
+
+    @Test
+    void shouldRetryFailedDeliveries() {
+        var attempts = new AtomicInteger();
+        channelRegistry.register("channel", entry -> attempts.incrementAndGet() < 3 ? Result.failure("error") : Result.success());
+        store.save(createEntry("entity", "endpoint"));
+
+        manager = createManager().retryBaseDelay(10).build();
+        manager.start();
+
+        await().untilAsserted(() -> {
+            assertThat(attempts).hasValue(3);
+            assertThat(store.nextDeliverable(10, Long.MAX_VALUE)).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldDiscardEntry_whenMaxAttemptsReached() {
+        var attempts = new AtomicInteger();
+        channelRegistry.register("channel", entry -> {
+            attempts.incrementAndGet();
+            return Result.failure("error");
+        });
+        store.save(createEntry("entity", "endpoint"));
+
+        manager = createManager().retryBaseDelay(10).maxAttempts(2).build();
+        manager.start();
+
+        await().untilAsserted(() -> {
+            assertThat(attempts).hasValue(2);
+            assertThat(store.nextDeliverable(10, Long.MAX_VALUE)).isEmpty();
+            verify(monitor).severe(contains("it will be discarded"));
+        });
+    }
+
+    @Test
+    void shouldLimitConcurrentDeliveriesPerEndpoint() throws InterruptedException {
+        var concurrent = new AtomicInteger();
+        var maxConcurrent = new AtomicInteger();
+        var delivered = new CountDownLatch(6);
+        channelRegistry.register("channel", entry -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrent.decrementAndGet();
+            delivered.countDown();
+            return Result.success();
+        });
+        for (var i = 0; i < 6; i++) {
+            store.save(createEntry(null, "endpoint"));
+        }
+
+        manager = createManager().workers(6).maxConcurrencyPerEndpoint(2).build();
+        manager.start();
+
+        assertThat(delivered.await(10, SECONDS)).isTrue();
+        assertThat(maxConcurrent.get()).isLessThanOrEqualTo(2);
+    }
+
+    private OutboxDeliveryManager.Builder createManager() {
+        return OutboxDeliveryManager.Builder.newInstance()
+                .store(store)
+                .channelRegistry(channelRegistry)
+                .monitor(monitor)
+                .waitStrategy(() -> 10L);
+    }
+
+    private OutboxEntry createEntry(String orderingKey, String endpoint) {
+        return OutboxEntry.Builder.newInstance()
+                .channel("channel")
+                .orderingKey(orderingKey)
+                .endpoint(endpoint)
+                .eventId(UUID.randomUUID().toString())
+                .eventType("org.eclipse.edc.TestEvent")
+                .eventPayload("{}")
+                .build();
+    }
+}
@@ -32,9 +32,12 @@ public class JettyConfiguration {
     public static final int DEFAULT_PORT = 8181;
     @Setting
     private static final String HTTP_PORT = "web.http.port";
+    @Setting(value = "If true, Jetty runs request handling on virtual threads, when supported by the JVM (Java 21+)", defaultValue = "false", type = "boolean")
+    private static final String VIRTUAL_THREADS = "edc.web.http.virtual-threads";
     private final String keystorePassword;
     private final String keymanagerPassword;
     private final Set<PortMapping> portMappings;
+    private boolean virtualThreads;
 
     public JettyConfiguration(String keystorePassword, String keymanagerPassword) {
         this.keystorePassword = keystorePassword;
@@ -63,6 +66,8 @@ public class JettyConfiguration {
             jettyConfig.portMapping(PortMapping.getDefault());
         }
 
+        jettyConfig.virtualThreads = config.getBoolean(VIRTUAL_THREADS, false);
+
         return jettyConfig;
     }
 
@@ -114,4 +119,12 @@ public class JettyConfiguration {
         return keymanagerPassword;
     }
 
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
 }
@@ -32,7 +32,9 @@ import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.servlet.Source;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.KeyStore;
@@ -75,7 +77,7 @@ public class JettyService implements WebServer {
 
     public void start() {
         try {
-            server = new Server();
+            server = new Server(threadPool());
             //create a connector for every port mapping
             configuration.getPortMappings().forEach(mapping -> {
                 if (!mapping.getPath().startsWith("/")) {
@@ -112,6 +114,23 @@ public class JettyService implements WebServer {
         }
     }
 
+    /**
+     * Creates the server thread pool: when virtual threads are enabled, Jetty keeps the pool for its own selector and
+     * acceptor tasks and runs the blocking tasks, i.e. the request handling, on virtual threads.
+     */
+    private QueuedThreadPool threadPool() {
+        var threadPool = new QueuedThreadPool();
+        if (configuration.isVirtualThreads()) {
+            if (VirtualThreads.areSupported()) {
+                threadPool.setVirtualThreadsExecutor(VirtualThreads.getDefaultVirtualThreadsExecutor());
+                monitor.debug("Jetty request handling runs on virtual threads");
+            } else {
+                monitor.warning("Virtual threads are enabled but not supported by the JVM, Jetty request handling runs on platform threads");
+            }
+        }
+        return threadPool;
+    }
+
     public void shutdown() {
         try {
             if (server != null) {
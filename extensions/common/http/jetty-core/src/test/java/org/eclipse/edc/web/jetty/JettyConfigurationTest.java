@@ -36,6 +36,21 @@ class JettyConfigurationTest {
         });
     }
 
+    @Test
+    void createFromConfig_virtualThreads() {
+        var res = JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(Map.of("edc.web.http.virtual-threads", "true")));
+
+        assertThat(res.isVirtualThreads()).isTrue();
+        assertThat(res.getPortMappings()).hasSize(1);
+    }
+
+    @Test
+    void createFromConfig_virtualThreadsDisabledByDefault() {
+        var res = JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(Map.of()));
+
+        assertThat(res.isVirtualThreads()).isFalse();
+    }
+
     @Test
     void createFromConfig_noPortFound() {
         var res = JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(Map.of()));
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.eclipse.jetty.io.Connection;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,7 +35,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class JettyServiceTest {
 
@@ -169,6 +172,26 @@ class JettyServiceTest {
                 .hasRootCauseMessage("A binding for port 7171 already exists");
     }
 
+    @Test
+    void verifyVirtualThreads() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "web.http.port", "7172",
+                "edc.web.http.virtual-threads", "true"));
+        jettyService = new JettyService(JettyConfiguration.createFromConfig(null, null, config), monitor);
+
+        jettyService.start();
+
+        jettyService.registerServlet("default", new TestServlet());
+
+        given()
+                .get("http://localhost:7172/api/test/resource")
+                .then()
+                .statusCode(200);
+        if (!VirtualThreads.areSupported()) {
+            verify(monitor).warning(anyString());
+        }
+    }
+
     @AfterEach
     void teardown() {
         jettyService.shutdown();
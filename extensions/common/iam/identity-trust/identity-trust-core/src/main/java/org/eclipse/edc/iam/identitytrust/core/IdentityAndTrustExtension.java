@@ -37,6 +37,7 @@ import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.PublicKeyResolver;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -53,11 +54,15 @@ import org.eclipse.edc.verifiablecredentials.jwt.rules.JtiValidationRule;
 import org.eclipse.edc.verifiablecredentials.jwt.rules.SubJwkIsNullRule;
 import org.eclipse.edc.verifiablecredentials.linkeddata.DidMethodResolver;
 import org.eclipse.edc.verifiablecredentials.linkeddata.LdpVerifier;
+import org.eclipse.edc.verifiablecredentials.linkeddata.VerifiedCredentialCache;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
 
@@ -68,6 +73,18 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     public static final String CONNECTOR_DID_PROPERTY = "edc.iam.issuer.id";
     public static final String IATP_SELF_ISSUED_TOKEN_CONTEXT = "iatp-si";
 
+    private static final int DEFAULT_VERIFICATION_PARALLELISM = 4;
+    private static final long DEFAULT_VERIFICATION_CACHE_TTL_SECONDS = 300;
+    private static final int DEFAULT_VERIFICATION_CACHE_MAX_ENTRIES = 1000;
+
+    @Setting(value = "Number of threads verifying in parallel the Linked Data Proofs of the credentials embedded in a presentation", defaultValue = DEFAULT_VERIFICATION_PARALLELISM + "", type = "int")
+    private static final String VERIFICATION_PARALLELISM = "edc.iam.credential.verification.parallelism";
+
+    @Setting(value = "Max number of seconds a credential whose Linked Data Proofs have been verified is cached, within its validity window. 0 disables the cache", defaultValue = DEFAULT_VERIFICATION_CACHE_TTL_SECONDS + "", type = "long")
+    private static final String VERIFICATION_CACHE_TTL = "edc.iam.credential.verification.cache.ttl-seconds";
+
+    @Setting(value = "Max number of verified credentials cached", defaultValue = DEFAULT_VERIFICATION_CACHE_MAX_ENTRIES + "", type = "int")
+    private static final String VERIFICATION_CACHE_MAX_ENTRIES = "edc.iam.credential.verification.cache.max-entries";
 
     @Inject
     private SecureTokenService secureTokenService;
@@ -108,8 +125,12 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     @Inject
     private AudienceResolver audienceResolver;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     private PresentationVerifier presentationVerifier;
     private CredentialServiceClient credentialServiceClient;
+    private ExecutorService verificationExecutor;
 
 
     @Override
@@ -133,6 +154,13 @@ public class IdentityAndTrustExtension implements ServiceExtension {
 
     }
 
+    @Override
+    public void shutdown() {
+        if (verificationExecutor != null) {
+            verificationExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public IdentityService createIdentityService(ServiceExtensionContext context) {
 
@@ -159,12 +187,25 @@ public class IdentityAndTrustExtension implements ServiceExtension {
             var mapper = typeManager.getMapper(JSON_LD);
 
             var jwtVerifier = new JwtPresentationVerifier(mapper, tokenValidationService, rulesRegistry, didPublicKeyResolver);
-            var ldpVerifier = LdpVerifier.Builder.newInstance()
+            var parallelism = context.getSetting(VERIFICATION_PARALLELISM, DEFAULT_VERIFICATION_PARALLELISM);
+            verificationExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(parallelism), "ldp-credential-verification");
+
+            var ldpVerifierBuilder = LdpVerifier.Builder.newInstance()
                     .signatureSuites(signatureSuiteRegistry)
                     .jsonLd(jsonLd)
                     .objectMapper(mapper)
                     .methodResolver(new DidMethodResolver(didResolverRegistry))
-                    .build();
+                    .executor(verificationExecutor);
+
+            var cacheTtl = context.getSetting(VERIFICATION_CACHE_TTL, DEFAULT_VERIFICATION_CACHE_TTL_SECONDS);
+            if (cacheTtl > 0) {
+                ldpVerifierBuilder.cache(VerifiedCredentialCache.Builder.newInstance()
+                        .clock(clock)
+                        .maxTimeToLive(Duration.ofSeconds(cacheTtl))
+                        .maxEntries(context.getSetting(VERIFICATION_CACHE_MAX_ENTRIES, DEFAULT_VERIFICATION_CACHE_MAX_ENTRIES))
+                        .build());
+            }
+            var ldpVerifier = ldpVerifierBuilder.build();
 
             presentationVerifier = new MultiFormatPresentationVerifier(getOwnDid(context), jwtVerifier, ldpVerifier);
         }
@@ -17,6 +17,7 @@ package org.eclipse.edc.iam.identitytrust.core;
 import org.eclipse.edc.iam.identitytrust.IdentityAndTrustService;
 import org.eclipse.edc.identitytrust.SecureTokenService;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -26,6 +27,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -38,6 +42,7 @@ class IdentityAndTrustExtensionTest {
     @BeforeEach
     void setUp(ServiceExtensionContext context) {
         context.registerService(SecureTokenService.class, mock());
+        context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
         TypeManager mockedTm = mock();
         when(mockedTm.getMapper(eq(JSON_LD))).thenReturn(mock());
         context.registerService(TypeManager.class, mockedTm);
@@ -47,6 +52,8 @@ class IdentityAndTrustExtensionTest {
     void verifyCorrectService(IdentityAndTrustExtension extension, ServiceExtensionContext context) {
         var configMock = mock(Config.class);
         when(configMock.getString(eq(IdentityAndTrustExtension.CONNECTOR_DID_PROPERTY))).thenReturn("did:web:test");
+        when(configMock.getInteger(any(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(configMock.getLong(any(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
         when(context.getConfig()).thenReturn(configMock);
 
         var is = extension.createIdentityService(context);
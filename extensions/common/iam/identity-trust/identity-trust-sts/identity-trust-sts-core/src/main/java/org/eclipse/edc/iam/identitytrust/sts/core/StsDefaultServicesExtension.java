@@ -31,6 +31,7 @@ import org.eclipse.edc.token.JwtGenerationService;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Extension(StsDefaultServicesExtension.NAME)
@@ -43,6 +44,15 @@ public class StsDefaultServicesExtension implements ServiceExtension {
 
     private static final int DEFAULT_STS_TOKEN_EXPIRATION_MIN = 5;
 
+    @Setting(value = "Time-to-live in seconds of the cached client secrets and signing keys, 0 disables the cache", defaultValue = "" + StsDefaultServicesExtension.DEFAULT_CLIENT_CACHE_TTL_SECONDS, type = "long")
+    private static final String STS_CLIENT_CACHE_TTL = "edc.iam.sts.client.cache.ttl";
+
+    @Setting(value = "Maximum number of cached client secrets and signing keys", defaultValue = "" + StsDefaultServicesExtension.DEFAULT_CLIENT_CACHE_MAX_ENTRIES, type = "int")
+    private static final String STS_CLIENT_CACHE_MAX_ENTRIES = "edc.iam.sts.client.cache.max-entries";
+
+    private static final long DEFAULT_CLIENT_CACHE_TTL_SECONDS = 0;
+    private static final int DEFAULT_CLIENT_CACHE_MAX_ENTRIES = 10_000;
+
     @Inject
     private StsClientStore clientStore;
 
@@ -70,11 +80,21 @@ public class StsDefaultServicesExtension implements ServiceExtension {
                 (client) -> new JwtGenerationService(),
                 (client) -> privateKeyResolver.resolvePrivateKey(client.getPrivateKeyAlias()).orElse(null),
                 clock,
-                TimeUnit.MINUTES.toSeconds(tokenExpiration));
+                TimeUnit.MINUTES.toSeconds(tokenExpiration),
+                cacheTtl(context),
+                cacheMaxEntries(context));
     }
 
     @Provider
-    public StsClientService clientService() {
-        return new StsClientServiceImpl(clientStore, vault, transactionContext);
+    public StsClientService clientService(ServiceExtensionContext context) {
+        return new StsClientServiceImpl(clientStore, vault, transactionContext, clock, cacheTtl(context), cacheMaxEntries(context));
+    }
+
+    private Duration cacheTtl(ServiceExtensionContext context) {
+        return Duration.ofSeconds(context.getSetting(STS_CLIENT_CACHE_TTL, DEFAULT_CLIENT_CACHE_TTL_SECONDS));
+    }
+
+    private int cacheMaxEntries(ServiceExtensionContext context) {
+        return context.getSetting(STS_CLIENT_CACHE_MAX_ENTRIES, DEFAULT_CLIENT_CACHE_MAX_ENTRIES);
     }
 }
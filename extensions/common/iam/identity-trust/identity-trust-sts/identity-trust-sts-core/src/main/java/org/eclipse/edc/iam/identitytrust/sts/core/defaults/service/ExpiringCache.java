@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.sts.core.defaults.service;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Minimal bounded cache whose entries expire after a fixed time-to-live. Values that cannot be loaded ({@code null})
+ * are not cached, so failures are retried on the next access. When the cache is full, expired entries are purged and,
+ * if that is not enough, the entries that expire first are evicted.
+ */
+class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maxEntries;
+
+    ExpiringCache(Clock clock, Duration ttl, int maxEntries) {
+        this.clock = clock;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached value for the key, loading it with the loader if it is missing or expired.
+     *
+     * @param key    the key.
+     * @param loader the function that loads the value, can return null.
+     * @return the value, null if it could not be loaded.
+     */
+    @Nullable
+    V get(K key, Function<K, V> loader) {
+        var now = clock.millis();
+        var entry = entries.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.value();
+        }
+
+        var value = loader.apply(key);
+        if (value == null) {
+            entries.remove(key);
+            return null;
+        }
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(e -> e.expiresAt() <= now);
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                    .limit(Math.max(0, entries.size() - maxEntries + 1))
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(entries::remove);
+        }
+        entries.put(key, new Entry<>(value, now + ttl.toMillis()));
+        return value;
+    }
+
+    /**
+     * Removes all the entries whose key matches the predicate.
+     *
+     * @param predicate the predicate.
+     */
+    void invalidate(Predicate<K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -20,21 +20,39 @@ import org.eclipse.edc.iam.identitytrust.sts.store.StsClientStore;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
 import java.util.Optional;
 
 import static java.lang.String.format;
 
+/**
+ * Default {@link StsClientService}. When built with a cache time-to-live, the digest of the client secret resolved from
+ * the {@link Vault} is cached per client and secret alias, so that authenticating a client does not hit the vault on
+ * every token request. The cached entries of a client are discarded when it is updated or deleted.
+ */
 public class StsClientServiceImpl implements StsClientService {
 
     private final StsClientStore stsClientStore;
     private final TransactionContext transactionContext;
     private final Vault vault;
+    private final ExpiringCache<SecretKey, byte[]> secretCache;
 
     public StsClientServiceImpl(StsClientStore stsClientStore, Vault vault, TransactionContext transactionContext) {
+        this(stsClientStore, vault, transactionContext, Clock.systemUTC(), Duration.ZERO, 0);
+    }
+
+    public StsClientServiceImpl(StsClientStore stsClientStore, Vault vault, TransactionContext transactionContext, Clock clock, Duration cacheTtl, int cacheMaxEntries) {
         this.stsClientStore = stsClientStore;
         this.vault = vault;
         this.transactionContext = transactionContext;
+        this.secretCache = cacheTtl.isZero() || cacheMaxEntries <= 0 ? null : new ExpiringCache<>(clock, cacheTtl, cacheMaxEntries);
     }
 
     @Override
@@ -47,11 +65,56 @@ public class StsClientServiceImpl implements StsClientService {
         return transactionContext.execute(() -> ServiceResult.from(stsClientStore.findById(clientId)));
     }
 
+    @Override
+    public ServiceResult<StsClient> update(StsClient client) {
+        return transactionContext.execute(() -> ServiceResult.from(stsClientStore.update(client)))
+                .onSuccess(c -> invalidate(client.getId()));
+    }
+
+    @Override
+    public ServiceResult<StsClient> deleteById(String id) {
+        return transactionContext.execute(() -> ServiceResult.from(stsClientStore.deleteById(id)))
+                .onSuccess(c -> invalidate(id));
+    }
+
     @Override
     public ServiceResult<StsClient> authenticate(StsClient client, String secret) {
-        return Optional.ofNullable(vault.resolveSecret(client.getSecretAlias()))
-                .filter(vaultSecret -> vaultSecret.equals(secret))
+        return Optional.ofNullable(resolveSecretDigest(client))
+                .filter(digest -> secret != null && MessageDigest.isEqual(digest, digest(secret)))
                 .map(s -> ServiceResult.success(client))
                 .orElseGet(() -> ServiceResult.unauthorized(format("Failed to authenticate client with id %s", client.getId())));
     }
+
+    @Nullable
+    private byte[] resolveSecretDigest(StsClient client) {
+        var key = new SecretKey(client.getId(), client.getSecretAlias());
+        if (secretCache == null) {
+            return loadSecretDigest(key);
+        }
+        return secretCache.get(key, this::loadSecretDigest);
+    }
+
+    @Nullable
+    private byte[] loadSecretDigest(SecretKey key) {
+        return Optional.ofNullable(vault.resolveSecret(key.secretAlias()))
+                .map(StsClientServiceImpl::digest)
+                .orElse(null);
+    }
+
+    private void invalidate(String id) {
+        if (secretCache != null) {
+            secretCache.invalidate(key -> Objects.equals(key.id(), id));
+        }
+    }
+
+    private static byte[] digest(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record SecretKey(String id, String secretAlias) {
+    }
 }
@@ -24,6 +24,7 @@ import org.eclipse.edc.spi.result.ServiceResult;
 
 import java.security.PrivateKey;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -37,6 +38,12 @@ import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.CLIENT_ID;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.ISSUER;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.SUBJECT;
 
+/**
+ * Default {@link StsClientTokenGeneratorService}. When built with a cache time-to-live, the token generator of every
+ * client, including its resolved private key, is cached per client id, private key alias and public key reference, so
+ * that issuing a token does not resolve the private key every time. Updating any of these fields of a client creates
+ * a new cache entry, while the time-to-live bounds how long a key rotated under the same alias is still used.
+ */
 public class StsClientTokenGeneratorServiceImpl implements StsClientTokenGeneratorService {
 
     private static final Map<String, Function<StsClientTokenAdditionalParams, String>> CLAIM_MAPPERS = Map.of(
@@ -47,19 +54,24 @@ public class StsClientTokenGeneratorServiceImpl implements StsClientTokenGenerat
     private final StsTokenGenerationProvider tokenGenerationProvider;
     private final Function<StsClient, PrivateKey> keyFunction;
     private final Clock clock;
+    private final ExpiringCache<GeneratorKey, EmbeddedSecureTokenService> generatorCache;
 
     public StsClientTokenGeneratorServiceImpl(StsTokenGenerationProvider tokenGenerationProvider, Function<StsClient, PrivateKey> keyFunction, Clock clock, long tokenExpiration) {
+        this(tokenGenerationProvider, keyFunction, clock, tokenExpiration, Duration.ZERO, 0);
+    }
+
+    public StsClientTokenGeneratorServiceImpl(StsTokenGenerationProvider tokenGenerationProvider, Function<StsClient, PrivateKey> keyFunction, Clock clock, long tokenExpiration,
+                                              Duration cacheTtl, int cacheMaxEntries) {
         this.tokenGenerationProvider = tokenGenerationProvider;
         this.keyFunction = keyFunction;
         this.clock = clock;
         this.tokenExpiration = tokenExpiration;
+        this.generatorCache = cacheTtl.isZero() || cacheMaxEntries <= 0 ? null : new ExpiringCache<>(clock, cacheTtl, cacheMaxEntries);
     }
 
     @Override
     public ServiceResult<TokenRepresentation> tokenFor(StsClient client, StsClientTokenAdditionalParams additionalParams) {
-
-        var embeddedTokenGenerator = new EmbeddedSecureTokenService(tokenGenerationProvider.tokenGeneratorFor(client), () -> keyFunction.apply(client), client::getPublicKeyReference,
-                clock, tokenExpiration);
+        var embeddedTokenGenerator = tokenGeneratorFor(client);
 
         var initialClaims = Map.of(
                 ISSUER, client.getId(),
@@ -83,6 +95,24 @@ public class StsClientTokenGeneratorServiceImpl implements StsClientTokenGenerat
         return ServiceResult.success(tokenResult.getContent());
     }
 
+    private EmbeddedSecureTokenService tokenGeneratorFor(StsClient client) {
+        if (generatorCache == null) {
+            return new EmbeddedSecureTokenService(tokenGenerationProvider.tokenGeneratorFor(client), () -> keyFunction.apply(client), client::getPublicKeyReference,
+                    clock, tokenExpiration);
+        }
+        var key = new GeneratorKey(client.getId(), client.getPrivateKeyAlias(), client.getPublicKeyReference());
+        var cached = generatorCache.get(key, k -> {
+            var privateKey = keyFunction.apply(client);
+            if (privateKey == null) {
+                return null;
+            }
+            return new EmbeddedSecureTokenService(tokenGenerationProvider.tokenGeneratorFor(client), () -> privateKey, client::getPublicKeyReference, clock, tokenExpiration);
+        });
+        // a key that cannot be resolved is not cached: let the generator report the failure
+        return cached != null ? cached : new EmbeddedSecureTokenService(tokenGenerationProvider.tokenGeneratorFor(client), () -> null, client::getPublicKeyReference,
+                clock, tokenExpiration);
+    }
+
     private TokenRepresentation enrichWithExpiration(TokenRepresentation tokenRepresentation) {
         return TokenRepresentation.Builder.newInstance()
                 .token(tokenRepresentation.getToken())
@@ -99,4 +129,6 @@ public class StsClientTokenGeneratorServiceImpl implements StsClientTokenGenerat
         };
     }
 
+    private record GeneratorKey(String id, String privateKeyAlias, String publicKeyReference) {
+    }
 }
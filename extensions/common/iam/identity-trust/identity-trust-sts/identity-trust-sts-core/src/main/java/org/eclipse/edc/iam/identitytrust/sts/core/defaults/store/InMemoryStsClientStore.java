@@ -44,4 +44,18 @@ public class InMemoryStsClientStore implements StsClientStore {
                 .map(StoreResult::success)
                 .orElseGet(() -> StoreResult.notFound(format("Client with id %s not found.", id)));
     }
+
+    @Override
+    public StoreResult<StsClient> update(StsClient client) {
+        return Optional.ofNullable(clients.computeIfPresent(client.getId(), (id, old) -> client))
+                .map(StoreResult::success)
+                .orElseGet(() -> StoreResult.notFound(format("Client with id %s not found.", client.getId())));
+    }
+
+    @Override
+    public StoreResult<StsClient> deleteById(String id) {
+        return Optional.ofNullable(clients.remove(id))
+                .map(StoreResult::success)
+                .orElseGet(() -> StoreResult.notFound(format("Client with id %s not found.", id)));
+    }
 }
@@ -31,7 +31,7 @@ public class StsDefaultServicesExtensionTest {
     void initialize(StsDefaultServicesExtension extension, ServiceExtensionContext context) {
         extension.initialize(context);
 
-        assertThat(extension.clientService()).isInstanceOf(StsClientServiceImpl.class);
+        assertThat(extension.clientService(context)).isInstanceOf(StsClientServiceImpl.class);
         assertThat(extension.clientTokenService(context)).isInstanceOf(StsClientTokenGeneratorServiceImpl.class);
     }
 }
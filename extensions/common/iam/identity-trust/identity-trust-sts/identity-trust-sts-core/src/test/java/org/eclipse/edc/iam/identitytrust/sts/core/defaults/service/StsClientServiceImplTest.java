@@ -22,9 +22,16 @@ import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
 import static org.eclipse.edc.iam.identitytrust.sts.store.fixtures.TestFunctions.createClient;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -80,4 +87,120 @@ public class StsClientServiceImplTest {
         verify(vault).resolveSecret(client.getSecretAlias());
     }
 
+    @Test
+    void authenticate_wrongSecret() {
+        var client = createClient("clientId");
+        when(vault.resolveSecret(client.getSecretAlias())).thenReturn("secret");
+
+        assertThat(clientService.authenticate(client, "wrong")).isFailed();
+    }
+
+    @Test
+    void authenticate_secretNotFound() {
+        var client = createClient("clientId");
+
+        assertThat(clientService.authenticate(client, "secret")).isFailed();
+    }
+
+    @Test
+    void authenticate_shouldCacheSecret() {
+        var cachingService = new StsClientServiceImpl(store, vault, transactionContext, Clock.systemUTC(), Duration.ofMinutes(1), 10);
+        var client = createClient("clientId");
+        when(vault.resolveSecret(client.getSecretAlias())).thenReturn("secret");
+
+        assertThat(cachingService.authenticate(client, "secret")).isSucceeded();
+        assertThat(cachingService.authenticate(client, "secret")).isSucceeded();
+        assertThat(cachingService.authenticate(client, "wrong")).isFailed();
+
+        verify(vault).resolveSecret(client.getSecretAlias());
+    }
+
+    @Test
+    void authenticate_shouldNotCacheMissingSecret() {
+        var cachingService = new StsClientServiceImpl(store, vault, transactionContext, Clock.systemUTC(), Duration.ofMinutes(1), 10);
+        var client = createClient("clientId");
+        when(vault.resolveSecret(client.getSecretAlias())).thenReturn(null, "secret");
+
+        assertThat(cachingService.authenticate(client, "secret")).isFailed();
+        assertThat(cachingService.authenticate(client, "secret")).isSucceeded();
+
+        verify(vault, times(2)).resolveSecret(client.getSecretAlias());
+    }
+
+    @Test
+    void authenticate_shouldResolveSecretAgain_whenCacheExpired() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, Duration.ofMinutes(2).toMillis());
+        var cachingService = new StsClientServiceImpl(store, vault, transactionContext, clock, Duration.ofMinutes(1), 10);
+        var client = createClient("clientId");
+        when(vault.resolveSecret(client.getSecretAlias())).thenReturn("secret", "rotated");
+
+        assertThat(cachingService.authenticate(client, "secret")).isSucceeded();
+        assertThat(cachingService.authenticate(client, "rotated")).isSucceeded();
+
+        verify(vault, times(2)).resolveSecret(client.getSecretAlias());
+    }
+
+    @Test
+    void authenticate_shouldEvictOldestSecret_whenCacheFull() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 1L, 2L, 3L, 4L);
+        var cachingService = new StsClientServiceImpl(store, vault, transactionContext, clock, Duration.ofMinutes(1), 2);
+        var first = createClient("first");
+        var second = createClient("second");
+        var third = createClient("third");
+        when(vault.resolveSecret(any())).thenReturn("secret");
+
+        assertThat(cachingService.authenticate(first, "secret")).isSucceeded();
+        assertThat(cachingService.authenticate(second, "secret")).isSucceeded();
+        assertThat(cachingService.authenticate(third, "secret")).isSucceeded();
+        assertThat(cachingService.authenticate(second, "secret")).isSucceeded();
+        assertThat(cachingService.authenticate(first, "secret")).isSucceeded();
+
+        verify(vault, times(2)).resolveSecret(first.getSecretAlias());
+        verify(vault).resolveSecret(second.getSecretAlias());
+        verify(vault).resolveSecret(third.getSecretAlias());
+    }
+
+    @Test
+    void update_shouldInvalidateCachedSecret() {
+        var cachingService = new StsClientServiceImpl(store, vault, transactionContext, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), Duration.ofMinutes(1), 10);
+        var client = createClient("clientId");
+        when(vault.resolveSecret(client.getSecretAlias())).thenReturn("secret", "rotated");
+        when(store.update(client)).thenReturn(StoreResult.success(client));
+
+        assertThat(cachingService.authenticate(client, "secret")).isSucceeded();
+        assertThat(cachingService.update(client)).isSucceeded();
+        assertThat(cachingService.authenticate(client, "rotated")).isSucceeded();
+
+        verify(vault, times(2)).resolveSecret(client.getSecretAlias());
+    }
+
+    @Test
+    void deleteById_shouldInvalidateCachedSecret() {
+        var cachingService = new StsClientServiceImpl(store, vault, transactionContext, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), Duration.ofMinutes(1), 10);
+        var client = createClient("clientId");
+        when(vault.resolveSecret(client.getSecretAlias())).thenReturn("secret", (String) null);
+        when(store.deleteById(client.getId())).thenReturn(StoreResult.success(client));
+
+        assertThat(cachingService.authenticate(client, "secret")).isSucceeded();
+        assertThat(cachingService.deleteById(client.getId())).isSucceeded();
+        assertThat(cachingService.authenticate(client, "secret")).isFailed();
+    }
+
+    @Test
+    void deleteById() {
+        var client = createClient("clientId");
+        when(store.deleteById(client.getId())).thenReturn(StoreResult.success(client));
+
+        assertThat(clientService.deleteById(client.getId())).isSucceeded().isEqualTo(client);
+        verify(store).deleteById(client.getId());
+    }
+
+    @Test
+    void deleteById_notFound() {
+        when(store.deleteById("unknown")).thenReturn(StoreResult.notFound("not found"));
+
+        assertThat(clientService.deleteById("unknown")).isFailed();
+    }
 }
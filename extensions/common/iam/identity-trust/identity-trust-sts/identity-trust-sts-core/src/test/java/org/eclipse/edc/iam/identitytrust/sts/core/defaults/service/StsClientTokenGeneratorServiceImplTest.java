@@ -15,6 +15,7 @@
 package org.eclipse.edc.iam.identitytrust.sts.core.defaults.service;
 
 
+import org.eclipse.edc.iam.identitytrust.sts.model.StsClient;
 import org.eclipse.edc.iam.identitytrust.sts.model.StsClientTokenAdditionalParams;
 import org.eclipse.edc.iam.identitytrust.sts.service.StsTokenGenerationProvider;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
@@ -25,13 +26,19 @@ import org.eclipse.edc.token.spi.TokenGenerationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.security.PrivateKey;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.iam.identitytrust.sts.store.fixtures.TestFunctions.createClient;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class StsClientTokenGeneratorServiceImplTest {
@@ -73,4 +80,58 @@ public class StsClientTokenGeneratorServiceImplTest {
                 });
     }
 
+    @Test
+    void tokenFor_shouldCachePrivateKey() {
+        Function<StsClient, PrivateKey> keyFunction = mock();
+        when(keyFunction.apply(any())).thenReturn(mock());
+        var cachingService = new StsClientTokenGeneratorServiceImpl(tokenGenerationProvider, keyFunction, Clock.systemUTC(), TOKEN_EXPIRATION, Duration.ofMinutes(1), 10);
+        var client = createClient("clientId");
+        var token = TokenRepresentation.Builder.newInstance().token("token").build();
+        when(tokenGenerationProvider.tokenGeneratorFor(any())).thenReturn(tokenGenerator);
+        when(tokenGenerator.generate(any(), any(TokenDecorator[].class))).thenAnswer(i -> {
+            assertThat(i.getArgument(0, Supplier.class).get()).isNotNull();
+            return Result.success(token);
+        });
+        var params = StsClientTokenAdditionalParams.Builder.newInstance().audience("aud").build();
+
+        assertThat(cachingService.tokenFor(client, params)).isSucceeded();
+        assertThat(cachingService.tokenFor(client, params)).isSucceeded();
+
+        verify(keyFunction).apply(client);
+        verify(tokenGenerationProvider).tokenGeneratorFor(client);
+    }
+
+    @Test
+    void tokenFor_shouldResolveKeyAgain_whenClientKeyChanges() {
+        Function<StsClient, PrivateKey> keyFunction = mock();
+        when(keyFunction.apply(any())).thenReturn(mock());
+        var cachingService = new StsClientTokenGeneratorServiceImpl(tokenGenerationProvider, keyFunction, Clock.systemUTC(), TOKEN_EXPIRATION, Duration.ofMinutes(1), 10);
+        var client = createClient("clientId");
+        var updatedClient = StsClient.Builder.newInstance().id(client.getId()).clientId(client.getClientId()).name(client.getName())
+                .secretAlias(client.getSecretAlias()).publicKeyReference(client.getPublicKeyReference()).privateKeyAlias("rotated").build();
+        when(tokenGenerationProvider.tokenGeneratorFor(any())).thenReturn(tokenGenerator);
+        when(tokenGenerator.generate(any(), any(TokenDecorator[].class))).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+        var params = StsClientTokenAdditionalParams.Builder.newInstance().audience("aud").build();
+
+        assertThat(cachingService.tokenFor(client, params)).isSucceeded();
+        assertThat(cachingService.tokenFor(updatedClient, params)).isSucceeded();
+
+        verify(keyFunction, times(2)).apply(any());
+    }
+
+    @Test
+    void tokenFor_shouldNotCacheMissingKey() {
+        Function<StsClient, PrivateKey> keyFunction = mock();
+        when(keyFunction.apply(any())).thenReturn(null);
+        var cachingService = new StsClientTokenGeneratorServiceImpl(tokenGenerationProvider, keyFunction, Clock.systemUTC(), TOKEN_EXPIRATION, Duration.ofMinutes(1), 10);
+        var client = createClient("clientId");
+        when(tokenGenerationProvider.tokenGeneratorFor(any())).thenReturn(tokenGenerator);
+        when(tokenGenerator.generate(any(), any(TokenDecorator[].class))).thenReturn(Result.failure("no key"));
+        var params = StsClientTokenAdditionalParams.Builder.newInstance().audience("aud").build();
+
+        assertThat(cachingService.tokenFor(client, params)).isFailed();
+        assertThat(cachingService.tokenFor(client, params)).isFailed();
+
+        verify(keyFunction, times(2)).apply(client);
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.sts.store.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.iam.identitytrust.sts.model.StsClient;
+import org.eclipse.edc.iam.identitytrust.sts.store.StsClientStore;
+import org.eclipse.edc.iam.identitytrust.sts.store.sql.schema.StsClientStatements;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * SQL implementation of the {@link StsClientStore}. The client fields are mapped to dedicated columns, so that a client
+ * is loaded with a single primary key lookup on the token request path.
+ */
+public class SqlStsClientStore extends AbstractSqlStore implements StsClientStore {
+
+    private final StsClientStatements statements;
+    private final Clock clock;
+
+    public SqlStsClientStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                             ObjectMapper objectMapper, StsClientStatements statements, QueryExecutor queryExecutor, Clock clock) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = Objects.requireNonNull(statements);
+        this.clock = clock;
+    }
+
+    @Override
+    public StoreResult<StsClient> create(StsClient client) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                // conflicts on the primary key or on the unique client id are not inserted rather than failing, which
+                // would abort the transaction
+                var inserted = queryExecutor.execute(connection, statements.getInsertTemplate(),
+                        client.getId(), client.getClientId(), client.getName(), client.getSecretAlias(),
+                        client.getPrivateKeyAlias(), client.getPublicKeyReference(), clock.millis());
+                if (inserted == 0) {
+                    return StoreResult.alreadyExists(format("Client with id %s or client id %s already exists", client.getId(), client.getClientId()));
+                }
+                return StoreResult.success(client);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<StsClient> findById(String id) {
+        Objects.requireNonNull(id);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var client = findByIdInternal(connection, id);
+                return client == null ? StoreResult.notFound(format("Client with id %s not found.", id)) : StoreResult.success(client);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<StsClient> update(StsClient client) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var updated = queryExecutor.execute(connection, statements.getUpdateTemplate(),
+                        client.getClientId(), client.getName(), client.getSecretAlias(), client.getPrivateKeyAlias(),
+                        client.getPublicKeyReference(), client.getId());
+                return updated == 0 ? StoreResult.notFound(format("Client with id %s not found.", client.getId())) : StoreResult.success(client);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<StsClient> deleteById(String id) {
+        Objects.requireNonNull(id);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var client = findByIdInternal(connection, id);
+                if (client == null) {
+                    return StoreResult.notFound(format("Client with id %s not found.", id));
+                }
+                queryExecutor.execute(connection, statements.getDeleteByIdTemplate(), id);
+                return StoreResult.success(client);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private StsClient findByIdInternal(Connection connection, String id) {
+        return queryExecutor.single(connection, false, this::mapResultSet, statements.getFindByIdTemplate(), id);
+    }
+
+    private StsClient mapResultSet(ResultSet resultSet) throws SQLException {
+        return StsClient.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .clientId(resultSet.getString(statements.getClientIdColumn()))
+                .name(resultSet.getString(statements.getNameColumn()))
+                .secretAlias(resultSet.getString(statements.getSecretAliasColumn()))
+                .privateKeyAlias(resultSet.getString(statements.getPrivateKeyAliasColumn()))
+                .publicKeyReference(resultSet.getString(statements.getPublicKeyReferenceColumn()))
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.sts.store.sql;
+
+import org.eclipse.edc.iam.identitytrust.sts.store.StsClientStore;
+import org.eclipse.edc.iam.identitytrust.sts.store.sql.schema.StsClientStatements;
+import org.eclipse.edc.iam.identitytrust.sts.store.sql.schema.postgres.PostgresStsClientStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+
+/**
+ * Extension that exposes an implementation of {@link StsClientStore} that uses SQL as backend storage
+ */
+@Provides(StsClientStore.class)
+@Extension(value = SqlStsClientStoreExtension.NAME)
+public class SqlStsClientStoreExtension implements ServiceExtension {
+    public static final String NAME = "SQL STS Client Store";
+
+    @Setting(value = "Name of the datasource to use for accessing STS clients")
+    public static final String DATASOURCE_SETTING_NAME = "edc.datasource.stsclient.name";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject(required = false)
+    private StsClientStatements statements;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public StsClientStore clientStore(ServiceExtensionContext context) {
+        return new SqlStsClientStore(dataSourceRegistry, getDataSourceName(context), transactionContext, typeManager.getMapper(),
+                getStatementImpl(), queryExecutor, clock);
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private StsClientStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresStsClientStatements();
+    }
+
+    private String getDataSourceName(ServiceExtensionContext context) {
+        return context.getConfig().getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.sts.store.sql.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlStsClientStatements implements StsClientStatements {
+
+    @Override
+    public String getFindByIdTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ?", getStsClientTable(), getIdColumn());
+    }
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getClientIdColumn())
+                .column(getNameColumn())
+                .column(getSecretAliasColumn())
+                .column(getPrivateKeyAliasColumn())
+                .column(getPublicKeyReferenceColumn())
+                .column(getCreatedAtColumn())
+                .insertIntoIfAbsent(getStsClientTable());
+    }
+
+    @Override
+    public String getUpdateTemplate() {
+        return executeStatement()
+                .column(getClientIdColumn())
+                .column(getNameColumn())
+                .column(getSecretAliasColumn())
+                .column(getPrivateKeyAliasColumn())
+                .column(getPublicKeyReferenceColumn())
+                .update(getStsClientTable(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteByIdTemplate() {
+        return executeStatement().delete(getStsClientTable(), getIdColumn());
+    }
+}
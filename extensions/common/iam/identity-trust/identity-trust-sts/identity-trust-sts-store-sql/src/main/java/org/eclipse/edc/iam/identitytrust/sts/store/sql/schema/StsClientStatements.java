@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.sts.store.sql.schema;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Sql Statements for the {@link org.eclipse.edc.iam.identitytrust.sts.store.StsClientStore}
+ */
+public interface StsClientStatements extends SqlStatements {
+
+    default String getStsClientTable() {
+        return "edc_sts_client";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getClientIdColumn() {
+        return "client_id";
+    }
+
+    default String getNameColumn() {
+        return "name";
+    }
+
+    default String getSecretAliasColumn() {
+        return "secret_alias";
+    }
+
+    default String getPrivateKeyAliasColumn() {
+        return "private_key_alias";
+    }
+
+    default String getPublicKeyReferenceColumn() {
+        return "public_key_reference";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    String getFindByIdTemplate();
+
+    String getInsertTemplate();
+
+    String getUpdateTemplate();
+
+    String getDeleteByIdTemplate();
+
+}
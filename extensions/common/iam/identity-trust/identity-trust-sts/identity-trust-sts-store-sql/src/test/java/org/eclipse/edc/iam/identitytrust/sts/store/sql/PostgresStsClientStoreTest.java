@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.sts.store.sql;
+
+import org.eclipse.edc.iam.identitytrust.sts.store.StsClientStore;
+import org.eclipse.edc.iam.identitytrust.sts.store.fixtures.StsClientStoreTestBase;
+import org.eclipse.edc.iam.identitytrust.sts.store.sql.schema.StsClientStatements;
+import org.eclipse.edc.iam.identitytrust.sts.store.sql.schema.postgres.PostgresStsClientStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.result.StoreFailure;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlLocalInstance;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+
+import static org.eclipse.edc.iam.identitytrust.sts.store.fixtures.TestFunctions.createClient;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_EXISTS;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresStsClientStoreTest extends StsClientStoreTestBase {
+
+    private final StsClientStatements statements = new PostgresStsClientStatements();
+    private SqlStsClientStore store;
+
+    @BeforeAll
+    static void prepare(PostgresqlLocalInstance postgres) {
+        postgres.createDatabase();
+    }
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
+        store = new SqlStsClientStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), new TypeManager().getMapper(), statements, queryExecutor, Clock.systemUTC());
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getStsClientTable() + " CASCADE");
+    }
+
+    @Test
+    void create_shouldReturnAlreadyExists_whenIdExists() {
+        var client = createClient(getRandomId());
+        store.create(client);
+
+        var result = store.create(createClient(client.getId(), "otherSecretAlias", "otherClientId", null));
+
+        assertThat(result).isFailed().extracting(StoreFailure::getReason).isEqualTo(ALREADY_EXISTS);
+    }
+
+    @Test
+    void create_shouldReturnAlreadyExists_whenClientIdExists() {
+        var client = createClient(getRandomId());
+        store.create(client);
+
+        var result = store.create(createClient(getRandomId(), "otherSecretAlias", client.getClientId(), null));
+
+        assertThat(result).isFailed().extracting(StoreFailure::getReason).isEqualTo(ALREADY_EXISTS);
+    }
+
+    @Override
+    protected StsClientStore getStsClientStore() {
+        return store;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link StateMachineInstrumentation} that records the state machine measurements as Micrometer meters:
+ * <ul>
+ *     <li>{@code edc.statemachine.iteration}: timer of the state machine loop iterations</li>
+ *     <li>{@code edc.statemachine.wait}: timer of the waits between iterations</li>
+ *     <li>{@code edc.statemachine.batch.fetched}: distribution of the number of entities fetched by a processor</li>
+ *     <li>{@code edc.statemachine.batch.fill}: distribution of the ratio between fetched entities and batch size</li>
+ *     <li>{@code edc.statemachine.process}: timer of the processing of a single entity</li>
+ *     <li>{@code edc.statemachine.fetch.failures}: counter of the failed fetches, e.g. lease contention</li>
+ *     <li>{@code edc.statemachine.oldest.age}: gauge of the age of the oldest entity fetched by a processor</li>
+ * </ul>
+ * The meters are tagged with {@code machine} and, where relevant, {@code processor}. They are cached, so that no
+ * meter lookup happens on the state machine loop.
+ */
+public class MicrometerStateMachineInstrumentation implements StateMachineInstrumentation {
+
+    private static final String MACHINE = "machine";
+    private static final String PROCESSOR = "processor";
+
+    private final MeterRegistry registry;
+    private final Map<String, MachineMeters> machineMeters = new ConcurrentHashMap<>();
+    private final Map<ProcessorKey, ProcessorMeters> processorMeters = new ConcurrentHashMap<>();
+
+    public MicrometerStateMachineInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void iterationCompleted(String machine, long durationNanos, long processed) {
+        machineMeters(machine).iteration.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void waited(String machine, long waitMillis) {
+        machineMeters(machine).waits.record(waitMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void entitiesFetched(String machine, String processor, int fetched, int batchSize) {
+        var meters = processorMeters(machine, processor);
+        meters.fetched.record(fetched);
+        if (batchSize > 0) {
+            meters.fill.record((double) fetched / batchSize);
+        }
+    }
+
+    @Override
+    public void fetchFailed(String machine, String processor, Throwable failure) {
+        Counter.builder("edc.statemachine.fetch.failures")
+                .description("Number of failed fetches of the entities to process, e.g. because of lease contention")
+                .tags(MACHINE, machine, PROCESSOR, processor, "exception", failure.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+    }
+
+    @Override
+    public void entityProcessed(String machine, String processor, long durationNanos, boolean processed) {
+        var meters = processorMeters(machine, processor);
+        (processed ? meters.processed : meters.notProcessed).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void oldestEntityAge(String machine, String processor, long ageMillis) {
+        processorMeters(machine, processor).oldestAge.set(ageMillis);
+    }
+
+    private MachineMeters machineMeters(String machine) {
+        return machineMeters.computeIfAbsent(machine, m -> new MachineMeters(
+                Timer.builder("edc.statemachine.iteration")
+                        .description("Duration of the state machine loop iterations")
+                        .tag(MACHINE, m)
+                        .register(registry),
+                Timer.builder("edc.statemachine.wait")
+                        .description("Time waited by the state machine between iterations")
+                        .tag(MACHINE, m)
+                        .register(registry)
+        ));
+    }
+
+    private ProcessorMeters processorMeters(String machine, String processor) {
+        return processorMeters.computeIfAbsent(new ProcessorKey(machine, processor), key -> {
+            var oldestAge = new AtomicLong();
+            Gauge.builder("edc.statemachine.oldest.age", oldestAge, AtomicLong::get)
+                    .description("Age in milliseconds of the oldest entity fetched by the processor")
+                    .baseUnit("milliseconds")
+                    .tags(MACHINE, key.machine(), PROCESSOR, key.processor())
+                    .register(registry);
+            return new ProcessorMeters(
+                    DistributionSummary.builder("edc.statemachine.batch.fetched")
+                            .description("Number of entities fetched by the processor")
+                            .tags(MACHINE, key.machine(), PROCESSOR, key.processor())
+                            .register(registry),
+                    DistributionSummary.builder("edc.statemachine.batch.fill")
+                            .description("Ratio between the entities fetched by the processor and the batch size")
+                            .tags(MACHINE, key.machine(), PROCESSOR, key.processor())
+                            .register(registry),
+                    processTimer(key, true),
+                    processTimer(key, false),
+                    oldestAge
+            );
+        });
+    }
+
+    private Timer processTimer(ProcessorKey key, boolean processed) {
+        return Timer.builder("edc.statemachine.process")
+                .description("Duration of the processing of a single entity")
+                .tags(MACHINE, key.machine(), PROCESSOR, key.processor(), "processed", String.valueOf(processed))
+                .register(registry);
+    }
+
+    private record ProcessorKey(String machine, String processor) {
+    }
+
+    private record MachineMeters(Timer iteration, Timer waits) {
+    }
+
+    private record ProcessorMeters(DistributionSummary fetched, DistributionSummary fill, Timer processed,
+                                   Timer notProcessed, AtomicLong oldestAge) {
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerStateMachineInstrumentationTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerStateMachineInstrumentation instrumentation = new MicrometerStateMachineInstrumentation(registry);
+
+    @Test
+    void shouldRecordIterationsAndWaits() {
+        instrumentation.iterationCompleted("machine", 1_000_000, 3);
+        instrumentation.iterationCompleted("machine", 1_000_000, 0);
+        instrumentation.waited("machine", 500);
+
+        assertThat(registry.get("edc.statemachine.iteration").tag("machine", "machine").timer().count()).isEqualTo(2);
+        assertThat(registry.get("edc.statemachine.wait").tag("machine", "machine").timer().totalTime(MILLISECONDS)).isEqualTo(500);
+    }
+
+    @Test
+    void shouldRecordProcessorMeasurements() {
+        instrumentation.entitiesFetched("machine", "STATE", 5, 20);
+        instrumentation.entityProcessed("machine", "STATE", 1_000, true);
+        instrumentation.entityProcessed("machine", "STATE", 1_000, false);
+        instrumentation.oldestEntityAge("machine", "STATE", 1_500);
+
+        var search = registry.get("edc.statemachine.batch.fill").tags("machine", "machine", "processor", "STATE");
+        assertThat(search.summary().mean()).isEqualTo(0.25);
+        assertThat(registry.get("edc.statemachine.batch.fetched").summary().totalAmount()).isEqualTo(5);
+        assertThat(registry.get("edc.statemachine.process").tag("processed", "true").timer().count()).isEqualTo(1);
+        assertThat(registry.get("edc.statemachine.process").tag("processed", "false").timer().count()).isEqualTo(1);
+        assertThat(registry.get("edc.statemachine.oldest.age").gauge().value()).isEqualTo(1_500);
+    }
+
+    @Test
+    void shouldCountFetchFailures() {
+        instrumentation.fetchFailed("machine", "STATE", new IllegalStateException("leased"));
+        instrumentation.fetchFailed("machine", "STATE", new IllegalStateException("leased"));
+
+        var counter = registry.get("edc.statemachine.fetch.failures").tag("exception", "IllegalStateException").counter();
+        assertThat(counter.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.PrintStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * {@link Monitor} that hands log events over to a dedicated writer thread through a bounded ring buffer, so callers
+ * never format messages nor contend on the output stream.
+ * <p>
+ * Message suppliers are evaluated by the writer thread, only for events whose level is enabled. When the buffer is
+ * full the {@link OverflowPolicy} decides whether the caller waits or the event is dropped; severe events are never
+ * dropped. Dropped events are counted and reported by the writer. {@link #close()} drains and flushes the buffer, after
+ * that events are written synchronously on the caller thread.
+ */
+public class AsyncMonitor implements Monitor, AutoCloseable {
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final BlockingQueue<LogEvent> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Lock writeLock = new ReentrantLock();
+    private final ArrayList<LogEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final ConsoleMonitor.Level level;
+    private final Duration shutdownTimeout;
+    private final LogEventWriter writer;
+    private Thread writerThread;
+    private volatile boolean closed;
+
+    private AsyncMonitor(Builder builder) {
+        this.capacity = builder.capacity;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.level = builder.level;
+        this.shutdownTimeout = builder.shutdownTimeout;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.writer = new LogEventWriter(builder.format, builder.out, builder.clock, builder.runtimeName);
+    }
+
+    @Override
+    public void severe(Supplier<String> supplier, Throwable... errors) {
+        emit(new LogEvent(ConsoleMonitor.Level.SEVERE, now(), threadName(), supplier, null, errors));
+    }
+
+    @Override
+    public void severe(Map<String, Object> data) {
+        emit(new LogEvent(ConsoleMonitor.Level.SEVERE, now(), threadName(), null, new HashMap<>(data), null));
+    }
+
+    @Override
+    public void warning(Supplier<String> supplier, Throwable... errors) {
+        if (isEnabled(ConsoleMonitor.Level.WARNING)) {
+            emit(new LogEvent(ConsoleMonitor.Level.WARNING, now(), threadName(), supplier, null, errors));
+        }
+    }
+
+    @Override
+    public void info(Supplier<String> supplier, Throwable... errors) {
+        if (isEnabled(ConsoleMonitor.Level.INFO)) {
+            emit(new LogEvent(ConsoleMonitor.Level.INFO, now(), threadName(), supplier, null, errors));
+        }
+    }
+
+    @Override
+    public void debug(Supplier<String> supplier, Throwable... errors) {
+        if (isEnabled(ConsoleMonitor.Level.DEBUG)) {
+            emit(new LogEvent(ConsoleMonitor.Level.DEBUG, now(), threadName(), supplier, null, errors));
+        }
+    }
+
+    /**
+     * Stops the writer thread after it has written all the buffered events, waiting at most the shutdown timeout.
+     * Events that are still buffered afterwards, or that are logged later, are written on the caller thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writerThread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainSynchronously();
+    }
+
+    /**
+     * Number of events in the buffer, waiting to be written.
+     */
+    public int pending() {
+        return buffer.size();
+    }
+
+    private void start() {
+        writerThread = new Thread(this::run, "edc-monitor-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    private void emit(LogEvent event) {
+        if (closed) {
+            write(event);
+            return;
+        }
+        if (!enqueue(event)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        // the monitor could have been closed while the event was enqueued
+        if (closed && !writerThread.isAlive()) {
+            drainSynchronously();
+        }
+    }
+
+    private boolean enqueue(LogEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP && event.level() != ConsoleMonitor.Level.SEVERE) {
+            return false;
+        }
+        try {
+            while (!buffer.offer(event, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    write(event);
+                    return true;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void run() {
+        while (true) {
+            LogEvent first;
+            try {
+                first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                if (dropped.get() > 0) {
+                    flush();
+                }
+                if (closed) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                writeBatch(first);
+            } catch (RuntimeException e) {
+                reportWriteFailure(e);
+            }
+        }
+    }
+
+    private void writeBatch(LogEvent first) {
+        writeLock.lock();
+        try {
+            batch.add(first);
+            buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+            for (var event : batch) {
+                try {
+                    writer.write(event);
+                } catch (RuntimeException e) {
+                    reportWriteFailure(e);
+                }
+            }
+            reportDropped();
+            writer.flush();
+        } finally {
+            batch.clear();
+            writeLock.unlock();
+        }
+    }
+
+    private void drainSynchronously() {
+        LogEvent event;
+        while ((event = buffer.poll()) != null) {
+            writeBatch(event);
+        }
+        flush();
+    }
+
+    private void flush() {
+        writeLock.lock();
+        try {
+            reportDropped();
+            writer.flush();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(LogEvent event) {
+        writeLock.lock();
+        try {
+            writer.write(event);
+            writer.flush();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void reportDropped() {
+        var count = dropped.getAndSet(0);
+        if (count > 0) {
+            var message = format("%s log events dropped, the monitor buffer (capacity %s) was full", count, capacity);
+            writer.write(new LogEvent(ConsoleMonitor.Level.WARNING, now(), threadName(), () -> message, null, null));
+        }
+    }
+
+    /**
+     * A failing event, e.g. whose message supplier throws, must not stop the writer thread, otherwise callers would
+     * block forever on a full buffer. The failure is reported on the standard error stream instead.
+     */
+    private void reportWriteFailure(RuntimeException e) {
+        System.err.println("AsyncMonitor: failed to write log event: " + e);
+    }
+
+    private boolean isEnabled(ConsoleMonitor.Level eventLevel) {
+        return eventLevel.ordinal() <= level.ordinal();
+    }
+
+    private long now() {
+        return writer.millis();
+    }
+
+    private String threadName() {
+        return Thread.currentThread().getName();
+    }
+
+    /**
+     * What happens when an event is logged and the buffer is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The caller waits until there's room in the buffer.
+         */
+        BLOCK,
+
+        /**
+         * The event is dropped, unless it is severe.
+         */
+        DROP
+    }
+
+    /**
+     * Output format of the events.
+     */
+    public enum Format {
+
+        /**
+         * One line per event, as printed by the {@link ConsoleMonitor}.
+         */
+        TEXT,
+
+        /**
+         * One JSON object per line.
+         */
+        JSON
+    }
+
+    record LogEvent(ConsoleMonitor.Level level, long timestamp, String thread, @Nullable Supplier<String> message,
+                    @Nullable Map<String, Object> data, @Nullable Throwable[] errors) {
+    }
+
+    public static class Builder {
+        private int capacity = 8192;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private Format format = Format.TEXT;
+        private ConsoleMonitor.Level level = ConsoleMonitor.Level.DEBUG;
+        private Duration shutdownTimeout = Duration.ofSeconds(5);
+        private PrintStream out = System.out;
+        private Clock clock = Clock.systemDefaultZone();
+        private String runtimeName;
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public Builder format(Format format) {
+            this.format = format;
+            return this;
+        }
+
+        public Builder level(ConsoleMonitor.Level level) {
+            this.level = level;
+            return this;
+        }
+
+        public Builder shutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+            return this;
+        }
+
+        public Builder out(PrintStream out) {
+            this.out = out;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public Builder runtimeName(String runtimeName) {
+            this.runtimeName = runtimeName;
+            return this;
+        }
+
+        /**
+         * Builds the monitor and starts its writer thread.
+         */
+        public AsyncMonitor build() {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity must be positive: " + capacity);
+            }
+            Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+            Objects.requireNonNull(format, "format");
+            Objects.requireNonNull(level, "level");
+            Objects.requireNonNull(shutdownTimeout, "shutdownTimeout");
+            Objects.requireNonNull(out, "out");
+            Objects.requireNonNull(clock, "clock");
+            var monitor = new AsyncMonitor(this);
+            monitor.start();
+            return monitor;
+        }
+    }
+}
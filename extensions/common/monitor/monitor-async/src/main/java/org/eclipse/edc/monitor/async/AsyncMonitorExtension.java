@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MonitorExtension;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Extension providing the {@link AsyncMonitor}.
+ * <p>
+ * The monitor is created before the configuration is loaded, so it is configured through JVM system properties or the
+ * equivalent environment variables (e.g. {@code EDC_MONITOR_ASYNC_FORMAT}). The buffered events are flushed by a JVM
+ * shutdown hook.
+ */
+@Extension(AsyncMonitorExtension.NAME)
+public class AsyncMonitorExtension implements MonitorExtension {
+
+    public static final String NAME = "Async monitor";
+
+    static final String CAPACITY = "edc.monitor.async.capacity";
+    static final String OVERFLOW_POLICY = "edc.monitor.async.overflow-policy";
+    static final String FORMAT = "edc.monitor.async.format";
+    static final String LEVEL = "edc.monitor.async.level";
+    static final String SHUTDOWN_TIMEOUT_MILLIS = "edc.monitor.async.shutdown-timeout-millis";
+    static final String RUNTIME_NAME = "edc.monitor.async.runtime-name";
+
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final Function<String, String> properties;
+
+    public AsyncMonitorExtension() {
+        this(AsyncMonitorExtension::systemSetting);
+    }
+
+    AsyncMonitorExtension(Function<String, String> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Monitor getMonitor() {
+        var monitor = AsyncMonitor.Builder.newInstance()
+                .capacity(Integer.parseInt(setting(CAPACITY, String.valueOf(DEFAULT_CAPACITY))))
+                .overflowPolicy(AsyncMonitor.OverflowPolicy.valueOf(upperCase(setting(OVERFLOW_POLICY, "block"))))
+                .format(AsyncMonitor.Format.valueOf(upperCase(setting(FORMAT, "text"))))
+                .level(ConsoleMonitor.Level.valueOf(upperCase(setting(LEVEL, "debug"))))
+                .shutdownTimeout(Duration.ofMillis(Long.parseLong(setting(SHUTDOWN_TIMEOUT_MILLIS, String.valueOf(DEFAULT_SHUTDOWN_TIMEOUT_MILLIS)))))
+                .runtimeName(properties.apply(RUNTIME_NAME))
+                .build();
+        Runtime.getRuntime().addShutdownHook(new Thread(monitor::close, "edc-monitor-shutdown"));
+        return monitor;
+    }
+
+    private String setting(String key, String defaultValue) {
+        var value = properties.apply(key);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private static String upperCase(String value) {
+        return value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+    }
+
+    private static String systemSetting(String key) {
+        var value = System.getProperty(key);
+        if (value != null) {
+            return value;
+        }
+        return System.getenv(key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_'));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.eclipse.edc.monitor.async.AsyncMonitor.Format;
+import org.eclipse.edc.monitor.async.AsyncMonitor.LogEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Formats {@link LogEvent}s and writes them to the output stream. Not thread-safe, the {@link AsyncMonitor} serializes
+ * the calls, which lets a single buffer be reused for all the events.
+ */
+class LogEventWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Format format;
+    private final PrintStream out;
+    private final Clock clock;
+    private final String runtimeName;
+    private final String textPrefix;
+    private final StringBuilder buffer = new StringBuilder(256);
+
+    LogEventWriter(Format format, PrintStream out, Clock clock, @Nullable String runtimeName) {
+        this.format = format;
+        this.out = out;
+        this.clock = clock;
+        this.runtimeName = runtimeName;
+        this.textPrefix = runtimeName == null ? "" : "[" + runtimeName + "] ";
+    }
+
+    long millis() {
+        return clock.millis();
+    }
+
+    void write(LogEvent event) {
+        buffer.setLength(0);
+        if (format == Format.JSON) {
+            appendJson(event);
+            out.append(buffer);
+        } else {
+            appendText(event);
+            out.append(buffer);
+            if (event.errors() != null) {
+                for (var error : event.errors()) {
+                    if (error != null) {
+                        error.printStackTrace(out);
+                    }
+                }
+            }
+        }
+    }
+
+    void flush() {
+        out.flush();
+    }
+
+    private void appendText(LogEvent event) {
+        buffer.append(textPrefix).append(event.level().name()).append(' ');
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(event.timestamp()), clock.getZone()), buffer);
+        buffer.append(' ');
+        if (event.data() != null) {
+            buffer.append(event.data());
+        } else {
+            var message = message(event);
+            buffer.append(message == null ? null : message.replace('\r', ' ').replace('\n', ' '));
+        }
+        buffer.append(System.lineSeparator());
+    }
+
+    private void appendJson(LogEvent event) {
+        buffer.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(event.timestamp()), buffer);
+        buffer.append("\",\"level\":\"").append(event.level().name()).append('"');
+        if (runtimeName != null) {
+            buffer.append(",\"runtime\":");
+            appendJsonString(runtimeName);
+        }
+        buffer.append(",\"thread\":");
+        appendJsonString(event.thread());
+        if (event.data() != null) {
+            buffer.append(",\"data\":{");
+            var first = true;
+            for (Map.Entry<String, Object> entry : event.data().entrySet()) {
+                if (!first) {
+                    buffer.append(',');
+                }
+                first = false;
+                appendJsonString(entry.getKey());
+                buffer.append(':');
+                appendJsonString(String.valueOf(entry.getValue()));
+            }
+            buffer.append('}');
+        } else {
+            buffer.append(",\"message\":");
+            appendJsonString(message(event));
+        }
+        if (event.errors() != null && event.errors().length > 0) {
+            buffer.append(",\"errors\":[");
+            var first = true;
+            for (var error : event.errors()) {
+                if (error == null) {
+                    continue;
+                }
+                if (!first) {
+                    buffer.append(',');
+                }
+                first = false;
+                var stackTrace = new StringWriter();
+                error.printStackTrace(new PrintWriter(stackTrace));
+                appendJsonString(stackTrace.toString());
+            }
+            buffer.append(']');
+        }
+        buffer.append('}').append(System.lineSeparator());
+    }
+
+    private void appendJsonString(@Nullable String value) {
+        if (value == null) {
+            buffer.append("null");
+            return;
+        }
+        buffer.append('"');
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        buffer.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        buffer.append(c);
+                    }
+                }
+            }
+        }
+        buffer.append('"');
+    }
+
+    /**
+     * Evaluates the message supplier, a failing supplier must not stop the writer.
+     */
+    private @Nullable String message(LogEvent event) {
+        try {
+            return event.message().get();
+        } catch (Exception e) {
+            return "Failed to build log message: " + e;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncMonitorExtensionTest {
+
+    @Test
+    void getMonitor_shouldUseDefaults() {
+        var monitor = new AsyncMonitorExtension(key -> null).getMonitor();
+
+        assertThat(monitor).isInstanceOf(AsyncMonitor.class);
+        ((AsyncMonitor) monitor).close();
+    }
+
+    @Test
+    void getMonitor_shouldReadSettings() {
+        var settings = Map.of(
+                AsyncMonitorExtension.CAPACITY, "16",
+                AsyncMonitorExtension.OVERFLOW_POLICY, "drop",
+                AsyncMonitorExtension.FORMAT, "json",
+                AsyncMonitorExtension.LEVEL, "warning");
+
+        var monitor = new AsyncMonitorExtension(settings::get).getMonitor();
+
+        assertThat(monitor).isInstanceOf(AsyncMonitor.class);
+        ((AsyncMonitor) monitor).close();
+    }
+
+    @Test
+    void getMonitor_shouldFail_whenSettingIsInvalid() {
+        var extension = new AsyncMonitorExtension(Map.of(AsyncMonitorExtension.FORMAT, "xml")::get);
+
+        assertThatThrownBy(extension::getMonitor).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.monitor.async;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AsyncMonitorTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-01T10:15:30.123Z"), ZoneOffset.UTC);
+    private AsyncMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        if (monitor != null) {
+            monitor.close();
+        }
+    }
+
+    @Test
+    void shouldWriteText_andFlushOnClose() {
+        monitor = builder().runtimeName("runtime").build();
+
+        monitor.info("a message");
+        monitor.warning(() -> "multi\nline", new IllegalStateException("boom"));
+        monitor.close();
+
+        assertThat(output()).startsWith("[runtime] INFO 2024-03-01T10:15:30.123 a message")
+                .contains("[runtime] WARNING 2024-03-01T10:15:30.123 multi line")
+                .contains("java.lang.IllegalStateException: boom");
+    }
+
+    @Test
+    void shouldEvaluateSupplierOnWriterThread() {
+        monitor = builder().build();
+        var thread = new AtomicReference<String>();
+
+        monitor.info(() -> {
+            thread.set(Thread.currentThread().getName());
+            return "message";
+        });
+        monitor.close();
+
+        assertThat(thread.get()).isEqualTo("edc-monitor-writer");
+    }
+
+    @Test
+    void shouldNotEvaluateSupplier_whenLevelIsDisabled() {
+        monitor = builder().level(ConsoleMonitor.Level.INFO).build();
+        var evaluated = new AtomicBoolean();
+
+        monitor.debug(() -> {
+            evaluated.set(true);
+            return "debug";
+        });
+        monitor.info("info");
+        monitor.close();
+
+        assertThat(evaluated).isFalse();
+        assertThat(output()).doesNotContain("debug").contains("info");
+    }
+
+    @Test
+    void shouldWriteJson() throws Exception {
+        monitor = builder().format(AsyncMonitor.Format.JSON).runtimeName("runtime").build();
+
+        monitor.info(() -> "a \"quoted\"\nmessage");
+        monitor.severe("failure", new IllegalStateException("boom"));
+        monitor.severe(Map.of("key", "value"));
+        monitor.close();
+
+        var mapper = new ObjectMapper();
+        var lines = output().lines().map(line -> {
+            try {
+                return mapper.readValue(line, Map.class);
+            } catch (Exception e) {
+                throw new AssertionError("Invalid JSON line: " + line, e);
+            }
+        }).toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).containsEntry("timestamp", "2024-03-01T10:15:30.123Z")
+                .containsEntry("level", "INFO")
+                .containsEntry("runtime", "runtime")
+                .containsEntry("thread", Thread.currentThread().getName())
+                .containsEntry("message", "a \"quoted\"\nmessage");
+        assertThat(lines.get(1)).containsEntry("level", "SEVERE").containsEntry("message", "failure");
+        assertThat((List<?>) lines.get(1).get("errors")).singleElement().asString().startsWith("java.lang.IllegalStateException: boom");
+        assertThat(lines.get(2)).containsEntry("data", Map.of("key", "value"));
+    }
+
+    @Test
+    void shouldDropAndReport_whenBufferIsFullAndPolicyIsDrop() {
+        monitor = builder().capacity(1).overflowPolicy(AsyncMonitor.OverflowPolicy.DROP).build();
+        var writerBlocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        monitor.info(() -> {
+            writerBlocked.countDown();
+            awaitLatch(release);
+            return "first";
+        });
+        awaitLatch(writerBlocked);
+
+        monitor.info("buffered");
+        monitor.info("dropped");
+        monitor.info("dropped");
+        var severe = CompletableFuture.runAsync(() -> monitor.severe("severe is never dropped"));
+        assertThat(severe).isNotDone();
+        release.countDown();
+        assertThat(severe).succeedsWithin(5, TimeUnit.SECONDS);
+        monitor.close();
+
+        assertThat(output()).contains("first", "buffered", "severe is never dropped", "2 log events dropped")
+                .doesNotContain("INFO 2024-03-01T10:15:30.123 dropped");
+    }
+
+    @Test
+    void shouldBlockCaller_whenBufferIsFullAndPolicyIsBlock() {
+        monitor = builder().capacity(1).overflowPolicy(AsyncMonitor.OverflowPolicy.BLOCK).build();
+        var writerBlocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        monitor.info(() -> {
+            writerBlocked.countDown();
+            awaitLatch(release);
+            return "first";
+        });
+        awaitLatch(writerBlocked);
+        monitor.info("buffered");
+
+        var blocked = CompletableFuture.runAsync(() -> monitor.info("waiting"));
+
+        assertThat(blocked).isNotDone();
+        release.countDown();
+        assertThat(blocked).succeedsWithin(5, TimeUnit.SECONDS);
+        monitor.close();
+        assertThat(output()).contains("first", "buffered", "waiting").doesNotContain("dropped");
+    }
+
+    @Test
+    void shouldWriteOnCallerThread_whenClosed() {
+        monitor = builder().build();
+        monitor.close();
+        var thread = new AtomicReference<String>();
+
+        monitor.info(() -> {
+            thread.set(Thread.currentThread().getName());
+            return "after close";
+        });
+
+        assertThat(thread.get()).isEqualTo(Thread.currentThread().getName());
+        assertThat(output()).contains("after close");
+    }
+
+    @Test
+    void shouldWriteEventsInOrder() {
+        monitor = builder().capacity(16).build();
+
+        for (var i = 0; i < 1000; i++) {
+            var index = i;
+            monitor.info(() -> "event-" + index);
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> monitor.pending() == 0);
+        monitor.close();
+        assertThat(output().lines()).hasSize(1000).first().asString().endsWith("event-0");
+        assertThat(output().lines().toList().get(999)).endsWith("event-999");
+    }
+
+    @Test
+    void shouldKeepWriting_whenSupplierThrows() {
+        monitor = builder().build();
+
+        monitor.info(() -> {
+            throw new IllegalStateException("boom");
+        });
+        monitor.info("after failure");
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(output()).contains("after failure"));
+    }
+
+    @Test
+    void shouldAcceptNullValues_whenLoggingData() {
+        monitor = builder().build();
+        var data = new HashMap<String, Object>();
+        data.put("key", null);
+
+        monitor.severe(data);
+        monitor.close();
+
+        assertThat(output()).contains("key=null");
+    }
+
+    private AsyncMonitor.Builder builder() {
+        return AsyncMonitor.Builder.newInstance()
+                .out(new PrintStream(output, true, StandardCharsets.UTF_8))
+                .clock(clock);
+    }
+
+    private String output() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,23 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries that have to be executed for multiple rows, e.g. inserting many rows into the
+     * same table. The statement is prepared once and executed for every set of arguments, implementations may send
+     * them to the database in batches.
+     *
+     * @param connection    the connection to be used to execute the query.
+     * @param sql           the parametrized sql query
+     * @param argumentsList the parameters to interpolate with the parametrized sql query, one entry per execution
+     * @return the rows changed by every execution, in the same order as the arguments. An entry can be
+     *         {@link java.sql.Statement#SUCCESS_NO_INFO} if the driver does not report the count for batched statements.
+     */
+    default int[] executeBatch(Connection connection, String sql, List<Object[]> argumentsList) {
+        return argumentsList.stream()
+                .mapToInt(arguments -> execute(connection, sql, arguments))
+                .toArray();
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
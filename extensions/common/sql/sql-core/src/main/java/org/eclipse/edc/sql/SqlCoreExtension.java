@@ -20,7 +20,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import static java.lang.Integer.parseInt;
+import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.DEFAULT_EDC_SQL_BATCH_SIZE;
 import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.DEFAULT_EDC_SQL_FETCH_SIZE;
+import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.EDC_SQL_BATCH_SIZE;
 import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.EDC_SQL_FETCH_SIZE;
 
 @Extension(value = SqlCoreExtension.NAME)
@@ -36,7 +38,8 @@ public class SqlCoreExtension implements ServiceExtension {
     @Provider
     public QueryExecutor sqlQueryExecutor(ServiceExtensionContext context) {
         var fetchSize = context.getSetting(EDC_SQL_FETCH_SIZE, parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
-        var configuration = new SqlQueryExecutorConfiguration(fetchSize);
+        var batchSize = context.getSetting(EDC_SQL_BATCH_SIZE, parseInt(DEFAULT_EDC_SQL_BATCH_SIZE));
+        var configuration = new SqlQueryExecutorConfiguration(fetchSize, batchSize);
         return new SqlQueryExecutor(configuration);
     }
 
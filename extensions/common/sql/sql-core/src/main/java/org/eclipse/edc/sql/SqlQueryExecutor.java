@@ -18,11 +18,13 @@ package org.eclipse.edc.sql;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.jetbrains.annotations.NotNull;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -60,6 +62,37 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> argumentsList) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(argumentsList, "argumentsList");
+
+        var updateCounts = new int[argumentsList.size()];
+        if (argumentsList.isEmpty()) {
+            return updateCounts;
+        }
+
+        try (var statement = connection.prepareStatement(sql)) {
+            var batchSize = Math.max(1, configuration.batchSize());
+            for (var start = 0; start < argumentsList.size(); start += batchSize) {
+                var end = Math.min(start + batchSize, argumentsList.size());
+                for (var arguments : argumentsList.subList(start, end)) {
+                    setArguments(statement, arguments);
+                    statement.addBatch();
+                }
+                var counts = statement.executeBatch();
+                System.arraycopy(counts, 0, updateCounts, start, counts.length);
+            }
+            return updateCounts;
+        } catch (BatchUpdateException exception) {
+            var cause = exception.getNextException() != null ? exception.getNextException() : exception;
+            throw new EdcPersistenceException(cause.getMessage(), exception);
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
     @Override
     public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
         try (var stream = query(connection, closeConnection, resultSetMapper, sql, arguments)) {
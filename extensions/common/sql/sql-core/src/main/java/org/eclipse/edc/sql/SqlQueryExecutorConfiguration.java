@@ -19,14 +19,22 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 /**
  * Configuration class for {@link SqlQueryExecutor}
  */
-public record SqlQueryExecutorConfiguration(int fetchSize) {
+public record SqlQueryExecutorConfiguration(int fetchSize, int batchSize) {
 
     public static final String DEFAULT_EDC_SQL_FETCH_SIZE = "5000";
     @Setting(value = "Fetch size value used in SQL queries", defaultValue = DEFAULT_EDC_SQL_FETCH_SIZE)
     public static final String EDC_SQL_FETCH_SIZE = "edc.sql.fetch.size";
 
+    public static final String DEFAULT_EDC_SQL_BATCH_SIZE = "500";
+    @Setting(value = "Maximum number of statements sent to the database in a single JDBC batch", defaultValue = DEFAULT_EDC_SQL_BATCH_SIZE)
+    public static final String EDC_SQL_BATCH_SIZE = "edc.sql.batch.size";
+
+    public SqlQueryExecutorConfiguration(int fetchSize) {
+        this(fetchSize, Integer.parseInt(DEFAULT_EDC_SQL_BATCH_SIZE));
+    }
+
     public static SqlQueryExecutorConfiguration ofDefaults() {
-        return new SqlQueryExecutorConfiguration(Integer.parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
+        return new SqlQueryExecutorConfiguration(Integer.parseInt(DEFAULT_EDC_SQL_FETCH_SIZE), Integer.parseInt(DEFAULT_EDC_SQL_BATCH_SIZE));
     }
 
 }
@@ -105,6 +105,52 @@ public class SqlExecuteStatement {
         return format("INSERT INTO %s (%s) VALUES (%s);", tableName, columnValues.columnName(), columnValues.value());
     }
 
+    /**
+     * Gives a SQL insert statement that doesn't insert the row, instead of failing, when it would violate a unique
+     * constraint. The number of affected rows tells whether the row has been inserted.
+     *
+     * @param tableName the table name.
+     * @return sql insert statement.
+     */
+    public String insertIntoIfAbsent(String tableName) {
+        if (columnEntries.isEmpty()) {
+            throw new IllegalArgumentException(format("Cannot create INSERT statement on %s because no columns are registered", tableName));
+        }
+
+        var columnValues = columnEntries.stream().reduce(ColumnEntry::append).orElseThrow();
+
+        return format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT DO NOTHING;", tableName, columnValues.columnName(), columnValues.value());
+    }
+
+    /**
+     * Gives a SQL upsert statement, that inserts a new row or, when a row with the same value in the conflict column
+     * already exists, updates all the other columns with the inserted values. The statement is not terminated, so that
+     * it can be completed with further assignments, a {@code WHERE} or a {@code RETURNING} clause.
+     *
+     * @param tableName the table name.
+     * @param conflictColumn the column with the unique constraint that identifies the row, e.g. the primary key.
+     * @param insertOnlyColumns the columns that are written only when the row is inserted.
+     * @return sql upsert statement.
+     */
+    public String upsertInto(String tableName, String conflictColumn, String... insertOnlyColumns) {
+        return upsert(tableName, null, conflictColumn, insertOnlyColumns);
+    }
+
+    /**
+     * Gives a SQL upsert statement like {@link #upsertInto(String, String, String...)}, that doesn't write anything
+     * when the condition is not satisfied, e.g. a {@code NOT EXISTS} sub-query. The condition parameters come right
+     * after the column values.
+     *
+     * @param tableName the table name.
+     * @param condition the condition the row is written on.
+     * @param conflictColumn the column with the unique constraint that identifies the row, e.g. the primary key.
+     * @param insertOnlyColumns the columns that are written only when the row is inserted.
+     * @return sql upsert statement.
+     */
+    public String upsertIntoWhere(String tableName, String condition, String conflictColumn, String... insertOnlyColumns) {
+        return upsert(tableName, condition, conflictColumn, insertOnlyColumns);
+    }
+
     /**
      * Gives a SQL update statement.
      *
@@ -160,4 +206,21 @@ public class SqlExecuteStatement {
 
         return format("DELETE FROM %s WHERE %s;", tableName, where);
     }
+
+    private String upsert(String tableName, String condition, String conflictColumn, String... insertOnlyColumns) {
+        if (columnEntries.isEmpty()) {
+            throw new IllegalArgumentException(format("Cannot create UPSERT statement on %s because no columns are registered", tableName));
+        }
+
+        var columnValues = columnEntries.stream().reduce(ColumnEntry::append).orElseThrow();
+        var updates = columnEntries.stream()
+                .map(ColumnEntry::columnName)
+                .filter(columnName -> !columnName.equals(conflictColumn) && !List.of(insertOnlyColumns).contains(columnName))
+                .map(columnName -> format("%s = EXCLUDED.%s", columnName, columnName))
+                .collect(joining(", "));
+        var values = condition == null ? format("VALUES (%s)", columnValues.value()) : format("SELECT %s WHERE %s", columnValues.value(), condition);
+
+        return format("INSERT INTO %s (%s) %s ON CONFLICT (%s) DO UPDATE SET %s",
+                tableName, columnValues.columnName(), values, conflictColumn, updates);
+    }
 }
@@ -16,6 +16,7 @@ package org.eclipse.edc.sql.translation;
 
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.PathItem;
 
 import java.util.Collection;
 import java.util.List;
@@ -57,6 +58,13 @@ public class CriterionToWhereClauseConverterImpl implements CriterionToWhereClau
                     .orElseThrow(f -> new IllegalArgumentException("This expression is not valid: " + f.getFailureDetail()));
         }
 
+        if (criterion.getOperandLeft() != null) {
+            var whereClause = translationMapping.getWhereClause(PathItem.parse(criterion.getOperandLeft().toString()), criterion);
+            if (whereClause != null) {
+                return whereClause;
+            }
+        }
+
         var sql = format("%s %s %s", newCriterion.getOperandLeft(), newCriterion.getOperator(), toValuePlaceholder(newCriterion));
         return new WhereClause(sql, toParameters(newCriterion));
     }
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.translation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.types.PathItem;
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Maps a field onto a Postgres {@code JSONB} column. Equality criteria with a string value are translated to a
+ * containment query, e.g. {@code privateProperties.key = 'value'} becomes
+ * {@code private_properties @> '{"key":"value"}'::jsonb}, which can be served by a GIN index on the column. All other
+ * criteria use the JSON path operators like the {@link JsonFieldMapping}.
+ * <p>
+ * The path operators compare the text of the JSON value, so {@code key = '5'} also matches the number {@code 5} and
+ * {@code key = 'true'} the boolean {@code true}. To keep these semantics, such values are also looked up as number
+ * or boolean, and numbers are checked against their text to exclude equal numbers written differently, e.g.
+ * {@code 5.0}. Values that are JSON objects or arrays are matched with the path operators.
+ */
+public class JsonbFieldMapping extends JsonFieldMapping {
+
+    private static final String EQUALS_OPERATOR = "=";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public JsonbFieldMapping(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public @Nullable WhereClause getWhereClause(List<PathItem> path, Criterion criterion) {
+        if (path.isEmpty() || !EQUALS_OPERATOR.equals(criterion.getOperator()) || !(criterion.getOperandRight() instanceof String value)) {
+            return null;
+        }
+
+        var jsonValue = parse(value);
+        if (jsonValue != null && jsonValue.isContainerNode()) {
+            return null;
+        }
+
+        var containment = format("%s @> ?%s", columnName, PostgresDialect.getJsonbCastOperator());
+        if (jsonValue != null && jsonValue.isNumber()) {
+            return new WhereClause(format("(%s OR %s) AND %s = ?", containment, containment, getStatement(path, String.class)),
+                    List.of(toJson(path, value), toJson(path, jsonValue), value));
+        }
+        if (jsonValue != null && jsonValue.isBoolean() && jsonValue.asText().equals(value)) {
+            return new WhereClause(format("(%s OR %s)", containment, containment), List.of(toJson(path, value), toJson(path, jsonValue)));
+        }
+        return new WhereClause(containment, toJson(path, value));
+    }
+
+    private @Nullable JsonNode parse(String value) {
+        try {
+            return MAPPER.readTree(value);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String toJson(List<PathItem> path, Object value) {
+        var document = value;
+        for (var i = path.size() - 1; i >= 0; i--) {
+            document = Map.of(path.get(i).toString(), document);
+        }
+        try {
+            return MAPPER.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+}
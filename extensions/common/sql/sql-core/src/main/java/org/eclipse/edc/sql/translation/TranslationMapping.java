@@ -14,7 +14,9 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.types.PathItem;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
@@ -62,6 +64,27 @@ public abstract class TranslationMapping {
         return entry.toString();
     }
 
+    /**
+     * Returns a WHERE clause that is specific to the field the path points to, e.g. a containment query on a JSONB
+     * column. If the canonical property name is nested, the mapper descends recursively into the tree.
+     *
+     * @param path      the path of the canonical property.
+     * @param criterion the criterion.
+     * @return the WHERE clause, null if the criterion should be translated to {@code <statement> <operator> ?}.
+     */
+    public @Nullable WhereClause getWhereClause(List<PathItem> path, Criterion criterion) {
+        if (path.isEmpty()) {
+            return null;
+        }
+
+        if (fieldMap.get(path.get(0).toString()) instanceof TranslationMapping mappingEntry) {
+            var remainingPath = path.stream().skip(1).toList();
+            return mappingEntry.getWhereClause(remainingPath, criterion);
+        }
+
+        return null;
+    }
+
     protected void add(String fieldId, Object value) {
         fieldMap.put(fieldId, value);
     }
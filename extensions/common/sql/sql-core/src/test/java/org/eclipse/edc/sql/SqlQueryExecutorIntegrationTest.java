@@ -26,8 +26,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,6 +103,29 @@ public class SqlQueryExecutorIntegrationTest {
         assertThat(kvs).hasSize(1).first().isEqualTo(keyValue);
     }
 
+    @Test
+    void executeBatch(Connection connection) {
+        var executor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(10, 2));
+        var rows = IntStream.range(0, 5)
+                .mapToObj(i -> new Object[]{ "key" + i, "value" + i })
+                .toList();
+
+        var updateCounts = executor.executeBatch(connection, format("INSERT INTO %s (k, v) values (?, ?)", table), rows);
+
+        assertThat(updateCounts).hasSize(5).containsAnyOf(1, Statement.SUCCESS_NO_INFO).doesNotContain(0, Statement.EXECUTE_FAILED);
+        var count = executor.single(connection, false, rs -> rs.getInt(1), format("SELECT COUNT(*) FROM %s", table));
+        assertThat(count).isEqualTo(5);
+    }
+
+    @Test
+    void executeBatch_shouldThrowException_whenARowFails(Connection connection) {
+        var keyValue = insertRow(connection);
+        var rows = List.of(new Object[]{ "another", "value" }, new Object[]{ keyValue.key, "duplicate" });
+
+        assertThatThrownBy(() -> executor.executeBatch(connection, format("INSERT INTO %s (k, v) values (?, ?)", table), rows))
+                .isInstanceOf(EdcPersistenceException.class);
+    }
+
     @Test
     void testInvalidSql(Connection connection) {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql;
 
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -23,15 +25,21 @@ import org.mockito.Mockito;
 
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class SqlQueryExecutorTest {
@@ -51,6 +59,45 @@ class SqlQueryExecutorTest {
         verification.verify(preparedStatement);
     }
 
+    @Test
+    void executeBatch_shouldSendArgumentsInBatchesOfConfiguredSize() throws SQLException {
+        var executor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(10, 2));
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{ 1, 1 }, new int[]{ 1 });
+
+        var updateCounts = executor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "a" }, new Object[]{ "b" }, new Object[]{ "c" }));
+
+        assertThat(updateCounts).containsExactly(1, 1, 1);
+        verify(connection).prepareStatement(DUMMY_SQL);
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement, times(2)).executeBatch();
+        verify(preparedStatement).close();
+    }
+
+    @Test
+    void executeBatch_shouldNotPrepareStatement_whenNoArguments() {
+        var connection = Mockito.mock(Connection.class);
+
+        var updateCounts = executor.executeBatch(connection, DUMMY_SQL, List.of());
+
+        assertThat(updateCounts).isEmpty();
+        verifyNoInteractions(connection);
+    }
+
+    @Test
+    void executeBatch_shouldWrapBatchUpdateException() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenThrow(new BatchUpdateException("batch failed", new int[0]));
+
+        assertThatThrownBy(() -> executor.executeBatch(connection, DUMMY_SQL, List.<Object[]>of(new Object[]{ "a" })))
+                .isInstanceOf(EdcPersistenceException.class)
+                .hasCauseInstanceOf(BatchUpdateException.class);
+    }
+
     static class TestExecuteParametrizedArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -51,6 +51,16 @@ class SqlExecuteStatementTest {
 
             assertThat(statement).isEqualToIgnoringCase("insert into table_name (column_name) values (?::json);");
         }
+
+        @Test
+        void shouldReturnStatement_ignoringConflicts() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("column_name")
+                    .insertIntoIfAbsent("table_name");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, column_name) values (?, ?) on conflict do nothing;");
+        }
     }
 
     @Nested
@@ -83,6 +93,51 @@ class SqlExecuteStatementTest {
         }
     }
 
+    @Nested
+    class Upsert {
+
+        @Test
+        void shouldThrowException_whenNoColumnSpecified() {
+            assertThatThrownBy(() -> SqlExecuteStatement.newInstance("::json").upsertInto("table_name", "id"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldReturnStatement_updatingAllColumnsButTheConflictOne() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("column_name")
+                    .jsonColumn("json_column_name")
+                    .upsertInto("table_name", "id");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, column_name, json_column_name) values (?, ?, ?::json) " +
+                    "on conflict (id) do update set column_name = excluded.column_name, json_column_name = excluded.json_column_name");
+        }
+
+        @Test
+        void shouldReturnStatement_notUpdatingInsertOnlyColumns() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("column_name")
+                    .column("created_at")
+                    .upsertInto("table_name", "id", "created_at");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, column_name, created_at) values (?, ?, ?) " +
+                    "on conflict (id) do update set column_name = excluded.column_name");
+        }
+
+        @Test
+        void shouldReturnStatement_writingOnlyWhenConditionIsSatisfied() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .jsonColumn("json_column_name")
+                    .upsertIntoWhere("table_name", "NOT EXISTS (SELECT 1 FROM other_table WHERE id = ?)", "id");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, json_column_name) select ?, ?::json " +
+                    "where not exists (select 1 from other_table where id = ?) on conflict (id) do update set json_column_name = excluded.json_column_name");
+        }
+    }
+
     @Nested
     class Delete {
 
@@ -63,6 +63,66 @@ class CriterionToWhereClauseConverterImplTest {
         assertThat(condition.parameters()).containsExactly("id1", "id2", "id3");
     }
 
+    @Test
+    void jsonbField_equalsOperator_shouldUseContainment() {
+        var criterion = new Criterion("document.nested.'https://w3id.org/edc/v0.0.1/ns/key'", "=", "value");
+
+        var condition = converter.convert(criterion);
+
+        assertThat(condition.sql()).isEqualTo("edc_document @> ?::jsonb");
+        assertThat(condition.parameters()).containsExactly("{\"nested\":{\"https://w3id.org/edc/v0.0.1/ns/key\":\"value\"}}");
+    }
+
+    @Test
+    void jsonbField_equalsOperatorWithNumericString_shouldAlsoMatchNumbers() {
+        var criterion = new Criterion("document.nested.key", "=", "5");
+
+        var condition = converter.convert(criterion);
+
+        assertThat(condition.sql()).isEqualTo("(edc_document @> ?::jsonb OR edc_document @> ?::jsonb) AND edc_document -> 'nested' ->> 'key' = ?");
+        assertThat(condition.parameters()).containsExactly("{\"nested\":{\"key\":\"5\"}}", "{\"nested\":{\"key\":5}}", "5");
+    }
+
+    @Test
+    void jsonbField_equalsOperatorWithBooleanString_shouldAlsoMatchBooleans() {
+        var criterion = new Criterion("document.key", "=", "true");
+
+        var condition = converter.convert(criterion);
+
+        assertThat(condition.sql()).isEqualTo("(edc_document @> ?::jsonb OR edc_document @> ?::jsonb)");
+        assertThat(condition.parameters()).containsExactly("{\"key\":\"true\"}", "{\"key\":true}");
+    }
+
+    @Test
+    void jsonbField_equalsOperatorWithJsonObjectString_shouldUsePathOperators() {
+        var criterion = new Criterion("document.key", "=", "{\"a\":1}");
+
+        var condition = converter.convert(criterion);
+
+        assertThat(condition.sql()).isEqualTo("edc_document ->> 'key' = ?");
+        assertThat(condition.parameters()).containsExactly("{\"a\":1}");
+    }
+
+    @Test
+    void jsonbField_otherOperator_shouldUsePathOperators() {
+        var criterion = new Criterion("document.nested.key", "like", "val%");
+
+        var condition = converter.convert(criterion);
+
+        assertThat(condition.sql()).isEqualTo("edc_document -> 'nested' ->> 'key' like ?");
+        assertThat(condition.parameters()).containsExactly("val%");
+    }
+
+    @Test
+    void jsonbField_nonStringValue_shouldUsePathOperators() {
+        var criterion = new Criterion("document.flag", "=", true);
+
+        var condition = converter.convert(criterion);
+
+        assertThat(condition.sql()).isEqualTo("(edc_document ->> 'flag')::boolean = ?");
+        assertThat(condition.parameters()).containsExactly(true);
+    }
+
     @ParameterizedTest
     @ArgumentsSource(ValidArgs.class)
     void isValidExpression_whenValid(String left, String op, Object right) {
@@ -74,6 +74,40 @@ public class PostgresqlStoreSetupExtension implements BeforeEachCallback, Before
         return transactionContext.execute(() -> queryExecutor.execute(getConnection(), query));
     }
 
+    /**
+     * Returns the execution plan of the query. Sequential scans are disabled while planning, as the planner would
+     * otherwise prefer them over indexes on the small tables used in tests.
+     *
+     * @param query      the query.
+     * @param parameters the query parameters.
+     * @return the execution plan, one node per line.
+     */
+    public String explain(String query, Object... parameters) {
+        try (var connection = getConnection()) {
+            try (var statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+            }
+            try (var statement = connection.prepareStatement("EXPLAIN " + query)) {
+                for (var i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                var plan = new StringBuilder();
+                try (var resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append(System.lineSeparator());
+                    }
+                }
+                return plan.toString();
+            } finally {
+                try (var statement = connection.createStatement()) {
+                    statement.execute("RESET enable_seqscan");
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public TransactionContext getTransactionContext() {
         return transactionContext;
     }
@@ -26,6 +26,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -101,6 +103,43 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires the leases of all the entities, checking them one by one and then writing the expired lease deletions,
+     * the new leases and the entity updates in a single batch each.
+     *
+     * @param entityIds The database IDs of the entities
+     */
+    @Override
+    public void acquireLeases(Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        trxContext.execute(() -> {
+            var now = clock.millis();
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var expiredLeases = new ArrayList<Object[]>();
+            var newLeases = new ArrayList<Object[]>(entityIds.size());
+            var entityUpdates = new ArrayList<Object[]>(entityIds.size());
+
+            for (var entityId : entityIds) {
+                var lease = getLease(entityId);
+                if (lease != null && !lease.isExpired(clock)) {
+                    throw new IllegalStateException("Entity is currently leased!");
+                }
+                if (lease != null) {
+                    expiredLeases.add(new Object[]{ lease.getLeaseId() });
+                }
+                var id = UUID.randomUUID().toString();
+                newLeases.add(new Object[]{ id, leaseHolder, now, duration });
+                entityUpdates.add(new Object[]{ id, entityId });
+            }
+
+            queryExecutor.executeBatch(connection, statements.getDeleteLeaseTemplate(), expiredLeases);
+            queryExecutor.executeBatch(connection, statements.getInsertLeaseTemplate(), newLeases);
+            queryExecutor.executeBatch(connection, statements.getUpdateLeaseTemplate(), entityUpdates);
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
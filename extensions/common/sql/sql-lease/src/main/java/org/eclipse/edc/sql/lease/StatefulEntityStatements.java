@@ -45,4 +45,8 @@ public interface StatefulEntityStatements {
     default String getUpdatedAtColumn() {
         return "updated_at";
     }
+
+    default String getVersionColumn() {
+        return "version";
+    }
 }
@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -138,6 +139,28 @@ class PostgresLeaseContextTest {
         assertThatThrownBy(() -> leaseContext.acquireLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+
+        leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(leaseContext.getLease("id1").getLeaseId()).isNotEqualTo(leaseContext.getLease("id2").getLeaseId());
+    }
+
+    @Test
+    void acquireLeases_oneLeasedByOther_throwsException(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id2");
+
+        assertThatThrownBy(() -> leaseContext.acquireLeases(List.of("id1", "id2"))).isInstanceOf(IllegalStateException.class);
+        assertThat(isLeased("id1", connection)).isFalse();
+    }
+
     @Test
     void getLease(Connection connection) {
         var id = "test-id";
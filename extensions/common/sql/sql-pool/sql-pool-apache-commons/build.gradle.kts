@@ -27,6 +27,7 @@ dependencies {
 
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":extensions:common:transaction:transaction-local"))
+    testImplementation(libs.h2)
 
     // required for statically mocking the JDBC DriverManager
     testImplementation(libs.mockito.inline)
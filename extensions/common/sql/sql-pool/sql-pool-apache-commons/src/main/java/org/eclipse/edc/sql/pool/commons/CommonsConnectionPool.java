@@ -41,7 +41,7 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
         Objects.requireNonNull(commonsConnectionPoolConfig, "commonsConnectionPoolConfig");
 
         this.connectionObjectPool = new GenericObjectPool<>(
-                new PooledConnectionObjectFactory(dataSource, commonsConnectionPoolConfig.getTestQuery(), monitor),
+                new PooledConnectionObjectFactory(dataSource, commonsConnectionPoolConfig.getTestQuery(), commonsConnectionPoolConfig.getStatementCacheSize(), monitor),
                 getGenericObjectPoolConfig(commonsConnectionPoolConfig));
     }
 
@@ -91,18 +91,21 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
     private static class PooledConnectionObjectFactory extends BasePooledObjectFactory<Connection> {
         private final String testQuery;
         private final DataSource dataSource;
+        private final int statementCacheSize;
 
         private final Monitor monitor;
 
-        PooledConnectionObjectFactory(@NotNull DataSource dataSource, @NotNull String testQuery, Monitor monitor) {
+        PooledConnectionObjectFactory(@NotNull DataSource dataSource, @NotNull String testQuery, int statementCacheSize, Monitor monitor) {
             this.dataSource = Objects.requireNonNull(dataSource);
             this.testQuery = Objects.requireNonNull(testQuery);
+            this.statementCacheSize = statementCacheSize;
             this.monitor = monitor;
         }
 
         @Override
         public Connection create() throws SQLException {
-            return dataSource.getConnection();
+            var connection = dataSource.getConnection();
+            return statementCacheSize > 0 ? StatementCachingConnection.wrap(connection, statementCacheSize) : connection;
         }
 
         @Override
@@ -64,6 +64,8 @@ interface CommonsConnectionPoolConfigKeys {
 
     String POOL_CONNECTION_TEST_QUERY = "pool.connection.test.query";
 
+    String POOL_CONNECTION_STATEMENT_CACHE_SIZE = "pool.connection.statement-cache.size";
+
     @Setting(required = true)
     String URL = "url";
 
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.pool.commons;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the {@link PreparedStatement}s of a physical {@link Connection}, so that statements that are executed often
+ * (e.g. the lease and the state machine queries) are not parsed again every time they are prepared.
+ * <p>
+ * Only the statements prepared with {@link Connection#prepareStatement(String)} and
+ * {@link Connection#prepareStatement(String, int)} are cached. Closing a cached statement clears its parameters and
+ * batch and puts it back into the cache, the least recently used statement is physically closed when the cache is
+ * full. A statement is never handed out twice at the same time: preparing a statement whose cached instance is
+ * currently in use creates a new one. All the cached statements are closed together with the connection.
+ */
+class StatementCachingConnection implements InvocationHandler {
+
+    private final Connection connection;
+    private final LinkedHashMap<StatementKey, PreparedStatement> cache;
+    private Connection connectionProxy;
+
+    private StatementCachingConnection(Connection connection, int cacheSize) {
+        this.connection = connection;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, PreparedStatement> eldest) {
+                if (size() > cacheSize) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Wraps the connection with a statement cache.
+     *
+     * @param connection the physical connection.
+     * @param cacheSize  the maximum number of cached statements.
+     * @return the wrapped connection.
+     */
+    static Connection wrap(Connection connection, int cacheSize) {
+        var handler = new StatementCachingConnection(connection, cacheSize);
+        handler.connectionProxy = (Connection) Proxy.newProxyInstance(StatementCachingConnection.class.getClassLoader(),
+                new Class<?>[]{ Connection.class }, handler);
+        return handler.connectionProxy;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "prepareStatement" -> {
+                if (args.length == 1) {
+                    return prepare(new StatementKey((String) args[0], Statement.NO_GENERATED_KEYS));
+                }
+                if (args.length == 2 && args[1] instanceof Integer autoGeneratedKeys) {
+                    return prepare(new StatementKey((String) args[0], autoGeneratedKeys));
+                }
+            }
+            case "close" -> clear();
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            default -> {
+            }
+        }
+        return delegate(connection, method, args);
+    }
+
+    private synchronized PreparedStatement prepare(StatementKey key) throws SQLException {
+        var statement = cache.remove(key);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(key.sql(), key.autoGeneratedKeys());
+        }
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCachingConnection.class.getClassLoader(),
+                new Class<?>[]{ PreparedStatement.class }, new CachedStatement(key, statement));
+    }
+
+    private synchronized void release(StatementKey key, PreparedStatement statement) {
+        try {
+            statement.clearParameters();
+            statement.clearBatch();
+            statement.clearWarnings();
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            return;
+        }
+        var replaced = cache.put(key, statement);
+        if (replaced != null && replaced != statement) {
+            closeQuietly(replaced);
+        }
+    }
+
+    private synchronized void clear() {
+        cache.values().forEach(this::closeQuietly);
+        cache.clear();
+    }
+
+    private void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+            // the statement is discarded anyway
+        }
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record StatementKey(String sql, int autoGeneratedKeys) {
+    }
+
+    /**
+     * Handles a cached statement while it is in use: closing it returns it to the cache, after closing the
+     * {@link ResultSet} it produced last.
+     */
+    private class CachedStatement implements InvocationHandler {
+        private final StatementKey key;
+        private final PreparedStatement statement;
+        private ResultSet resultSet;
+        private boolean closed;
+
+        CachedStatement(StatementKey key, PreparedStatement statement) {
+            this.key = key;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        if (resultSet != null) {
+                            resultSet.close();
+                        }
+                        release(key, statement);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed || statement.isClosed();
+                }
+                case "getConnection" -> {
+                    return connectionProxy;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            var result = delegate(statement, method, args);
+            if (result instanceof ResultSet rs) {
+                resultSet = rs;
+            }
+            return result;
+        }
+    }
+}
@@ -21,15 +21,19 @@ import org.junit.jupiter.api.Test;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import javax.sql.DataSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,6 +64,29 @@ class CommonsConnectionPoolTest {
         verify(testQueryPreparedStatement, atLeastOnce()).execute();
     }
 
+    @Test
+    void getConnection_shouldCacheStatements_whenStatementCacheEnabled() throws SQLException {
+        var connection = mock(Connection.class);
+        var preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), anyInt())).thenReturn(preparedStatement);
+        var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance()
+                .testConnectionOnCreate(false)
+                .testConnectionOnBorrow(false)
+                .statementCacheSize(4)
+                .build();
+        var connectionPool = new CommonsConnectionPool(dataSource, commonsConnectionPoolConfig, monitor);
+
+        var result = connectionPool.getConnection();
+        result.prepareStatement("SELECT 1").close();
+        result.prepareStatement("SELECT 1").close();
+
+        verify(connection, times(1)).prepareStatement("SELECT 1", Statement.NO_GENERATED_KEYS);
+        verify(preparedStatement, never()).close();
+        verify(preparedStatement, times(2)).clearParameters();
+    }
+
     @Test
     void getConnectionAnyExceptionThrownThrowsSqlException() throws SQLException {
         var dataSource = mock(DataSource.class);
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.pool.commons;
+
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.sql.SqlQueryExecutorConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementCachingConnectionTest {
+
+    private Connection physicalConnection;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        physicalConnection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID());
+        connection = StatementCachingConnection.wrap(physicalConnection, 2);
+        try (var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE key_value (k VARCHAR(80) PRIMARY KEY NOT NULL, v VARCHAR(80) NOT NULL)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void shouldReuseStatement_whenClosed() throws SQLException {
+        var first = connection.prepareStatement("SELECT 1");
+        var physical = first.unwrap(PreparedStatement.class);
+        first.close();
+
+        var second = connection.prepareStatement("SELECT 1");
+
+        assertThat(first.isClosed()).isTrue();
+        assertThat(second.isClosed()).isFalse();
+        assertThat(second.unwrap(PreparedStatement.class)).isSameAs(physical);
+        assertThat(physical.isClosed()).isFalse();
+    }
+
+    @Test
+    void shouldNotShareStatement_whenInUse() throws SQLException {
+        try (var first = connection.prepareStatement("SELECT 1"); var second = connection.prepareStatement("SELECT 1")) {
+            assertThat(second.unwrap(PreparedStatement.class)).isNotSameAs(first.unwrap(PreparedStatement.class));
+        }
+    }
+
+    @Test
+    void shouldCacheStatementsPerGeneratedKeysFlag() throws SQLException {
+        var sql = "INSERT INTO key_value (k, v) VALUES (?, ?)";
+        var plain = connection.prepareStatement(sql);
+        var physical = plain.unwrap(PreparedStatement.class);
+        plain.close();
+
+        try (var withKeys = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+            assertThat(withKeys.unwrap(PreparedStatement.class)).isNotSameAs(physical);
+        }
+    }
+
+    @Test
+    void shouldCloseLeastRecentlyUsedStatement_whenCacheIsFull() throws SQLException {
+        var first = connection.prepareStatement("SELECT 1");
+        var evicted = first.unwrap(PreparedStatement.class);
+        first.close();
+
+        connection.prepareStatement("SELECT 2").close();
+        connection.prepareStatement("SELECT 3").close();
+
+        assertThat(evicted.isClosed()).isTrue();
+    }
+
+    @Test
+    void shouldClearParameters_whenStatementIsReused() throws SQLException {
+        var sql = "INSERT INTO key_value (k, v) VALUES (?, ?)";
+        try (var statement = connection.prepareStatement(sql)) {
+            statement.setString(1, "key");
+            statement.setString(2, "value");
+            statement.executeUpdate();
+        }
+
+        try (var statement = connection.prepareStatement(sql)) {
+            statement.setString(1, "other");
+            assertThat(statement.getParameterMetaData().getParameterCount()).isEqualTo(2);
+            assertThatThrownBy(statement::executeUpdate).isInstanceOf(SQLException.class);
+        }
+    }
+
+    @Test
+    void shouldCloseCachedStatements_whenConnectionIsClosed() throws SQLException {
+        var statement = connection.prepareStatement("SELECT 1");
+        var physical = statement.unwrap(PreparedStatement.class);
+        statement.close();
+
+        connection.close();
+
+        assertThat(physical.isClosed()).isTrue();
+        assertThat(physicalConnection.isClosed()).isTrue();
+    }
+
+    @Test
+    void shouldExecuteBatchesOnCachedStatements() {
+        var executor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(10, 3));
+        var sql = "INSERT INTO key_value (k, v) VALUES (?, ?)";
+
+        for (var round = 0; round < 2; round++) {
+            var prefix = "round" + round;
+            var rows = IntStream.range(0, 5).mapToObj(i -> new Object[]{ prefix + i, "value" }).toList();
+            assertThat(executor.executeBatch(connection, sql, rows)).containsOnly(1);
+        }
+
+        var count = executor.single(connection, false, rs -> rs.getInt(1), "SELECT COUNT(*) FROM key_value");
+        assertThat(count).isEqualTo(10);
+    }
+}
@@ -20,7 +20,9 @@ import org.eclipse.edc.spi.security.Vault;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.io.Writer;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -28,12 +30,19 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * Implements a vault backed by a properties file.
+ * <p>
+ * Updates are serialized with a {@link ReentrantLock} rather than {@code synchronized}, and the file is read and written
+ * outside the monitors of {@link Properties}, so threads doing the file I/O, including virtual threads, are not pinned.
  */
 public class FsVault implements Vault {
     private final AtomicReference<Map<String, String>> secrets = new AtomicReference<>(new HashMap<>());
+    private final Lock lock = new ReentrantLock();
     private final Path vaultFile;
     private final boolean persistent;
 
@@ -56,48 +65,56 @@ public class FsVault implements Vault {
     }
 
     @Override
-    public synchronized Result<Void> storeSecret(String key, String value) {
-        var newSecrets = new HashMap<>(secrets.get());
-        newSecrets.put(key, value);
-        var properties = new Properties();
-        properties.putAll(newSecrets);
-        if (persistent) {
-            try (Writer writer = Files.newBufferedWriter(vaultFile)) {
-                properties.store(writer, null);
-            } catch (IOException e) {
-                return Result.failure(e.getMessage());
-            }
-        }
-        secrets.set(newSecrets);
-        return Result.success();
+    public Result<Void> storeSecret(String key, String value) {
+        return update(secrets -> secrets.put(key, value));
     }
 
     @Override
     public Result<Void> deleteSecret(String key) {
-        var newSecrets = new HashMap<>(secrets.get());
-        newSecrets.remove(key);
-        var properties = new Properties();
-        properties.putAll(newSecrets);
-        if (persistent) {
-            try (Writer writer = Files.newBufferedWriter(vaultFile)) {
-                properties.store(writer, null);
-            } catch (IOException e) {
-                return Result.failure(e.getMessage());
+        return update(secrets -> secrets.remove(key));
+    }
+
+    private Result<Void> update(Consumer<Map<String, String>> change) {
+        lock.lock();
+        try {
+            var newSecrets = new HashMap<>(secrets.get());
+            change.accept(newSecrets);
+            if (persistent) {
+                try {
+                    Files.writeString(vaultFile, toPropertiesString(newSecrets));
+                } catch (IOException e) {
+                    return Result.failure(e.getMessage());
+                }
             }
+            secrets.set(newSecrets);
+            return Result.success();
+        } finally {
+            lock.unlock();
         }
-        secrets.set(newSecrets);
-        return Result.success();
     }
 
     private void loadSecretFile() {
-        try (var stream = Files.newInputStream(this.vaultFile)) {
+        lock.lock();
+        try {
             var properties = new Properties();
-            properties.load(stream);
+            properties.load(new StringReader(new String(Files.readAllBytes(vaultFile), StandardCharsets.ISO_8859_1)));
+            var newSecrets = new HashMap<>(secrets.get());
             for (var name : properties.stringPropertyNames()) {
-                secrets.get().put(name, properties.getProperty(name));
+                newSecrets.put(name, properties.getProperty(name));
             }
+            secrets.set(newSecrets);
         } catch (IOException e) {
             throw new EdcException(e);
+        } finally {
+            lock.unlock();
         }
     }
+
+    private String toPropertiesString(Map<String, String> secrets) throws IOException {
+        var properties = new Properties();
+        properties.putAll(secrets);
+        var writer = new StringWriter();
+        properties.store(writer, null);
+        return writer.toString();
+    }
 }
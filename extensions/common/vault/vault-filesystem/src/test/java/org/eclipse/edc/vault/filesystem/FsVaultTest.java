@@ -16,11 +16,18 @@ package org.eclipse.edc.vault.filesystem;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FsVaultTest {
     private static final String TEST_VAULT = "test-vault.properties";
@@ -33,6 +40,30 @@ class FsVaultTest {
         assertEquals("secretvalue2", vault.resolveSecret("secret2"));
     }
 
+    @Test
+    void verifyStoreAndDelete_persistent(@TempDir Path tempDir) throws IOException {
+        var file = Files.writeString(tempDir.resolve("vault.properties"), "secret1=secretvalue1\n");
+        var persistentVault = new FsVault(file, true);
+
+        assertTrue(persistentVault.storeSecret("secret2", "secretvalue2").succeeded());
+        assertTrue(persistentVault.deleteSecret("secret1").succeeded());
+
+        var reloaded = new FsVault(file, false);
+        assertEquals("secretvalue2", reloaded.resolveSecret("secret2"));
+        assertNull(reloaded.resolveSecret("secret1"));
+    }
+
+    @Test
+    void verifyConcurrentStores(@TempDir Path tempDir) throws IOException {
+        var file = Files.writeString(tempDir.resolve("vault.properties"), "");
+        var persistentVault = new FsVault(file, true);
+
+        IntStream.range(0, 50).parallel().forEach(i -> persistentVault.storeSecret("key" + i, "value" + i));
+
+        var reloaded = new FsVault(file, false);
+        IntStream.range(0, 50).forEach(i -> assertEquals("value" + i, reloaded.resolveSecret("key" + i)));
+    }
+
     @BeforeEach
     void setUp() throws URISyntaxException {
         var uri = getClass().getClassLoader().getResource(TEST_VAULT).toURI();
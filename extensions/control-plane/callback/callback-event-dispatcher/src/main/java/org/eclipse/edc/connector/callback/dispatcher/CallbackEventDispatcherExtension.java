@@ -20,12 +20,22 @@ import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannelRegistry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static java.lang.String.format;
 
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
@@ -33,6 +43,14 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    private static final long DEFAULT_OUTBOX_DELIVERY_TIMEOUT_MILLIS = 30_000;
+
+    @Setting(value = "If true, callbacks are stored in the outbox together with the entity change and delivered asynchronously, instead of being invoked on the publishing thread", defaultValue = "false", type = "boolean")
+    public static final String CALLBACK_OUTBOX_ENABLED = "edc.callback.outbox.enabled";
+
+    @Setting(value = "The timeout in milliseconds of a callback invocation done by the outbox", defaultValue = DEFAULT_OUTBOX_DELIVERY_TIMEOUT_MILLIS + "", type = "long")
+    public static final String CALLBACK_OUTBOX_DELIVERY_TIMEOUT = "edc.callback.outbox.delivery-timeout-millis";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +63,18 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    TypeManager typeManager;
+
+    @Inject
+    Clock clock;
+
+    @Inject(required = false)
+    OutboxStore outboxStore;
+
+    @Inject(required = false)
+    OutboxDeliveryChannelRegistry outboxChannelRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -56,6 +86,18 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
         var resolverRegistry = new CallbackProtocolResolverRegistryImpl();
         context.registerService(CallbackProtocolResolverRegistry.class, resolverRegistry);
 
+        if (context.getSetting(CALLBACK_OUTBOX_ENABLED, false)) {
+            if (outboxStore == null || outboxChannelRegistry == null) {
+                throw new EdcException(format("Setting %s requires the event outbox extension", CALLBACK_OUTBOX_ENABLED));
+            }
+            var timeout = Duration.ofMillis(context.getSetting(CALLBACK_OUTBOX_DELIVERY_TIMEOUT, DEFAULT_OUTBOX_DELIVERY_TIMEOUT_MILLIS));
+            outboxChannelRegistry.register(OutboxCallbackEventDispatcher.CHANNEL,
+                    new CallbackOutboxDeliveryChannel(dispatcherRegistry, resolverRegistry, typeManager.getMapper(), timeout));
+            // every callback is stored in the outbox within the publishing transaction, and delivered asynchronously
+            router.registerSync(Event.class, new OutboxCallbackEventDispatcher(callbackRegistry, outboxStore, typeManager.getMapper(), clock));
+            return;
+        }
+
         // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
         router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannel;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxEvents;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers the callback outbox entries stored by the {@link OutboxCallbackEventDispatcher}.
+ */
+public class CallbackOutboxDeliveryChannel implements OutboxDeliveryChannel {
+
+    private final RemoteMessageDispatcherRegistry dispatcher;
+    private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final ObjectMapper mapper;
+    private final Duration timeout;
+
+    public CallbackOutboxDeliveryChannel(RemoteMessageDispatcherRegistry dispatcher, CallbackProtocolResolverRegistry resolverRegistry,
+                                         ObjectMapper mapper, Duration timeout) {
+        this.dispatcher = dispatcher;
+        this.resolverRegistry = resolverRegistry;
+        this.mapper = mapper;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Result<Void> deliver(OutboxEntry entry) {
+        try {
+            var callback = mapper.readValue(entry.getChannelData(), CallbackAddress.class);
+            var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
+            if (protocol == null) {
+                return Result.failure(format("Failed to resolve protocol for URI %s", callback.getUri()));
+            }
+
+            var envelope = OutboxEvents.envelopeOf(entry, mapper);
+            var result = dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, envelope, protocol))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            return result.succeeded() ? Result.success() : Result.failure(result.getFailureDetail());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.failure(format("Interrupted while invoking callback for entry %s", entry.getId()));
+        } catch (Exception e) {
+            return Result.failure(format("Failed to invoke callback for entry %s: %s", entry.getId(), e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.outbox.OutboxEvents;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.time.Clock;
+import java.util.stream.Stream;
+
+/**
+ * Subscriber that stores an outbox entry for every callback that matches the {@link Event#name()}, both transactional
+ * and not. It has to be registered as a synchronous subscriber, so the entries get stored in the same transaction of
+ * the entity change, the delivery is then done by the {@link CallbackOutboxDeliveryChannel}.
+ */
+public class OutboxCallbackEventDispatcher implements EventSubscriber {
+
+    public static final String CHANNEL = "callback";
+
+    private final CallbackRegistry callbackRegistry;
+    private final OutboxStore outboxStore;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+
+    public OutboxCallbackEventDispatcher(CallbackRegistry callbackRegistry, OutboxStore outboxStore, ObjectMapper mapper, Clock clock) {
+        this.callbackRegistry = callbackRegistry;
+        this.outboxStore = outboxStore;
+        this.mapper = mapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> eventEnvelope) {
+        var payload = eventEnvelope.getPayload();
+        var eventName = payload.name();
+
+        Stream.concat(callbackRegistry.resolve(eventName).stream(), payload.getCallbackAddresses().stream())
+                .filter(callback -> callback.getEvents().stream().anyMatch(eventName::startsWith))
+                .forEach(callback -> {
+                    var now = clock.millis();
+                    var entityId = payload.entityId();
+                    var entry = OutboxEvents.entryFor(CHANNEL, eventEnvelope, mapper)
+                            .orderingKey(entityId == null ? null : callback.getUri() + "#" + entityId)
+                            .endpoint(callback.getUri())
+                            .channelData(toJson(callback))
+                            .createdAt(now)
+                            .nextAttemptAt(now)
+                            .build();
+
+                    outboxStore.save(entry);
+                });
+    }
+
+    private String toJson(CallbackAddress callback) {
+        try {
+            return mapper.writeValueAsString(callback);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+}
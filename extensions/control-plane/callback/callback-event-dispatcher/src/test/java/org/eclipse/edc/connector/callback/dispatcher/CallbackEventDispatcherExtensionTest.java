@@ -17,18 +17,26 @@ package org.eclipse.edc.connector.callback.dispatcher;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryChannelRegistry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.eclipse.edc.spi.system.injection.ObjectFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 public class CallbackEventDispatcherExtensionTest {
@@ -55,6 +63,20 @@ public class CallbackEventDispatcherExtensionTest {
 
     }
 
+    @Test
+    void initialize_shouldRegisterOutboxDispatcher_whenOutboxEnabled(ServiceExtensionContext context, ObjectFactory factory) {
+        var channelRegistry = mock(OutboxDeliveryChannelRegistry.class);
+        context.registerService(OutboxStore.class, mock(OutboxStore.class));
+        context.registerService(OutboxDeliveryChannelRegistry.class, channelRegistry);
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.callback.outbox.enabled", "true")));
+
+        factory.constructInstance(CallbackEventDispatcherExtension.class).initialize(context);
+
+        verify(channelRegistry).register(eq(OutboxCallbackEventDispatcher.CHANNEL), any(CallbackOutboxDeliveryChannel.class));
+        verify(router).registerSync(eq(Event.class), any(OutboxCallbackEventDispatcher.class));
+        verify(router, never()).register(any(), any());
+    }
+
     private ArgumentMatcher<CallbackEventDispatcher> callbackEventDispatcherMatcher(boolean transactional) {
         return dispatcher -> dispatcher.isTransactional() == transactional;
     }
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxCallbackEventDispatcherTest {
+
+    private final CallbackRegistry callbackRegistry = mock();
+    private final OutboxStore outboxStore = mock();
+    private final RemoteMessageDispatcherRegistry dispatcherRegistry = mock();
+    private final CallbackProtocolResolverRegistry resolverRegistry = mock();
+    private final TypeManager typeManager = new TypeManager();
+    private final OutboxCallbackEventDispatcher dispatcher = new OutboxCallbackEventDispatcher(callbackRegistry, outboxStore, typeManager.getMapper(), Clock.systemUTC());
+    private final CallbackOutboxDeliveryChannel channel = new CallbackOutboxDeliveryChannel(dispatcherRegistry, resolverRegistry, typeManager.getMapper(), Duration.ofSeconds(1));
+
+    @Test
+    void on_shouldStoreAnEntryForEveryMatchingCallback() {
+        var staticCallback = callback("local://static", "transfer.process", true);
+        var dynamicCallback = callback("local://dynamic", "transfer.process.completed", false);
+        var notMatching = callback("local://other", "contract.negotiation", false);
+        when(callbackRegistry.resolve(any())).thenReturn(List.of(staticCallback));
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id")
+                .callbackAddresses(List.of(dynamicCallback, notMatching)).build();
+
+        dispatcher.on(envelope(event));
+
+        var captor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(outboxStore, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(OutboxEntry::getEndpoint).containsExactly("local://static", "local://dynamic");
+        assertThat(captor.getAllValues()).extracting(OutboxEntry::getOrderingKey).containsExactly("local://static#id", "local://dynamic#id");
+        assertThat(captor.getAllValues()).allSatisfy(entry -> {
+            assertThat(entry.getChannel()).isEqualTo(OutboxCallbackEventDispatcher.CHANNEL);
+            assertThat(entry.getEventType()).isEqualTo(TransferProcessCompleted.class.getName());
+        });
+    }
+
+    @Test
+    void on_shouldNotStore_whenNoCallbackMatches() {
+        when(callbackRegistry.resolve(any())).thenReturn(List.of());
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build();
+
+        dispatcher.on(envelope(event));
+
+        verify(outboxStore, never()).save(any());
+    }
+
+    @Test
+    void deliver_shouldDispatchStoredEvent() {
+        var callback = callback("local://test", "transfer.process", false);
+        when(callbackRegistry.resolve(any())).thenReturn(List.of(callback));
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build();
+        dispatcher.on(envelope(event));
+        var captor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(outboxStore).save(captor.capture());
+
+        var result = channel.deliver(captor.getValue());
+
+        assertThat(result.succeeded()).isTrue();
+        var messageCaptor = ArgumentCaptor.forClass(CallbackEventRemoteMessage.class);
+        verify(dispatcherRegistry).dispatch(any(), messageCaptor.capture());
+        assertThat(messageCaptor.getValue().getCounterPartyAddress()).isEqualTo("local://test");
+        assertThat(messageCaptor.getValue().getEventEnvelope().getPayload()).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    void deliver_shouldFail_whenDispatchFails() {
+        var callback = callback("local://test", "transfer.process", false);
+        when(callbackRegistry.resolve(any())).thenReturn(List.of(callback));
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        dispatcher.on(envelope(TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build()));
+        var captor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(outboxStore).save(captor.capture());
+
+        var result = channel.deliver(captor.getValue());
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    private CallbackAddress callback(String uri, String event, boolean transactional) {
+        return CallbackAddress.Builder.newInstance().uri(uri).events(Set.of(event)).transactional(transactional).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Event> EventEnvelope<E> envelope(E e) {
+        return EventEnvelope.Builder.newInstance()
+                .id("test")
+                .at(10)
+                .payload(e)
+                .build();
+    }
+}
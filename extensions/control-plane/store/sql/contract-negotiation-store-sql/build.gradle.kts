@@ -24,9 +24,13 @@ dependencies {
     implementation(project(":spi:common:transaction-datasource-spi"))
     implementation(project(":extensions:common:sql:sql-core"))
     implementation(project(":extensions:common:sql:sql-lease"))
+    implementation(libs.micrometer)
 
 
     testImplementation(project(":core:common:junit"))
+    testImplementation(project(":core:control-plane:control-plane-aggregate-services"))
+    testImplementation(project(":spi:control-plane:transfer-spi"))
+    testImplementation(project(":spi:common:validator-spi"))
     testImplementation(testFixtures(project(":extensions:common:sql:sql-lease")))
     testImplementation(libs.assertj)
     testImplementation(testFixtures(project(":spi:control-plane:contract-spi")))
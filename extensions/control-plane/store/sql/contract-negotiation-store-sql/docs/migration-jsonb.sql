@@ -0,0 +1,17 @@
+-- Statements are designed for and tested with Postgres only!
+-- Migrates a database created with a previous version of the schema, that stored JSON payloads as JSON, to JSONB.
+-- The columns are rewritten, so the tables are locked for the duration of the migration.
+
+ALTER TABLE edc_contract_agreement
+    ALTER COLUMN policy TYPE JSONB USING policy::jsonb;
+
+ALTER TABLE edc_contract_negotiation
+    ALTER COLUMN contract_offers TYPE JSONB USING contract_offers::jsonb,
+    ALTER COLUMN callback_addresses TYPE JSONB USING callback_addresses::jsonb,
+    ALTER COLUMN trace_context TYPE JSONB USING trace_context::jsonb;
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_agreement_id_index
+    ON edc_contract_negotiation (agreement_id);
+
+CREATE INDEX IF NOT EXISTS contract_agreement_asset_id_index
+    ON edc_contract_agreement (asset_id);
@@ -31,7 +31,7 @@ CREATE TABLE IF NOT EXISTS edc_contract_agreement
     start_date        BIGINT,
     end_date          INTEGER,
     asset_id          VARCHAR NOT NULL,
-    policy            JSON
+    policy            JSONB
 );
 
 
@@ -54,9 +54,9 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
     agreement_id         VARCHAR
         CONSTRAINT contract_negotiation_contract_agreement_id_fk
             REFERENCES edc_contract_agreement,
-    contract_offers      JSON,
-    callback_addresses   JSON,
-    trace_context        JSON,
+    contract_offers      JSONB,
+    callback_addresses   JSONB,
+    trace_context        JSONB,
     pending              BOOLEAN DEFAULT FALSE,
     lease_id             VARCHAR
         CONSTRAINT contract_negotiation_lease_lease_id_fk
@@ -79,3 +79,17 @@ CREATE UNIQUE INDEX IF NOT EXISTS contract_negotiation_id_uindex
 
 CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
     ON edc_contract_agreement (agr_id);
+
+-- used by the state machine to fetch the negotiations to be processed, terminal states (FINALIZED and TERMINATED) are
+-- not indexed
+CREATE INDEX IF NOT EXISTS contract_negotiation_active_state_index
+    ON edc_contract_negotiation (state, state_timestamp) WHERE state NOT IN (1200, 1400);
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_lease_id_index
+    ON edc_contract_negotiation (lease_id);
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_agreement_id_index
+    ON edc_contract_negotiation (agreement_id);
+
+CREATE INDEX IF NOT EXISTS contract_agreement_asset_id_index
+    ON edc_contract_agreement (asset_id);
@@ -14,13 +14,17 @@
 
 package org.eclipse.edc.connector.store.sql.contractnegotiation;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.store.sql.contractnegotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.SqlContractNegotiationStore;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.ContractNegotiationStatements;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -36,6 +40,11 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
 
     public static final String DATASOURCE_NAME_SETTING = "edc.datasource.contractnegotiation.name";
 
+    private static final long DEFAULT_AGREEMENT_CACHE_MAX_BYTES = 16 * 1024 * 1024;
+
+    @Setting(value = "The max size in bytes of the serialized policies of the contract agreements kept in memory once parsed, 0 disables the cache", defaultValue = DEFAULT_AGREEMENT_CACHE_MAX_BYTES + "", type = "long")
+    public static final String AGREEMENT_CACHE_MAX_BYTES = "edc.sql.store.contractnegotiation.agreement-cache.max-bytes";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -54,10 +63,15 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
+        var agreementCache = new ContractAgreementCache(context.getConfig().getLong(AGREEMENT_CACHE_MAX_BYTES, DEFAULT_AGREEMENT_CACHE_MAX_BYTES),
+                meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
         var sqlStore = new SqlContractNegotiationStore(dataSourceRegistry, getDataSourceName(context), trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor, agreementCache);
         context.registerService(ContractNegotiationStore.class, sqlStore);
     }
 
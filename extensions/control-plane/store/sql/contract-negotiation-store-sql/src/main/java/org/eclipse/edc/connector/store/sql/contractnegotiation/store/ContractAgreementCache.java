@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.store.sql.contractnegotiation.store;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.spi.types.domain.agreement.ContractAgreement;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the deserialized {@link ContractAgreement}s, which are immutable once stored, so that the agreement lookups
+ * done for every transfer request and policy evaluation don't need to query and parse the policy again.
+ * <p>
+ * The cache is bounded by the total weight of its entries, the size of the serialized policy of the agreement, and
+ * evicts the least recently used agreements first. Agreements heavier than the max weight are never cached, so a max
+ * weight of 0 disables the cache.
+ * <p>
+ * Hits, misses and evictions are reported by the {@code edc.contractagreement.cache.requests} and
+ * {@code edc.contractagreement.cache.evictions} counters, the number and the weight of the cached agreements by the
+ * {@code edc.contractagreement.cache.size} and {@code edc.contractagreement.cache.weight} gauges.
+ */
+public class ContractAgreementCache {
+
+    private static final String REQUESTS_METRIC = "edc.contractagreement.cache.requests";
+    private static final String EVICTIONS_METRIC = "edc.contractagreement.cache.evictions";
+    private static final String SIZE_METRIC = "edc.contractagreement.cache.size";
+    private static final String WEIGHT_METRIC = "edc.contractagreement.cache.weight";
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxWeight;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private long weight;
+
+    public ContractAgreementCache(long maxWeight, MeterRegistry meterRegistry) {
+        this.maxWeight = maxWeight;
+        hits = meterRegistry.counter(REQUESTS_METRIC, "result", "hit");
+        misses = meterRegistry.counter(REQUESTS_METRIC, "result", "miss");
+        evictions = meterRegistry.counter(EVICTIONS_METRIC);
+        meterRegistry.gauge(SIZE_METRIC, this, ContractAgreementCache::size);
+        meterRegistry.gauge(WEIGHT_METRIC, this, ContractAgreementCache::weight);
+    }
+
+    /**
+     * Returns the cached agreement.
+     *
+     * @param id the agreement id.
+     * @return the agreement, null if it is not cached.
+     */
+    public @Nullable ContractAgreement get(String id) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(id);
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.agreement();
+    }
+
+    /**
+     * Caches the agreement, evicting the least recently used ones if the max weight is exceeded.
+     *
+     * @param agreement the agreement.
+     * @param agreementWeight the weight of the agreement, e.g. the size of its serialized policy.
+     */
+    public void put(ContractAgreement agreement, long agreementWeight) {
+        if (agreementWeight > maxWeight) {
+            return;
+        }
+        synchronized (entries) {
+            var previous = entries.put(agreement.getId(), new Entry(agreement, agreementWeight));
+            weight += agreementWeight - (previous == null ? 0 : previous.weight());
+            var iterator = entries.values().iterator();
+            while (weight > maxWeight && iterator.hasNext()) {
+                weight -= iterator.next().weight();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes the agreement from the cache.
+     *
+     * @param id the agreement id.
+     */
+    public void invalidate(String id) {
+        synchronized (entries) {
+            var removed = entries.remove(id);
+            if (removed != null) {
+                weight -= removed.weight();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached agreements.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the total weight of the cached agreements.
+     */
+    public long weight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    private record Entry(ContractAgreement agreement, long weight) {
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.store.sql.contractnegotiation.store;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.ContractNegotiationStatements;
@@ -39,7 +40,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -54,14 +57,24 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final ContractAgreementCache agreementCache;
+    private final ThreadLocal<Set<String>> uncommittedAgreements = ThreadLocal.withInitial(HashSet::new);
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
                                        ContractNegotiationStatements statements, String connectorId, Clock clock,
                                        QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, connectorId, clock, queryExecutor, new ContractAgreementCache(0, new SimpleMeterRegistry()));
+    }
+
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, String connectorId, Clock clock,
+                                       QueryExecutor queryExecutor, ContractAgreementCache agreementCache) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
+        this.agreementCache = agreementCache;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, connectorId, statements, clock, queryExecutor);
     }
 
@@ -89,9 +102,14 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     @Override
     public @Nullable ContractAgreement findContractAgreement(String contractId) {
+        var cached = agreementCache.get(contractId);
+        if (cached != null) {
+            return cached;
+        }
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                return findContractAgreementInternal(connection, contractId);
+                var stmt = statements.getFindContractAgreementTemplate();
+                return queryExecutor.single(connection, false, this::mapAndCacheContractAgreement, stmt, contractId);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -173,7 +191,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     public @NotNull List<ContractNegotiation> nextNotLeased(int max, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).toList();
-            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).sortField("stateTimestamp").build();
             var statement = statements.createNegotiationsQuery(querySpec)
                     .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
 
@@ -182,7 +200,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                leaseContext.withConnection(connection).acquireLeases(negotiations.stream().map(ContractNegotiation::getId).toList());
                 return negotiations;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -246,6 +264,19 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         return queryExecutor.single(connection, false, this::mapContractAgreement, stmt, contractId);
     }
 
+    /**
+     * Agreements are immutable once stored, so the parsed ones are cached and only looked up in the database if they
+     * are not cached yet.
+     */
+    private ContractAgreement findAndCacheContractAgreement(Connection connection, String contractId) {
+        var cached = agreementCache.get(contractId);
+        if (cached != null) {
+            return cached;
+        }
+        var stmt = statements.getFindContractAgreementTemplate();
+        return queryExecutor.single(connection, false, this::mapAndCacheContractAgreement, stmt, contractId);
+    }
+
     private @Nullable ContractNegotiation findInternal(Connection connection, String id) {
         var sql = statements.getFindTemplate();
         return queryExecutor.single(connection, false, contractNegotiationMapper(), sql, id);
@@ -306,8 +337,10 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
                 var agrId = contractAgreement.getId();
+                trackUncommitted(agrId);
 
-                if (findContractAgreement(agrId) == null) {
+                // bypass the cache, it could contain an agreement whose transaction has been rolled back
+                if (findContractAgreementInternal(connection, agrId) == null) {
                     // insert agreement
                     var sql = statements.getInsertAgreementTemplate();
                     queryExecutor.execute(connection, sql, contractAgreement.getId(),
@@ -326,6 +359,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                             contractAgreement.getAssetId(),
                             toJson(contractAgreement.getPolicy()),
                             agrId);
+                    agreementCache.invalidate(agrId);
                 }
 
             } catch (SQLException e) {
@@ -344,14 +378,38 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         return list.isEmpty() ? null : list.get(0);
     }
 
+    private ContractAgreement mapAndCacheContractAgreement(ResultSet resultSet) throws SQLException {
+        var policyJson = resultSet.getString(statements.getPolicyColumn());
+        var agreement = mapContractAgreement(resultSet, policyJson);
+        if (!uncommittedAgreements.get().contains(agreement.getId())) {
+            agreementCache.put(agreement, policyJson.length());
+        }
+        return agreement;
+    }
+
+    /**
+     * An agreement written by the current transaction must not be cached when read back, as the transaction could
+     * still be rolled back. Agreements read from other transactions have been committed, so they are cached.
+     */
+    private void trackUncommitted(String agreementId) {
+        var uncommitted = uncommittedAgreements.get();
+        if (uncommitted.add(agreementId)) {
+            transactionContext.registerSynchronization(() -> uncommitted.remove(agreementId));
+        }
+    }
+
     private ContractAgreement mapContractAgreement(ResultSet resultSet) throws SQLException {
+        return mapContractAgreement(resultSet, resultSet.getString(statements.getPolicyColumn()));
+    }
+
+    private ContractAgreement mapContractAgreement(ResultSet resultSet, String policyJson) throws SQLException {
         return ContractAgreement.Builder.newInstance()
                 .id(resultSet.getString(statements.getContractAgreementIdColumn()))
                 .providerId(resultSet.getString(statements.getProviderAgentColumn()))
                 .consumerId(resultSet.getString(statements.getConsumerAgentColumn()))
                 .assetId(resultSet.getString(statements.getAssetIdColumn()))
                 .contractSigningDate(resultSet.getLong(statements.getSigningDateColumn()))
-                .policy(fromJson(resultSet.getString(statements.getPolicyColumn()), new TypeReference<>() {
+                .policy(fromJson(policyJson, new TypeReference<>() {
                 }))
                 .build();
     }
@@ -370,7 +428,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
             if (agreementId == null) {
                 return null;
             } else {
-                return findContractAgreementInternal(connection, agreementId);
+                return findAndCacheContractAgreement(connection, agreementId);
             }
         }));
     }
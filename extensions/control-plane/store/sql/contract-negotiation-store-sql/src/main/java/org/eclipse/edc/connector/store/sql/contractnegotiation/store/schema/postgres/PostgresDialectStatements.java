@@ -43,10 +43,10 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
     }
 
     /**
-     * Overridable operator to convert strings to JSON. For postgres, this is the "::json" operator
+     * Overridable operator to convert strings to JSON. For postgres, this is the "::jsonb" operator
      */
     @Override
     public String getFormatAsJsonOperator() {
-        return PostgresDialect.getJsonCastOperator();
+        return PostgresDialect.getJsonbCastOperator();
     }
 }
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.store.sql.contractnegotiation.store;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.types.domain.agreement.ContractAgreement;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractAgreementCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void get_shouldReturnCachedAgreement() {
+        var cache = new ContractAgreementCache(100, meterRegistry);
+        var agreement = agreement("id");
+        cache.put(agreement, 10);
+
+        assertThat(cache.get("id")).isSameAs(agreement);
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(counter("result", "hit")).isEqualTo(1);
+        assertThat(counter("result", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenMaxWeightExceeded() {
+        var cache = new ContractAgreementCache(100, meterRegistry);
+        cache.put(agreement("first"), 40);
+        cache.put(agreement("second"), 40);
+        cache.get("first");
+
+        cache.put(agreement("third"), 40);
+
+        assertThat(cache.get("second")).isNull();
+        assertThat(cache.get("first")).isNotNull();
+        assertThat(cache.get("third")).isNotNull();
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.weight()).isEqualTo(80);
+        assertThat(meterRegistry.get("edc.contractagreement.cache.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void put_shouldReplaceWeight_whenAgreementAlreadyCached() {
+        var cache = new ContractAgreementCache(100, meterRegistry);
+        cache.put(agreement("id"), 40);
+
+        cache.put(agreement("id"), 30);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(30);
+    }
+
+    @Test
+    void put_shouldNotCache_whenHeavierThanMaxWeight() {
+        var cache = new ContractAgreementCache(100, meterRegistry);
+        cache.put(agreement("small"), 10);
+
+        cache.put(agreement("big"), 101);
+
+        assertThat(cache.get("big")).isNull();
+        assertThat(cache.get("small")).isNotNull();
+    }
+
+    @Test
+    void put_shouldNotCache_whenDisabled() {
+        var cache = new ContractAgreementCache(0, meterRegistry);
+
+        cache.put(agreement("id"), 10);
+
+        assertThat(cache.get("id")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidate_shouldRemoveAgreement() {
+        var cache = new ContractAgreementCache(100, meterRegistry);
+        cache.put(agreement("id"), 10);
+
+        cache.invalidate("id");
+
+        assertThat(cache.get("id")).isNull();
+        assertThat(cache.weight()).isZero();
+    }
+
+    private double counter(String tagKey, String tagValue) {
+        return meterRegistry.get("edc.contractagreement.cache.requests").tag(tagKey, tagValue).counter().count();
+    }
+
+    private ContractAgreement agreement(String id) {
+        return ContractAgreement.Builder.newInstance()
+                .id(id)
+                .providerId("provider")
+                .consumerId("consumer")
+                .assetId("asset")
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.contractnegotiation.store;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.contract.spi.ContractOfferId;
+import org.eclipse.edc.connector.contract.spi.validation.ContractValidationService;
+import org.eclipse.edc.connector.service.contractagreement.ContractAgreementServiceImpl;
+import org.eclipse.edc.connector.service.transferprocess.TransferProcessProtocolServiceImpl;
+import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferRequestMessage;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.iam.VerificationContext;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createContract;
+import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiation;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that the services looking agreements up within a transaction are served by the agreement cache.
+ */
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresContractAgreementCacheTest {
+
+    private static final String REQUESTS_METRIC = "edc.contractagreement.cache.requests";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SqlContractNegotiationStore store;
+    private TransactionContext transactionContext;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
+        var manager = new TypeManager();
+        manager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+        transactionContext = extension.getTransactionContext();
+        store = new SqlContractNegotiationStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                transactionContext, manager.getMapper(), new PostgresDialectStatements(), "connector", Clock.systemUTC(),
+                queryExecutor, new ContractAgreementCache(1024 * 1024, meterRegistry));
+
+        extension.runQuery(Files.readString(Paths.get("./docs/schema.sql")));
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        var dialect = new PostgresDialectStatements();
+        extension.runQuery("DROP TABLE " + dialect.getContractNegotiationTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + dialect.getContractAgreementTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + dialect.getLeaseTableName() + " CASCADE");
+    }
+
+    @Test
+    void contractAgreementService_findById_shouldBeServedFromCache() {
+        var agreement = createContract(ContractOfferId.create("definition", "asset"));
+        store.save(createNegotiation("negotiation", agreement));
+        var service = new ContractAgreementServiceImpl(store, transactionContext);
+
+        assertThat(service.findById(agreement.getId())).isNotNull();
+        assertThat(service.findById(agreement.getId())).isNotNull();
+
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void transferProcessProtocolService_notifyRequested_shouldBeServedFromCache() {
+        var agreement = createContract(ContractOfferId.create("definition", "asset"));
+        store.save(createNegotiation("negotiation", agreement));
+        var tokenRepresentation = TokenRepresentation.Builder.newInstance().token("token").build();
+        IdentityService identityService = mock();
+        when(identityService.verifyJwtToken(any(), isA(VerificationContext.class))).thenReturn(Result.success(ClaimToken.Builder.newInstance().build()));
+        ContractValidationService validationService = mock();
+        when(validationService.validateAgreement(any(), any())).thenReturn(Result.success(null));
+        DataAddressValidatorRegistry dataAddressValidator = mock();
+        when(dataAddressValidator.validateDestination(any())).thenReturn(ValidationResult.success());
+        var service = new TransferProcessProtocolServiceImpl(mock(), transactionContext, store, validationService,
+                identityService, dataAddressValidator, mock(), Clock.systemUTC(), mock(), mock());
+
+        assertThat(service.notifyRequested(transferRequest("first", agreement.getId()), tokenRepresentation).succeeded()).isTrue();
+        assertThat(service.notifyRequested(transferRequest("second", agreement.getId()), tokenRepresentation).succeeded()).isTrue();
+
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(1);
+    }
+
+    private TransferRequestMessage transferRequest(String consumerPid, String agreementId) {
+        return TransferRequestMessage.Builder.newInstance()
+                .consumerPid(consumerPid)
+                .processId(consumerPid)
+                .contractId(agreementId)
+                .protocol("protocol")
+                .callbackAddress("http://any")
+                .dataDestination(DataAddress.Builder.newInstance().type("any").build())
+                .build();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter(REQUESTS_METRIC, "result", result).count();
+    }
+}
@@ -14,16 +14,21 @@
 
 package org.eclipse.edc.connector.store.sql.contractnegotiation.store;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.ContractNegotiationStoreTestBase;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
@@ -32,6 +37,12 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createContract;
+import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiation;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
 /**
  * This test aims to verify those parts of the contract negotiation store, that are specific to Postgres, e.g. JSON
  * query operators.
@@ -51,7 +62,8 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
 
         manager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
         store = new SqlContractNegotiationStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
-                extension.getTransactionContext(), manager.getMapper(), statements, CONNECTOR_NAME, clock, queryExecutor);
+                extension.getTransactionContext(), manager.getMapper(), statements, CONNECTOR_NAME, clock, queryExecutor,
+                new ContractAgreementCache(1024 * 1024, new SimpleMeterRegistry()));
 
         var schema = Files.readString(Paths.get("./docs/schema.sql"));
         extension.runQuery(schema);
@@ -66,6 +78,28 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
         extension.runQuery("DROP TABLE " + dialect.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void queryAgreements_byAssetId_shouldUseIndex(PostgresqlStoreSetupExtension extension) {
+        var query = new PostgresDialectStatements().createAgreementsQuery(QuerySpec.Builder.newInstance().filter(criterion("assetId", "=", "asset")).build());
+
+        var plan = extension.explain(query.getQueryAsString(), query.getParameters());
+
+        assertThat(plan).contains("contract_agreement_asset_id_index");
+    }
+
+    @Test
+    void findContractAgreement_shouldNotCache_whenReadInRolledBackTransaction(PostgresqlStoreSetupExtension extension) {
+        var agreement = createContract(ContractOfferId.create("definition", "asset"));
+
+        assertThatThrownBy(() -> extension.getTransactionContext().execute(() -> {
+            store.save(createNegotiation("negotiation", agreement));
+            assertThat(store.findContractAgreement(agreement.getId())).isNotNull();
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(EdcException.class);
+
+        assertThat(store.findContractAgreement(agreement.getId())).isNull();
+    }
+
     @Override
     protected SqlContractNegotiationStore getContractNegotiationStore() {
         return store;
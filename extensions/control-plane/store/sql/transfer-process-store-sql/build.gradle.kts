@@ -25,6 +25,7 @@ dependencies {
     implementation(project(":spi:common:transaction-datasource-spi"))
     implementation(project(":extensions:common:sql:sql-core"))
     implementation(project(":extensions:common:sql:sql-lease"))
+    implementation(project(":core:common:state-machine"))
 
     testImplementation(project(":core:common:junit"))
     testImplementation(libs.assertj)
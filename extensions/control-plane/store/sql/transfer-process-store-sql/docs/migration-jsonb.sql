@@ -0,0 +1,30 @@
+-- Statements are designed for and tested with Postgres only!
+-- Migrates a database created with a previous version of the schema, that stored JSON payloads as JSON, to JSONB.
+-- The columns are rewritten, so the tables are locked for the duration of the migration.
+
+ALTER TABLE edc_transfer_process
+    ALTER COLUMN trace_context TYPE JSONB USING trace_context::jsonb,
+    ALTER COLUMN resource_manifest TYPE JSONB USING resource_manifest::jsonb,
+    ALTER COLUMN provisioned_resource_set TYPE JSONB USING provisioned_resource_set::jsonb,
+    ALTER COLUMN content_data_address TYPE JSONB USING content_data_address::jsonb,
+    ALTER COLUMN deprovisioned_resources TYPE JSONB USING deprovisioned_resources::jsonb,
+    ALTER COLUMN private_properties TYPE JSONB USING private_properties::jsonb,
+    ALTER COLUMN callback_addresses TYPE JSONB USING callback_addresses::jsonb;
+
+ALTER TABLE edc_data_request
+    ALTER COLUMN data_destination TYPE JSONB USING data_destination::jsonb;
+
+ALTER TABLE IF EXISTS edc_transfer_process_archive
+    ALTER COLUMN trace_context TYPE JSONB USING trace_context::jsonb,
+    ALTER COLUMN resource_manifest TYPE JSONB USING resource_manifest::jsonb,
+    ALTER COLUMN provisioned_resource_set TYPE JSONB USING provisioned_resource_set::jsonb,
+    ALTER COLUMN content_data_address TYPE JSONB USING content_data_address::jsonb,
+    ALTER COLUMN deprovisioned_resources TYPE JSONB USING deprovisioned_resources::jsonb,
+    ALTER COLUMN private_properties TYPE JSONB USING private_properties::jsonb,
+    ALTER COLUMN callback_addresses TYPE JSONB USING callback_addresses::jsonb;
+
+ALTER TABLE IF EXISTS edc_data_request_archive
+    ALTER COLUMN data_destination TYPE JSONB USING data_destination::jsonb;
+
+CREATE INDEX IF NOT EXISTS transfer_process_private_properties_index
+    ON edc_transfer_process USING GIN (private_properties jsonb_path_ops);
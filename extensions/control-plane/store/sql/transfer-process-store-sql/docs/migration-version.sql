@@ -0,0 +1,11 @@
+-- Statements are designed for and tested with Postgres only!
+-- Migrates a database created with a previous version of the schema, that had no version column used for optimistic
+-- concurrency control. Existing rows start from version 0.
+
+ALTER TABLE edc_transfer_process
+    ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN edc_transfer_process.version IS 'incremented on every save, used for optimistic concurrency control';
+
+ALTER TABLE IF EXISTS edc_transfer_process_archive
+    ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
@@ -25,16 +25,17 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
     state_time_stamp           BIGINT,
     created_at                 BIGINT            NOT NULL,
     updated_at                 BIGINT            NOT NULL,
-    trace_context              JSON,
+    trace_context              JSONB,
     error_detail               VARCHAR,
-    resource_manifest          JSON,
-    provisioned_resource_set   JSON,
-    content_data_address       JSON,
-    deprovisioned_resources    JSON,
-    private_properties JSON,
-    callback_addresses         JSON,
+    resource_manifest          JSONB,
+    provisioned_resource_set   JSONB,
+    content_data_address       JSONB,
+    deprovisioned_resources    JSONB,
+    private_properties JSONB,
+    callback_addresses         JSONB,
     pending                    BOOLEAN  DEFAULT FALSE,
     transfer_type              VARCHAR,
+    version                    BIGINT   DEFAULT 0 NOT NULL,
     lease_id                   VARCHAR
         CONSTRAINT transfer_process_lease_lease_id_fk
             REFERENCES edc_lease
@@ -51,6 +52,8 @@ COMMENT ON COLUMN edc_transfer_process.content_data_address IS 'DataAddress seri
 
 COMMENT ON COLUMN edc_transfer_process.deprovisioned_resources IS 'List of deprovisioned resources, serialized as JSON';
 
+COMMENT ON COLUMN edc_transfer_process.version IS 'incremented on every save, used for optimistic concurrency control';
+
 
 CREATE UNIQUE INDEX IF NOT EXISTS transfer_process_id_uindex
     ON edc_transfer_process (transferprocess_id);
@@ -65,7 +68,7 @@ CREATE TABLE IF NOT EXISTS edc_data_request
     protocol            VARCHAR NOT NULL,
     asset_id            VARCHAR NOT NULL,
     contract_id         VARCHAR NOT NULL,
-    data_destination    JSON    NOT NULL,
+    data_destination    JSONB   NOT NULL,
     transfer_process_id VARCHAR NOT NULL
         CONSTRAINT data_request_transfer_process_id_fk
             REFERENCES edc_transfer_process
@@ -78,4 +81,43 @@ CREATE UNIQUE INDEX IF NOT EXISTS data_request_id_uindex
     ON edc_data_request (datarequest_id);
 
 CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
-    ON edc_lease (lease_id);
\ No newline at end of file
+    ON edc_lease (lease_id);
+
+-- used by the state machine to fetch the processes to be processed, terminal states (COMPLETED, TERMINATED and
+-- DEPROVISIONED) are not indexed
+CREATE INDEX IF NOT EXISTS transfer_process_active_state_index
+    ON edc_transfer_process (state, state_time_stamp) WHERE state NOT IN (800, 850, 1000);
+
+-- used by the archiver to fetch the processes in terminal state
+CREATE INDEX IF NOT EXISTS transfer_process_terminal_state_index
+    ON edc_transfer_process (state_time_stamp) WHERE state IN (800, 850, 1000);
+
+CREATE INDEX IF NOT EXISTS transfer_process_lease_id_index
+    ON edc_transfer_process (lease_id);
+
+CREATE INDEX IF NOT EXISTS data_request_transfer_process_id_index
+    ON edc_data_request (transfer_process_id);
+
+CREATE INDEX IF NOT EXISTS data_request_process_id_index
+    ON edc_data_request (process_id);
+
+-- serves containment queries on the private properties, e.g. privateProperties.key = 'value'
+CREATE INDEX IF NOT EXISTS transfer_process_private_properties_index
+    ON edc_transfer_process USING GIN (private_properties jsonb_path_ops);
+
+-- transfer processes in terminal state moved out of edc_transfer_process by the archiver, must have the same columns
+CREATE TABLE IF NOT EXISTS edc_transfer_process_archive
+(
+    LIKE edc_transfer_process INCLUDING DEFAULTS
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS transfer_process_archive_id_uindex
+    ON edc_transfer_process_archive (transferprocess_id);
+
+CREATE TABLE IF NOT EXISTS edc_data_request_archive
+(
+    LIKE edc_data_request INCLUDING DEFAULTS
+);
+
+CREATE INDEX IF NOT EXISTS data_request_archive_process_id_index
+    ON edc_data_request_archive (process_id);
@@ -22,14 +22,19 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.StateMachineInstrumentation;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.statemachine.StateMachineManager;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 
 @Provides(TransferProcessStore.class)
 @Extension(value = "SQL transfer process store")
@@ -38,6 +43,22 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Setting
     public static final String DATASOURCE_NAME_SETTING = "edc.datasource.transferprocess.name";
 
+    private static final int DEFAULT_ARCHIVE_RETENTION_DAYS = 30;
+    private static final int DEFAULT_ARCHIVE_BATCH_SIZE = 500;
+    private static final long DEFAULT_ARCHIVE_ITERATION_WAIT = 60_000L;
+
+    @Setting(value = "If true, transfer processes in a terminal state are periodically moved to the archive tables", defaultValue = "false", type = "boolean")
+    public static final String ARCHIVE_ENABLED = "edc.sql.store.transferprocess.archive.enabled";
+
+    @Setting(value = "Days after the last state change after which a transfer process in a terminal state is archived", defaultValue = DEFAULT_ARCHIVE_RETENTION_DAYS + "", type = "int")
+    public static final String ARCHIVE_RETENTION_DAYS = "edc.sql.store.transferprocess.archive.retention-days";
+
+    @Setting(value = "The max number of transfer processes archived in a single transaction", defaultValue = DEFAULT_ARCHIVE_BATCH_SIZE + "", type = "int")
+    public static final String ARCHIVE_BATCH_SIZE = "edc.sql.store.transferprocess.archive.batch-size";
+
+    @Setting(value = "The wait time in milliseconds of the archiver when there are no transfer processes to be archived", defaultValue = DEFAULT_ARCHIVE_ITERATION_WAIT + "", type = "long")
+    public static final String ARCHIVE_ITERATION_WAIT_MILLIS = "edc.sql.store.transferprocess.archive.iteration-wait-millis";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
     @Inject
@@ -54,11 +75,45 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private StateMachineInstrumentation stateMachineInstrumentation;
+
+    private StateMachineManager archiver;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        var archiveEnabled = config.getBoolean(ARCHIVE_ENABLED, false);
         var store = new SqlTransferProcessStore(dataSourceRegistry, getDataSourceName(context), trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor, archiveEnabled);
         context.registerService(TransferProcessStore.class, store);
+
+        if (archiveEnabled) {
+            var retention = Duration.ofDays(config.getInteger(ARCHIVE_RETENTION_DAYS, DEFAULT_ARCHIVE_RETENTION_DAYS));
+            var batchSize = config.getInteger(ARCHIVE_BATCH_SIZE, DEFAULT_ARCHIVE_BATCH_SIZE);
+            var waitStrategy = new ExponentialWaitStrategy(config.getLong(ARCHIVE_ITERATION_WAIT_MILLIS, DEFAULT_ARCHIVE_ITERATION_WAIT));
+            archiver = StateMachineManager.Builder.newInstance("transfer-process-archiver", context.getMonitor(), executorInstrumentation, waitStrategy)
+                    .processor(() -> (long) store.archive(clock.millis() - retention.toMillis(), batchSize))
+                    .instrumentation(stateMachineInstrumentation)
+                    .build();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (archiver != null) {
+            archiver.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (archiver != null) {
+            archiver.stop();
+        }
     }
 
     /**
@@ -58,15 +58,28 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final boolean archiveEnabled;
 
     public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
                                    TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
                                    QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, datasourceName, transactionContext, objectMapper, statements, leaseHolderName, clock, queryExecutor, false);
+    }
+
+    /**
+     * Creates the store. When the archive is enabled, the queries that don't lease the processes include the archived
+     * ones, and saving an archived process fails.
+     */
+    public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
+                                   TransactionContext transactionContext, ObjectMapper objectMapper,
+                                   TransferProcessStoreStatements statements, String leaseHolderName, Clock clock,
+                                   QueryExecutor queryExecutor, boolean archiveEnabled) {
         super(dataSourceRegistry, datasourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.leaseHolderName = leaseHolderName;
         this.clock = clock;
+        this.archiveEnabled = archiveEnabled;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
     }
 
@@ -74,7 +87,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     public @NotNull List<TransferProcess> nextNotLeased(int max, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
-            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).sortField("stateTimestamp").build();
             var statement = statements.createQuery(querySpec)
                     .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
 
@@ -83,7 +96,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
+                leaseContext.withConnection(connection).acquireLeases(transferProcesses.stream().map(TransferProcess::getId).toList());
                 return transferProcesses;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -95,7 +108,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     public StoreResult<TransferProcess> findByIdAndLease(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var entity = findByIdInternal(connection, id);
+                var entity = findByIdInternal(connection, id, false);
                 if (entity == null) {
                     return StoreResult.notFound(format("TransferProcess %s not found", id));
                 }
@@ -117,7 +130,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
             try (
                     var connection = getConnection();
-                    var stream = executeQuery(connection, query)
+                    var stream = executeQuery(connection, query, false)
             ) {
                 var entity = stream.findFirst().orElse(null);
                 if (entity == null) {
@@ -142,13 +155,30 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         }
         transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                var existing = findByIdInternal(conn, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
-                    update(conn, entity, existing.getDataRequest().getId());
-                } else {
-                    insert(conn, entity);
+                var template = archiveEnabled ? statements.getSaveExcludingArchivedTemplate() : statements.getSaveTemplate();
+                var version = queryExecutor.single(conn, false, r -> r.getLong(statements.getVersionColumn()), template, saveParameters(entity));
+                if (version == null) {
+                    throw saveFailure(conn, entity);
                 }
+                entity.setVersion(version);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    /**
+     * Moves the transfer processes in a terminal state, not leased and whose state didn't change since the given
+     * timestamp, into the archive tables.
+     *
+     * @param stateTimestampThreshold only processes whose state timestamp is older are archived.
+     * @param max the max number of processes to be archived.
+     * @return the number of archived processes.
+     */
+    public int archive(long stateTimestampThreshold, int max) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.execute(connection, statements.getArchiveTemplate(), stateTimestampThreshold, max);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -159,7 +189,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     public @Nullable TransferProcess findById(String id) {
         return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                return findByIdInternal(connection, id);
+                return findByIdInternal(connection, id, archiveEnabled);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -203,7 +233,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     public Stream<TransferProcess> findAll(QuerySpec querySpec) {
         return transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                return executeQuery(conn, querySpec);
+                return executeQuery(conn, querySpec, archiveEnabled);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -227,44 +257,48 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return QuerySpec.Builder.newInstance().filter(criterion).build();
     }
 
-    private @Nullable TransferProcess findByIdInternal(Connection conn, String id) {
+    private @Nullable TransferProcess findByIdInternal(Connection conn, String id, boolean includeArchive) {
         return transactionContext.execute(() -> {
             var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "=", id)).build();
-            return single(executeQuery(conn, querySpec).collect(toList()));
+            return single(executeQuery(conn, querySpec, includeArchive).collect(toList()));
         });
     }
 
-    private Stream<TransferProcess> executeQuery(Connection connection, QuerySpec querySpec) {
-        var statement = statements.createQuery(querySpec);
+    private Stream<TransferProcess> executeQuery(Connection connection, QuerySpec querySpec, boolean includeArchive) {
+        var statement = includeArchive ? statements.createQueryIncludingArchive(querySpec) : statements.createQuery(querySpec);
         return queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters());
     }
 
-    private void update(Connection conn, TransferProcess process, String existingDataRequestId) {
-        var updateStmt = statements.getUpdateTransferProcessTemplate();
-        queryExecutor.execute(conn, updateStmt,
+    private Object[] saveParameters(TransferProcess process) {
+        var dataRequest = process.getDataRequest();
+        var values = new Object[]{
+                process.getId(),
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
+                process.getCreatedAt(),
                 process.getUpdatedAt(),
                 toJson(process.getTraceContext()),
                 process.getErrorDetail(),
                 toJson(process.getResourceManifest()),
                 toJson(process.getProvisionedResourceSet()),
                 toJson(process.getContentDataAddress()),
+                process.getType().toString(),
                 toJson(process.getDeprovisionedResources()),
+                toJson(process.getPrivateProperties()),
                 toJson(process.getCallbackAddresses()),
                 process.isPending(),
                 process.getTransferType(),
-                process.getId());
-
-        var newDr = process.getDataRequest();
-        updateDataRequest(conn, newDr, existingDataRequestId);
-    }
-
-    private void updateDataRequest(Connection conn, DataRequest dataRequest, String existingDataRequestId) {
-        var updateDrStmt = statements.getUpdateDataRequestTemplate();
-
-        queryExecutor.execute(conn, updateDrStmt,
+                1L
+        };
+        // the archive condition, if any, comes right after the values
+        var archive = archiveEnabled ? new Object[]{process.getId()} : new Object[0];
+        var rest = new Object[]{
+                process.getVersion(),
+                leaseHolderName,
+                // release the lease
+                process.getId(),
+                // update the DataRequest
                 dataRequest.getId(),
                 dataRequest.getProcessId(),
                 dataRequest.getConnectorAddress(),
@@ -272,7 +306,35 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 dataRequest.getAssetId(),
                 dataRequest.getContractId(),
                 toJson(dataRequest.getDataDestination()),
-                existingDataRequestId);
+                process.getId(),
+                // or insert it
+                dataRequest.getId(),
+                dataRequest.getProcessId(),
+                dataRequest.getConnectorAddress(),
+                dataRequest.getAssetId(),
+                dataRequest.getContractId(),
+                toJson(dataRequest.getDataDestination()),
+                process.getId(),
+                dataRequest.getProtocol(),
+                process.getId()
+        };
+        return Stream.of(values, archive, rest).flatMap(Arrays::stream).toArray();
+    }
+
+    /**
+     * Figures out why the save statement didn't write the process: either it is leased by someone else, it has been
+     * archived, or it has been saved by someone else since it was read. Archived processes are returned by the queries
+     * that include the archive, but they're not in the live table anymore.
+     */
+    private IllegalStateException saveFailure(Connection conn, TransferProcess process) {
+        var lease = leaseContext.by(leaseHolderName).withConnection(conn).getLease(process.getId());
+        if (lease != null && !Objects.equals(leaseHolderName, lease.getLeasedBy())) {
+            return new IllegalStateException("Current runtime does not hold the lease for Object (id [" + process.getId() + "]), cannot break lease!");
+        }
+        if (archiveEnabled && findByIdInternal(conn, process.getId(), false) == null) {
+            return new IllegalStateException(format("TransferProcess %s is archived, it cannot be modified anymore", process.getId()));
+        }
+        return new IllegalStateException(format("TransferProcess %s has been modified concurrently, version %s is outdated", process.getId(), process.getVersion()));
     }
 
     /**
@@ -291,47 +353,6 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return format("Expected to find %d items, but found %d", expectedSize, actualSize);
     }
 
-    private void insert(Connection conn, TransferProcess process) {
-        // insert TransferProcess
-        var insertTpStatement = statements.getInsertStatement();
-        queryExecutor.execute(conn, insertTpStatement, process.getId(),
-                process.getState(),
-                process.getStateCount(),
-                process.getStateTimestamp(),
-                process.getCreatedAt(),
-                process.getUpdatedAt(),
-                toJson(process.getTraceContext()),
-                process.getErrorDetail(),
-                toJson(process.getResourceManifest()),
-                toJson(process.getProvisionedResourceSet()),
-                toJson(process.getContentDataAddress()),
-                process.getType().toString(),
-                toJson(process.getDeprovisionedResources()),
-                toJson(process.getPrivateProperties()),
-                toJson(process.getCallbackAddresses()),
-                process.isPending(),
-                process.getTransferType());
-
-        //insert DataRequest
-        var dr = process.getDataRequest();
-        if (dr != null) {
-            insertDataRequest(process.getId(), dr, conn);
-        }
-    }
-
-    private void insertDataRequest(String processId, DataRequest dr, Connection conn) {
-        var insertDrStmt = statements.getInsertDataRequestTemplate();
-        queryExecutor.execute(conn, insertDrStmt,
-                dr.getId(),
-                dr.getProcessId(),
-                dr.getConnectorAddress(),
-                dr.getAssetId(),
-                dr.getContractId(),
-                toJson(dr.getDataDestination()),
-                processId,
-                dr.getProtocol());
-    }
-
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
         return TransferProcess.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
@@ -354,6 +375,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .privateProperties(fromJson(resultSet.getString(statements.getPrivatePropertiesColumn()), getTypeRef()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
                 .transferType(resultSet.getString(statements.getTransferTypeColumn()))
+                .version(resultSet.getLong(statements.getVersionColumn()))
                 .build();
     }
 
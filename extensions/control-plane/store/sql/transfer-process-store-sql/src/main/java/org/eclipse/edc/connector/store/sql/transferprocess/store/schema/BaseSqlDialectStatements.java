@@ -18,8 +18,15 @@ package org.eclipse.edc.connector.store.sql.transferprocess.store.schema;
 import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.DEPROVISIONED;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.TERMINATED;
 
 /**
  * Postgres-specific variants and implementations of the statements required for the TransferProcessStore
@@ -55,88 +62,127 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
     }
 
     @Override
-    public String getInsertStatement() {
-        return executeStatement()
-                .column(getIdColumn())
-                .column(getStateColumn())
-                .column(getStateCountColumn())
-                .column(getStateTimestampColumn())
-                .column(getCreatedAtColumn())
-                .column(getUpdatedAtColumn())
-                .jsonColumn(getTraceContextColumn())
-                .column(getErrorDetailColumn())
-                .jsonColumn(getResourceManifestColumn())
-                .jsonColumn(getProvisionedResourceSetColumn())
-                .jsonColumn(getContentDataAddressColumn())
-                .column(getTypeColumn())
-                .jsonColumn(getDeprovisionedResourcesColumn())
-                .jsonColumn(getPrivatePropertiesColumn())
-                .jsonColumn(getCallbackAddressesColumn())
-                .column(getPendingColumn())
-                .column(getTransferTypeColumn())
-                .insertInto(getTransferProcessTableName());
+    public String getDeleteTransferProcessTemplate() {
+        return executeStatement().delete(getTransferProcessTableName(), getIdColumn());
     }
 
     @Override
-    public String getDeleteTransferProcessTemplate() {
-        return executeStatement().delete(getTransferProcessTableName(), getIdColumn());
+    public String getSelectTemplate() {
+        return format("SELECT *, edr.%s as edc_data_request_id FROM %s LEFT OUTER JOIN %s edr on %s.%s = edr.%s", getDataRequestIdColumn(),
+                getTransferProcessTableName(), getDataRequestTable(), getTransferProcessTableName(), getIdColumn(), getProcessIdColumn());
     }
 
     @Override
-    public String getUpdateTransferProcessTemplate() {
-        return executeStatement()
+    public String getSaveTemplate() {
+        return saveTemplate(null);
+    }
+
+    @Override
+    public String getSaveExcludingArchivedTemplate() {
+        return saveTemplate(format("NOT EXISTS (SELECT 1 FROM %s WHERE %s = ?)", getTransferProcessArchiveTableName(), getIdColumn()));
+    }
+
+    @Override
+    public String getSelectIncludingArchiveTemplate() {
+        var transferProcessColumns = transferProcessColumns();
+        var dataRequestColumns = dataRequestColumns();
+        return format("SELECT *, edr.%s as edc_data_request_id FROM (SELECT %s FROM %s UNION ALL SELECT %s FROM %s) %s LEFT OUTER JOIN (SELECT %s FROM %s UNION ALL SELECT %s FROM %s) edr on %s.%s = edr.%s",
+                getDataRequestIdColumn(), transferProcessColumns, getTransferProcessTableName(), transferProcessColumns, getTransferProcessArchiveTableName(),
+                getTransferProcessTableName(), dataRequestColumns, getDataRequestTable(), dataRequestColumns, getDataRequestArchiveTable(),
+                getTransferProcessTableName(), getIdColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getArchiveTemplate() {
+        var terminalStates = Stream.of(COMPLETED, TERMINATED, DEPROVISIONED)
+                .map(state -> String.valueOf(state.code()))
+                .collect(joining(", "));
+
+        var archived = format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s) AND %s < ? AND %s IS NULL LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING *",
+                getTransferProcessTableName(), getIdColumn(), getIdColumn(), getTransferProcessTableName(), getStateColumn(), terminalStates,
+                getStateTimestampColumn(), getLeaseIdColumn());
+
+        var archivedDataRequests = format("DELETE FROM %s WHERE %s IN (SELECT %s FROM archived) RETURNING *",
+                getDataRequestTable(), getTransferProcessIdFkColumn(), getIdColumn());
+
+        var transferProcessColumns = transferProcessColumns();
+        var dataRequestColumns = dataRequestColumns();
+        return format("WITH archived AS (%s), archived_data_request AS (%s), inserted_data_request AS (INSERT INTO %s (%s) SELECT %s FROM archived_data_request) INSERT INTO %s (%s) SELECT %s FROM archived;",
+                archived, archivedDataRequests, getDataRequestArchiveTable(), dataRequestColumns, dataRequestColumns,
+                getTransferProcessArchiveTableName(), transferProcessColumns, transferProcessColumns);
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        return createQuery(querySpec, getSelectTemplate());
+    }
+
+    @Override
+    public SqlQueryStatement createQueryIncludingArchive(QuerySpec querySpec) {
+        return createQuery(querySpec, getSelectIncludingArchiveTemplate());
+    }
+
+    protected SqlQueryStatement createQuery(QuerySpec querySpec, String selectTemplate) {
+        return new SqlQueryStatement(selectTemplate, querySpec, new TransferProcessMapping(this));
+    }
+
+    private String saveTemplate(@Nullable String insertCondition) {
+        var upsert = executeStatement()
+                .column(getIdColumn())
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .jsonColumn(getResourceManifestColumn())
                 .jsonColumn(getProvisionedResourceSetColumn())
                 .jsonColumn(getContentDataAddressColumn())
+                .column(getTypeColumn())
                 .jsonColumn(getDeprovisionedResourcesColumn())
+                .jsonColumn(getPrivatePropertiesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
                 .column(getPendingColumn())
                 .column(getTransferTypeColumn())
-                .update(getTransferProcessTableName(), getIdColumn());
-    }
+                .column(getVersionColumn())
+                .upsertIntoWhere(getTransferProcessTableName(), insertCondition, getIdColumn(), getCreatedAtColumn(), getTypeColumn(), getPrivatePropertiesColumn(), getVersionColumn());
 
-    @Override
-    public String getInsertDataRequestTemplate() {
-        return executeStatement()
-                .column(getDataRequestIdColumn())
-                .column(getProcessIdColumn())
-                .column(getConnectorAddressColumn())
-                .column(getAssetIdColumn())
-                .column(getContractIdColumn())
-                .jsonColumn(getDataDestinationColumn())
-                .column(getTransferProcessIdFkColumn())
-                .column(getProtocolColumn())
-                .insertInto(getDataRequestTable());
-    }
+        var table = getTransferProcessTableName();
+        var saved = format("%s, %s = %s.%s + 1, %s = NULL WHERE (? = 0 OR %s.%s = ?) AND (%s.%s IS NULL OR %s.%s IN (SELECT %s FROM %s WHERE %s = ?)) RETURNING %s",
+                upsert, getVersionColumn(), table, getVersionColumn(), getLeaseIdColumn(), table, getVersionColumn(),
+                table, getLeaseIdColumn(), table, getLeaseIdColumn(), getLeaseIdColumn(), getLeaseTableName(), getLeasedByColumn(), getVersionColumn());
 
-    @Override
-    public String getSelectTemplate() {
-        return format("SELECT *, edr.%s as edc_data_request_id FROM %s LEFT OUTER JOIN %s edr on %s.%s = edr.%s", getDataRequestIdColumn(),
-                getTransferProcessTableName(), getDataRequestTable(), getTransferProcessTableName(), getIdColumn(), getProcessIdColumn());
+        var releasedLease = format("DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?) AND EXISTS (SELECT 1 FROM saved)",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), table, getIdColumn());
+
+        var updatedDataRequest = format("UPDATE %s SET %s = ?, %s = ?, %s = ?, %s = ?, %s = ?, %s = ?, %s = ?%s WHERE %s = ? AND EXISTS (SELECT 1 FROM saved)",
+                getDataRequestTable(), getDataRequestIdColumn(), getProcessIdColumn(), getConnectorAddressColumn(), getProtocolColumn(),
+                getAssetIdColumn(), getContractIdColumn(), getDataDestinationColumn(), getFormatAsJsonOperator(), getTransferProcessIdFkColumn());
+
+        var insertedDataRequest = format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s) SELECT ?, ?, ?, ?, ?, ?%s, ?, ? WHERE EXISTS (SELECT 1 FROM saved) AND NOT EXISTS (SELECT 1 FROM %s WHERE %s = ?)",
+                getDataRequestTable(), getDataRequestIdColumn(), getProcessIdColumn(), getConnectorAddressColumn(), getAssetIdColumn(),
+                getContractIdColumn(), getDataDestinationColumn(), getTransferProcessIdFkColumn(), getProtocolColumn(), getFormatAsJsonOperator(),
+                getDataRequestTable(), getTransferProcessIdFkColumn());
+
+        return format("WITH saved AS (%s), released_lease AS (%s), updated_data_request AS (%s), inserted_data_request AS (%s) SELECT %s FROM saved;",
+                saved, releasedLease, updatedDataRequest, insertedDataRequest, getVersionColumn());
     }
 
-    @Override
-    public String getUpdateDataRequestTemplate() {
-        return executeStatement()
-                .column(getDataRequestIdColumn())
-                .column(getProcessIdColumn())
-                .column(getConnectorAddressColumn())
-                .column(getProtocolColumn())
-                .column(getAssetIdColumn())
-                .column(getContractIdColumn())
-                .jsonColumn(getDataDestinationColumn())
-                .update(getDataRequestTable(), getDataRequestIdColumn());
+    /**
+     * The columns shared by the transfer process table and its archive, listed explicitly so that copying rows
+     * between them doesn't depend on the column order.
+     */
+    private String transferProcessColumns() {
+        return String.join(", ", getIdColumn(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(), getCreatedAtColumn(),
+                getUpdatedAtColumn(), getTraceContextColumn(), getErrorDetailColumn(), getResourceManifestColumn(), getProvisionedResourceSetColumn(),
+                getContentDataAddressColumn(), getTypeColumn(), getDeprovisionedResourcesColumn(), getPrivatePropertiesColumn(), getCallbackAddressesColumn(),
+                getPendingColumn(), getTransferTypeColumn(), getVersionColumn(), getLeaseIdColumn());
     }
 
-    @Override
-    public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this));
+    private String dataRequestColumns() {
+        return String.join(", ", getDataRequestIdColumn(), getProcessIdColumn(), getConnectorAddressColumn(), getProtocolColumn(), getAssetIdColumn(),
+                getContractIdColumn(), getDataDestinationColumn(), getTransferProcessIdFkColumn());
     }
 
 }
@@ -27,17 +27,35 @@ import org.eclipse.edc.sql.translation.SqlQueryStatement;
 @ExtensionPoint
 public interface TransferProcessStoreStatements extends StatefulEntityStatements, LeaseStatements {
 
-    String getInsertStatement();
-
     String getDeleteTransferProcessTemplate();
 
-    String getUpdateTransferProcessTemplate();
-
-    String getInsertDataRequestTemplate();
-
     String getSelectTemplate();
 
-    String getUpdateDataRequestTemplate();
+    /**
+     * Statement that saves a TransferProcess with its DataRequest in a single round trip: the process is inserted or,
+     * if it exists, updated only if its version matches the expected one and it's not leased by someone else. In that
+     * case the version is incremented and the lease is released. The statement returns the new version, no rows when
+     * the process was not saved.
+     */
+    String getSaveTemplate();
+
+    /**
+     * Select over both the transfer processes and the archived ones.
+     */
+    String getSelectIncludingArchiveTemplate();
+
+    /**
+     * Same as {@link #getSaveTemplate()}, but a process that has been archived is not saved, as it would be inserted
+     * again in the live table. Takes the process id as additional parameter right after the values of the process.
+     */
+    String getSaveExcludingArchivedTemplate();
+
+    /**
+     * Statement that moves the transfer processes in a terminal state, not leased and whose state timestamp is older
+     * than a threshold, together with their DataRequest, into the archive tables. Takes the state timestamp threshold
+     * and the max number of processes to be archived as parameters.
+     */
+    String getArchiveTemplate();
 
     default String getTransferProcessTableName() {
         return "edc_transfer_process";
@@ -95,6 +113,14 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
         return "edc_data_request";
     }
 
+    default String getTransferProcessArchiveTableName() {
+        return "edc_transfer_process_archive";
+    }
+
+    default String getDataRequestArchiveTable() {
+        return "edc_data_request_archive";
+    }
+
     default String getTransferProcessIdFkColumn() {
         return "transfer_process_id";
     }
@@ -120,4 +146,6 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
     }
 
     SqlQueryStatement createQuery(QuerySpec querySpec);
+
+    SqlQueryStatement createQueryIncludingArchive(QuerySpec querySpec);
 }
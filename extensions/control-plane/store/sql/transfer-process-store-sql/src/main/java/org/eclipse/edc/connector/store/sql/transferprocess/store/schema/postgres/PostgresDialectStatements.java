@@ -20,10 +20,10 @@ import org.eclipse.edc.sql.dialect.PostgresDialect;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import static java.lang.String.format;
-import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArrayTemplate;
+import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonbArrayTemplate;
 
 /**
- * Postgres-specific variations of the SQL statements based on Postgres's ability to use JSON operators and -functions.
+ * Postgres-specific variations of the SQL statements based on Postgres's ability to use JSONB operators and -functions.
  */
 public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
@@ -33,22 +33,22 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     @Override
     public String getFormatAsJsonOperator() {
-        return PostgresDialect.getJsonCastOperator();
+        return PostgresDialect.getJsonbCastOperator();
     }
 
     @Override
-    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+    protected SqlQueryStatement createQuery(QuerySpec querySpec, String selectTemplate) {
         // if any criterion targets a JSON array field, we need to slightly adapt the FROM clause
         if (querySpec.containsAnyLeftOperand("resourceManifest.definitions")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getResourceManifestColumn(), "definitions"), DEFINITIONS_ALIAS);
+            var select = getSelectFromJsonbArrayTemplate(selectTemplate, format("%s -> '%s'", getResourceManifestColumn(), "definitions"), DEFINITIONS_ALIAS);
             return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this));
         } else if (querySpec.containsAnyLeftOperand("provisionedResourceSet.resources")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getProvisionedResourceSetColumn(), "resources"), RESOURCES_ALIAS);
+            var select = getSelectFromJsonbArrayTemplate(selectTemplate, format("%s -> '%s'", getProvisionedResourceSetColumn(), "resources"), RESOURCES_ALIAS);
             return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this));
         } else if (querySpec.containsAnyLeftOperand("deprovisionedResources")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
+            var select = getSelectFromJsonbArrayTemplate(selectTemplate, format("%s", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
             return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this));
         }
-        return super.createQuery(querySpec);
+        return super.createQuery(querySpec, selectTemplate);
     }
 }
@@ -18,10 +18,11 @@ import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.Transfer
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.sql.lease.StatefulEntityMapping;
 import org.eclipse.edc.sql.translation.JsonFieldMapping;
+import org.eclipse.edc.sql.translation.JsonbFieldMapping;
 
 /**
  * Maps fields of a {@link TransferProcess} onto the
- * corresponding SQL schema (= column names) enabling access through Postgres JSON operators where applicable
+ * corresponding SQL schema (= column names) enabling access through Postgres JSONB operators where applicable
  */
 public class TransferProcessMapping extends StatefulEntityMapping {
 
@@ -45,10 +46,10 @@ public class TransferProcessMapping extends StatefulEntityMapping {
         add(FIELD_TYPE, statements.getTypeColumn());
         add(FIELD_CREATED_TIMESTAMP, statements.getCreatedAtColumn());
         add(FIELD_DATAREQUEST, new DataRequestMapping(statements));
-        add(FIELD_DATAADDRESS, new JsonFieldMapping(statements.getContentDataAddressColumn()));
-        add(FIELD_CONTENTDATAADDRESS, new JsonFieldMapping(statements.getContentDataAddressColumn()));
+        add(FIELD_DATAADDRESS, new JsonbFieldMapping(statements.getContentDataAddressColumn()));
+        add(FIELD_CONTENTDATAADDRESS, new JsonbFieldMapping(statements.getContentDataAddressColumn()));
         add(FIELD_RESOURCE_MANIFEST, new ResourceManifestMapping());
-        add(FIELD_PRIVATE_PROPERTIES, new JsonFieldMapping(statements.getPrivatePropertiesColumn()));
+        add(FIELD_PRIVATE_PROPERTIES, new JsonbFieldMapping(statements.getPrivatePropertiesColumn()));
         add(FIELD_PROVISIONED_RESOURCE_SET, new ProvisionedResourceSetMapping());
         // using the alias instead of the actual column name to avoid name clashes.
         add(FIELD_DEPROVISIONED_RESOURCES, new JsonFieldMapping(PostgresDialectStatements.DEPROVISIONED_RESOURCES_ALIAS));
@@ -18,14 +18,17 @@ import org.eclipse.edc.connector.store.sql.transferprocess.store.SqlTransferProc
 import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions;
 import org.eclipse.edc.connector.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
@@ -33,6 +36,15 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -52,7 +64,7 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
         leaseUtil = new LeaseUtil(extension.getTransactionContext(), extension::getConnection, statements, clock);
         store = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
                 extension.getTransactionContext(), typeManager.getMapper(), statements, "test-connector",
-                clock, queryExecutor);
+                clock, queryExecutor, true);
 
         var schema = Files.readString(Paths.get("./docs/schema.sql"));
         extension.runQuery(schema);
@@ -62,9 +74,65 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
     void tearDown(PostgresqlStoreSetupExtension extension) {
         extension.runQuery("DROP TABLE " + statements.getTransferProcessTableName() + " CASCADE");
         extension.runQuery("DROP TABLE " + statements.getDataRequestTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getTransferProcessArchiveTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getDataRequestArchiveTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void archive_shouldMoveOldProcessesInTerminalStateToTheArchive() {
+        var archivable = createTransferProcessBuilder("archivable").state(COMPLETED.code()).stateTimestamp(1000L).build();
+        var recent = createTransferProcessBuilder("recent").state(COMPLETED.code()).stateTimestamp(3000L).build();
+        var active = createTransferProcessBuilder("active").state(STARTED.code()).stateTimestamp(1000L).build();
+        store.save(archivable);
+        store.save(recent);
+        store.save(active);
+
+        var archived = store.archive(2000L, 10);
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(store.nextNotLeased(10, hasState(COMPLETED.code()))).extracting(TransferProcess::getId).containsExactly("recent");
+        assertThat(store.findById("archivable")).usingRecursiveComparison().isEqualTo(archivable);
+        assertThat(store.findAll(QuerySpec.none())).extracting(TransferProcess::getId).containsExactlyInAnyOrder("archivable", "recent", "active");
+        assertThat(store.findForCorrelationId(archivable.getDataRequest().getId())).isNotNull();
+    }
+
+    @Test
+    void save_shouldFail_whenProcessIsArchived() {
+        var archivable = createTransferProcessBuilder("archivable").state(COMPLETED.code()).stateTimestamp(1000L).build();
+        store.save(archivable);
+        store.archive(2000L, 10);
+
+        var archived = store.findById("archivable");
+        archived.setErrorDetail("changed");
+
+        assertThatThrownBy(() -> store.save(archived)).isInstanceOf(IllegalStateException.class);
+        assertThat(store.findAll(QuerySpec.none())).extracting(TransferProcess::getId).containsExactly("archivable");
+    }
+
+    @Test
+    void findAll_byPrivateProperty_shouldUseIndex(PostgresqlStoreSetupExtension extension) {
+        var query = statements.createQuery(QuerySpec.Builder.newInstance().filter(criterion("privateProperties.key", "=", "value")).build());
+
+        var plan = extension.explain(query.getQueryAsString(), query.getParameters());
+
+        assertThat(plan).contains("transfer_process_private_properties_index");
+    }
+
+    @Test
+    void findAll_byPrivateProperty_shouldMatchNonStringValues() {
+        store.save(createTransferProcessBuilder("number").privateProperties(Map.of("key", 5)).build());
+        store.save(createTransferProcessBuilder("decimal").privateProperties(Map.of("key", 5.0)).build());
+        store.save(createTransferProcessBuilder("string").privateProperties(Map.of("key", "5")).build());
+        store.save(createTransferProcessBuilder("boolean").privateProperties(Map.of("flag", true)).build());
+
+        var byNumber = QuerySpec.Builder.newInstance().filter(criterion("privateProperties.key", "=", "5")).build();
+        var byBoolean = QuerySpec.Builder.newInstance().filter(criterion("privateProperties.flag", "=", "true")).build();
+
+        assertThat(store.findAll(byNumber)).extracting(TransferProcess::getId).containsExactlyInAnyOrder("number", "string");
+        assertThat(store.findAll(byBoolean)).extracting(TransferProcess::getId).containsExactly("boolean");
+    }
+
     @Override
     protected SqlTransferProcessStore getTransferProcessStore() {
         return store;
@@ -38,7 +38,7 @@ class PostgresDialectStatementsTest {
     void createQuery() {
         var q = query(criterion("id", "=", "foobar"));
 
-        assertThat(statements.createQuery(q).getQueryAsString()).doesNotContain("json_array_elements");
+        assertThat(statements.createQuery(q).getQueryAsString()).doesNotContain("jsonb_array_elements");
     }
 
     @ParameterizedTest
@@ -46,12 +46,27 @@ class PostgresDialectStatementsTest {
     void createQuery_isJsonArray(Criterion criterion) {
         var query = statements.createQuery(query(criterion));
 
-        assertThat(query.getQueryAsString()).contains("->>", "->", "json_array_elements");
+        assertThat(query.getQueryAsString()).contains("->>", "->", "jsonb_array_elements");
+    }
+
+    @Test
+    void createQuery_privatePropertyEquality_shouldUseContainment() {
+        var query = statements.createQuery(query(criterion("privateProperties.'https://w3id.org/edc/v0.0.1/ns/key'", "=", "value")));
+
+        assertThat(query.getQueryAsString()).contains("private_properties @> ?::jsonb");
+        assertThat(query.getParameters()).contains("{\"https://w3id.org/edc/v0.0.1/ns/key\":\"value\"}");
+    }
+
+    @Test
+    void createQuery_privatePropertyLike_shouldUsePathOperator() {
+        var query = statements.createQuery(query(criterion("privateProperties.key", "like", "val%")));
+
+        assertThat(query.getQueryAsString()).contains("private_properties ->> 'key' like ?").doesNotContain("@>");
     }
 
     @Test
     void getFormatAsJsonOperator() {
-        assertThat(statements.getFormatAsJsonOperator()).isEqualTo("::json");
+        assertThat(statements.getFormatAsJsonOperator()).isEqualTo("::jsonb");
     }
 
     private static class JsonArrayCriteria implements ArgumentsProvider {
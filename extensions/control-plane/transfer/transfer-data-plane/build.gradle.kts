@@ -30,6 +30,7 @@ dependencies {
 
     implementation(project(":extensions:common:api:control-api-configuration"))
     implementation(project(":core:common:token-core"))
+    implementation(project(":core:common:util"))
 
     api(libs.jakarta.rsApi)
     api(libs.nimbus.jwt)
@@ -29,9 +29,11 @@ import org.eclipse.edc.connector.transfer.spi.callback.ControlApiUrl;
 import org.eclipse.edc.connector.transfer.spi.flow.DataFlowManager;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.PublicKeyResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -45,6 +47,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivateKey;
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_SIGNER_PRIVATE_KEY_ALIAS;
@@ -56,6 +60,11 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
     public static final String NAME = "Transfer Data Plane Core";
     public static final String TRANSFER_DATAPLANE_TOKEN_CONTEXT = "dataplane-transfer";
 
+    private static final int DEFAULT_SELECTION_PARALLELISM = 4;
+
+    @Setting(value = "Number of threads selecting the data planes of the provider push transfers, so that the state machine doesn't wait for the selector", type = "int", defaultValue = DEFAULT_SELECTION_PARALLELISM + "")
+    private static final String SELECTION_PARALLELISM = "edc.transfer.dataplane.selection.parallelism";
+
     @Inject
     private Vault vault;
 
@@ -104,6 +113,11 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
     @Inject
     private TokenValidationService tokenValidationService;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService selectionExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -122,11 +136,20 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
 
         var resolver = new ConsumerPullDataPlaneProxyResolver(dataEncrypter, typeManager, new JwtGenerationService(), getPrivateKeySupplier(context, privKeyAlias), () -> pubKeyAlias, tokenExpirationDateFunction);
         dataFlowManager.register(new ConsumerPullTransferDataFlowController(selectorService, resolver));
-        dataFlowManager.register(new ProviderPushTransferDataFlowController(callbackUrl, selectorService, clientFactory));
+        var selectionParallelism = context.getSetting(SELECTION_PARALLELISM, DEFAULT_SELECTION_PARALLELISM);
+        selectionExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(selectionParallelism), "data-plane-selection");
+        dataFlowManager.register(new ProviderPushTransferDataFlowController(callbackUrl, selectorService, clientFactory, selectionExecutor));
 
         dataAddressValidatorRegistry.registerDestinationValidator("HttpProxy", dataAddress -> ValidationResult.success());
     }
 
+    @Override
+    public void shutdown() {
+        if (selectionExecutor != null) {
+            selectionExecutor.shutdownNow();
+        }
+    }
+
     @NotNull
     private Supplier<PrivateKey> getPrivateKeySupplier(ServiceExtensionContext context, String privKeyAlias) {
         return () -> privateKeyResolver.resolvePrivateKey(privKeyAlias)
@@ -31,24 +31,40 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.HTTP_PROXY;
 import static org.eclipse.edc.connector.transfer.spi.flow.FlowType.PULL;
 import static org.eclipse.edc.connector.transfer.spi.flow.FlowType.PUSH;
+import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 public class ProviderPushTransferDataFlowController implements DataFlowController {
 
     private final ControlApiUrl callbackUrl;
     private final DataPlaneSelectorService selectorClient;
     private final DataPlaneClientFactory clientFactory;
+    private final Executor selectionExecutor;
 
     private final Set<String> transferTypes = Set.of("%s-%s".formatted("HttpData", PULL));
 
     public ProviderPushTransferDataFlowController(ControlApiUrl callbackUrl, DataPlaneSelectorService selectorClient, DataPlaneClientFactory clientFactory) {
+        this(callbackUrl, selectorClient, clientFactory, Runnable::run);
+    }
+
+    /**
+     * Creates the controller.
+     *
+     * @param selectionExecutor runs the blocking calls to the selector of the asynchronous methods, so that they don't
+     *                          block the caller thread.
+     */
+    public ProviderPushTransferDataFlowController(ControlApiUrl callbackUrl, DataPlaneSelectorService selectorClient, DataPlaneClientFactory clientFactory,
+                                                 Executor selectionExecutor) {
         this.callbackUrl = callbackUrl;
         this.selectorClient = selectorClient;
         this.clientFactory = clientFactory;
+        this.selectionExecutor = selectionExecutor;
     }
 
     @Override
@@ -61,19 +77,9 @@ public class ProviderPushTransferDataFlowController implements DataFlowControlle
 
     @Override
     public @NotNull StatusResult<DataFlowResponse> initiateFlow(TransferProcess transferProcess, Policy policy) {
-        var dataFlowRequest = DataFlowRequest.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
-                .processId(transferProcess.getId())
-                .trackable(true)
-                .sourceDataAddress(transferProcess.getContentDataAddress())
-                .destinationDataAddress(transferProcess.getDataDestination())
-                .transferType(transferProcess.getTransferType())
-                .callbackAddress(callbackUrl != null ? callbackUrl.get() : null)
-                .build();
-
         var dataPlaneInstance = selectorClient.select(transferProcess.getContentDataAddress(), transferProcess.getDataDestination());
         return clientFactory.createClient(dataPlaneInstance)
-                .transfer(dataFlowRequest)
+                .transfer(createDataFlowRequest(transferProcess))
                 .map(it -> DataFlowResponse.Builder.newInstance().build());
     }
 
@@ -85,6 +91,24 @@ public class ProviderPushTransferDataFlowController implements DataFlowControlle
                 .orElse(StatusResult.success());
     }
 
+    @Override
+    public @NotNull CompletableFuture<StatusResult<DataFlowResponse>> initiateFlowAsync(TransferProcess transferProcess, Policy policy) {
+        return CompletableFuture.supplyAsync(() -> selectorClient.select(transferProcess.getContentDataAddress(), transferProcess.getDataDestination()), selectionExecutor)
+                .thenCompose(dataPlaneInstance -> clientFactory.createClient(dataPlaneInstance).transferAsync(createDataFlowRequest(transferProcess)))
+                .thenApply(result -> result.map(it -> DataFlowResponse.Builder.newInstance().build()));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
+        return CompletableFuture.supplyAsync(selectorClient::getAll, selectionExecutor)
+                .thenCompose(dataPlanes -> dataPlanes.stream().map(clientFactory::createClient)
+                        .map(client -> client.terminateAsync(transferProcess.getId()))
+                        .collect(asyncAllOf()))
+                .thenApply(results -> results.stream()
+                        .reduce(StatusResult::merge)
+                        .orElse(StatusResult.success()));
+    }
+
     @Override
     public Set<String> transferTypesFor(Asset asset) {
         return selectorClient.getAll().stream()
@@ -95,4 +119,16 @@ public class ProviderPushTransferDataFlowController implements DataFlowControlle
                 .collect(toSet());
     }
 
+    private DataFlowRequest createDataFlowRequest(TransferProcess transferProcess) {
+        return DataFlowRequest.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId(transferProcess.getId())
+                .trackable(true)
+                .sourceDataAddress(transferProcess.getContentDataAddress())
+                .destinationDataAddress(transferProcess.getDataDestination())
+                .transferType(transferProcess.getTransferType())
+                .callbackAddress(callbackUrl != null ? callbackUrl.get() : null)
+                .build();
+    }
+
 }
@@ -30,6 +30,7 @@ import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.eclipse.edc.spi.system.injection.ObjectFactory;
@@ -46,6 +47,7 @@ import java.util.UUID;
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_SIGNER_PRIVATE_KEY_ALIAS;
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_VERIFIER_PUBLIC_KEY_ALIAS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -92,6 +94,7 @@ class TransferDataPlaneCoreExtensionTest {
         context.registerService(ControlApiConfiguration.class, controlApiConfigurationMock);
         context.registerService(DataPlaneClient.class, mock(DataPlaneClient.class));
         context.registerService(Vault.class, vault);
+        context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
 
         when(context.getMonitor()).thenReturn(monitor);
 
@@ -106,6 +109,7 @@ class TransferDataPlaneCoreExtensionTest {
         when(context.getConfig()).thenReturn(config);
         when(config.getString(TOKEN_VERIFIER_PUBLIC_KEY_ALIAS, null)).thenReturn(publicKeyAlias);
         when(config.getString(TOKEN_SIGNER_PRIVATE_KEY_ALIAS, null)).thenReturn(privateKeyAlias);
+        when(config.getInteger(any(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
         when(vault.resolveSecret(publicKeyAlias)).thenReturn(publicKeyPem());
 
         extension.initialize(context);
@@ -31,8 +31,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.HTTP_PROXY;
@@ -40,6 +42,7 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class ProviderPushTransferDataFlowControllerTest {
@@ -128,6 +131,53 @@ class ProviderPushTransferDataFlowControllerTest {
         verify(dataPlaneClient).terminate("transferProcessId");
     }
 
+    @Test
+    void initiateFlowAsync_shouldSelectDataPlaneOnTheSelectionExecutor() {
+        var selectionTasks = new ArrayList<Runnable>();
+        var controller = new ProviderPushTransferDataFlowController(() -> URI.create("http://localhost"), selectorService, dataPlaneClientFactory, selectionTasks::add);
+        var transferProcess = TransferProcess.Builder.newInstance()
+                .dataRequest(createDataRequest())
+                .contentDataAddress(testDataAddress())
+                .build();
+        when(selectorService.select(any(), any())).thenReturn(createDataPlaneInstance());
+        when(dataPlaneClientFactory.createClient(any())).thenReturn(dataPlaneClient);
+        when(dataPlaneClient.transferAsync(any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success()));
+
+        var future = controller.initiateFlowAsync(transferProcess, Policy.Builder.newInstance().build());
+
+        assertThat(future).isNotDone();
+        verifyNoInteractions(selectorService);
+
+        selectionTasks.forEach(Runnable::run);
+
+        assertThat(future).isCompletedWithValueMatching(StatusResult::succeeded);
+        verify(dataPlaneClient).transferAsync(any());
+    }
+
+    @Test
+    void terminateAsync_shouldGetDataPlanesOnTheSelectionExecutor() {
+        var selectionTasks = new ArrayList<Runnable>();
+        var controller = new ProviderPushTransferDataFlowController(() -> URI.create("http://localhost"), selectorService, dataPlaneClientFactory, selectionTasks::add);
+        var transferProcess = TransferProcess.Builder.newInstance()
+                .id("transferProcessId")
+                .dataRequest(createDataRequest())
+                .contentDataAddress(testDataAddress())
+                .build();
+        when(selectorService.getAll()).thenReturn(List.of(createDataPlaneInstance()));
+        when(dataPlaneClientFactory.createClient(any())).thenReturn(dataPlaneClient);
+        when(dataPlaneClient.terminateAsync(any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success()));
+
+        var future = controller.terminateAsync(transferProcess);
+
+        assertThat(future).isNotDone();
+        verifyNoInteractions(selectorService);
+
+        selectionTasks.forEach(Runnable::run);
+
+        assertThat(future).isCompletedWithValueMatching(StatusResult::succeeded);
+        verify(dataPlaneClient).terminateAsync("transferProcessId");
+    }
+
     @Test
     void transferTypes_shouldReturnTypesForSpecifiedAsset() {
         when(selectorService.getAll()).thenReturn(List.of(
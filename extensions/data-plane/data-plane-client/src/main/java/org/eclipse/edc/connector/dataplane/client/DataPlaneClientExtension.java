@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -35,6 +36,14 @@ import java.util.Objects;
 public class DataPlaneClientExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Client";
 
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 32;
+
+    @Setting(value = "Max number of asynchronous requests in-flight on every remote data plane, the other ones are queued", type = "int", defaultValue = DEFAULT_MAX_CONCURRENT_REQUESTS + "")
+    private static final String MAX_CONCURRENT_REQUESTS = "edc.dataplane.client.max-concurrent-requests";
+
+    @Setting(value = "Max time in milliseconds a request waits in the queue, must be shorter than the lease duration of the transfer processes", type = "long", defaultValue = DataPlaneConcurrencyLimiter.DEFAULT_MAX_QUEUE_TIME_MILLIS + "")
+    private static final String MAX_QUEUE_TIME_MILLIS = "edc.dataplane.client.max-queue-time-millis";
+
     @Inject(required = false)
     private DataPlaneManager dataPlaneManager;
 
@@ -59,7 +68,10 @@ public class DataPlaneClientExtension implements ServiceExtension {
 
         context.getMonitor().debug(() -> "Using remote Data Plane client.");
         Objects.requireNonNull(httpClient, "To use remote Data Plane client, an EdcHttpClient instance must be registered");
-        return instance -> new RemoteDataPlaneClient(httpClient, typeManager.getMapper(), instance);
+        var config = context.getConfig();
+        var limiter = new DataPlaneConcurrencyLimiter(config.getInteger(MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_CONCURRENT_REQUESTS),
+                config.getLong(MAX_QUEUE_TIME_MILLIS, DataPlaneConcurrencyLimiter.DEFAULT_MAX_QUEUE_TIME_MILLIS));
+        return instance -> new RemoteDataPlaneClient(httpClient, typeManager.getMapper(), instance, limiter);
     }
 }
 
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.client;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Limits the number of concurrent asynchronous requests sent to every data plane. Requests exceeding the limit are
+ * queued, without blocking the caller, and sent in order as soon as one of the in-flight requests completes.
+ * <p>
+ * A request that is still queued after the max queue time is not sent anymore and fails with a
+ * {@link TimeoutException}: the caller holds the lease on its entity while waiting, so the max queue time must be
+ * shorter than the lease duration, otherwise the entity could be picked up again and the request sent twice.
+ */
+public class DataPlaneConcurrencyLimiter {
+
+    public static final long DEFAULT_MAX_QUEUE_TIME_MILLIS = 30_000;
+
+    private final int maxConcurrentRequests;
+    private final long maxQueueTimeMillis;
+    private final Map<String, Slots> slotsByDataPlane = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a limiter, queued requests wait at most {@link #DEFAULT_MAX_QUEUE_TIME_MILLIS}.
+     *
+     * @param maxConcurrentRequests the max number of in-flight requests per data plane.
+     */
+    public DataPlaneConcurrencyLimiter(int maxConcurrentRequests) {
+        this(maxConcurrentRequests, DEFAULT_MAX_QUEUE_TIME_MILLIS);
+    }
+
+    /**
+     * Creates a limiter.
+     *
+     * @param maxConcurrentRequests the max number of in-flight requests per data plane.
+     * @param maxQueueTimeMillis    the max time a request waits in the queue before failing.
+     */
+    public DataPlaneConcurrencyLimiter(int maxConcurrentRequests, long maxQueueTimeMillis) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1 but was " + maxConcurrentRequests);
+        }
+        if (maxQueueTimeMillis < 0) {
+            throw new IllegalArgumentException("maxQueueTimeMillis must not be negative but was " + maxQueueTimeMillis);
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxQueueTimeMillis = maxQueueTimeMillis;
+    }
+
+    /**
+     * Sends the request now if less than the max number of requests are in-flight on the data plane, or queues it.
+     *
+     * @param dataPlaneId the data plane id.
+     * @param request     sends the request.
+     * @return a future completed with the result of the request, or with a {@link TimeoutException} if the request
+     *         has not been sent within the max queue time.
+     */
+    public <T> CompletableFuture<T> submit(String dataPlaneId, Supplier<CompletableFuture<T>> request) {
+        var slots = slotsByDataPlane.computeIfAbsent(dataPlaneId, id -> new Slots());
+        var result = new CompletableFuture<T>();
+        Runnable send = () -> {
+            CompletableFuture<T> future;
+            try {
+                future = request.get();
+            } catch (Throwable e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((value, throwable) -> {
+                slots.release();
+                if (throwable == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        };
+        if (slots.acquireOrQueue(send)) {
+            send.run();
+        } else {
+            CompletableFuture.delayedExecutor(maxQueueTimeMillis, TimeUnit.MILLISECONDS).execute(() -> {
+                if (slots.dequeue(send)) {
+                    result.completeExceptionally(new TimeoutException(format("Request to data plane %s not sent within %s ms, too many requests in-flight", dataPlaneId, maxQueueTimeMillis)));
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of requests in-flight on the data plane.
+     */
+    public int inFlight(String dataPlaneId) {
+        var slots = slotsByDataPlane.get(dataPlaneId);
+        return slots == null ? 0 : slots.inFlight();
+    }
+
+    /**
+     * Returns the number of requests queued for the data plane.
+     */
+    public int queued(String dataPlaneId) {
+        var slots = slotsByDataPlane.get(dataPlaneId);
+        return slots == null ? 0 : slots.queued();
+    }
+
+    private class Slots {
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int inFlight;
+
+        synchronized boolean acquireOrQueue(Runnable send) {
+            if (inFlight < maxConcurrentRequests) {
+                inFlight++;
+                return true;
+            }
+            waiting.add(send);
+            return false;
+        }
+
+        synchronized boolean dequeue(Runnable send) {
+            return waiting.remove(send);
+        }
+
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    inFlight--;
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+
+        synchronized int inFlight() {
+            return inFlight;
+        }
+
+        synchronized int queued() {
+            return waiting.size();
+        }
+    }
+}
@@ -14,56 +14,64 @@
 
 package org.eclipse.edc.connector.dataplane.client;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.BufferedSink;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
-import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 /**
  * Implementation of a {@link DataPlaneClient} that uses a remote {@link DataPlaneManager} accessible from a REST API.
+ * <p>
+ * The {@link DataFlowRequest} is streamed as JSON in the request body. The asynchronous requests are sent through a
+ * {@link DataPlaneConcurrencyLimiter}, that bounds the number of requests in-flight on every data plane.
  */
 public class RemoteDataPlaneClient implements DataPlaneClient {
     public static final MediaType TYPE_JSON = MediaType.parse("application/json");
     private final EdcHttpClient httpClient;
     private final ObjectMapper mapper;
     private final DataPlaneInstance dataPlane;
+    private final DataPlaneConcurrencyLimiter limiter;
 
     public RemoteDataPlaneClient(EdcHttpClient httpClient, ObjectMapper mapper, DataPlaneInstance dataPlane) {
+        this(httpClient, mapper, dataPlane, new DataPlaneConcurrencyLimiter(Integer.MAX_VALUE));
+    }
+
+    public RemoteDataPlaneClient(EdcHttpClient httpClient, ObjectMapper mapper, DataPlaneInstance dataPlane, DataPlaneConcurrencyLimiter limiter) {
         this.httpClient = httpClient;
         this.mapper = mapper;
         this.dataPlane = dataPlane;
+        this.limiter = limiter;
     }
 
     @WithSpan
     @Override
     public StatusResult<Void> transfer(DataFlowRequest dataFlowRequest) {
-        RequestBody body;
-        try {
-            body = RequestBody.create(mapper.writeValueAsString(dataFlowRequest), TYPE_JSON);
-        } catch (JsonProcessingException e) {
-            throw new EdcException(e);
-        }
-        var request = new Request.Builder().post(body).url(dataPlane.getUrl()).build();
-
-        try (var response = httpClient.execute(request)) {
+        try (var response = httpClient.execute(transferRequest(dataFlowRequest))) {
             return handleResponse(response, dataFlowRequest.getId());
         } catch (IOException e) {
             return StatusResult.failure(FATAL_ERROR, e.getMessage());
@@ -72,15 +80,51 @@ public class RemoteDataPlaneClient implements DataPlaneClient {
 
     @Override
     public StatusResult<Void> terminate(String transferProcessId) {
-        var request = new Request.Builder().delete().url(dataPlane.getUrl() + "/" + transferProcessId).build();
-
-        try (var response = httpClient.execute(request)) {
+        try (var response = httpClient.execute(terminateRequest(transferProcessId))) {
             return handleResponse(response, transferProcessId);
         } catch (IOException e) {
             return StatusResult.<Void>failure(FATAL_ERROR, e.getMessage());
         }
     }
 
+    @WithSpan
+    @Override
+    public CompletableFuture<StatusResult<Void>> transferAsync(DataFlowRequest dataFlowRequest) {
+        return sendAsync(transferRequest(dataFlowRequest), dataFlowRequest.getId());
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> terminateAsync(String transferProcessId) {
+        return sendAsync(terminateRequest(transferProcessId), transferProcessId);
+    }
+
+    private CompletableFuture<StatusResult<Void>> sendAsync(Request request, String requestId) {
+        return limiter.submit(dataPlane.getId(), () -> httpClient.executeAsync(request, List.of()))
+                .thenApply(response -> {
+                    try (response) {
+                        return handleResponse(response, requestId);
+                    }
+                })
+                .exceptionally(throwable -> {
+                    var cause = rootCause(throwable);
+                    // not sent because the data plane is busy, can be retried
+                    var status = cause instanceof TimeoutException ? ERROR_RETRY : FATAL_ERROR;
+                    return StatusResult.failure(status, cause.getMessage());
+                });
+    }
+
+    private Request transferRequest(DataFlowRequest dataFlowRequest) {
+        return new Request.Builder().post(new JsonRequestBody(mapper, dataFlowRequest)).url(dataPlane.getUrl()).build();
+    }
+
+    private Request terminateRequest(String transferProcessId) {
+        return new Request.Builder().delete().url(dataPlane.getUrl() + "/" + transferProcessId).build();
+    }
+
+    private Throwable rootCause(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
     private StatusResult<Void> handleResponse(Response response, String requestId) {
         if (response.isSuccessful()) {
             return StatusResult.success();
@@ -104,4 +148,28 @@ public class RemoteDataPlaneClient implements DataPlaneClient {
             return "failed to read response body";
         }
     }
+
+    /**
+     * Serializes the value while the request is written, instead of building the whole JSON string in memory first.
+     * The body can be written more than once, e.g. when the request is retried.
+     */
+    private static class JsonRequestBody extends RequestBody {
+        private final ObjectWriter writer;
+        private final Object value;
+
+        JsonRequestBody(ObjectMapper mapper, Object value) {
+            this.writer = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.value = value;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return TYPE_JSON;
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException {
+            writer.writeValue(sink.outputStream(), value);
+        }
+    }
 }
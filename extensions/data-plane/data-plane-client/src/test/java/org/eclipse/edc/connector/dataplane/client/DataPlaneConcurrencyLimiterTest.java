@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataPlaneConcurrencyLimiterTest {
+
+    private final ScheduledExecutorService slowDataPlane = Executors.newScheduledThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        slowDataPlane.shutdownNow();
+    }
+
+    @Test
+    void submit_shouldNotSerializeRequests_whenDataPlaneIsSlow() {
+        var limiter = new DataPlaneConcurrencyLimiter(50);
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+
+        var start = System.nanoTime();
+        var futures = IntStream.range(0, 1000)
+                .mapToObj(i -> limiter.submit("dataPlane", slowRequest(inFlight, maxInFlight, i)))
+                .toList();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        var elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(futures).extracting(CompletableFuture::join).containsExactlyElementsOf(IntStream.range(0, 1000).boxed().toList());
+        assertThat(maxInFlight.get()).isEqualTo(50);
+        // 1000 serialized requests would take 20 seconds, 20 rounds of 50 concurrent requests take about 400ms
+        assertThat(elapsed).isLessThan(5000);
+        assertThat(limiter.inFlight("dataPlane")).isZero();
+        assertThat(limiter.queued("dataPlane")).isZero();
+    }
+
+    @Test
+    void submit_shouldQueueRequestsExceedingTheLimit() {
+        var limiter = new DataPlaneConcurrencyLimiter(2);
+        var pending = new ArrayList<CompletableFuture<String>>();
+        Supplier<CompletableFuture<String>> request = () -> {
+            var future = new CompletableFuture<String>();
+            pending.add(future);
+            return future;
+        };
+
+        var first = limiter.submit("dataPlane", request);
+        limiter.submit("dataPlane", request);
+        var third = limiter.submit("dataPlane", request);
+
+        assertThat(pending).hasSize(2);
+        assertThat(limiter.inFlight("dataPlane")).isEqualTo(2);
+        assertThat(limiter.queued("dataPlane")).isEqualTo(1);
+
+        pending.get(0).complete("first");
+
+        assertThat(first).isCompletedWithValue("first");
+        assertThat(pending).hasSize(3);
+        assertThat(third).isNotDone();
+        assertThat(limiter.inFlight("dataPlane")).isEqualTo(2);
+        assertThat(limiter.queued("dataPlane")).isZero();
+    }
+
+    @Test
+    void submit_shouldLimitEveryDataPlaneIndependently() {
+        var limiter = new DataPlaneConcurrencyLimiter(1);
+
+        limiter.submit("dataPlane1", CompletableFuture::new);
+        limiter.submit("dataPlane2", CompletableFuture::new);
+
+        assertThat(limiter.inFlight("dataPlane1")).isEqualTo(1);
+        assertThat(limiter.inFlight("dataPlane2")).isEqualTo(1);
+        assertThat(limiter.queued("dataPlane1")).isZero();
+    }
+
+    @Test
+    void submit_shouldReleaseSlot_whenRequestFails() {
+        var limiter = new DataPlaneConcurrencyLimiter(1);
+
+        var failed = limiter.submit("dataPlane", () -> {
+            throw new IllegalStateException("cannot send");
+        });
+        var next = limiter.submit("dataPlane", () -> CompletableFuture.completedFuture("next"));
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(next).isCompletedWithValue("next");
+        assertThat(limiter.inFlight("dataPlane")).isZero();
+    }
+
+    @Test
+    void submit_shouldFailWithoutSending_whenRequestIsQueuedLongerThanMaxQueueTime() {
+        var limiter = new DataPlaneConcurrencyLimiter(1, 50);
+        var sent = new AtomicInteger();
+        Supplier<CompletableFuture<String>> request = () -> {
+            sent.incrementAndGet();
+            return new CompletableFuture<>();
+        };
+
+        limiter.submit("dataPlane", request);
+        var queued = limiter.submit("dataPlane", request);
+
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(sent.get()).isEqualTo(1);
+        assertThat(limiter.queued("dataPlane")).isZero();
+        assertThat(limiter.inFlight("dataPlane")).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_shouldThrow_whenLimitIsLessThanOne() {
+        assertThatThrownBy(() -> new DataPlaneConcurrencyLimiter(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Supplier<CompletableFuture<Integer>> slowRequest(AtomicInteger inFlight, AtomicInteger maxInFlight, int value) {
+        return () -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            var future = new CompletableFuture<Integer>();
+            slowDataPlane.schedule(() -> {
+                inFlight.decrementAndGet();
+                future.complete(value);
+            }, 20, TimeUnit.MILLISECONDS);
+            return future;
+        };
+    }
+}
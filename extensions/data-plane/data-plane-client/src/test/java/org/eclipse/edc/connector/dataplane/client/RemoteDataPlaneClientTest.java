@@ -36,6 +36,7 @@ import org.mockserver.verify.VerificationTimes;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -128,6 +129,75 @@ class RemoteDataPlaneClientTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void transferAsync_verifyTransferSuccess() throws JsonProcessingException {
+        var flowRequest = createDataFlowRequest();
+
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(flowRequest));
+        dataPlane.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.OK_200.code()));
+
+        var result = dataPlaneClient.transferAsync(flowRequest);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isSucceeded());
+        dataPlane.verify(httpRequest, VerificationTimes.once());
+    }
+
+    @Test
+    void transferAsync_verifyReturnFatalErrorIfReceiveErrorInResponse() throws JsonProcessingException {
+        var flowRequest = createDataFlowRequest();
+
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(flowRequest));
+        var errorMsg = UUID.randomUUID().toString();
+        dataPlane.when(httpRequest, once()).respond(withResponse(errorMsg));
+
+        var result = dataPlaneClient.transferAsync(flowRequest);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> {
+            assertThat(r).isFailed();
+            assertThat(r.getFailure().status()).isEqualTo(ResponseStatus.FATAL_ERROR);
+            assertThat(r.getFailureMessages()).containsExactly(format("Transfer request failed with status code 400 for request %s: %s", flowRequest.getId(), errorMsg));
+        });
+    }
+
+    @Test
+    void transferAsync_shouldReturnFatalError_whenDataPlaneIsNotReachable() {
+        var unreachable = DataPlaneInstance.Builder.newInstance().url("http://localhost:" + getFreePort() + DATA_PLANE_PATH).build();
+        var client = new RemoteDataPlaneClient(testHttpClient(), MAPPER, unreachable, new DataPlaneConcurrencyLimiter(1));
+
+        var result = client.transferAsync(createDataFlowRequest());
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> {
+            assertThat(r).isFailed();
+            assertThat(r.getFailure().status()).isEqualTo(ResponseStatus.FATAL_ERROR);
+        });
+    }
+
+    @Test
+    void transferAsync_shouldReturnErrorRetry_whenRequestIsQueuedLongerThanMaxQueueTime() {
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withMethod("POST");
+        dataPlane.when(httpRequest).respond(response().withStatusCode(HttpStatusCode.OK_200.code()).withDelay(TimeUnit.SECONDS, 2));
+        var client = new RemoteDataPlaneClient(testHttpClient(), MAPPER, instance, new DataPlaneConcurrencyLimiter(1, 50));
+
+        client.transferAsync(createDataFlowRequest());
+        var result = client.transferAsync(createDataFlowRequest());
+
+        assertThat(result).succeedsWithin(1, TimeUnit.SECONDS).satisfies(r -> {
+            assertThat(r).isFailed();
+            assertThat(r.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+        });
+    }
+
+    @Test
+    void terminateAsync_shouldCallTerminate() {
+        var httpRequest = new HttpRequest().withMethod("DELETE").withPath(DATA_PLANE_PATH + "/processId");
+        dataPlane.when(httpRequest, once()).respond(response().withStatusCode(NO_CONTENT_204.code()));
+
+        var result = dataPlaneClient.terminateAsync("processId");
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isSucceeded());
+        dataPlane.verify(httpRequest, VerificationTimes.once());
+    }
+
     @Test
     void terminate_shouldCallTerminateOnAllTheAvailableDataPlanes() {
         var httpRequest = new HttpRequest().withMethod("DELETE").withPath(DATA_PLANE_PATH + "/processId");
@@ -15,16 +15,23 @@
 
 package org.eclipse.edc.connector.dataplane.http.oauth2;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Provides support for adding OAuth2 authentication to http data transfer
@@ -33,6 +40,22 @@ import java.time.Clock;
 public class DataPlaneHttpOauth2Extension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP OAuth2";
 
+    private static final long DEFAULT_EXPIRY_MARGIN_SECONDS = 30;
+    private static final long DEFAULT_REFRESH_AHEAD_SECONDS = 60;
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    @Setting(value = "If true, the OAuth2 tokens are cached until their expiry", defaultValue = "true", type = "boolean")
+    private static final String TOKEN_CACHE_ENABLED = "edc.dataplane.http.oauth2.token-cache.enabled";
+
+    @Setting(value = "Number of seconds before their expiry the cached tokens stop being used", defaultValue = DEFAULT_EXPIRY_MARGIN_SECONDS + "", type = "long")
+    private static final String TOKEN_CACHE_EXPIRY_MARGIN = "edc.dataplane.http.oauth2.token-cache.expiry-margin-seconds";
+
+    @Setting(value = "Number of seconds before their expiry (minus the margin) the cached tokens are refreshed in the background", defaultValue = DEFAULT_REFRESH_AHEAD_SECONDS + "", type = "long")
+    private static final String TOKEN_CACHE_REFRESH_AHEAD = "edc.dataplane.http.oauth2.token-cache.refresh-ahead-seconds";
+
+    @Setting(value = "Maximum number of cached tokens", defaultValue = DEFAULT_MAX_ENTRIES + "", type = "int")
+    private static final String TOKEN_CACHE_MAX_ENTRIES = "edc.dataplane.http.oauth2.token-cache.max-entries";
+
     @Inject
     private Clock clock;
 
@@ -48,6 +71,14 @@ public class DataPlaneHttpOauth2Extension implements ServiceExtension {
     @Inject
     private Oauth2Client oauth2Client;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -56,10 +87,30 @@ public class DataPlaneHttpOauth2Extension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var requestFactory = new Oauth2CredentialsRequestFactory(privateKeyResolver, clock, vault, context.getMonitor());
-        var oauth2ParamsDecorator = new Oauth2HttpRequestParamsDecorator(requestFactory, oauth2Client);
+        var tokenCache = context.getSetting(TOKEN_CACHE_ENABLED, true) ? createTokenCache(context) : null;
+        var oauth2ParamsDecorator = new Oauth2HttpRequestParamsDecorator(requestFactory, oauth2Client, tokenCache);
 
         paramsProvider.registerSinkDecorator(oauth2ParamsDecorator);
         paramsProvider.registerSourceDecorator(oauth2ParamsDecorator);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private Oauth2TokenCache createTokenCache(ServiceExtensionContext context) {
+        refreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "oauth2-token-refresh");
+        return Oauth2TokenCache.Builder.newInstance()
+                .clock(clock)
+                .monitor(context.getMonitor())
+                .executor(refreshExecutor)
+                .expiryMargin(Duration.ofSeconds(context.getSetting(TOKEN_CACHE_EXPIRY_MARGIN, DEFAULT_EXPIRY_MARGIN_SECONDS)))
+                .refreshAhead(Duration.ofSeconds(context.getSetting(TOKEN_CACHE_REFRESH_AHEAD, DEFAULT_REFRESH_AHEAD_SECONDS)))
+                .maxEntries(context.getSetting(TOKEN_CACHE_MAX_ENTRIES, DEFAULT_MAX_ENTRIES))
+                .meterRegistry(meterRegistry != null ? meterRegistry : Metrics.globalRegistry)
+                .build();
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.edc.iam.oauth2.spi.Oauth2AssertionDecorator;
 import org.eclipse.edc.iam.oauth2.spi.client.Oauth2CredentialsRequest;
 import org.eclipse.edc.iam.oauth2.spi.client.PrivateKeyOauth2CredentialsRequest;
 import org.eclipse.edc.iam.oauth2.spi.client.SharedSecretOauth2CredentialsRequest;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
@@ -28,7 +29,11 @@ import org.eclipse.edc.token.JwtGenerationService;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Clock;
+import java.util.HexFormat;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -71,6 +76,22 @@ public class Oauth2CredentialsRequestFactory {
                 : createSharedSecretRequest(dataAddress);
     }
 
+    /**
+     * Create the {@link Oauth2TokenCache.Key} identifying the token obtained with the credentials of the
+     * {@link DataAddress}. The fingerprint is computed on the resolved client secret, or on the private key alias.
+     *
+     * @param dataAddress the data address
+     * @return the cache key.
+     */
+    public Oauth2TokenCache.Key cacheKey(DataAddress dataAddress) {
+        var keySecret = dataAddress.getStringProperty(PRIVATE_KEY_NAME);
+        var credentials = keySecret != null
+                ? "private-key:" + keySecret
+                : Optional.ofNullable(dataAddress.getStringProperty(CLIENT_SECRET_KEY)).map(vault::resolveSecret).map(secret -> "secret:" + secret).orElse(null);
+        return new Oauth2TokenCache.Key(dataAddress.getStringProperty(TOKEN_URL), dataAddress.getStringProperty(CLIENT_ID),
+                dataAddress.getStringProperty(SCOPE), credentials == null ? null : fingerprint(credentials));
+    }
+
     @NotNull
     private Result<Oauth2CredentialsRequest> createPrivateKeyBasedRequest(String pkSecret, DataAddress dataAddress) {
         return createAssertion(pkSecret, dataAddress)
@@ -118,6 +139,15 @@ public class Oauth2CredentialsRequestFactory {
         return service.generate(privateKey::getContent, decorator);
     }
 
+    private String fingerprint(String credentials) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(credentials.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
     @Nullable
     private Long parseLong(String v) {
         try {
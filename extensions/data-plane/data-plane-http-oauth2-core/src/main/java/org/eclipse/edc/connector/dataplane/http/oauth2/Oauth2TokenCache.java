@@ -0,0 +1,273 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.oauth2;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Caches the OAuth2 tokens obtained with the client credentials grant.
+ * <p>
+ * A token is cached until its {@code expires_in} minus the expiry margin, tokens without {@code expires_in} are not
+ * cached. Once a cached token gets within the refresh-ahead window of its expiry, the next lookup triggers a single
+ * background fetch of a new token while the current one keeps being served. Concurrent lookups of a missing token are
+ * coalesced in a single fetch. Failed fetches are never cached.
+ * <p>
+ * Hits, misses and evictions are reported by the {@code edc.dataplane.http.oauth2.token.cache.requests} and
+ * {@code edc.dataplane.http.oauth2.token.cache.evictions} counters.
+ */
+public class Oauth2TokenCache {
+
+    private static final String REQUESTS_METRIC = "edc.dataplane.http.oauth2.token.cache.requests";
+    private static final String EVICTIONS_METRIC = "edc.dataplane.http.oauth2.token.cache.evictions";
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<Result<TokenRepresentation>>> inflight = new ConcurrentHashMap<>();
+    private Clock clock = Clock.systemUTC();
+    private Monitor monitor;
+    private Executor executor;
+    private Duration expiryMargin = Duration.ofSeconds(30);
+    private Duration refreshAhead = Duration.ofSeconds(60);
+    private int maxEntries = 1000;
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+    private Counter hits;
+    private Counter misses;
+    private Counter expiredEvictions;
+    private Counter sizeEvictions;
+
+    private Oauth2TokenCache() {
+    }
+
+    /**
+     * Returns the cached token for the key, fetching it if it is missing or expired.
+     *
+     * @param key     the cache key.
+     * @param fetcher fetches a new token from the identity provider.
+     * @return the token, or the failure of the fetch.
+     */
+    public Result<TokenRepresentation> get(Key key, Supplier<Result<TokenRepresentation>> fetcher) {
+        var now = clock.instant();
+        var entry = entries.get(key);
+        if (entry != null) {
+            if (now.isBefore(entry.expiresAt)) {
+                hits.increment();
+                if (!now.isBefore(entry.refreshAt) && entry.refreshing.compareAndSet(false, true)) {
+                    refreshInBackground(key, entry, fetcher);
+                }
+                return Result.success(entry.token);
+            }
+            if (entries.remove(key, entry)) {
+                expiredEvictions.increment();
+            }
+        }
+        misses.increment();
+        return fetch(key, fetcher);
+    }
+
+    /**
+     * Returns the number of cached tokens.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private Result<TokenRepresentation> fetch(Key key, Supplier<Result<TokenRepresentation>> fetcher) {
+        var future = new CompletableFuture<Result<TokenRepresentation>>();
+        var existing = inflight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing.join();
+        }
+        Result<TokenRepresentation> result = null;
+        try {
+            result = fetcher.get();
+            if (result.succeeded()) {
+                store(key, result.getContent());
+            }
+        } catch (RuntimeException e) {
+            result = Result.failure(format("Error fetching OAuth2 token from %s: %s", key.tokenUrl(), e.getMessage()));
+        } finally {
+            inflight.remove(key, future);
+            // an Error thrown by the fetcher propagates to this caller only, the waiting ones get a failure
+            future.complete(result != null ? result : Result.failure(format("Error fetching OAuth2 token from %s", key.tokenUrl())));
+        }
+        return result;
+    }
+
+    private void refreshInBackground(Key key, Entry entry, Supplier<Result<TokenRepresentation>> fetcher) {
+        try {
+            executor.execute(() -> {
+                var result = fetch(key, fetcher);
+                if (result.failed()) {
+                    monitor.warning(format("Refresh of OAuth2 token from %s failed, the cached token will be used until it expires: %s", key.tokenUrl(), result.getFailureDetail()));
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void store(Key key, TokenRepresentation token) {
+        var expiresIn = token.getExpiresIn();
+        if (expiresIn == null) {
+            return;
+        }
+        var now = clock.instant();
+        var expiresAt = now.plusSeconds(expiresIn).minus(expiryMargin);
+        if (!now.isBefore(expiresAt)) {
+            return;
+        }
+        if (!entries.containsKey(key) && entries.size() >= maxEntries) {
+            evict(now);
+        }
+        var refreshAt = expiresAt.minus(refreshAhead);
+        entries.put(key, new Entry(token, expiresAt, refreshAt.isBefore(now) ? now : refreshAt));
+    }
+
+    /**
+     * Makes room for a new entry, evicting the expired entries or, if there are none, the one expiring first.
+     */
+    private void evict(Instant now) {
+        entries.forEach((key, entry) -> {
+            if (!now.isBefore(entry.expiresAt) && entries.remove(key, entry)) {
+                expiredEvictions.increment();
+            }
+        });
+        while (entries.size() >= maxEntries) {
+            var first = entries.entrySet().stream()
+                    .min((a, b) -> a.getValue().expiresAt.compareTo(b.getValue().expiresAt));
+            if (first.isEmpty()) {
+                return;
+            }
+            if (entries.remove(first.get().getKey(), first.get().getValue())) {
+                sizeEvictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Identifies a token: tokens are shared by the requests to the same token endpoint with the same client and scope.
+     * The secret fingerprint makes a rotated secret result in a new token rather than a cached one.
+     *
+     * @param tokenUrl          the token endpoint.
+     * @param clientId          the client id.
+     * @param scope             the requested scope.
+     * @param secretFingerprint the fingerprint of the client credentials.
+     */
+    public record Key(String tokenUrl, @Nullable String clientId, @Nullable String scope, @Nullable String secretFingerprint) {
+    }
+
+    private static class Entry {
+        private final TokenRepresentation token;
+        private final Instant expiresAt;
+        private final Instant refreshAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(TokenRepresentation token, Instant expiresAt, Instant refreshAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+    }
+
+    public static class Builder {
+        private final Oauth2TokenCache cache;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        private Builder() {
+            cache = new Oauth2TokenCache();
+        }
+
+        public Builder clock(Clock clock) {
+            cache.clock = clock;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            cache.monitor = monitor;
+            return this;
+        }
+
+        /**
+         * The executor the tokens are refreshed on.
+         */
+        public Builder executor(Executor executor) {
+            cache.executor = executor;
+            return this;
+        }
+
+        /**
+         * How long before its actual expiry a token stops being served.
+         */
+        public Builder expiryMargin(Duration expiryMargin) {
+            cache.expiryMargin = expiryMargin;
+            return this;
+        }
+
+        /**
+         * How long before its expiry a token is refreshed in the background.
+         */
+        public Builder refreshAhead(Duration refreshAhead) {
+            cache.refreshAhead = refreshAhead;
+            return this;
+        }
+
+        public Builder maxEntries(int maxEntries) {
+            cache.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            cache.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        public Oauth2TokenCache build() {
+            Objects.requireNonNull(cache.monitor, "monitor");
+            Objects.requireNonNull(cache.executor, "executor");
+            if (cache.maxEntries <= 0) {
+                throw new IllegalArgumentException("maxEntries must be greater than 0");
+            }
+            cache.hits = cache.meterRegistry.counter(REQUESTS_METRIC, "result", "hit");
+            cache.misses = cache.meterRegistry.counter(REQUESTS_METRIC, "result", "miss");
+            cache.expiredEvictions = cache.meterRegistry.counter(EVICTIONS_METRIC, "reason", "expired");
+            cache.sizeEvictions = cache.meterRegistry.counter(EVICTIONS_METRIC, "reason", "size");
+            return cache;
+        }
+    }
+}
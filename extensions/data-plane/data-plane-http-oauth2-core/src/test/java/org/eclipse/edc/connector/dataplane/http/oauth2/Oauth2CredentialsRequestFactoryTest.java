@@ -58,6 +58,26 @@ class Oauth2CredentialsRequestFactoryTest {
     private final Monitor monitor = mock(Monitor.class);
     private final Oauth2CredentialsRequestFactory factory = new Oauth2CredentialsRequestFactory(privateKeyResolver, clock, vault, monitor);
 
+    @Test
+    void cacheKey_shouldChange_whenSecretIsRotated() {
+        when(vault.resolveSecret("clientSecretKey")).thenReturn("clientSecret", "clientSecret", "rotatedSecret");
+        var address = defaultAddress()
+                .property(CLIENT_SECRET_KEY, "clientSecretKey")
+                .property(SCOPE, "scope")
+                .build();
+
+        var key = factory.cacheKey(address);
+        var sameKey = factory.cacheKey(address);
+        var rotatedKey = factory.cacheKey(address);
+
+        assertThat(key.tokenUrl()).isEqualTo("http://oauth2-server.com/token");
+        assertThat(key.clientId()).isEqualTo("clientId");
+        assertThat(key.scope()).isEqualTo("scope");
+        assertThat(key.secretFingerprint()).isNotNull().doesNotContain("clientSecret");
+        assertThat(sameKey).isEqualTo(key);
+        assertThat(rotatedKey).isNotEqualTo(key);
+    }
+
     @Test
     void shouldCreateSharedSecretRequestWithKey_whenPrivateKeyNameIsAbsent() {
         when(vault.resolveSecret("clientSecretKey")).thenReturn("clientSecret");
@@ -20,6 +20,7 @@ import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.iam.oauth2.spi.client.SharedSecretOauth2CredentialsRequest;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,8 @@ import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_SECR
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.TOKEN_URL;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -59,6 +62,25 @@ class Oauth2HttpRequestParamsDecoratorTest {
                 .containsEntry("Authorization", "Bearer token-test");
     }
 
+    @Test
+    void requestOauth2TokenOnce_whenTokenCacheProvided() {
+        var tokenCache = Oauth2TokenCache.Builder.newInstance().monitor(mock(Monitor.class)).executor(Runnable::run).build();
+        var cachingDecorator = new Oauth2HttpRequestParamsDecorator(requestFactory, client, tokenCache);
+        var httpAddress = httpDataAddressWithOauth2Properties();
+        when(requestFactory.cacheKey(any())).thenReturn(new Oauth2TokenCache.Key("any", "any", null, "fingerprint"));
+        when(requestFactory.create(any())).thenReturn(Result.success(createRequest()));
+        when(client.requestToken(any())).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token-test").expiresIn(3600L).build()));
+
+        for (var i = 0; i < 3; i++) {
+            var paramsBuilder = HttpRequestParams.Builder.newInstance().baseUrl("http://any").method("GET");
+            var result = cachingDecorator.decorate(dummyDataFlowRequest(), httpAddress, paramsBuilder).build();
+            assertThat(result.getHeaders()).asInstanceOf(map(String.class, String.class))
+                    .containsEntry("Authorization", "Bearer token-test");
+        }
+
+        verify(client, times(1)).requestToken(any());
+    }
+
     @Test
     void shouldThrowExceptionIfCannotBuildRequest() {
         var dataFlowRequest = dummyDataFlowRequest();
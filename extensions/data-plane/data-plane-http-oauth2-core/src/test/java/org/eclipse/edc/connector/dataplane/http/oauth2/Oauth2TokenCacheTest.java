@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.http.oauth2;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class Oauth2TokenCacheTest {
+
+    private static final Oauth2TokenCache.Key KEY = new Oauth2TokenCache.Key("http://token", "client", "scope", "fingerprint");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final Supplier<Result<TokenRepresentation>> fetcher = () -> Result.success(token("token-" + fetches.incrementAndGet(), 300L));
+
+    @Test
+    void get_shouldFetchOnceAndServeFromCache() {
+        var cache = cache(Runnable::run).build();
+
+        var first = cache.get(KEY, fetcher);
+        var second = cache.get(KEY, fetcher);
+
+        assertThat(first.getContent().getToken()).isEqualTo("token-1");
+        assertThat(second.getContent().getToken()).isEqualTo("token-1");
+        assertThat(fetches).hasValue(1);
+        assertThat(counter("edc.dataplane.http.oauth2.token.cache.requests", "result", "miss")).isEqualTo(1);
+        assertThat(counter("edc.dataplane.http.oauth2.token.cache.requests", "result", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldFetchAgain_whenTokenExpiresWithinMargin() {
+        var cache = cache(Runnable::run).expiryMargin(Duration.ofSeconds(30)).refreshAhead(Duration.ZERO).build();
+        cache.get(KEY, fetcher);
+
+        clock.advance(Duration.ofSeconds(271));
+        var result = cache.get(KEY, fetcher);
+
+        assertThat(result.getContent().getToken()).isEqualTo("token-2");
+        assertThat(counter("edc.dataplane.http.oauth2.token.cache.evictions", "reason", "expired")).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenTokenIsAboutToExpire() {
+        var executor = new ManualExecutor();
+        var cache = cache(executor).expiryMargin(Duration.ofSeconds(30)).refreshAhead(Duration.ofSeconds(60)).build();
+        cache.get(KEY, fetcher);
+
+        clock.advance(Duration.ofSeconds(211));
+        var stale = cache.get(KEY, fetcher);
+        cache.get(KEY, fetcher);
+
+        assertThat(stale.getContent().getToken()).isEqualTo("token-1");
+        assertThat(executor.tasks).hasSize(1);
+
+        executor.runAll();
+
+        assertThat(cache.get(KEY, fetcher).getContent().getToken()).isEqualTo("token-2");
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCache_whenTokenHasNoExpiry() {
+        var cache = cache(Runnable::run).build();
+        Supplier<Result<TokenRepresentation>> noExpiry = () -> Result.success(token("token-" + fetches.incrementAndGet(), null));
+
+        cache.get(KEY, noExpiry);
+        cache.get(KEY, noExpiry);
+
+        assertThat(fetches).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        var cache = cache(Runnable::run).build();
+
+        var failure = cache.get(KEY, () -> Result.failure("idp down"));
+        var success = cache.get(KEY, fetcher);
+
+        assertThat(failure.failed()).isTrue();
+        assertThat(success.getContent().getToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    void get_shouldUseDifferentEntries_whenSecretFingerprintChanges() {
+        var cache = cache(Runnable::run).build();
+
+        cache.get(KEY, fetcher);
+        var rotated = cache.get(new Oauth2TokenCache.Key("http://token", "client", "scope", "rotated"), fetcher);
+
+        assertThat(rotated.getContent().getToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    void get_shouldCoalesceConcurrentFetches() throws Exception {
+        var cache = cache(Runnable::run).build();
+        var fetchStarted = new CountDownLatch(1);
+        var releaseFetch = new CountDownLatch(1);
+        Supplier<Result<TokenRepresentation>> slowFetcher = () -> {
+            fetchStarted.countDown();
+            try {
+                releaseFetch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return fetcher.get();
+        };
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var first = CompletableFuture.supplyAsync(() -> cache.get(KEY, slowFetcher), executor);
+            fetchStarted.await(5, TimeUnit.SECONDS);
+            var others = new ArrayList<CompletableFuture<Result<TokenRepresentation>>>();
+            for (var i = 0; i < 3; i++) {
+                others.add(CompletableFuture.supplyAsync(() -> cache.get(KEY, slowFetcher), executor));
+            }
+            Thread.sleep(100);
+            releaseFetch.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token-1");
+            for (var other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token-1");
+            }
+            assertThat(fetches).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_shouldReleaseWaitingCallers_whenFetcherThrowsError() throws Exception {
+        var cache = cache(Runnable::run).build();
+        var fetchStarted = new CountDownLatch(1);
+        var releaseFetch = new CountDownLatch(1);
+        Supplier<Result<TokenRepresentation>> failingFetcher = () -> {
+            fetchStarted.countDown();
+            try {
+                releaseFetch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new LinkageError("boom");
+        };
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var first = CompletableFuture.supplyAsync(() -> cache.get(KEY, failingFetcher), executor);
+            fetchStarted.await(5, TimeUnit.SECONDS);
+            var waiting = CompletableFuture.supplyAsync(() -> cache.get(KEY, failingFetcher), executor);
+            Thread.sleep(100);
+            releaseFetch.countDown();
+
+            assertThat(first).failsWithin(5, TimeUnit.SECONDS);
+            assertThat(waiting.get(5, TimeUnit.SECONDS).failed()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_shouldEvictEntryExpiringFirst_whenFull() {
+        var cache = cache(Runnable::run).maxEntries(2).build();
+        cache.get(new Oauth2TokenCache.Key("http://token", "client-1", null, null), () -> Result.success(token("short", 100L)));
+        cache.get(new Oauth2TokenCache.Key("http://token", "client-2", null, null), () -> Result.success(token("long", 1000L)));
+
+        cache.get(new Oauth2TokenCache.Key("http://token", "client-3", null, null), fetcher);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(counter("edc.dataplane.http.oauth2.token.cache.evictions", "reason", "size")).isEqualTo(1);
+        var longLived = cache.get(new Oauth2TokenCache.Key("http://token", "client-2", null, null), fetcher);
+        assertThat(longLived.getContent().getToken()).isEqualTo("long");
+    }
+
+    private Oauth2TokenCache.Builder cache(Executor executor) {
+        return Oauth2TokenCache.Builder.newInstance()
+                .clock(clock)
+                .monitor(mock(Monitor.class))
+                .executor(executor)
+                .meterRegistry(meterRegistry);
+    }
+
+    private double counter(String name, String tag, String value) {
+        return meterRegistry.get(name).tag(tag, value).counter().count();
+    }
+
+    private TokenRepresentation token(String token, Long expiresIn) {
+        return TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
+    }
+
+    private static class ManualExecutor implements Executor {
+        private final ArrayList<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            tasks.forEach(Runnable::run);
+            tasks.clear();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
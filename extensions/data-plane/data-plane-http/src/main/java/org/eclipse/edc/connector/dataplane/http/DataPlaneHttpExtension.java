@@ -19,9 +19,11 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestParamsProviderImpl;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory;
+import org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentConfiguration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -31,6 +33,10 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory.DEFAULT_RANGE_PARALLELISM;
+import static org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory.DEFAULT_RANGE_RETRIES;
 
 /**
  * Provides support for reading data from an HTTP endpoint and sending data to an HTTP endpoint.
@@ -44,6 +50,20 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Setting
     private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
 
+    @Setting(value = "Maximum number of bytes spooled to a temporary file to determine the length of non-chunked uploads whose source size is unknown",
+            defaultValue = NonChunkedTransferRequestBody.DEFAULT_MAX_SPOOL_SIZE + "", type = "long")
+    private static final String EDC_DATAPLANE_HTTP_SINK_SPOOL_MAX_SIZE = "edc.dataplane.http.sink.spool.max-size";
+
+    @Setting(value = "Size in bytes of the segments HTTP sources supporting byte ranges are downloaded in. 0 disables range downloads unless enabled by the source address",
+            defaultValue = "0", type = "int")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_SEGMENT_SIZE = "edc.dataplane.http.source.range.segment-size";
+
+    @Setting(value = "Maximum number of segments of an HTTP source downloaded concurrently", defaultValue = DEFAULT_RANGE_PARALLELISM + "", type = "int")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_PARALLELISM = "edc.dataplane.http.source.range.parallelism";
+
+    @Setting(value = "How many times the download of a segment of an HTTP source is retried before failing", defaultValue = DEFAULT_RANGE_RETRIES + "", type = "int")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_RETRIES = "edc.dataplane.http.source.range.retries";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -72,13 +92,24 @@ public class DataPlaneHttpExtension implements ServiceExtension {
         var paramsProvider = new HttpRequestParamsProviderImpl(vault, typeManager);
         context.registerService(HttpRequestParamsProvider.class, paramsProvider);
 
-        var httpRequestFactory = new HttpRequestFactory();
+        var httpRequestFactory = new HttpRequestFactory(context.getSetting(EDC_DATAPLANE_HTTP_SINK_SPOOL_MAX_SIZE, NonChunkedTransferRequestBody.DEFAULT_MAX_SPOOL_SIZE));
 
-        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
+        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory,
+                rangeSegmentConfiguration(context), executorContainer.getSegmentExecutorService());
         pipelineService.registerFactory(sourceFactory);
 
         var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory);
         pipelineService.registerFactory(sinkFactory);
     }
 
+    @Nullable
+    private SegmentConfiguration rangeSegmentConfiguration(ServiceExtensionContext context) {
+        var segmentSize = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_SEGMENT_SIZE, 0);
+        if (segmentSize == 0) {
+            return null;
+        }
+        var parallelism = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_PARALLELISM, DEFAULT_RANGE_PARALLELISM);
+        var retries = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_RETRIES, DEFAULT_RANGE_RETRIES);
+        return new SegmentConfiguration(segmentSize, parallelism, retries);
+    }
 }
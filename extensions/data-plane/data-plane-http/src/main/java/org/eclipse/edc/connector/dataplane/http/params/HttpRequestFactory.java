@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.dataplane.http.pipeline.ChunkedTransferRequestB
 import org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody;
 import org.eclipse.edc.connector.dataplane.http.pipeline.StringRequestBodySupplier;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,6 +30,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
 import static org.eclipse.edc.util.string.StringUtils.isNullOrBlank;
 
 /**
@@ -39,6 +41,22 @@ public class HttpRequestFactory {
     private static final String SLASH = "/";
     private static final String BACKSLASH = "\\";
 
+    private final long maxSpoolSize;
+
+    public HttpRequestFactory() {
+        this(NonChunkedTransferRequestBody.DEFAULT_MAX_SPOOL_SIZE);
+    }
+
+    /**
+     * Creates the factory.
+     *
+     * @param maxSpoolSize the maximum number of bytes spooled to determine the length of non-chunked request bodies
+     *                     whose size is unknown.
+     */
+    public HttpRequestFactory(long maxSpoolSize) {
+        this.maxSpoolSize = maxSpoolSize;
+    }
+
     /**
      * Creates HTTP request from the provided set of parameters.
      *
@@ -62,7 +80,20 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, Supplier<InputStream> bodySupplier) {
-        var requestBody = createRequestBody(params, bodySupplier);
+        return toRequest(params, bodySupplier, SIZE_UNKNOWN);
+    }
+
+    /**
+     * Creates HTTP request from the provided set of parameters, the request body supplier and the body size, which
+     * permits to stream non-chunked bodies without buffering them.
+     *
+     * @param params       the http request parameters
+     * @param bodySupplier the request body supplier.
+     * @param bodySize     the size of the body, or {@link DataSource.Part#SIZE_UNKNOWN} if unknown.
+     * @return HTTP request.
+     */
+    public Request toRequest(HttpRequestParams params, Supplier<InputStream> bodySupplier, long bodySize) {
+        var requestBody = createRequestBody(params, bodySupplier, bodySize);
         var requestBuilder = new Request.Builder()
                 .url(toUrl(params))
                 .method(params.getMethod(), requestBody);
@@ -71,13 +102,13 @@ public class HttpRequestFactory {
     }
 
     @Nullable
-    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier) {
+    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier, long bodySize) {
         var contentType = params.getContentType();
         if (bodySupplier == null || contentType == null) {
             return null;
         }
         return params.isNonChunkedTransfer()
-                ? new NonChunkedTransferRequestBody(bodySupplier, contentType)
+                ? new NonChunkedTransferRequestBody(bodySupplier, contentType, bodySize, maxSpoolSize)
                 : new ChunkedTransferRequestBody(bodySupplier, contentType);
     }
 
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okhttp3.Request;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
@@ -22,6 +23,8 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 
@@ -40,7 +43,7 @@ public class HttpDataSink extends ParallelSink {
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
-            var request = requestFactory.toRequest(params, part::openStream);
+            var request = requestFactory.toRequest(params, part::openStream, part.size());
             try (var response = httpClient.execute(request)) {
                 if (!response.isSuccessful()) {
                     monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
@@ -50,6 +53,8 @@ public class HttpDataSink extends ParallelSink {
             } catch (Exception e) {
                 monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
                 return ERROR_WRITING_DATA;
+            } finally {
+                release(request);
             }
         }
         return StreamResult.success();
@@ -58,6 +63,19 @@ public class HttpDataSink extends ParallelSink {
     private HttpDataSink() {
     }
 
+    /**
+     * Releases the resources held by the request body, e.g. the file its content was spooled to.
+     */
+    private void release(Request request) {
+        if (request.body() instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                monitor.warning(format("Error releasing HTTP request body for request %s", requestId), e);
+            }
+        }
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, HttpDataSink> {
 
         public static Builder newInstance() {
@@ -15,27 +15,44 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
+import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentConfiguration;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentedPart;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
+/**
+ * Reads data from an HTTP endpoint.
+ * <p>
+ * When a {@link SegmentConfiguration} is set, GET requests are preceded by a HEAD request probing the origin: if it
+ * advertises byte range support ({@code Accept-Ranges: bytes}) and the object is bigger than the segment size, the
+ * object is exposed as a {@link SegmentedPart} whose segments are downloaded concurrently with {@code Range} requests
+ * and retried individually. Otherwise, the object is read with a single GET request.
+ */
 public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int PARTIAL_CONTENT = 206;
+    private static final String GET = "GET";
+    private static final String BYTES = "bytes";
 
     private String name;
     private HttpRequestParams params;
@@ -43,10 +60,18 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private SegmentConfiguration segmentConfiguration;
+    private Executor executor;
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         var request = requestFactory.toRequest(params);
+        if (segmentConfiguration != null && GET.equalsIgnoreCase(request.method())) {
+            var rangePart = probeRangeSupport(request);
+            if (rangePart != null) {
+                return success(Stream.of(rangePart));
+            }
+        }
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
             // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
@@ -56,7 +81,7 @@ public class HttpDataSource implements DataSource {
                 if (body == null) {
                     throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
                 }
-                return success(Stream.of(new HttpPart(name, body.byteStream())));
+                return success(Stream.of(new HttpPart(name, body.byteStream(), body.contentLength())));
             } else {
                 try {
                     if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
@@ -83,6 +108,66 @@ public class HttpDataSource implements DataSource {
     private HttpDataSource() {
     }
 
+    /**
+     * Returns a {@link SegmentedPart} reading the object with range requests if the origin supports them and the
+     * object is big enough to be segmented, null otherwise.
+     */
+    @Nullable
+    private Part probeRangeSupport(Request request) {
+        var headRequest = request.newBuilder().head().build();
+        monitor.debug(() -> "Probing range support with HTTP request: " + headRequest.url());
+        try (var response = httpClient.execute(headRequest)) {
+            if (!response.isSuccessful() || !BYTES.equalsIgnoreCase(response.header("Accept-Ranges"))) {
+                return null;
+            }
+            var size = parseContentLength(response.header("Content-Length"));
+            if (size <= segmentConfiguration.segmentSize()) {
+                return null;
+            }
+            var validator = strongValidator(response);
+            if (validator == null) {
+                monitor.debug(() -> format("Request %s: origin provides no strong validator usable in If-Range, falling back to a single request", requestId));
+                return null;
+            }
+            var rangePart = new HttpRangePart(name, request, size, validator);
+            return new SegmentedPart(rangePart, segmentConfiguration, executor);
+        } catch (IOException e) {
+            monitor.debug(() -> format("Request %s: range support probe failed, falling back to a single request: %s", requestId, e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * Returns the validator to send as {@code If-Range}: the {@code ETag} if it is strong, otherwise the
+     * {@code Last-Modified} date if it is strong, i.e. at least one second older than the {@code Date} of the response
+     * (RFC 9110, 13.1.5). Weak validators are not allowed in {@code If-Range}, origins answer them with the whole
+     * object.
+     */
+    @Nullable
+    private String strongValidator(Response response) {
+        var etag = response.header("ETag");
+        if (etag != null) {
+            return etag.startsWith("W/") ? null : etag;
+        }
+        var lastModified = response.headers().getDate("Last-Modified");
+        var date = response.headers().getDate("Date");
+        if (lastModified != null && date != null && date.getTime() - lastModified.getTime() >= 1000) {
+            return response.header("Last-Modified");
+        }
+        return null;
+    }
+
+    private long parseContentLength(@Nullable String contentLength) {
+        if (contentLength == null) {
+            return Part.SIZE_UNKNOWN;
+        }
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            return Part.SIZE_UNKNOWN;
+        }
+    }
+
     @Override
     public void close() {
 
@@ -129,11 +214,30 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Enables range based downloads, splitting the objects into segments as described by the configuration.
+         */
+        public Builder segmentConfiguration(SegmentConfiguration segmentConfiguration) {
+            dataSource.segmentConfiguration = segmentConfiguration;
+            return this;
+        }
+
+        /**
+         * The executor the segments are downloaded on, required when a segment configuration is set.
+         */
+        public Builder executor(Executor executor) {
+            dataSource.executor = executor;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.requestFactory, "requestFactory");
+            if (dataSource.segmentConfiguration != null) {
+                Objects.requireNonNull(dataSource.executor, "executor");
+            }
             return dataSource;
         }
     }
@@ -141,10 +245,12 @@ public class HttpDataSource implements DataSource {
     private static class HttpPart implements Part {
         private final String name;
         private final InputStream content;
+        private final long size;
 
-        HttpPart(String name, InputStream content) {
+        HttpPart(String name, InputStream content, long size) {
             this.name = name;
             this.content = content;
+            this.size = size;
         }
 
         @Override
@@ -154,7 +260,7 @@ public class HttpDataSource implements DataSource {
 
         @Override
         public long size() {
-            return SIZE_UNKNOWN;
+            return size;
         }
 
         @Override
@@ -163,4 +269,75 @@ public class HttpDataSource implements DataSource {
         }
 
     }
+
+    /**
+     * Part of an object served by an origin supporting byte ranges. The strong validator returned by the probe is sent
+     * as {@code If-Range} so that a modification of the object during the transfer fails the range requests instead of
+     * mixing two versions of it.
+     */
+    private class HttpRangePart implements Part {
+        private final String name;
+        private final Request request;
+        private final long size;
+        private final String validator;
+
+        HttpRangePart(String name, Request request, long size, String validator) {
+            this.name = name;
+            this.request = request;
+            this.size = size;
+            this.validator = validator;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public InputStream openStream() {
+            try {
+                var response = httpClient.execute(request);
+                var body = response.body();
+                if (!response.isSuccessful() || body == null) {
+                    response.close();
+                    throw new EdcException(format("Received code transferring HTTP data for request %s: %s - %s.", requestId, response.code(), response.message()));
+                }
+                return body.byteStream();
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            var rangeRequest = request.newBuilder()
+                    .header("Range", format("%s=%s-%s", BYTES, offset, offset + bytes - 1))
+                    .header("If-Range", validator)
+                    .build();
+            try (var response = httpClient.execute(rangeRequest)) {
+                var body = response.body();
+                if (response.code() != PARTIAL_CONTENT || body == null) {
+                    throw new EdcException(format("Expected partial content reading bytes %s-%s for request %s but received: %s - %s.",
+                            offset, offset + bytes - 1, requestId, response.code(), response.message()));
+                }
+                var content = body.bytes();
+                if (content.length != bytes) {
+                    throw new EdcException(format("Expected %s bytes at offset %s for request %s but received %s", bytes, offset, requestId, content.length));
+                }
+                return content;
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+    }
 }
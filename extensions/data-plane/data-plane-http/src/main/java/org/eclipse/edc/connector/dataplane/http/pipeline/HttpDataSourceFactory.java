@@ -20,30 +20,61 @@ import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentConfiguration;
 import org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static java.lang.String.format;
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
 
 /**
  * Instantiates {@link HttpDataSource}s for requests whose source data type is {@link HttpDataAddressSchema#HTTP_DATA_TYPE}.
+ * <p>
+ * Range based downloads use the default {@link SegmentConfiguration}, whose segment size and parallelism can be
+ * overridden by the {@link HttpDataAddress#RANGE_SEGMENT_SIZE} and {@link HttpDataAddress#RANGE_PARALLELISM}
+ * properties of the source address. A segment size of 0 disables them for that address.
  */
 public class HttpDataSourceFactory implements DataSourceFactory {
 
+    public static final int DEFAULT_RANGE_SEGMENT_SIZE = 8 * 1024 * 1024;
+    public static final int DEFAULT_RANGE_PARALLELISM = 4;
+    public static final int DEFAULT_RANGE_RETRIES = 2;
+
     private final EdcHttpClient httpClient;
     private final HttpRequestParamsProvider requestParamsProvider;
     private final Monitor monitor;
     private final HttpRequestFactory requestFactory;
+    private final SegmentConfiguration defaultSegmentConfiguration;
+    private final Executor executor;
 
     public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory) {
+        this(httpClient, requestParamsProvider, monitor, requestFactory, null, null);
+    }
+
+    /**
+     * Creates a factory supporting range based downloads.
+     *
+     * @param defaultSegmentConfiguration the segment configuration used when the source address doesn't override it, null to
+     *                                    disable range downloads unless the source address enables them.
+     * @param executor                    the executor the segments are downloaded on, null disables range downloads.
+     */
+    public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory,
+                                 @Nullable SegmentConfiguration defaultSegmentConfiguration, @Nullable Executor executor) {
         this.httpClient = httpClient;
         this.requestParamsProvider = requestParamsProvider;
         this.monitor = monitor;
         this.requestFactory = requestFactory;
+        this.defaultSegmentConfiguration = defaultSegmentConfiguration;
+        this.executor = executor;
     }
 
     @Override
@@ -53,6 +84,15 @@ public class HttpDataSourceFactory implements DataSourceFactory {
 
     @Override
     public @NotNull Result<Void> validateRequest(DataFlowRequest request) {
+        var source = request.getSourceDataAddress();
+        var segmentSizeValidation = validateInteger(source, HttpDataAddress.RANGE_SEGMENT_SIZE, 0);
+        if (segmentSizeValidation.failed()) {
+            return segmentSizeValidation;
+        }
+        var parallelismValidation = validateInteger(source, HttpDataAddress.RANGE_PARALLELISM, 1);
+        if (parallelismValidation.failed()) {
+            return parallelismValidation;
+        }
         try {
             createSource(request);
         } catch (Exception e) {
@@ -73,6 +113,44 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
                 .requestFactory(requestFactory)
+                .segmentConfiguration(segmentConfiguration(dataAddress))
+                .executor(executor)
                 .build();
     }
+
+    private Result<Void> validateInteger(DataAddress address, String property, int min) {
+        var value = address.getStringProperty(property);
+        if (value == null) {
+            return Result.success();
+        }
+        try {
+            if (Integer.parseInt(value) >= min) {
+                return Result.success();
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        return Result.failure(format("The %s property must be an integer greater or equal to %s, but was: %s", property, min, value));
+    }
+
+    @Nullable
+    private SegmentConfiguration segmentConfiguration(HttpDataAddress dataAddress) {
+        if (executor == null) {
+            return null;
+        }
+        var segmentSize = dataAddress.getRangeSegmentSize();
+        var parallelism = dataAddress.getRangeParallelism();
+        if (segmentSize == null && parallelism == null) {
+            return defaultSegmentConfiguration;
+        }
+        if (segmentSize != null && segmentSize == 0) {
+            return null;
+        }
+        var defaults = Optional.ofNullable(defaultSegmentConfiguration)
+                .orElseGet(() -> new SegmentConfiguration(DEFAULT_RANGE_SEGMENT_SIZE, DEFAULT_RANGE_PARALLELISM, DEFAULT_RANGE_RETRIES));
+        return new SegmentConfiguration(
+                Optional.ofNullable(segmentSize).orElse(defaults.segmentSize()),
+                Optional.ofNullable(parallelism).orElse(defaults.parallelism()),
+                defaults.retries());
+    }
 }
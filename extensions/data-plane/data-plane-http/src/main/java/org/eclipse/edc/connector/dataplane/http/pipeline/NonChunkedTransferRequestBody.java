@@ -15,47 +15,137 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 
+import static java.lang.String.format;
+
 /**
  * Writes content into an OK HTTP buffered sink.
  * <p>
- * The extra Transfer-Encoding is not created because the Content-Length is provided upfront.
- * Note that means that the all content is loaded into memory, so this method can be used for small files (up to 50MB) for e.g.
+ * The extra Transfer-Encoding is not created because the Content-Length is provided upfront. When the length of the
+ * content is known, the content is streamed without being buffered, so the body can only be written once. Otherwise, it's spooled before the request is sent
+ * to determine its length: small contents are kept in memory, bigger ones are written to a temporary file, up to the
+ * maximum spool size. The temporary file is deleted when the body is closed.
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
-public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody {
+public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody implements Closeable {
+
+    public static final long DEFAULT_MAX_SPOOL_SIZE = 1024L * 1024 * 1024;
+    private static final int IN_MEMORY_THRESHOLD = 64 * 1024;
 
+    private final Supplier<InputStream> contentSupplier;
+    private final long maxSpoolSize;
+    private long contentLength;
+    private boolean spooled;
     private byte[] bytes;
+    private Path spoolFile;
 
     public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType) {
+        this(contentSupplier, contentType, DataSource.Part.SIZE_UNKNOWN, DEFAULT_MAX_SPOOL_SIZE);
+    }
+
+    /**
+     * Creates the request body.
+     *
+     * @param contentSupplier the content supplier.
+     * @param contentType     the content type.
+     * @param contentLength   the length of the content, or {@link DataSource.Part#SIZE_UNKNOWN} if unknown.
+     * @param maxSpoolSize    the maximum number of bytes spooled when the length of the content is unknown.
+     */
+    public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType, long contentLength, long maxSpoolSize) {
         super(contentType);
-        try (var is = contentSupplier.get()) {
-            this.bytes = is.readAllBytes();
-        } catch (IOException e) {
-            //do nothing
+        this.contentSupplier = contentSupplier;
+        this.contentLength = contentLength;
+        this.maxSpoolSize = maxSpoolSize;
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        if (contentLength < 0) {
+            spool();
         }
+        return contentLength;
     }
 
+    /**
+     * A streamed body cannot be replayed, so OkHttp must not retry or follow redirects with it. Spooled bodies are
+     * repeatable.
+     */
     @Override
-    public long contentLength() {
-        return bytes == null ? 0 : bytes.length;
+    public boolean isOneShot() {
+        return !spooled && contentLength >= 0;
     }
 
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
-        if (bytes == null) {
+        if (!spooled && contentLength >= 0) {
+            try (var os = sink.outputStream(); var is = contentSupplier.get()) {
+                is.transferTo(os);
+            }
             return;
         }
 
+        spool();
         try (var os = sink.outputStream()) {
-            os.write(bytes);
+            if (spoolFile != null) {
+                Files.copy(spoolFile, os);
+            } else {
+                os.write(bytes);
+            }
         }
     }
-}
 
+    @Override
+    public void close() throws IOException {
+        if (spoolFile != null) {
+            Files.deleteIfExists(spoolFile);
+            spoolFile = null;
+        }
+    }
+
+    private void spool() throws IOException {
+        if (spooled) {
+            return;
+        }
+        try (var is = contentSupplier.get()) {
+            var head = is.readNBytes(IN_MEMORY_THRESHOLD);
+            if (head.length < IN_MEMORY_THRESHOLD) {
+                bytes = head;
+                contentLength = head.length;
+            } else {
+                spoolToFile(head, is);
+            }
+        }
+        spooled = true;
+    }
+
+    private void spoolToFile(byte[] head, InputStream remaining) throws IOException {
+        spoolFile = Files.createTempFile("edc-http-body-", ".tmp");
+        try (var os = Files.newOutputStream(spoolFile)) {
+            os.write(head);
+            var written = (long) head.length;
+            var buffer = new byte[8192];
+            int read;
+            while ((read = remaining.read(buffer)) != -1) {
+                written += read;
+                if (written > maxSpoolSize) {
+                    throw new IOException(format("Content exceeds the maximum spool size of %s bytes", maxSpoolSize));
+                }
+                os.write(buffer, 0, read);
+            }
+            contentLength = written;
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+}
@@ -228,6 +228,23 @@ class HttpRequestFactoryTest {
         assertThat(body.contentLength()).isEqualTo(6);
     }
 
+    @Test
+    void verifyNotChunkedRequest_withKnownBodySize() throws IOException {
+        var params = HttpRequestParams.Builder.newInstance()
+                .baseUrl(BASE_URL)
+                .method(POST.name())
+                .nonChunkedTransfer(true)
+                .build();
+
+        var request = paramsToRequest.toRequest(params, () -> {
+            throw new AssertionError("body should not be read to determine its length");
+        }, 6);
+
+        var body = request.body();
+        assertThat(body).isNotNull();
+        assertThat(body.contentLength()).isEqualTo(6);
+    }
+
     private void assertBaseUrl(URL url) {
         assertThat(url.getProtocol()).isEqualTo(SCHEME);
         assertThat(url.getHost()).isEqualTo(HOST);
@@ -23,6 +23,7 @@ import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.http.testfixtures.TestFunctions;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentConfiguration;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -30,9 +31,15 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.Executor;
 
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory.DEFAULT_RANGE_PARALLELISM;
+import static org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory.DEFAULT_RANGE_RETRIES;
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -43,6 +50,7 @@ class HttpDataSourceFactoryTest {
     private final Monitor monitor = mock();
     private final HttpRequestParamsProvider provider = mock();
     private final HttpRequestFactory requestFactory = mock();
+    private final Executor executor = Runnable::run;
 
     private HttpDataSourceFactory factory;
 
@@ -100,6 +108,61 @@ class HttpDataSourceFactoryTest {
         assertThat(source).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @Test
+    void verifySourceCreation_withDefaultRangeConfiguration() {
+        var defaults = new SegmentConfiguration(1024, 2, 3);
+        var rangeFactory = new HttpDataSourceFactory(httpClient, provider, monitor, requestFactory, defaults, executor);
+        var request = createRequest(HttpDataAddress.Builder.newInstance().build());
+
+        var source = rangeFactory.createSource(request);
+
+        assertThat(source).extracting("segmentConfiguration").isEqualTo(defaults);
+    }
+
+    @Test
+    void verifySourceCreation_withRangeConfigurationOverriddenByAddress() {
+        var defaults = new SegmentConfiguration(1024, 2, 3);
+        var rangeFactory = new HttpDataSourceFactory(httpClient, provider, monitor, requestFactory, defaults, executor);
+        var request = createRequest(HttpDataAddress.Builder.newInstance().rangeParallelism(8).build());
+
+        var source = rangeFactory.createSource(request);
+
+        assertThat(source).extracting("segmentConfiguration").isEqualTo(new SegmentConfiguration(1024, 8, 3));
+    }
+
+    @Test
+    void verifySourceCreation_withRangeEnabledByAddressOnly() {
+        var rangeFactory = new HttpDataSourceFactory(httpClient, provider, monitor, requestFactory, null, executor);
+        var request = createRequest(HttpDataAddress.Builder.newInstance().rangeSegmentSize(2048).build());
+
+        var source = rangeFactory.createSource(request);
+
+        assertThat(source).extracting("segmentConfiguration")
+                .isEqualTo(new SegmentConfiguration(2048, DEFAULT_RANGE_PARALLELISM, DEFAULT_RANGE_RETRIES));
+    }
+
+    @Test
+    void verifySourceCreation_withRangeDisabledByAddress() {
+        var defaults = new SegmentConfiguration(1024, 2, 3);
+        var rangeFactory = new HttpDataSourceFactory(httpClient, provider, monitor, requestFactory, defaults, executor);
+        var request = createRequest(HttpDataAddress.Builder.newInstance().rangeSegmentSize(0).build());
+
+        var source = rangeFactory.createSource(request);
+
+        assertThat(source).extracting("segmentConfiguration").isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"rangeSegmentSize,abc", "rangeSegmentSize,-1", "rangeParallelism,0", "rangeParallelism,1.5"})
+    void verifyValidationFails_whenRangePropertyIsInvalid(String property, String value) {
+        var request = createRequest(HttpDataAddress.Builder.newInstance().property(property, value).build());
+
+        var result = factory.validateRequest(request);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains(property).contains(value);
+    }
+
     private DataFlowRequest createRequest(DataAddress source) {
         return TestFunctions.createRequest(emptyMap(), source, DataAddress.Builder.newInstance().type("Test type").build()).build();
     }
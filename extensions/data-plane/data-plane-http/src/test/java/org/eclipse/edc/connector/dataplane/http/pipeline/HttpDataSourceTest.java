@@ -23,6 +23,8 @@ import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailureArgument;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentConfiguration;
+import org.eclipse.edc.connector.dataplane.util.segment.SegmentedPart;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.jetbrains.annotations.NotNull;
@@ -35,7 +37,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -114,6 +120,152 @@ class HttpDataSourceTest {
                 new StreamFailureArgument(500, GENERAL_ERROR));
     }
 
+    @Test
+    void verifyRangeDownload_whenOriginSupportsRanges() throws IOException {
+        var content = "0123456789abcdefghijklmnopqrstuvwxyz";
+        var interceptor = new RangeInterceptor(content, true);
+        var request = new Request.Builder().url(url).get().build();
+        when(requestFactory.toRequest(any())).thenReturn(request);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .segmentConfiguration(new SegmentConfiguration(10, 2, 1))
+                .executor(Executors.newFixedThreadPool(2))
+                .build();
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).singleElement().isInstanceOfSatisfying(SegmentedPart.class, part -> {
+            assertThat(part.size()).isEqualTo(content.length());
+            assertThat(part.segmentCount()).isEqualTo(4);
+        });
+        try (var is = parts.get(0).openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(content);
+        }
+        assertThat(interceptor.requests).first().extracting(Request::method).isEqualTo("HEAD");
+        assertThat(interceptor.requests).filteredOn(it -> it.header("Range") != null).hasSize(4)
+                .allSatisfy(it -> assertThat(it.header("If-Range")).isEqualTo("\"etag\""))
+                .extracting(it -> it.header("Range"))
+                .containsExactlyInAnyOrder("bytes=0-9", "bytes=10-19", "bytes=20-29", "bytes=30-35");
+    }
+
+    @Test
+    void verifyRangeDownload_shouldRetryFailedSegment() throws IOException {
+        var content = "0123456789abcdefghijklmnopqrstuvwxyz";
+        var interceptor = new RangeInterceptor(content, true);
+        interceptor.failingRanges.add("bytes=10-19");
+        var request = new Request.Builder().url(url).get().build();
+        when(requestFactory.toRequest(any())).thenReturn(request);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .segmentConfiguration(new SegmentConfiguration(10, 2, 1))
+                .executor(Executors.newFixedThreadPool(2))
+                .build();
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+
+        try (var is = part.openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(content);
+        }
+        assertThat(interceptor.requests).filteredOn(it -> "bytes=10-19".equals(it.header("Range"))).hasSize(2);
+        assertThat(interceptor.requests).filteredOn(it -> "bytes=0-9".equals(it.header("Range"))).hasSize(1);
+    }
+
+    @Test
+    void verifySingleRequest_whenOriginDoesNotSupportRanges() throws IOException {
+        var content = "0123456789abcdefghijklmnopqrstuvwxyz";
+        var interceptor = new RangeInterceptor(content, false);
+        var request = new Request.Builder().url(url).get().build();
+        when(requestFactory.toRequest(any())).thenReturn(request);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .segmentConfiguration(new SegmentConfiguration(10, 2, 1))
+                .executor(Runnable::run)
+                .build();
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).singleElement().isNotInstanceOf(SegmentedPart.class);
+        try (var is = parts.get(0).openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(content);
+        }
+        assertThat(interceptor.requests).extracting(Request::method).containsExactly("HEAD", "GET");
+        assertThat(interceptor.requests).allSatisfy(it -> assertThat(it.header("Range")).isNull());
+    }
+
+    @Test
+    void verifySingleRequest_whenEtagIsWeak() throws IOException {
+        var content = "0123456789abcdefghijklmnopqrstuvwxyz";
+        var interceptor = new RangeInterceptor(content, true, Map.of("ETag", "W/\"etag\""));
+        var request = new Request.Builder().url(url).get().build();
+        when(requestFactory.toRequest(any())).thenReturn(request);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .segmentConfiguration(new SegmentConfiguration(10, 2, 1))
+                .executor(Runnable::run)
+                .build();
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).singleElement().isNotInstanceOf(SegmentedPart.class);
+        try (var is = parts.get(0).openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(content);
+        }
+        assertThat(interceptor.requests).extracting(Request::method).containsExactly("HEAD", "GET");
+        assertThat(interceptor.requests).allSatisfy(it -> assertThat(it.header("If-Range")).isNull());
+    }
+
+    @Test
+    void verifyRangeDownload_withStrongLastModified_whenNoEtag() throws IOException {
+        var content = "0123456789abcdefghijklmnopqrstuvwxyz";
+        var lastModified = "Mon, 01 Jan 2024 00:00:00 GMT";
+        var interceptor = new RangeInterceptor(content, true, Map.of("Last-Modified", lastModified, "Date", "Mon, 01 Jan 2024 01:00:00 GMT"));
+        var request = new Request.Builder().url(url).get().build();
+        when(requestFactory.toRequest(any())).thenReturn(request);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .segmentConfiguration(new SegmentConfiguration(10, 2, 1))
+                .executor(Runnable::run)
+                .build();
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+
+        assertThat(part).isInstanceOf(SegmentedPart.class);
+        try (var is = part.openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(content);
+        }
+        assertThat(interceptor.requests).filteredOn(it -> it.header("Range") != null).hasSize(4)
+                .allSatisfy(it -> assertThat(it.header("If-Range")).isEqualTo(lastModified));
+    }
+
+    @Test
+    void verifySingleRequest_whenNoStrongValidator() {
+        var content = "0123456789abcdefghijklmnopqrstuvwxyz";
+        var interceptor = new RangeInterceptor(content, true, Map.of("Last-Modified", "Mon, 01 Jan 2024 00:00:00 GMT", "Date", "Mon, 01 Jan 2024 00:00:00 GMT"));
+        var request = new Request.Builder().url(url).get().build();
+        when(requestFactory.toRequest(any())).thenReturn(request);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .segmentConfiguration(new SegmentConfiguration(10, 2, 1))
+                .executor(Runnable::run)
+                .build();
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).singleElement().isNotInstanceOf(SegmentedPart.class);
+        assertThat(interceptor.requests).extracting(Request::method).containsExactly("HEAD", "GET");
+    }
+
+    @Test
+    void verifySingleRequest_whenObjectIsNotBiggerThanSegmentSize() {
+        var content = "0123456789";
+        var interceptor = new RangeInterceptor(content, true);
+        var request = new Request.Builder().url(url).get().build();
+        when(requestFactory.toRequest(any())).thenReturn(request);
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .segmentConfiguration(new SegmentConfiguration(10, 2, 1))
+                .executor(Runnable::run)
+                .build();
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).singleElement().isNotInstanceOf(SegmentedPart.class);
+        assertThat(interceptor.requests).extracting(Request::method).containsExactly("HEAD", "GET");
+    }
+
     private HttpDataSource.Builder defaultBuilder(Interceptor interceptor) {
         var httpClient = testHttpClient(interceptor);
         return HttpDataSource.Builder.newInstance()
@@ -123,6 +275,55 @@ class HttpDataSourceTest {
                 .requestId(requestId);
     }
 
+    /**
+     * Serves the content, honoring the range requests if ranges are supported. Like real origins, it serves the whole
+     * content when the {@code If-Range} validator is weak.
+     */
+    static final class RangeInterceptor implements Interceptor {
+        private final List<Request> requests = new CopyOnWriteArrayList<>();
+        private final Set<String> failingRanges = ConcurrentHashMap.newKeySet();
+        private final String content;
+        private final boolean supportsRanges;
+        private final Map<String, String> validators;
+
+        RangeInterceptor(String content, boolean supportsRanges) {
+            this(content, supportsRanges, Map.of("ETag", "\"etag\""));
+        }
+
+        RangeInterceptor(String content, boolean supportsRanges, Map<String, String> validators) {
+            this.content = content;
+            this.supportsRanges = supportsRanges;
+            this.validators = validators;
+        }
+
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Interceptor.Chain chain) {
+            var request = chain.request();
+            requests.add(request);
+            var builder = new Response.Builder().request(request).protocol(HTTP_1_1).message("message");
+            if (supportsRanges) {
+                builder.header("Accept-Ranges", "bytes");
+                validators.forEach(builder::header);
+            }
+            if ("HEAD".equals(request.method())) {
+                return builder.code(200).header("Content-Length", String.valueOf(content.length()))
+                        .body(ResponseBody.create("", null)).build();
+            }
+            var range = request.header("Range");
+            var ifRange = request.header("If-Range");
+            if (range == null || (ifRange != null && ifRange.startsWith("W/"))) {
+                return builder.code(200).body(ResponseBody.create(content, null)).build();
+            }
+            if (failingRanges.remove(range)) {
+                return builder.code(500).body(ResponseBody.create("", null)).build();
+            }
+            var bounds = range.substring("bytes=".length()).split("-");
+            var slice = content.substring(Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]) + 1);
+            return builder.code(206).body(ResponseBody.create(slice, null)).build();
+        }
+    }
+
     static final class CustomInterceptor implements Interceptor {
         private final List<Request> requests = new ArrayList<>();
         private final int statusCode;
@@ -22,8 +22,13 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +46,7 @@ class NonChunkedTransferRequestBodyTest {
 
         assertThat(body.contentType()).hasToString(HttpDataAddress.OCTET_STREAM);
         assertThat(body.contentLength()).isEqualTo(content.getBytes().length);
+        assertThat(body.isOneShot()).isFalse();
 
         body.writeTo(sink);
 
@@ -62,4 +68,67 @@ class NonChunkedTransferRequestBodyTest {
 
         assertThat(outputStream).hasToString("");
     }
+
+    @Test
+    void verifyTransferStreamsContent_whenLengthKnown() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        when(sink.outputStream()).thenReturn(outputStream);
+        var supplierCalls = new AtomicInteger();
+
+        var body = new NonChunkedTransferRequestBody(() -> {
+            supplierCalls.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes());
+        }, HttpDataAddress.OCTET_STREAM, content.length(), 0);
+
+        assertThat(body.contentLength()).isEqualTo(content.length());
+        assertThat(supplierCalls).hasValue(0);
+
+        body.writeTo(sink);
+
+        assertThat(outputStream).hasToString(content);
+        assertThat(supplierCalls).hasValue(1);
+        assertThat(body.isOneShot()).isTrue();
+    }
+
+    @Test
+    void verifyTransferSpoolsToFile_whenLengthUnknownAndContentLarge() throws IOException {
+        var content = new byte[200 * 1024];
+        new Random().nextBytes(content);
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content), HttpDataAddress.OCTET_STREAM, SIZE_UNKNOWN, content.length);
+
+        assertThat(body.contentLength()).isEqualTo(content.length);
+        assertThat(spoolFile(body)).exists();
+
+        body.writeTo(sink);
+        body.close();
+
+        assertThat(outputStream.toByteArray()).isEqualTo(content);
+        assertThat(spoolFile(body)).isNull();
+    }
+
+    @Test
+    void verifyContentLengthFails_whenContentExceedsMaxSpoolSize() {
+        var content = new byte[200 * 1024];
+
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content), HttpDataAddress.OCTET_STREAM, SIZE_UNKNOWN, 100 * 1024);
+
+        assertThatThrownBy(body::contentLength).isInstanceOf(IOException.class);
+        assertThat(spoolFile(body)).isNull();
+    }
+
+    private Path spoolFile(NonChunkedTransferRequestBody body) {
+        try {
+            var field = NonChunkedTransferRequestBody.class.getDeclaredField("spoolFile");
+            field.setAccessible(true);
+            return (Path) field.get(body);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
 }
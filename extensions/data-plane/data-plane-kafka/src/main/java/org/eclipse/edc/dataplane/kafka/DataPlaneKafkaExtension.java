@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.dataplane.kafka;
 
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
@@ -21,16 +22,35 @@ import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSourceFactory;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.util.Map;
+
+import static org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSinkFactory.DEFAULT_MAX_IN_FLIGHT_RECORDS;
 
 @Extension(value = DataPlaneKafkaExtension.NAME)
 public class DataPlaneKafkaExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Kafka";
 
+    @Setting(value = "Maximum number of records published by a sink that are waiting for the broker acknowledgement", defaultValue = DEFAULT_MAX_IN_FLIGHT_RECORDS + "", type = "int")
+    public static final String EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT_RECORDS = "edc.dataplane.kafka.sink.max-in-flight-records";
+
+    @Setting(value = "Default producer batch size in bytes, applied when not defined in the data address", defaultValue = "65536", type = "int")
+    public static final String EDC_DATAPLANE_KAFKA_PRODUCER_BATCH_SIZE = "edc.dataplane.kafka.producer.batch-size";
+
+    @Setting(value = "Default producer linger time in milliseconds, applied when not defined in the data address", defaultValue = "5", type = "long")
+    public static final String EDC_DATAPLANE_KAFKA_PRODUCER_LINGER_MS = "edc.dataplane.kafka.producer.linger-ms";
+
+    @Setting(value = "Default producer compression type (none, gzip, snappy, lz4, zstd), applied when not defined in the data address", defaultValue = "none")
+    public static final String EDC_DATAPLANE_KAFKA_PRODUCER_COMPRESSION_TYPE = "edc.dataplane.kafka.producer.compression-type";
+
+    @Setting(value = "Default producer idempotence, applied when not defined in the data address", defaultValue = "true", type = "boolean")
+    public static final String EDC_DATAPLANE_KAFKA_PRODUCER_IDEMPOTENCE = "edc.dataplane.kafka.producer.enable-idempotence";
+
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
 
@@ -48,9 +68,17 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
-        var propertiesFactory = new KafkaPropertiesFactory();
+        var config = context.getConfig();
+        var producerDefaults = Map.<String, Object>of(
+                ProducerConfig.BATCH_SIZE_CONFIG, config.getInteger(EDC_DATAPLANE_KAFKA_PRODUCER_BATCH_SIZE, 65536),
+                ProducerConfig.LINGER_MS_CONFIG, config.getLong(EDC_DATAPLANE_KAFKA_PRODUCER_LINGER_MS, 5L),
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, config.getString(EDC_DATAPLANE_KAFKA_PRODUCER_COMPRESSION_TYPE, "none"),
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, config.getBoolean(EDC_DATAPLANE_KAFKA_PRODUCER_IDEMPOTENCE, true)
+        );
+        var propertiesFactory = new KafkaPropertiesFactory(producerDefaults);
+        var maxInFlightRecords = config.getInteger(EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT_RECORDS, DEFAULT_MAX_IN_FLIGHT_RECORDS);
 
         pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory));
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, maxInFlightRecords));
     }
 }
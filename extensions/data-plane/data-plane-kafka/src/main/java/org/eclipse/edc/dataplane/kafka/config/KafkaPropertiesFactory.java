@@ -30,6 +30,22 @@ import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA
 
 public class KafkaPropertiesFactory {
 
+    private final Map<String, Object> producerDefaults;
+
+    public KafkaPropertiesFactory() {
+        this(Map.of());
+    }
+
+    /**
+     * Creates a factory whose producer properties are based on the provided defaults, e.g. batching, linger, compression
+     * and idempotence settings. Properties defined in the data address take precedence over the defaults.
+     *
+     * @param producerDefaults the default producer properties, keyed by Kafka property name.
+     */
+    public KafkaPropertiesFactory(Map<String, Object> producerDefaults) {
+        this.producerDefaults = Map.copyOf(producerDefaults);
+    }
+
     public Result<Properties> getConsumerProperties(Map<String, Object> properties) {
         return getCommonProperties(properties)
                 .map(props -> {
@@ -42,6 +58,7 @@ public class KafkaPropertiesFactory {
     public Result<Properties> getProducerProperties(Map<String, Object> properties) {
         return getCommonProperties(properties)
                 .map(props -> {
+                    producerDefaults.forEach(props::putIfAbsent);
                     props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
                     props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
                     return props;
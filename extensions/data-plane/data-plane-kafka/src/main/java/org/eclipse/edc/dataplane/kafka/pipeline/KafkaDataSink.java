@@ -17,25 +17,40 @@ package org.eclipse.edc.dataplane.kafka.pipeline;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
+import static java.lang.String.format;
+
+/**
+ * Publishes every part as a Kafka record. Sends are pipelined, with at most {@code maxInFlightRecords} records waiting
+ * for the broker acknowledgement at any time across all the parallel partitions, and the transfer of a partition
+ * completes only when all of its records have been acknowledged.
+ */
 class KafkaDataSink extends ParallelSink implements Closeable {
 
     private String topic;
     private Producer<String, byte[]> producer;
+    private Semaphore inFlight;
+    private int maxRecordSize = Integer.MAX_VALUE - 8;
 
     private KafkaDataSink() {
     }
-    
+
     @Override
     public void close() {
         if (producer != null) {
@@ -45,30 +60,94 @@ class KafkaDataSink extends ParallelSink implements Closeable {
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
+        var acks = new ArrayList<CompletableFuture<RecordMetadata>>(parts.size());
+        for (var part : parts) {
+            var sent = publishPart(part);
+            if (sent.failed()) {
+                awaitAll(acks);
+                return StreamResult.error(sent.getFailureDetail());
+            }
+            acks.add(sent.getContent());
+        }
+
+        return awaitAll(acks);
     }
 
-    private StreamResult<Object> publishPart(DataSource.Part part) {
+    private StreamResult<CompletableFuture<RecordMetadata>> publishPart(DataSource.Part part) {
+        if (part.size() > maxRecordSize) {
+            return StreamResult.error(format("Part with name %s exceeds the maximum record size of %s bytes", part.name(), maxRecordSize));
+        }
+        byte[] value;
         try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
+            value = readValue(is, part.size());
+        } catch (IOException e) {
+            return StreamResult.error("Failed to open part with name: " + part.name());
+        }
+        if (value.length > maxRecordSize) {
+            return StreamResult.error(format("Part with name %s exceeds the maximum record size of %s bytes", part.name(), maxRecordSize));
+        }
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return StreamResult.error("Interrupted while waiting to publish part with name: " + part.name());
+        }
+
+        var ack = new CompletableFuture<RecordMetadata>();
+        try {
+            producer.send(new ProducerRecord<>(topic, null, value), (metadata, exception) -> {
+                inFlight.release();
                 if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
+                    ack.completeExceptionally(exception);
+                } else {
+                    ack.complete(metadata);
                 }
             });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            ack.completeExceptionally(e);
+        }
+        return StreamResult.success(ack);
+    }
+
+    /**
+     * Reads the record value. When the part size is known the value is read straight into a buffer of the right size,
+     * otherwise it's read up to one byte over the maximum record size.
+     */
+    private byte[] readValue(InputStream is, long size) throws IOException {
+        if (size == DataSource.Part.SIZE_UNKNOWN) {
+            return is.readNBytes(maxRecordSize + 1);
+        }
+        var buffer = new byte[(int) size];
+        var read = is.readNBytes(buffer, 0, buffer.length);
+        if (read < buffer.length) {
+            return Arrays.copyOf(buffer, read);
+        }
+        var remaining = is.readNBytes(maxRecordSize + 1 - buffer.length);
+        if (remaining.length == 0) {
+            return buffer;
+        }
+        var value = Arrays.copyOf(buffer, buffer.length + remaining.length);
+        System.arraycopy(remaining, 0, value, buffer.length, remaining.length);
+        return value;
+    }
+
+    private StreamResult<Object> awaitAll(List<CompletableFuture<RecordMetadata>> acks) {
+        try {
+            CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new)).join();
             return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+        } catch (CompletionException e) {
+            var cause = e.getCause() != null ? e.getCause() : e;
+            monitor.warning(format("Failed to publish records to topic %s", topic), cause);
+            return StreamResult.error(format("Failed to publish records to topic %s: %s", topic, cause.getMessage()));
         }
     }
 
     public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
 
         private Properties producerProperties;
+        private int maxInFlightRecords = 1000;
 
         public static Builder newInstance() {
             return new Builder();
@@ -88,13 +167,31 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        public Builder maxInFlightRecords(int maxInFlightRecords) {
+            this.maxInFlightRecords = maxInFlightRecords;
+            return this;
+        }
+
+        public Builder maxRecordSize(int maxRecordSize) {
+            sink.maxRecordSize = maxRecordSize;
+            return this;
+        }
+
+        Builder producer(Producer<String, byte[]> producer) {
+            sink.producer = producer;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
-            Objects.requireNonNull(producerProperties, "producerProperties");
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+            sink.inFlight = new Semaphore(maxInFlightRecords);
+            if (sink.producer == null) {
+                Objects.requireNonNull(producerProperties, "producerProperties");
+                sink.producer = new KafkaProducer<>(producerProperties);
+            }
         }
     }
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.dataplane.kafka.pipeline;
 
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
@@ -27,6 +28,7 @@ import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
@@ -34,15 +36,24 @@ import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC
 
 public class KafkaDataSinkFactory implements DataSinkFactory {
 
+    public static final int DEFAULT_MAX_IN_FLIGHT_RECORDS = 1000;
+    private static final int DEFAULT_MAX_REQUEST_SIZE = 1048576;
+
     private final ExecutorService executorService;
     private final Monitor monitor;
     private final KafkaPropertiesFactory propertiesFactory;
     private final Validator<DataAddress> validation;
+    private final int maxInFlightRecords;
 
     public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory) {
+        this(executorService, monitor, propertiesFactory, DEFAULT_MAX_IN_FLIGHT_RECORDS);
+    }
+
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int maxInFlightRecords) {
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
+        this.maxInFlightRecords = maxInFlightRecords;
         this.validation = new KafkaDataAddressValidator();
     }
 
@@ -73,7 +84,14 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 .requestId(request.getId())
                 .topic(destination.getStringProperty(TOPIC))
                 .producerProperties(producerProps)
+                .maxInFlightRecords(maxInFlightRecords)
+                .maxRecordSize(maxRequestSize(producerProps))
                 .executorService(executorService)
                 .build();
     }
+
+    private int maxRequestSize(Properties producerProperties) {
+        var value = producerProperties.get(ProducerConfig.MAX_REQUEST_SIZE_CONFIG);
+        return value == null ? DEFAULT_MAX_REQUEST_SIZE : Integer.parseInt(value.toString());
+    }
 }
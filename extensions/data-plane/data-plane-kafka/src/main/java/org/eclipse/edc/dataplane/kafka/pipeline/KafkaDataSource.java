@@ -150,6 +150,11 @@ class KafkaDataSource implements DataSource {
             return name;
         }
 
+        @Override
+        public long size() {
+            return consumerRecord.value() == null ? 0 : consumerRecord.value().length;
+        }
+
         @Override
         public InputStream openStream() {
             return new ByteArrayInputStream(consumerRecord.value());
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSinkTest {
+
+    private static final String TOPIC = "topic";
+
+    private final MockProducer<String, byte[]> producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+
+    @Test
+    void transfer_shouldCompleteOnlyWhenAllRecordsAreAcknowledged() {
+        var sink = sinkBuilder().build();
+
+        var future = sink.transfer(source(3));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(3));
+        assertThat(future).isNotDone();
+
+        IntStream.range(0, 3).forEach(i -> producer.completeNext());
+
+        assertThat(future).succeedsWithin(1, TimeUnit.SECONDS).satisfies(result -> assertThat(result.succeeded()).isTrue());
+        assertThat(producer.history()).extracting(record -> new String(record.value())).containsExactly("part-0", "part-1", "part-2");
+    }
+
+    @Test
+    void transfer_shouldFail_whenRecordIsNotAcknowledged() {
+        var sink = sinkBuilder().build();
+
+        var future = sink.transfer(source(2));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(2));
+        producer.completeNext();
+        producer.errorNext(new RuntimeException("broker error"));
+
+        assertThat(future).succeedsWithin(1, TimeUnit.SECONDS)
+                .satisfies(result -> {
+                    assertThat(result.failed()).isTrue();
+                    assertThat(result.getFailureDetail()).contains("broker error");
+                });
+    }
+
+    @Test
+    void transfer_shouldLimitInFlightRecords() {
+        var sink = sinkBuilder().maxInFlightRecords(2).build();
+
+        var future = sink.transfer(source(4));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(2));
+        producer.completeNext();
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(3));
+        producer.completeNext();
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(4));
+        producer.completeNext();
+        producer.completeNext();
+
+        assertThat(future).succeedsWithin(1, TimeUnit.SECONDS).satisfies(result -> assertThat(result.succeeded()).isTrue());
+    }
+
+    @Test
+    void transfer_shouldFail_whenPartExceedsMaxRecordSize() {
+        var sink = sinkBuilder().maxRecordSize(3).build();
+
+        var future = sink.transfer(source(1));
+
+        assertThat(future).succeedsWithin(1, TimeUnit.SECONDS)
+                .satisfies(result -> {
+                    assertThat(result.failed()).isTrue();
+                    assertThat(result.getFailureDetail()).contains("maximum record size");
+                });
+        assertThat(producer.history()).isEmpty();
+    }
+
+    private KafkaDataSink.Builder sinkBuilder() {
+        return KafkaDataSink.Builder.newInstance()
+                .requestId("request-id")
+                .topic(TOPIC)
+                .monitor(mock(Monitor.class))
+                .executorService(Executors.newSingleThreadExecutor())
+                .partitionSize(10)
+                .producer(producer);
+    }
+
+    private DataSource source(int parts) {
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(IntStream.range(0, parts).mapToObj(i -> part("part-" + i))));
+        return source;
+    }
+
+    private DataSource.Part part(String content) {
+        return new DataSource.Part() {
+            @Override
+            public String name() {
+                return content;
+            }
+
+            @Override
+            public InputStream openStream() {
+                return new ByteArrayInputStream(content.getBytes());
+            }
+        };
+    }
+}
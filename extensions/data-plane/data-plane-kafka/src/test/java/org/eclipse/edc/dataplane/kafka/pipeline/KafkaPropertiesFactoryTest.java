@@ -68,4 +68,31 @@ class KafkaPropertiesFactoryTest {
                 .containsEntry("value.serializer", "org.apache.kafka.common.serialization.ByteArraySerializer");
     }
 
+    @Test
+    void verifyGetProducerProperties_withDefaults() {
+        var factory = new KafkaPropertiesFactory(Map.of("linger.ms", 5L, "compression.type", "lz4"));
+        var properties = Map.<String, Object>of(
+                EDC_NAMESPACE + "kafka.bootstrap.servers", "kafka:9092",
+                EDC_NAMESPACE + "kafka.compression.type", "zstd"
+        );
+
+        var result = factory.getProducerProperties(properties);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent())
+                .containsEntry("bootstrap.servers", "kafka:9092")
+                .containsEntry("linger.ms", 5L)
+                .containsEntry("compression.type", "zstd");
+    }
+
+    @Test
+    void verifyGetConsumerProperties_ignoresProducerDefaults() {
+        var factory = new KafkaPropertiesFactory(Map.of("linger.ms", 5L));
+
+        var result = factory.getConsumerProperties(Map.of(EDC_NAMESPACE + "kafka.bootstrap.servers", "kafka:9092"));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent()).doesNotContainKey("linger.ms");
+    }
+
 }
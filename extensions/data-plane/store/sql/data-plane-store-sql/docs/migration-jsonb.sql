@@ -0,0 +1,12 @@
+-- Statements are designed for and tested with Postgres only!
+-- Migrates a database created with a previous version of the schema, that stored JSON payloads as JSON, to JSONB.
+-- The columns are rewritten, so the table is locked for the duration of the migration.
+
+ALTER TABLE edc_data_plane
+    ALTER COLUMN trace_context TYPE JSONB USING trace_context::jsonb,
+    ALTER COLUMN source TYPE JSONB USING source::jsonb,
+    ALTER COLUMN destination TYPE JSONB USING destination::jsonb,
+    ALTER COLUMN properties TYPE JSONB USING properties::jsonb;
+
+CREATE INDEX IF NOT EXISTS data_plane_properties_index
+    ON edc_data_plane USING GIN (properties jsonb_path_ops);
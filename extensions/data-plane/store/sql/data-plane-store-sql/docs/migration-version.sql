@@ -0,0 +1,8 @@
+-- Statements are designed for and tested with Postgres only!
+-- Migrates a database created with a previous version of the schema, that had no version column used for optimistic
+-- concurrency control. Existing rows start from version 0.
+
+ALTER TABLE edc_data_plane
+    ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN edc_data_plane.version IS 'incremented on every save, used for optimistic concurrency control';
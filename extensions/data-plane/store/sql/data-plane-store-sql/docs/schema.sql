@@ -21,20 +21,34 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     updated_at           BIGINT  NOT NULL            ,
     state_count          INTEGER DEFAULT 0 NOT NULL,
     state_time_stamp     BIGINT,
-    trace_context        JSON,
+    trace_context        JSONB,
     error_detail         VARCHAR,
     callback_address     VARCHAR,
     trackable            BOOLEAN,
+    version              BIGINT  DEFAULT 0 NOT NULL,
     lease_id             VARCHAR
         CONSTRAINT data_plane_lease_lease_id_fk
                     REFERENCES edc_lease
                     ON DELETE SET NULL,
-    source               JSON,
-    destination          JSON,
-    properties           JSON
+    source               JSONB,
+    destination          JSONB,
+    properties           JSONB
 );
 
 COMMENT ON COLUMN edc_data_plane.trace_context IS 'Java Map serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.source IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.destination IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.properties IS 'Java Map serialized as JSON';
+COMMENT ON COLUMN edc_data_plane.version IS 'incremented on every save, used for optimistic concurrency control';
+
+-- used by the state machine to fetch the data flows to be processed, terminal states (TERMINATED and NOTIFIED) are not
+-- indexed
+CREATE INDEX IF NOT EXISTS data_plane_active_state_index
+    ON edc_data_plane (state, state_time_stamp) WHERE state NOT IN (250, 400);
+
+CREATE INDEX IF NOT EXISTS data_plane_lease_id_index
+    ON edc_data_plane (lease_id);
+
+-- serves containment queries on the properties, e.g. properties.key = 'value'
+CREATE INDEX IF NOT EXISTS data_plane_properties_index
+    ON edc_data_plane USING GIN (properties jsonb_path_ops);
@@ -38,6 +38,7 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -80,7 +81,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public @NotNull List<DataFlow> nextNotLeased(int max, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
-            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).sortField("stateTimestamp").build();
             var statement = statements.createQuery(querySpec)
                     .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
 
@@ -89,7 +90,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                     var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                leaseContext.withConnection(connection).acquireLeases(entries.stream().map(DataFlow::getId).toList());
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -120,22 +121,19 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public void save(DataFlow entity) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findByIdInternal(connection, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
-                    update(connection, entity);
-                } else {
-                    insert(connection, entity);
+                var version = queryExecutor.single(connection, false, r -> r.getLong(statements.getVersionColumn()), statements.getSaveTemplate(), saveParameters(entity));
+                if (version == null) {
+                    throw saveFailure(connection, entity);
                 }
+                entity.setVersion(version);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private void insert(Connection connection, DataFlow dataFlow) {
-        var sql = statements.getInsertTemplate();
-        queryExecutor.execute(connection, sql,
+    private Object[] saveParameters(DataFlow dataFlow) {
+        return new Object[]{
                 dataFlow.getId(),
                 dataFlow.getState(),
                 dataFlow.getCreatedAt(),
@@ -148,25 +146,26 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 dataFlow.isTrackable(),
                 toJson(dataFlow.getSource()),
                 toJson(dataFlow.getDestination()),
-                toJson(dataFlow.getProperties())
-        );
+                toJson(dataFlow.getProperties()),
+                1L,
+                dataFlow.getVersion(),
+                dataFlow.getVersion(),
+                leaseHolderName,
+                // release the lease
+                dataFlow.getId()
+        };
     }
 
-    private void update(Connection connection, DataFlow dataFlow) {
-        var sql = statements.getUpdateTemplate();
-        queryExecutor.execute(connection, sql,
-                dataFlow.getState(),
-                dataFlow.getUpdatedAt(),
-                dataFlow.getStateCount(),
-                dataFlow.getStateTimestamp(),
-                toJson(dataFlow.getTraceContext()),
-                dataFlow.getErrorDetail(),
-                Optional.ofNullable(dataFlow.getCallbackAddress()).map(URI::toString).orElse(null),
-                dataFlow.isTrackable(),
-                toJson(dataFlow.getSource()),
-                toJson(dataFlow.getDestination()),
-                toJson(dataFlow.getProperties()),
-                dataFlow.getId());
+    /**
+     * Figures out why the save statement didn't write the flow: either it is leased by someone else, or it has been
+     * saved by someone else since it was read.
+     */
+    private IllegalStateException saveFailure(Connection connection, DataFlow dataFlow) {
+        var lease = leaseContext.by(leaseHolderName).withConnection(connection).getLease(dataFlow.getId());
+        if (lease != null && !Objects.equals(leaseHolderName, lease.getLeasedBy())) {
+            return new IllegalStateException("Current runtime does not hold the lease for Object (id [" + dataFlow.getId() + "]), cannot break lease!");
+        }
+        return new IllegalStateException(format("DataFlow %s has been modified concurrently, version %s is outdated", dataFlow.getId(), dataFlow.getVersion()));
     }
 
     private DataFlow mapDataFlow(ResultSet resultSet) throws SQLException {
@@ -184,6 +183,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 .source(fromJson(resultSet.getString(statements.getSourceColumn()), DataAddress.class))
                 .destination(fromJson(resultSet.getString(statements.getDestinationColumn()), DataAddress.class))
                 .properties(fromJson(resultSet.getString(statements.getPropertiesColumn()), getTypeRef()))
+                .version(resultSet.getLong(statements.getVersionColumn()))
                 .build();
     }
 
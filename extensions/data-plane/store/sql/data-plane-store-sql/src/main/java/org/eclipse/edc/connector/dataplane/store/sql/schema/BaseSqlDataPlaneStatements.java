@@ -23,8 +23,8 @@ import static java.lang.String.format;
 public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
 
     @Override
-    public String getInsertTemplate() {
-        return executeStatement()
+    public String getSaveTemplate() {
+        var upsert = executeStatement()
                 .column(getIdColumn())
                 .column(getStateColumn())
                 .column(getCreatedAtColumn())
@@ -38,24 +38,18 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getSourceColumn())
                 .jsonColumn(getDestinationColumn())
                 .jsonColumn(getPropertiesColumn())
-                .insertInto(getDataPlaneTable());
-    }
+                .column(getVersionColumn())
+                .upsertInto(getDataPlaneTable(), getIdColumn(), getCreatedAtColumn(), getVersionColumn());
 
-    @Override
-    public String getUpdateTemplate() {
-        return executeStatement()
-                .column(getStateColumn())
-                .column(getUpdatedAtColumn())
-                .column(getStateCountColumn())
-                .column(getStateTimestampColumn())
-                .jsonColumn(getTraceContextColumn())
-                .column(getErrorDetailColumn())
-                .column(getCallbackAddressColumn())
-                .column(getTrackableColumn())
-                .jsonColumn(getSourceColumn())
-                .jsonColumn(getDestinationColumn())
-                .jsonColumn(getPropertiesColumn())
-                .update(getDataPlaneTable(), getIdColumn());
+        var table = getDataPlaneTable();
+        var saved = format("%s, %s = %s.%s + 1, %s = NULL WHERE (? = 0 OR %s.%s = ?) AND (%s.%s IS NULL OR %s.%s IN (SELECT %s FROM %s WHERE %s = ?)) RETURNING %s",
+                upsert, getVersionColumn(), table, getVersionColumn(), getLeaseIdColumn(), table, getVersionColumn(),
+                table, getLeaseIdColumn(), table, getLeaseIdColumn(), getLeaseIdColumn(), getLeaseTableName(), getLeasedByColumn(), getVersionColumn());
+
+        var releasedLease = format("DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?) AND EXISTS (SELECT 1 FROM saved)",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), table, getIdColumn());
+
+        return format("WITH saved AS (%s), released_lease AS (%s) SELECT %s FROM saved;", saved, releasedLease, getVersionColumn());
     }
 
     @Override
@@ -52,9 +52,12 @@ public interface DataPlaneStatements extends StatefulEntityStatements, LeaseStat
         return "properties";
     }
 
-    String getInsertTemplate();
-
-    String getUpdateTemplate();
+    /**
+     * Statement that saves a DataFlow in a single round trip: the flow is inserted or, if it exists, updated only if
+     * its version matches the expected one and it's not leased by someone else. In that case the version is incremented
+     * and the lease is released. The statement returns the new version, no rows when the flow was not saved.
+     */
+    String getSaveTemplate();
 
     String getSelectTemplate();
 
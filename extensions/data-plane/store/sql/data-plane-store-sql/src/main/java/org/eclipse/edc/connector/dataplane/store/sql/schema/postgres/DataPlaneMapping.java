@@ -17,14 +17,22 @@ package org.eclipse.edc.connector.dataplane.store.sql.schema.postgres;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataPlaneStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityMapping;
+import org.eclipse.edc.sql.translation.JsonbFieldMapping;
 
 /**
  * Maps fields of a {@link DataFlow} onto the
- * corresponding SQL schema (= column names) enabling access through Postgres JSON operators where applicable
+ * corresponding SQL schema (= column names) enabling access through Postgres JSONB operators where applicable
  */
 public class DataPlaneMapping extends StatefulEntityMapping {
 
+    private static final String FIELD_SOURCE = "source";
+    private static final String FIELD_DESTINATION = "destination";
+    private static final String FIELD_PROPERTIES = "properties";
+
     public DataPlaneMapping(DataPlaneStatements statements) {
         super(statements);
+        add(FIELD_SOURCE, new JsonbFieldMapping(statements.getSourceColumn()));
+        add(FIELD_DESTINATION, new JsonbFieldMapping(statements.getDestinationColumn()));
+        add(FIELD_PROPERTIES, new JsonbFieldMapping(statements.getPropertiesColumn()));
     }
 }
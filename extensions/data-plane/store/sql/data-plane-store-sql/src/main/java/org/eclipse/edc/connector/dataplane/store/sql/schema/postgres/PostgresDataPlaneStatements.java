@@ -22,6 +22,6 @@ public class PostgresDataPlaneStatements extends BaseSqlDataPlaneStatements {
 
     @Override
     public String getFormatAsJsonOperator() {
-        return PostgresDialect.getJsonCastOperator();
+        return PostgresDialect.getJsonbCastOperator();
     }
 }
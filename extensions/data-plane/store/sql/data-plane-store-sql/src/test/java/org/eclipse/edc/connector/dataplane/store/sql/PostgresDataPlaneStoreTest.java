@@ -19,12 +19,14 @@ import org.eclipse.edc.connector.dataplane.spi.testfixtures.store.DataPlaneStore
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataPlaneStatements;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.PostgresDataPlaneStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
@@ -33,6 +35,9 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Duration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -61,6 +66,15 @@ public class PostgresDataPlaneStoreTest extends DataPlaneStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getDataPlaneTable() + " CASCADE");
     }
 
+    @Test
+    void query_byProperty_shouldUseIndex(PostgresqlStoreSetupExtension extension) {
+        var query = statements.createQuery(QuerySpec.Builder.newInstance().filter(criterion("properties.key", "=", "value")).build());
+
+        var plan = extension.explain(query.getQueryAsString(), query.getParameters());
+
+        assertThat(plan).contains("data_plane_properties_index");
+    }
+
     @Override
     protected DataPlaneStore getStore() {
         return store;
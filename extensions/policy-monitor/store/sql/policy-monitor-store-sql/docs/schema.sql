@@ -30,3 +30,10 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
     properties           JSON,
     contract_id          VARCHAR
 );
+
+-- used by the state machine to fetch the entries to be processed, terminal states (COMPLETED and FAILED) are not indexed
+CREATE INDEX IF NOT EXISTS policy_monitor_active_state_index
+    ON edc_policy_monitor (state, state_time_stamp) WHERE state NOT IN (200, 300);
+
+CREATE INDEX IF NOT EXISTS policy_monitor_lease_id_index
+    ON edc_policy_monitor (lease_id);
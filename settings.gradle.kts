@@ -43,6 +43,7 @@ dependencyResolutionManagement {
 // EDC core modules --------------------------------------------------------------------------------
 include(":core:common:boot")
 include(":core:common:connector-core")
+include(":core:common:extension-index-processor")
 include(":core:common:jersey-providers")
 include(":core:common:junit")
 include(":core:common:token-core")
@@ -97,6 +98,8 @@ include(":extensions:common:crypto:jws2020")
 
 include(":extensions:common:configuration:configuration-filesystem")
 include(":extensions:common:events:events-cloud-http")
+include(":extensions:common:events:events-outbox")
+include(":extensions:common:events:events-outbox-store-sql")
 include(":extensions:common:http")
 include(":extensions:common:http:jersey-core")
 include(":extensions:common:http:jersey-micrometer")
@@ -121,10 +124,12 @@ include(":extensions:common:iam:identity-trust:identity-trust-sts:identity-trust
 include(":extensions:common:iam:identity-trust:identity-trust-sts:identity-trust-sts-remote-core")
 include(":extensions:common:iam:identity-trust:identity-trust-sts:identity-trust-sts-api")
 include(":extensions:common:iam:identity-trust:identity-trust-sts:identity-trust-sts-client-configuration")
+include(":extensions:common:iam:identity-trust:identity-trust-sts:identity-trust-sts-store-sql")
 include(":extensions:common:iam:identity-trust:identity-trust-issuers-configuration")
 
 include(":extensions:common:json-ld")
 include(":extensions:common:metrics:micrometer-core")
+include(":extensions:common:monitor:monitor-async")
 include(":extensions:common:monitor:monitor-jdk-logger")
 include(":extensions:common:sql:sql-core")
 include(":extensions:common:sql:sql-lease")
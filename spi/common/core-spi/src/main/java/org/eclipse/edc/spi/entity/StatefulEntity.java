@@ -36,6 +36,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected Map<String, String> traceContext = new HashMap<>();
     protected String errorDetail;
     protected boolean pending = false;
+    protected long version;
 
     protected StatefulEntity() {
     }
@@ -65,6 +66,26 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         return pending;
     }
 
+    /**
+     * The version of the persisted entity this instance has been read from, used by the stores for optimistic
+     * concurrency control: saving an entity fails if it has been saved by someone else in the meantime. Entities
+     * that have never been persisted have version 0.
+     *
+     * @return the version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version, called by the stores after the entity has been persisted.
+     *
+     * @param version the version of the persisted entity.
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public void setErrorDetail(String errorDetail) {
         this.errorDetail = errorDetail;
     }
@@ -110,6 +131,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
                 .errorDetail(errorDetail)
                 .clock(clock)
                 .pending(pending)
+                .version(version)
                 .build();
     }
 
@@ -156,6 +178,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
             return self();
         }
 
+        public B version(long version) {
+            entity.version = version;
+            return self();
+        }
+
         protected T build() {
             super.build();
             if (entity.id == null) {
@@ -30,6 +30,16 @@ public abstract class Event {
     }
 
 
+    /**
+     * The identifier of the entity the event refers to, if any. It's used to preserve per-entity ordering when events
+     * are delivered asynchronously.
+     *
+     * @return the entity id, null if the event does not refer to a single entity.
+     */
+    public String entityId() {
+        return null;
+    }
+
     /**
      * The name of the event in dot notation.
      *
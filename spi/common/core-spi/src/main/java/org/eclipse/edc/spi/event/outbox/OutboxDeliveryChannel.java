@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import org.eclipse.edc.spi.result.Result;
+
+/**
+ * Delivers {@link OutboxEntry} items to their destination. Delivery is at-least-once, so implementations should be
+ * idempotent or targets should deduplicate on {@link OutboxEntry#getEventId()}.
+ */
+@FunctionalInterface
+public interface OutboxDeliveryChannel {
+
+    /**
+     * Deliver the entry. Will be called on a delivery worker thread, so it's allowed to block.
+     *
+     * @param entry the entry.
+     * @return successful result if the entry has been delivered, failure otherwise: in that case the delivery will be retried.
+     */
+    Result<Void> deliver(OutboxEntry entry);
+
+}
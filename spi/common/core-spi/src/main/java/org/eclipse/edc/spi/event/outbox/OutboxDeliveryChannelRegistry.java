@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Registry for {@link OutboxDeliveryChannel}s, keyed by the channel name set on the {@link OutboxEntry}.
+ */
+public interface OutboxDeliveryChannelRegistry {
+
+    /**
+     * Register a channel.
+     *
+     * @param name the channel name.
+     * @param channel the channel.
+     */
+    void register(String name, OutboxDeliveryChannel channel);
+
+    /**
+     * Resolve a channel by name.
+     *
+     * @param name the channel name.
+     * @return the channel, null if no channel is registered with that name.
+     */
+    @Nullable
+    OutboxDeliveryChannel resolve(String name);
+
+}
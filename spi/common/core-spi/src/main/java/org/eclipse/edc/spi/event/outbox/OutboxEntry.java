@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An event that has been persisted in the outbox and is waiting to be delivered by the {@link OutboxDeliveryChannel}
+ * registered with the {@link #getChannel()} name.
+ * <p>
+ * Entries that share the same channel and ordering key are delivered in the same order they have been stored, entries
+ * without an ordering key can be delivered in any order.
+ */
+public class OutboxEntry {
+
+    private String id;
+    private String channel;
+    private String orderingKey;
+    private String endpoint;
+    private String eventId;
+    private long eventAt;
+    private String eventType;
+    private String eventPayload;
+    private String channelData;
+    private long createdAt;
+    private int attempts;
+    private long nextAttemptAt;
+    private String errorDetail;
+
+    private OutboxEntry() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The name of the {@link OutboxDeliveryChannel} that delivers this entry.
+     */
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * The key used to keep the delivery order, usually derived from {@link org.eclipse.edc.spi.event.Event#entityId()}.
+     */
+    public String getOrderingKey() {
+        return orderingKey;
+    }
+
+    /**
+     * The endpoint the entry will be delivered to, used to limit the concurrent deliveries against the same target.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public long getEventAt() {
+        return eventAt;
+    }
+
+    /**
+     * The fully qualified class name of the event payload.
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * The serialized event payload.
+     */
+    public String getEventPayload() {
+        return eventPayload;
+    }
+
+    /**
+     * Additional, channel-specific, serialized data needed for the delivery.
+     */
+    public String getChannelData() {
+        return channelData;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * The number of failed delivery attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * The timestamp in milliseconds before which the entry must not be delivered.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getErrorDetail() {
+        return errorDetail;
+    }
+
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public static class Builder {
+
+        private final OutboxEntry entry;
+
+        private Builder(OutboxEntry entry) {
+            this.entry = entry;
+        }
+
+        public static Builder newInstance() {
+            return new Builder(new OutboxEntry());
+        }
+
+        public Builder id(String id) {
+            entry.id = id;
+            return this;
+        }
+
+        public Builder channel(String channel) {
+            entry.channel = channel;
+            return this;
+        }
+
+        public Builder orderingKey(String orderingKey) {
+            entry.orderingKey = orderingKey;
+            return this;
+        }
+
+        public Builder endpoint(String endpoint) {
+            entry.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder eventId(String eventId) {
+            entry.eventId = eventId;
+            return this;
+        }
+
+        public Builder eventAt(long eventAt) {
+            entry.eventAt = eventAt;
+            return this;
+        }
+
+        public Builder eventType(String eventType) {
+            entry.eventType = eventType;
+            return this;
+        }
+
+        public Builder eventPayload(String eventPayload) {
+            entry.eventPayload = eventPayload;
+            return this;
+        }
+
+        public Builder channelData(String channelData) {
+            entry.channelData = channelData;
+            return this;
+        }
+
+        public Builder createdAt(long createdAt) {
+            entry.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            entry.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            entry.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public Builder errorDetail(String errorDetail) {
+            entry.errorDetail = errorDetail;
+            return this;
+        }
+
+        public OutboxEntry build() {
+            if (entry.id == null) {
+                entry.id = UUID.randomUUID().toString();
+            }
+            Objects.requireNonNull(entry.channel, "channel");
+            Objects.requireNonNull(entry.eventType, "eventType");
+            Objects.requireNonNull(entry.eventPayload, "eventPayload");
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.time.Clock;
+
+/**
+ * {@link EventSubscriber} that stores events in the {@link OutboxStore} instead of delivering them, the delivery will
+ * then be carried out asynchronously by the {@link OutboxDeliveryChannel} registered with the same channel name.
+ * It should be registered as a synchronous subscriber, so the entry gets stored in the same transaction as the entity
+ * change.
+ */
+public class OutboxEventSubscriber implements EventSubscriber {
+
+    private final String channel;
+    private final String endpoint;
+    private final OutboxStore store;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+
+    public OutboxEventSubscriber(String channel, String endpoint, OutboxStore store, ObjectMapper mapper, Clock clock) {
+        this.channel = channel;
+        this.endpoint = endpoint;
+        this.store = store;
+        this.mapper = mapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var now = clock.millis();
+        var entry = OutboxEvents.entryFor(channel, event, mapper)
+                .endpoint(endpoint)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+
+        store.save(entry);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+
+/**
+ * Converts {@link EventEnvelope}s from and to {@link OutboxEntry}s.
+ */
+public final class OutboxEvents {
+
+    private OutboxEvents() {
+    }
+
+    /**
+     * Create an entry builder pre-filled with the serialized event. The ordering key defaults to the
+     * {@link Event#entityId()}, entries for events that don't refer to an entity are not ordered.
+     *
+     * @param channel the channel name.
+     * @param envelope the event envelope.
+     * @param mapper the object mapper.
+     * @return the entry builder.
+     */
+    public static OutboxEntry.Builder entryFor(String channel, EventEnvelope<?> envelope, ObjectMapper mapper) {
+        var payload = envelope.getPayload();
+        try {
+            return OutboxEntry.Builder.newInstance()
+                    .channel(channel)
+                    .orderingKey(payload.entityId())
+                    .eventId(envelope.getId())
+                    .eventAt(envelope.getAt())
+                    .eventType(payload.getClass().getName())
+                    .eventPayload(mapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Restore the {@link EventEnvelope} stored in the entry.
+     *
+     * @param entry the entry.
+     * @param mapper the object mapper.
+     * @return the event envelope.
+     */
+    @SuppressWarnings("unchecked")
+    public static EventEnvelope<Event> envelopeOf(OutboxEntry entry, ObjectMapper mapper) {
+        try {
+            var type = (Class<? extends Event>) Class.forName(entry.getEventType());
+            var payload = mapper.readValue(entry.getEventPayload(), type);
+            return EventEnvelope.Builder.newInstance()
+                    .id(entry.getEventId())
+                    .at(entry.getEventAt())
+                    .payload(payload)
+                    .build();
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.List;
+
+/**
+ * Persists {@link OutboxEntry} items. Implementations that support transactions must take part in the transaction
+ * active when {@link #save(OutboxEntry)} is called, so that the entry gets stored atomically with the entity change that
+ * raised the event.
+ */
+@ExtensionPoint
+public interface OutboxStore {
+
+    /**
+     * Store or update an entry, releasing any lease held on it.
+     *
+     * @param entry the entry.
+     */
+    void save(OutboxEntry entry);
+
+    /**
+     * Returns the entries that are ready to be delivered and leases them. Only the oldest entry of every ordering key
+     * is returned, so entries belonging to the same ordering key never get delivered concurrently or out of order.
+     *
+     * @param max the max number of entries to be returned.
+     * @param now the current timestamp in milliseconds, entries scheduled after it won't be returned.
+     * @return the leased entries.
+     */
+    List<OutboxEntry> nextDeliverable(int max, long now);
+
+    /**
+     * Remove an entry, usually after it has been delivered.
+     *
+     * @param id the entry id.
+     */
+    void delete(String id);
+
+}
@@ -23,6 +23,7 @@ import java.util.List;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_EXISTS;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.DUPLICATE_KEYS;
+import static org.eclipse.edc.spi.result.StoreFailure.Reason.GENERAL_ERROR;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
 
 /**
@@ -52,6 +53,10 @@ public class StoreResult<T> extends AbstractResult<T, StoreFailure, StoreResult<
         return new StoreResult<>(null, new StoreFailure(List.of(message), DUPLICATE_KEYS));
     }
 
+    public static <T> StoreResult<T> generalError(String message) {
+        return new StoreResult<>(null, new StoreFailure(List.of(message), GENERAL_ERROR));
+    }
+
     public static <T> StoreResult<T> success() {
         return StoreResult.success(null);
     }
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.system;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Receives measurements from the state machines, to collect metrics when available.
+ * <p>
+ * Every call identifies the state machine by its name and, where relevant, the processor, which is usually named
+ * after the state it processes. The default implementation discards all the measurements.
+ */
+@ExtensionPoint
+public interface StateMachineInstrumentation {
+
+    /**
+     * Default implementation that does not record anything.
+     *
+     * @return a noop {@link StateMachineInstrumentation}.
+     */
+    static StateMachineInstrumentation noop() {
+        return new StateMachineInstrumentation() {
+        };
+    }
+
+    /**
+     * Called after every iteration of the state machine loop.
+     *
+     * @param machine       the state machine name.
+     * @param durationNanos how long the iteration took, in nanoseconds.
+     * @param processed     how many entities have been processed.
+     */
+    default void iterationCompleted(String machine, long durationNanos, long processed) {
+    }
+
+    /**
+     * Called when the state machine waits before the next iteration, as decided by its wait strategy.
+     *
+     * @param machine    the state machine name.
+     * @param waitMillis the wait time, in milliseconds.
+     */
+    default void waited(String machine, long waitMillis) {
+    }
+
+    /**
+     * Called after a processor fetched (and leased) the entities to process.
+     *
+     * @param machine   the state machine name.
+     * @param processor the processor name.
+     * @param fetched   the number of entities fetched.
+     * @param batchSize the maximum number of entities that could be fetched, 0 if unknown.
+     */
+    default void entitiesFetched(String machine, String processor, int fetched, int batchSize) {
+    }
+
+    /**
+     * Called when the entities of a processor could not be fetched, typically because leasing them failed.
+     *
+     * @param machine   the state machine name.
+     * @param processor the processor name.
+     * @param failure   the failure.
+     */
+    default void fetchFailed(String machine, String processor, Throwable failure) {
+    }
+
+    /**
+     * Called after a processor handled an entity.
+     *
+     * @param machine       the state machine name.
+     * @param processor     the processor name.
+     * @param durationNanos how long the processing took, in nanoseconds.
+     * @param processed     whether the entity has been processed.
+     */
+    default void entityProcessed(String machine, String processor, long durationNanos, boolean processed) {
+    }
+
+    /**
+     * Called after a processor fetched its entities, with the time elapsed since the oldest of them entered its
+     * current state.
+     *
+     * @param machine   the state machine name.
+     * @param processor the processor name.
+     * @param ageMillis the age of the oldest fetched entity in milliseconds, 0 if no entity was fetched.
+     */
+    default void oldestEntityAge(String machine, String processor, long ageMillis) {
+    }
+}
@@ -20,10 +20,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collector;
@@ -34,12 +36,16 @@ import static java.util.stream.Collectors.toMap;
 
 /**
  * Default implementation.
+ * <p>
+ * The entries are kept in an immutable map sorted by key, so the entries under a path are a contiguous range of it:
+ * sub-configs and partitions are extracted in a time proportional to the number of their entries instead of scanning
+ * all the entries.
  */
 public class ConfigImpl implements Config {
 
     static final Collector<Map.Entry<String, String>, ?, Map<String, String>> TO_MAP = toMap(Map.Entry::getKey, Map.Entry::getValue);
 
-    private final Map<String, String> entries;
+    private final NavigableMap<String, String> entries;
     private final String rootPath;
 
     ConfigImpl(Map<String, String> entries) {
@@ -47,6 +53,10 @@ public class ConfigImpl implements Config {
     }
 
     protected ConfigImpl(String rootPath, Map<String, String> entries) {
+        this(rootPath, Collections.unmodifiableNavigableMap(new TreeMap<>(entries)));
+    }
+
+    private ConfigImpl(String rootPath, NavigableMap<String, String> entries) {
         Objects.requireNonNull(rootPath, "rootPath");
 
         this.entries = entries;
@@ -101,25 +111,36 @@ public class ConfigImpl implements Config {
     @Override
     public Config getConfig(String path) {
         var absolutePath = absolutePathOf(path);
-        var filteredEntries = entries.entrySet().stream()
-                .filter(entry -> absolutePath.isEmpty() || entry.getKey().startsWith(absolutePath + ".") || entry.getKey().equals(absolutePath))
-                .collect(TO_MAP);
+        if (absolutePath.isEmpty()) {
+            return new ConfigImpl(absolutePath, entries);
+        }
 
-        return new ConfigImpl(absolutePath, filteredEntries);
+        // the children of "a.b" are in ["a.b.", "a.b/"), as '/' is the character following '.'
+        var subTree = new TreeMap<>(entries.subMap(absolutePath + ".", true, absolutePath + "/", false));
+        var value = entries.get(absolutePath);
+        if (value != null) {
+            subTree.put(absolutePath, value);
+        }
+        return new ConfigImpl(absolutePath, Collections.unmodifiableNavigableMap(subTree));
     }
 
     @Override
     public Config merge(Config other) {
-        var all = new HashMap<String, String>();
-        all.putAll(entries);
+        var all = new TreeMap<>(entries);
         all.putAll(other.getEntries());
 
-        return new ConfigImpl("", Collections.unmodifiableMap(all));
+        return new ConfigImpl("", Collections.unmodifiableNavigableMap(all));
     }
 
     @Override
     public Stream<Config> partition() {
-        return getRelativeEntries().keySet().stream().map(it -> it.split("\\.")[0]).distinct().map(this::getConfig);
+        var children = new LinkedHashSet<String>();
+        for (var key : entries.keySet()) {
+            var relativeKey = removePrefix(key, rootPath);
+            var separator = relativeKey.indexOf('.');
+            children.add(separator < 0 ? relativeKey : relativeKey.substring(0, separator));
+        }
+        return children.stream().map(this::getConfig);
     }
 
     @Override
@@ -135,7 +156,11 @@ public class ConfigImpl implements Config {
 
     @Override
     public Map<String, String> getRelativeEntries(String basePath) {
-        return getRelativeEntries().entrySet().stream().filter(entry -> entry.getKey().startsWith(basePath)).collect(TO_MAP);
+        var prefix = absolutePathOf(basePath);
+        return entries.tailMap(prefix, true).entrySet().stream()
+                .takeWhile(entry -> entry.getKey().startsWith(prefix))
+                .map(entry -> Map.entry(removePrefix(entry.getKey(), rootPath), entry.getValue()))
+                .collect(TO_MAP);
     }
 
     @Override
@@ -156,7 +181,8 @@ public class ConfigImpl implements Config {
 
     @Override
     public boolean hasPath(String path) {
-        return getEntries().keySet().stream().anyMatch(it -> it.startsWith(path));
+        var key = entries.ceilingKey(path);
+        return key != null && key.startsWith(path);
     }
 
     private boolean parseBoolean(String value) {
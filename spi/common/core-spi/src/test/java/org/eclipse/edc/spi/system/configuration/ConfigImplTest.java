@@ -247,7 +247,18 @@ class ConfigImplTest {
 
         var entries = config.getConfig("group").getEntries();
 
-        assertThat(entries).containsExactly(Map.entry("group.key", "value"), Map.entry("group", "sameValue"));
+        assertThat(entries).containsExactly(Map.entry("group", "sameValue"), Map.entry("group.key", "value"));
+    }
+
+    @Test
+    void getConfigShouldNotReturnEntriesOfSiblingsSharingThePrefix() {
+        var map = Map.of("group.key", "value", "group-other.key", "other", "group/other.key", "other", "groups.key", "other");
+        var config = new ConfigImpl("", map);
+
+        var subConfig = config.getConfig("group");
+
+        assertThat(subConfig.getEntries()).containsExactly(Map.entry("group.key", "value"));
+        assertThat(subConfig.getRelativeEntries()).containsExactly(Map.entry("key", "value"));
     }
 
     @Test
@@ -309,6 +320,18 @@ class ConfigImplTest {
         assertThat(configList.get(1).getString("key")).isEqualTo("specificValue");
     }
 
+    @Test
+    void partitionShouldGiveOneSubConfigForEveryChild() {
+        var entries = Map.of("group.first.key", "value1", "group.first.other", "value2", "group.second", "value3", "group.second.key", "value4", "group-other.key", "value5");
+        var config = new ConfigImpl("", entries).getConfig("group");
+
+        var configs = config.partition().toList();
+
+        assertThat(configs).extracting(Config::currentNode).containsExactly("first", "second");
+        assertThat(configs.get(0).getRelativeEntries()).containsOnly(entry("key", "value1"), entry("other", "value2"));
+        assertThat(configs.get(1).getString("key")).isEqualTo("value4");
+    }
+
     @Test
     void getCurrentNodeReturnsTheNameOfTheLastLevel() {
         var config = new ConfigImpl("group.subgroup", emptyMap());
@@ -327,6 +350,15 @@ class ConfigImplTest {
         assertThat(hasPath).isTrue();
     }
 
+    @Test
+    void hasPath_returnsTrueIfKeyStartsWithPath() {
+        var config = new ConfigImpl(Map.of("example.path.key", "val"));
+
+        assertThat(config.hasPath("example.pa")).isTrue();
+        assertThat(config.hasPath("example.path.key")).isTrue();
+        assertThat(config.hasPath("example.path.key.sub")).isFalse();
+    }
+
     @Test
     void hasPath_returnsFalseIfPathDoesNotExist() {
         var config = new ConfigImpl(Map.of("example.path.key", "val", "example.path.otherkey", "val"));
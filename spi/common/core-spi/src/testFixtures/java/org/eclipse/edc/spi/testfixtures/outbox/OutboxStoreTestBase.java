@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.testfixtures.outbox;
+
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This is the minimum test specification that all {@link OutboxStore} implementations must support.
+ */
+public abstract class OutboxStoreTestBase {
+
+    protected abstract OutboxStore getStore();
+
+    protected OutboxEntry createEntry(String orderingKey, long createdAt) {
+        return OutboxEntry.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .channel("channel")
+                .orderingKey(orderingKey)
+                .endpoint("http://endpoint")
+                .eventId(UUID.randomUUID().toString())
+                .eventAt(createdAt)
+                .eventType("org.eclipse.edc.TestEvent")
+                .eventPayload("{}")
+                .createdAt(createdAt)
+                .nextAttemptAt(createdAt)
+                .build();
+    }
+
+    @Nested
+    class NextDeliverable {
+
+        @Test
+        void shouldReturnEntriesInInsertionOrder() {
+            var first = createEntry(null, 1);
+            var second = createEntry(null, 2);
+            getStore().save(first);
+            getStore().save(second);
+
+            var result = getStore().nextDeliverable(10, 10);
+
+            assertThat(result).extracting(OutboxEntry::getId).containsExactly(first.getId(), second.getId());
+        }
+
+        @Test
+        void shouldLimitResults() {
+            getStore().save(createEntry(null, 1));
+            getStore().save(createEntry(null, 2));
+            getStore().save(createEntry(null, 3));
+
+            var result = getStore().nextDeliverable(2, 10);
+
+            assertThat(result).hasSize(2);
+        }
+
+        @Test
+        void shouldNotReturnLeasedEntries() {
+            getStore().save(createEntry(null, 1));
+
+            var first = getStore().nextDeliverable(10, 10);
+            var second = getStore().nextDeliverable(10, 10);
+
+            assertThat(first).hasSize(1);
+            assertThat(second).isEmpty();
+        }
+
+        @Test
+        void shouldReturnOnlyTheOldestEntryPerOrderingKey() {
+            var first = createEntry("entity-1", 1);
+            var second = createEntry("entity-1", 2);
+            var other = createEntry("entity-2", 3);
+            getStore().save(first);
+            getStore().save(second);
+            getStore().save(other);
+
+            var result = getStore().nextDeliverable(10, 10);
+
+            assertThat(result).extracting(OutboxEntry::getId).containsExactly(first.getId(), other.getId());
+        }
+
+        @Test
+        void shouldNotReturnNextEntryForOrderingKey_whenHeadIsScheduledLater() {
+            var head = createEntry("entity-1", 1).toBuilder().nextAttemptAt(100).build();
+            getStore().save(head);
+            getStore().save(createEntry("entity-1", 2));
+
+            var result = getStore().nextDeliverable(10, 10);
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        void shouldReturnNextEntryForOrderingKey_whenHeadIsDeleted() {
+            var head = createEntry("entity-1", 1);
+            var next = createEntry("entity-1", 2);
+            getStore().save(head);
+            getStore().save(next);
+
+            getStore().delete(head.getId());
+            var result = getStore().nextDeliverable(10, 10);
+
+            assertThat(result).extracting(OutboxEntry::getId).containsExactly(next.getId());
+        }
+
+        @Test
+        void shouldReturnEntryAgain_whenSavedAfterLease() {
+            var entry = createEntry(null, 1);
+            getStore().save(entry);
+            var leased = getStore().nextDeliverable(10, 10);
+
+            getStore().save(leased.get(0).toBuilder().attempts(1).errorDetail("error").build());
+            var result = getStore().nextDeliverable(10, 10);
+
+            assertThat(result).hasSize(1).first().satisfies(e -> {
+                assertThat(e.getId()).isEqualTo(entry.getId());
+                assertThat(e.getAttempts()).isEqualTo(1);
+                assertThat(e.getErrorDetail()).isEqualTo("error");
+            });
+        }
+    }
+
+    @Nested
+    class Delete {
+
+        @Test
+        void shouldRemoveEntry() {
+            var entry = createEntry(null, 1);
+            getStore().save(entry);
+
+            getStore().delete(entry.getId());
+
+            assertThat(getStore().nextDeliverable(10, 10)).isEmpty();
+        }
+    }
+}
@@ -41,6 +41,22 @@ public interface StsClientService {
      */
     ServiceResult<StsClient> findById(String id);
 
+    /**
+     * Update the {@link StsClient}, discarding everything cached for it
+     *
+     * @param client The client
+     * @return successful when the client is updated, failure otherwise
+     */
+    ServiceResult<StsClient> update(StsClient client);
+
+    /**
+     * Delete an {@link StsClient} by its id, discarding everything cached for it
+     *
+     * @param id id of the client
+     * @return the deleted client if found, failure otherwise
+     */
+    ServiceResult<StsClient> deleteById(String id);
+
     /**
      * Authenticate an {@link StsClient} given the input secret
      *
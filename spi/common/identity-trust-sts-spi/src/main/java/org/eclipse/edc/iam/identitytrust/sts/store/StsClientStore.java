@@ -19,6 +19,8 @@ import org.eclipse.edc.iam.identitytrust.sts.model.StsClient;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.StoreResult;
 
+import static java.lang.String.format;
+
 /**
  * Persists and retrieves {@link StsClient}s.
  */
@@ -41,4 +43,24 @@ public interface StsClientStore {
      */
     StoreResult<StsClient> findById(String id);
 
+    /**
+     * Updates the {@link StsClient}
+     *
+     * @param client The client
+     * @return successful when the client is updated, failure if it doesn't exist or the store doesn't support updates
+     */
+    default StoreResult<StsClient> update(StsClient client) {
+        return StoreResult.generalError(format("%s does not support updating clients", getClass().getSimpleName()));
+    }
+
+    /**
+     * Deletes the {@link StsClient} by its id
+     *
+     * @param id id of the client
+     * @return the deleted client if found, failure otherwise or if the store doesn't support deletions
+     */
+    default StoreResult<StsClient> deleteById(String id) {
+        return StoreResult.generalError(format("%s does not support deleting clients", getClass().getSimpleName()));
+    }
+
 }
@@ -73,4 +73,55 @@ public abstract class StsClientStoreTestBase {
                     .isEqualTo(StoreFailure.Reason.NOT_FOUND);
         }
     }
+
+    @Nested
+    class Update {
+
+        @Test
+        @DisplayName("Update an existing client")
+        void whenPresent() {
+            var client = createClient(getRandomId());
+            getStsClientStore().create(client);
+            var updated = createClient(client.getId(), "updatedSecretAlias", client.getClientId(), "updatedPublicKeyReference");
+
+            assertThat(getStsClientStore().update(updated)).isSucceeded();
+
+            var clientFromDb = getStsClientStore().findById(client.getId()).getContent();
+            assertThat(clientFromDb).usingRecursiveComparison().isEqualTo(updated);
+        }
+
+        @Test
+        @DisplayName("Update a client that does not exist")
+        void whenNonexistent() {
+            assertThat(getStsClientStore().update(createClient(getRandomId())))
+                    .isFailed()
+                    .extracting(StoreFailure::getReason)
+                    .isEqualTo(StoreFailure.Reason.NOT_FOUND);
+        }
+    }
+
+    @Nested
+    class DeleteById {
+
+        @Test
+        @DisplayName("Delete an existing client")
+        void whenPresent() {
+            var client = createClient(getRandomId());
+            getStsClientStore().create(client);
+
+            assertThat(getStsClientStore().deleteById(client.getId())).isSucceeded()
+                    .usingRecursiveComparison().isEqualTo(client);
+
+            assertThat(getStsClientStore().findById(client.getId())).isFailed();
+        }
+
+        @Test
+        @DisplayName("Delete a client that does not exist")
+        void whenNonexistent() {
+            assertThat(getStsClientStore().deleteById("nonexistent"))
+                    .isFailed()
+                    .extracting(StoreFailure::getReason)
+                    .isEqualTo(StoreFailure.Reason.NOT_FOUND);
+        }
+    }
 }
@@ -31,6 +31,11 @@ public abstract class ContractDefinitionEvent extends Event {
         return contractDefinitionId;
     }
 
+    @Override
+    public String entityId() {
+        return contractDefinitionId;
+    }
+
     public abstract static class Builder<T extends ContractDefinitionEvent, B extends Builder<T, B>> {
 
         protected final T event;
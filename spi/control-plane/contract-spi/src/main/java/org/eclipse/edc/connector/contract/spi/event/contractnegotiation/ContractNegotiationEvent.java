@@ -41,6 +41,11 @@ public abstract class ContractNegotiationEvent extends Event {
         return contractNegotiationId;
     }
 
+    @Override
+    public String entityId() {
+        return contractNegotiationId;
+    }
+
 
     public String getCounterPartyAddress() {
         return counterPartyAddress;
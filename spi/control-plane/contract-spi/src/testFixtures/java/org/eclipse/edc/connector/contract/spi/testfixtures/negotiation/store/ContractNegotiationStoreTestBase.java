@@ -229,6 +229,23 @@ public abstract class ContractNegotiationStoreTestBase {
             assertThat(actual.getState()).isEqualTo(800);
         }
 
+        @Test
+        @DisplayName("Verify that negotiations are not versioned: the last save wins")
+        void outdatedCopy_shouldOverwrite() {
+            var id = "test-id1";
+            getContractNegotiationStore().save(createNegotiation(id));
+            var first = getContractNegotiationStore().findById(id);
+            var second = getContractNegotiationStore().findById(id);
+
+            first.transitionTerminating();
+            getContractNegotiationStore().save(first);
+            second.transitionTerminated();
+            getContractNegotiationStore().save(second);
+
+            assertThat(getContractNegotiationStore().findById(id)).isNotNull()
+                    .extracting(ContractNegotiation::getState).isEqualTo(second.getState());
+        }
+
         @Test
         @DisplayName("Verify that updating an entity breaks the lease (if lease by self)")
         void leasedBySelf_shouldBreakLease() {
@@ -30,6 +30,11 @@ public abstract class PolicyDefinitionEvent extends Event {
         return policyDefinitionId;
     }
 
+    @Override
+    public String entityId() {
+        return policyDefinitionId;
+    }
+
 
     public abstract static class Builder<T extends PolicyDefinitionEvent, B extends PolicyDefinitionEvent.Builder<T, B>> {
 
@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Handles a data flow.
@@ -57,6 +58,29 @@ public interface DataFlowController {
      */
     StatusResult<Void> terminate(TransferProcess transferProcess);
 
+    /**
+     * Initiate a data flow without blocking the caller. The default implementation initiates it synchronously.
+     *
+     * @param transferProcess the transfer process
+     * @param policy          the contract agreement usage policy for the asset being transferred
+     * @return a future completed with the result, with the same semantics as {@link #initiateFlow(TransferProcess, Policy)}.
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<DataFlowResponse>> initiateFlowAsync(TransferProcess transferProcess, Policy policy) {
+        return CompletableFuture.completedFuture(initiateFlow(transferProcess, policy));
+    }
+
+    /**
+     * Terminate a data flow without blocking the caller. The default implementation terminates it synchronously.
+     *
+     * @param transferProcess the transfer process.
+     * @return a future completed with success if the flow is terminated correctly, failure otherwise.
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
+        return CompletableFuture.completedFuture(terminate(transferProcess));
+    }
+
     /**
      * Returns transfer types that the controller can handle for the specified Asset.
      *
@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manages data flows and dispatches to {@link DataFlowController}s.
@@ -64,6 +65,29 @@ public interface DataFlowManager {
     @NotNull
     StatusResult<Void> terminate(TransferProcess transferProcess);
 
+    /**
+     * Initiates a data flow without blocking the caller.
+     *
+     * @param transferProcess the transfer process
+     * @param policy          the contract agreement usage policy for the asset being transferred
+     * @return a future completed with a succeeded StatusResult if flow has been initiated correctly, failed one otherwise.
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<DataFlowResponse>> initiateAsync(TransferProcess transferProcess, Policy policy) {
+        return CompletableFuture.completedFuture(initiate(transferProcess, policy));
+    }
+
+    /**
+     * Terminates a data flow without blocking the caller.
+     *
+     * @param transferProcess the transfer process.
+     * @return a future completed with success if the flow has been stopped correctly, failed otherwise.
+     */
+    @NotNull
+    default CompletableFuture<StatusResult<Void>> terminateAsync(TransferProcess transferProcess) {
+        return CompletableFuture.completedFuture(terminate(transferProcess));
+    }
+
     /**
      * Returns the transfer types available for a specific asset.
      *
@@ -382,6 +382,24 @@ public abstract class TransferProcessStoreTestBase {
             assertThatThrownBy(() -> getTransferProcessStore().save(t1)).isInstanceOf(IllegalStateException.class);
         }
 
+        @Test
+        void outdatedVersion_shouldThrowException() {
+            var t1 = createTransferProcess("id1", STARTED);
+            getTransferProcessStore().save(t1);
+            var first = getTransferProcessStore().findById("id1");
+            var second = getTransferProcessStore().findById("id1");
+
+            first.transitionCompleted();
+            getTransferProcessStore().save(first);
+            second.transitionTerminating("terminated");
+
+            // the second update would overwrite the first one -> throw exception
+            assertThatThrownBy(() -> getTransferProcessStore().save(second)).isInstanceOf(IllegalStateException.class);
+            assertThat(getTransferProcessStore().findById("id1"))
+                    .usingRecursiveComparison()
+                    .isEqualTo(first);
+        }
+
         @Test
         void shouldReplaceDataRequest_whenItGetsTheIdUpdated() {
             var builder = createTransferProcessBuilder("id1").state(STARTED.code());
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.selector.spi.instance;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -45,6 +46,7 @@ public class DataPlaneInstance {
     public static final String PROPERTIES = EDC_NAMESPACE + "properties";
     public static final String ALLOWED_SOURCE_TYPES = EDC_NAMESPACE + "allowedSourceTypes";
     public static final String ALLOWED_DEST_TYPES = EDC_NAMESPACE + "allowedDestTypes";
+    public static final String IN_FLIGHT_TRANSFERS = EDC_NAMESPACE + "inFlightTransfers";
 
     private Map<String, Object> properties = new HashMap<>();
     private Set<String> allowedSourceTypes = new HashSet<>();
@@ -91,6 +93,28 @@ public class DataPlaneInstance {
         return Collections.unmodifiableMap(properties);
     }
 
+    /**
+     * Returns the number of transfers in progress on the data plane, as last reported in the
+     * {@link #IN_FLIGHT_TRANSFERS} property when it registered, e.g. with every heartbeat.
+     *
+     * @return the number of in-flight transfers, 0 if not reported.
+     */
+    @JsonIgnore
+    public long getInFlightTransfers() {
+        var value = properties.get(IN_FLIGHT_TRANSFERS);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String string) {
+            try {
+                return Long.parseLong(string);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
     public Set<String> getAllowedSourceTypes() {
         return Collections.unmodifiableSet(allowedSourceTypes);
     }
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the {@link DataPlaneInstance} with the fewest reported in-flight transfers, picking at random among the ones
+ * with the same load.
+ * <p>
+ * As the load is only updated when the data planes report it, all the selections in between go to the same instance:
+ * prefer the {@link PowerOfTwoChoicesSelectionStrategy} when the selection rate is high compared to the reporting rate.
+ */
+public class LeastLoadedSelectionStrategy implements SelectionStrategy {
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        var random = ThreadLocalRandom.current();
+        DataPlaneInstance selected = null;
+        var minLoad = Long.MAX_VALUE;
+        var ties = 0;
+        for (var instance : instances) {
+            var load = instance.getInFlightTransfers();
+            if (load < minLoad) {
+                selected = instance;
+                minLoad = load;
+                ties = 1;
+            } else if (load == minLoad && random.nextInt(++ties) == 0) {
+                selected = instance;
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return "least-loaded";
+    }
+}
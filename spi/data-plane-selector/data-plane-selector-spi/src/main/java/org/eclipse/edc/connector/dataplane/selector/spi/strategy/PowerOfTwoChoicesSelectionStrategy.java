@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks two {@link DataPlaneInstance}s at random and selects the one with fewer reported in-flight transfers.
+ * <p>
+ * Unlike always selecting the least loaded instance, this doesn't send all the transfers to the same instance until it
+ * reports its new load, while still avoiding the overloaded ones.
+ */
+public class PowerOfTwoChoicesSelectionStrategy implements SelectionStrategy {
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+        if (instances.size() == 1) {
+            return instances.get(0);
+        }
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(instances.size());
+        var second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        var firstInstance = instances.get(first);
+        var secondInstance = instances.get(second);
+        return firstInstance.getInFlightTransfers() <= secondInstance.getInFlightTransfers() ? firstInstance : secondInstance;
+    }
+
+    @Override
+    public String getName() {
+        return "power-of-two-choices";
+    }
+}
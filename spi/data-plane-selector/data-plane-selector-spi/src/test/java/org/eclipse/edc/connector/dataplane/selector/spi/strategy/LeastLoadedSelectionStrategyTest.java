@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.IN_FLIGHT_TRANSFERS;
+
+class LeastLoadedSelectionStrategyTest {
+
+    private final LeastLoadedSelectionStrategy strategy = new LeastLoadedSelectionStrategy();
+
+    @Test
+    void apply_shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void apply_shouldSelectLeastLoadedInstance() {
+        var instances = List.of(instance("a", 5), instance("b", 1), instance("c", 3));
+
+        assertThat(strategy.apply(instances)).extracting(DataPlaneInstance::getId).isEqualTo("b");
+    }
+
+    @Test
+    void apply_shouldSelectAtRandom_whenLoadIsEqual() {
+        var instances = List.of(instance("a", 1), instance("b", 1), instance("c", 2));
+
+        var selected = new HashSet<String>();
+        IntStream.range(0, 1000).forEach(i -> selected.add(strategy.apply(instances).getId()));
+
+        assertThat(selected).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void apply_shouldBalanceSkewedLoad() {
+        var loads = new long[]{ 100, 0, 0, 10, 50 };
+
+        for (var i = 0; i < 200; i++) {
+            var selected = strategy.apply(instances(loads));
+            loads[Integer.parseInt(selected.getId())]++;
+        }
+
+        assertThat(loads[0]).isEqualTo(100);
+        var others = Arrays.stream(loads, 1, loads.length).summaryStatistics();
+        assertThat(others.getMax() - others.getMin()).isLessThanOrEqualTo(1);
+    }
+
+    private List<DataPlaneInstance> instances(long[] loads) {
+        return IntStream.range(0, loads.length).mapToObj(i -> instance(String.valueOf(i), loads[i])).toList();
+    }
+
+    private DataPlaneInstance instance(String id, long load) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any/" + id).property(IN_FLIGHT_TRANSFERS, load).build();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance.IN_FLIGHT_TRANSFERS;
+
+class PowerOfTwoChoicesSelectionStrategyTest {
+
+    private final PowerOfTwoChoicesSelectionStrategy strategy = new PowerOfTwoChoicesSelectionStrategy();
+
+    @Test
+    void apply_shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void apply_shouldReturnInstance_whenSingleInstance() {
+        var instance = instance("a", 10);
+
+        assertThat(strategy.apply(List.of(instance))).isSameAs(instance);
+    }
+
+    @Test
+    void apply_shouldNeverSelectMostLoadedInstance_whenLoadsDiffer() {
+        var instances = List.of(instance("a", 1), instance("b", 2), instance("c", 3));
+
+        IntStream.range(0, 1000).forEach(i -> assertThat(strategy.apply(instances).getId()).isNotEqualTo("c"));
+    }
+
+    @Test
+    void apply_shouldAvoidHotInstance_whenLoadIsSkewed() {
+        var loads = new long[10];
+        loads[0] = 1000;
+        var selections = new int[loads.length];
+
+        for (var i = 0; i < 5_000; i++) {
+            var selected = Integer.parseInt(strategy.apply(instances(loads)).getId());
+            selections[selected]++;
+            loads[selected]++;
+        }
+
+        assertThat(selections[0]).isZero();
+        var cold = IntStream.range(1, loads.length).mapToLong(i -> loads[i]).summaryStatistics();
+        assertThat(cold.getMax() - cold.getMin()).isLessThan(100);
+    }
+
+    @Test
+    void apply_shouldSpreadSelections_whenLoadIsNotUpdated() {
+        var instances = IntStream.range(0, 10).mapToObj(i -> instance(String.valueOf(i), i == 0 ? 1000 : 0)).toList();
+        var selections = new int[instances.size()];
+
+        IntStream.range(0, 10_000).forEach(i -> selections[Integer.parseInt(strategy.apply(instances).getId())]++);
+
+        assertThat(selections[0]).isZero();
+        IntStream.range(1, selections.length).forEach(i -> assertThat(selections[i]).isGreaterThan(500));
+    }
+
+    private List<DataPlaneInstance> instances(long[] loads) {
+        return IntStream.range(0, loads.length).mapToObj(i -> instance(String.valueOf(i), loads[i])).toList();
+    }
+
+    private DataPlaneInstance instance(String id, long load) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any/" + id).property(IN_FLIGHT_TRANSFERS, load).build();
+    }
+}
@@ -54,6 +54,8 @@ public class HttpDataAddress extends DataAddress {
     public static final String CONTENT_TYPE = "contentType";
     public static final String OCTET_STREAM = "application/octet-stream";
     public static final String NON_CHUNKED_TRANSFER = "nonChunkedTransfer";
+    public static final String RANGE_SEGMENT_SIZE = "rangeSegmentSize";
+    public static final String RANGE_PARALLELISM = "rangeParallelism";
     public static final Set<String> ADDITIONAL_HEADERS_TO_IGNORE = Set.of("content-type");
 
     private HttpDataAddress() {
@@ -141,6 +143,30 @@ public class HttpDataAddress extends DataAddress {
                 .orElse(false);
     }
 
+    /**
+     * Size in bytes of the segments the object is downloaded in with range requests, 0 disables range downloads.
+     *
+     * @return the segment size, null if not set.
+     */
+    @JsonIgnore
+    public Integer getRangeSegmentSize() {
+        return Optional.ofNullable(getStringProperty(RANGE_SEGMENT_SIZE))
+                .map(Integer::parseInt)
+                .orElse(null);
+    }
+
+    /**
+     * Maximum number of segments downloaded concurrently with range requests.
+     *
+     * @return the parallelism, null if not set.
+     */
+    @JsonIgnore
+    public Integer getRangeParallelism() {
+        return Optional.ofNullable(getStringProperty(RANGE_PARALLELISM))
+                .map(Integer::parseInt)
+                .orElse(null);
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder extends DataAddress.Builder<HttpDataAddress, Builder> {
 
@@ -232,6 +258,16 @@ public class HttpDataAddress extends DataAddress {
             return this;
         }
 
+        public Builder rangeSegmentSize(int rangeSegmentSize) {
+            this.property(RANGE_SEGMENT_SIZE, String.valueOf(rangeSegmentSize));
+            return this;
+        }
+
+        public Builder rangeParallelism(int rangeParallelism) {
+            this.property(RANGE_PARALLELISM, String.valueOf(rangeParallelism));
+            return this;
+        }
+
         public Builder copyFrom(DataAddress other) {
             Optional.ofNullable(other).map(DataAddress::getProperties).orElse(emptyMap()).forEach(this::property);
             return this;
@@ -19,16 +19,33 @@ import org.jetbrains.annotations.NotNull;
 import java.util.concurrent.ExecutorService;
 
 /**
- * Holder class for a shared {@link ExecutorService} across data transfer implementations.
+ * Holder class for a shared {@link ExecutorService} across data transfer implementations, and for the one the segments
+ * of random access parts are read on.
  */
 public class DataTransferExecutorServiceContainer {
     private final ExecutorService executorService;
+    private final ExecutorService segmentExecutorService;
 
     public DataTransferExecutorServiceContainer(@NotNull ExecutorService executorService) {
+        this(executorService, executorService);
+    }
+
+    public DataTransferExecutorServiceContainer(@NotNull ExecutorService executorService, @NotNull ExecutorService segmentExecutorService) {
         this.executorService = executorService;
+        this.segmentExecutorService = segmentExecutorService;
     }
 
     public @NotNull ExecutorService getExecutorService() {
         return executorService;
     }
+
+    /**
+     * Executor for the concurrent reads of the segments of a part. It is bounded and separate from the transfer one,
+     * so that segment reads do not queue behind whole transfers: a read it rejects is run by the consumer of the part.
+     *
+     * @return the segment executor, the transfer one if no dedicated executor was provided.
+     */
+    public @NotNull ExecutorService getSegmentExecutorService() {
+        return segmentExecutorService;
+    }
 }
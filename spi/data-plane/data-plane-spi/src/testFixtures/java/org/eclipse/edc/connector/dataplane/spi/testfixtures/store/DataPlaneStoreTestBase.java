@@ -31,6 +31,7 @@ import java.util.UUID;
 
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.COMPLETED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.RECEIVED;
@@ -71,6 +72,24 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(result).isNotNull();
             assertThat(result.getState()).isEqualTo(COMPLETED.code());
         }
+
+        @Test
+        void shouldThrowException_whenEntityHasBeenModifiedConcurrently() {
+            var dataFlow = createDataFlow(UUID.randomUUID().toString(), RECEIVED);
+            getStore().save(dataFlow);
+            var first = getStore().findById(dataFlow.getId());
+            var second = getStore().findById(dataFlow.getId());
+
+            first.transitToCompleted();
+            getStore().save(first);
+            second.transitToFailed("failure");
+
+            assertThatThrownBy(() -> getStore().save(second)).isInstanceOf(IllegalStateException.class);
+            var result = getStore().findById(dataFlow.getId());
+            assertThat(result).isNotNull();
+            assertThat(result.getState()).isEqualTo(COMPLETED.code());
+            assertThat(result.getVersion()).isEqualTo(first.getVersion());
+        }
     }
 
     @Nested